@@ -13,6 +13,13 @@ public enum BaseErrorCode {
      */
     EXPECTED_LIKE_STATE_EXCEPTION(HttpStatus.BAD_REQUEST.value(), "요청한 '좋아요' 상태와 현재 '좋아요' 상태가 일치하지 않습니다."),
     INVALID_TOKEN_EXCEPTION(HttpStatus.BAD_REQUEST.value(), "유효하지 않은 토큰입니다."),
+    INVALID_CURSOR_EXCEPTION(HttpStatus.BAD_REQUEST.value(), "유효하지 않은 커서입니다."),
+    INVALID_FIELDS_EXCEPTION(HttpStatus.BAD_REQUEST.value(), "지원하지 않는 필드가 포함되어 있습니다."),
+    INVALID_HASHTAG_EXCEPTION(HttpStatus.BAD_REQUEST.value(), "해시태그는 100자 이하로 입력해주세요."),
+    INVALID_SEARCH_QUERY_EXCEPTION(HttpStatus.BAD_REQUEST.value(), "검색어는 1자 이상 100자 이하로 입력해주세요."),
+    INVALID_DATE_RANGE_EXCEPTION(HttpStatus.BAD_REQUEST.value(), "조회 기간은 시작 날짜부터 366일 이내로 입력해주세요."),
+    TOO_MANY_FOLLOW_TARGETS_EXCEPTION(HttpStatus.BAD_REQUEST.value(), "팔로우 여부는 한 번에 100개 이하의 블로그만 확인할 수 있습니다."),
+    COMMENT_TOO_DEEP_EXCEPTION(HttpStatus.BAD_REQUEST.value(), "답글은 최대 100단계까지만 작성할 수 있습니다."),
     EXPECTED_FOLLOWING_STATE_EXCEPTION(HttpStatus.CONFLICT.value(), "요청한 '팔로우' 상태와 현재 '팔로우' 상태가 일치하지 않습니다."),
 
     /**
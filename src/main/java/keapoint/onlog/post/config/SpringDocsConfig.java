@@ -4,7 +4,9 @@ import io.swagger.v3.oas.annotations.OpenAPIDefinition;
 import io.swagger.v3.oas.annotations.info.Info;
 import io.swagger.v3.oas.models.security.SecurityRequirement;
 import io.swagger.v3.oas.models.security.SecurityScheme;
+import keapoint.onlog.post.config.security.LoginBlogId;
 import lombok.RequiredArgsConstructor;
+import org.springdoc.core.utils.SpringDocUtils;
 import org.springdoc.core.customizers.OpenApiCustomizer;
 import org.springdoc.core.models.GroupedOpenApi;
 import org.springframework.context.annotation.Bean;
@@ -23,6 +25,11 @@ import org.springframework.http.HttpHeaders;
 @Configuration
 public class SpringDocsConfig {
 
+    static {
+        // 로그인한 사용자의 블로그 식별자는 토큰에서 꺼내므로 API 명세의 파라미터에서 제외한다.
+        SpringDocUtils.getConfig().addAnnotationsToIgnore(LoginBlogId.class);
+    }
+
     public OpenApiCustomizer securityBudiler() {
         return openApi -> openApi.addSecurityItem(new SecurityRequirement().addList("Access Token"))
                 .getComponents()
@@ -0,0 +1,35 @@
+package keapoint.onlog.post.config;
+
+import keapoint.onlog.post.config.database.ReadConsistencyInterceptor;
+import keapoint.onlog.post.config.database.SqlInstrumentationInterceptor;
+import keapoint.onlog.post.config.security.LoginBlogIdArgumentResolver;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * Spring MVC 설정
+ */
+@Configuration
+@RequiredArgsConstructor
+public class WebMvcConfig implements WebMvcConfigurer {
+
+    private final LoginBlogIdArgumentResolver loginBlogIdArgumentResolver;
+    private final ReadConsistencyInterceptor readConsistencyInterceptor;
+    private final SqlInstrumentationInterceptor sqlInstrumentationInterceptor;
+
+    @Override
+    public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
+        resolvers.add(loginBlogIdArgumentResolver);
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(readConsistencyInterceptor);
+        registry.addInterceptor(sqlInstrumentationInterceptor);
+    }
+}
@@ -1,23 +1,30 @@
 package keapoint.onlog.post.config.database;
 
-import com.google.common.collect.ImmutableMap;
 import com.zaxxer.hikari.HikariDataSource;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
 import org.springframework.boot.jdbc.DataSourceBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
 import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
 
 import javax.sql.DataSource;
-import java.util.Map;
+import java.util.ArrayList;
+import java.util.List;
 
 @Configuration
 public class DataSourceConfiguration {
 
-    private static final String WRITER_DATASOURCE = "writerDataSource";
-    private static final String READER_DATASOURCE = "readerDataSource";
+    static final String WRITER_DATASOURCE = "writerDataSource";
+
+    private static final String READERS_PREFIX = "spring.datasource.readers"; // 복제본 목록 접두사
+    private static final String LEGACY_READER_PREFIX = "spring.datasource.reader"; // 복제본이 하나였을 때의 접두사
+    private static final long READER_CONNECTION_TIMEOUT_MS = 2000; // 복제본 커넥션 대기 시간 기본값 (장애 시 빨리 writer로 넘어가도록)
 
 
     @Bean(WRITER_DATASOURCE) // writerDataSource 이름의 Bean을 생성한다.
@@ -29,33 +36,39 @@ public class DataSourceConfiguration {
                 .build();
     }
 
-    @Bean(READER_DATASOURCE) // readerDataSource 이름의 Bean을 생성한다.
-    @ConfigurationProperties(prefix = "spring.datasource.reader")
-    public DataSource readerDataSource() {
-        return DataSourceBuilder.create()
-                .type(HikariDataSource.class)
-                .build();
-    }
-
+    /**
+     * 복제본 목록
+     * spring.datasource.readers[n]마다 커넥션 풀을 만든다. 각 항목은 HikariCP 속성과 name, weight(기본 1)를 가진다.
+     * 목록이 없다면 기존 spring.datasource.reader 하나를 사용한다.
+     */
     @Bean
-    public DataSource routingDataSource(
-            @Qualifier(WRITER_DATASOURCE) DataSource writerDataSource,
-            @Qualifier(READER_DATASOURCE) DataSource readerDataSource) { // writerDataSource와 readerDataSource라는 이름을 가진 Bean을 주입받는다.
+    public Replicas replicas(Environment environment,
+                             @Value("${post.datasource.balancing:least-in-flight}") String balancing) {
+        Binder binder = Binder.get(environment);
+        List<ReplicaDataSource> readers = new ArrayList<>();
 
-        RoutingDataSource routingDataSource = new RoutingDataSource();
+        for (int i = 0; binder.bind(READERS_PREFIX + "[" + i + "].jdbc-url", String.class).isBound(); i++) {
+            String prefix = READERS_PREFIX + "[" + i + "]";
+            String name = binder.bind(prefix + ".name", String.class).orElse("reader-" + (i + 1));
+            int weight = binder.bind(prefix + ".weight", Integer.class).orElse(1);
+            readers.add(new ReplicaDataSource(name, weight, readerPool(binder, prefix, name)));
+        }
 
-        Map<Object, Object> datasourceMap = ImmutableMap.<Object, Object>builder()
-                .put("writer", writerDataSource)
-                .put("reader", readerDataSource)
-                .build();
+        if (readers.isEmpty() && binder.bind(LEGACY_READER_PREFIX + ".jdbc-url", String.class).isBound()) {
+            readers.add(new ReplicaDataSource("reader", 1, readerPool(binder, LEGACY_READER_PREFIX, "reader")));
+        }
 
-        // RoutingDataSource의 대상 데이터 소스를 위에서 생성한 맵으로 지정한다.
-        routingDataSource.setTargetDataSources(datasourceMap);
+        return new Replicas(readers, Replicas.Balancing.from(balancing));
+    }
 
-        // 기본 대상 데이터 소스를 writerDataSource로 설정한다.
-        routingDataSource.setDefaultTargetDataSource(writerDataSource);
+    @Bean
+    public DataSource routingDataSource(
+            @Qualifier(WRITER_DATASOURCE) DataSource writerDataSource,
+            Replicas replicas,
+            ReadConsistency readConsistency,
+            SqlInstrumentation sqlInstrumentation) { // writerDataSource와 복제본 목록을 주입받는다.
 
-        return routingDataSource;
+        return new RoutingDataSource(writerDataSource, replicas, readConsistency, sqlInstrumentation);
     }
 
     @Primary // 동일한 타입의 여러 Bean 중에서 우선적으로 사용되는 기본 Bean을 설정한다.
@@ -65,4 +78,15 @@ public class DataSourceConfiguration {
         return new LazyConnectionDataSourceProxy(routingDataSource);
     }
 
-}
\ No newline at end of file
+    /**
+     * 접두사 아래의 HikariCP 속성으로 복제본 커넥션 풀 생성
+     */
+    private static HikariDataSource readerPool(Binder binder, String prefix, String name) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName(name);
+        dataSource.setConnectionTimeout(READER_CONNECTION_TIMEOUT_MS);
+
+        binder.bind(prefix, Bindable.ofInstance(dataSource));
+        return dataSource;
+    }
+}
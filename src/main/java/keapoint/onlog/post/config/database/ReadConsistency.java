@@ -0,0 +1,114 @@
+package keapoint.onlog.post.config.database;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 자신이 쓴 내용 읽기 (read-your-writes)
+ * <p>
+ * 사용자가 쓰기 트랜잭션을 커밋하면, 그 직후 writer의 heartbeat 위치 + 1을 사용자의 "마지막 쓰기 위치"로 기록한다.
+ * 이후 그 사용자의 읽기 요청은 이 위치가 반영된 복제본(또는 writer)에서만 처리하므로, 방금 쓴 게시글을 오래된 복제본에서 읽지 않는다.
+ * 기록은 post.datasource.read-your-writes-ttl-seconds가 지나면 사라지며, 이 서버의 메모리에만 보관된다.
+ * <p>
+ * 요청을 처리하는 스레드의 사용자는 ReadConsistencyInterceptor가 지정한다. 로그인하지 않은 요청은 기록하지 않는다.
+ */
+@Slf4j
+@Component
+public class ReadConsistency {
+
+    private static final ThreadLocal<UUID> CLIENT = new ThreadLocal<>(); // 현재 요청의 사용자(블로그) 식별자
+
+    private final JdbcTemplate writer;
+
+    @Value("${post.datasource.read-your-writes-ttl-seconds:30}")
+    private long ttlSeconds; // 마지막 쓰기 위치 유지 시간
+
+    private Cache<UUID, Long> lastWrites; // 사용자 → 읽기에 필요한 최소 heartbeat 위치
+
+    public ReadConsistency(@Qualifier(DataSourceConfiguration.WRITER_DATASOURCE) DataSource writerDataSource) {
+        this.writer = new JdbcTemplate(writerDataSource);
+    }
+
+    @PostConstruct
+    public void init() {
+        lastWrites = CacheBuilder.newBuilder()
+                .expireAfterWrite(ttlSeconds, TimeUnit.SECONDS)
+                .maximumSize(100_000)
+                .build();
+    }
+
+    /**
+     * 현재 스레드에서 처리하는 요청의 사용자 지정
+     */
+    public void bind(UUID client) {
+        CLIENT.set(client);
+    }
+
+    public void clear() {
+        CLIENT.remove();
+    }
+
+    /**
+     * 현재 요청의 읽기에 필요한 최소 heartbeat 위치
+     *
+     * @return 최근에 쓴 적이 없다면 0
+     */
+    public long requiredPosition() {
+        UUID client = CLIENT.get();
+        if (client == null) {
+            return 0;
+        }
+
+        Long position = lastWrites.getIfPresent(client);
+        return position == null ? 0 : position;
+    }
+
+    /**
+     * 쓰기 트랜잭션이 writer 커넥션을 받을 때 호출된다. 커밋 후 사용자의 마지막 쓰기 위치를 기록한다.
+     */
+    public void onWriteTransaction() {
+        UUID client = CLIENT.get();
+        if (client == null || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                recordWrite(client);
+            }
+        });
+    }
+
+    /**
+     * 커밋된 쓰기 이후의 위치를 기록한다.
+     * 커밋 후에 읽은 writer 위치보다 큰 heartbeat는 커밋 이후에 기록되므로, 그 heartbeat가 반영된 복제본에는 이 쓰기도 반영되어 있다.
+     * writer 위치를 읽지 못하면 기록이 사라질 때까지 writer에서만 읽는다.
+     */
+    void recordWrite(UUID client) {
+        long required;
+        try {
+            Long position = writer.queryForObject(
+                    "SELECT beat_position FROM replication_heartbeat WHERE heartbeat_id = 1", Long.class);
+            required = position == null ? Long.MAX_VALUE : position + 1;
+
+        } catch (Exception e) {
+            log.debug("writer heartbeat 위치를 읽지 못했습니다: {}", e.getMessage());
+            required = Long.MAX_VALUE;
+        }
+
+        lastWrites.asMap().merge(client, required, Math::max);
+    }
+}
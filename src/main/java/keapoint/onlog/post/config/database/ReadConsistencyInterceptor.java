@@ -0,0 +1,41 @@
+package keapoint.onlog.post.config.database;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import keapoint.onlog.post.config.security.JwtPrincipal;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+/**
+ * 요청을 처리하는 동안 로그인한 사용자를 ReadConsistency에 지정한다.
+ * 인증 필터가 끝난 뒤 실행되므로 검증된 사용자 정보(JwtPrincipal)를 그대로 사용한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ReadConsistencyInterceptor implements AsyncHandlerInterceptor {
+
+    private final ReadConsistency readConsistency;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof JwtPrincipal principal) {
+            readConsistency.bind(principal.getMemberIdx());
+        }
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        // 비동기 처리로 넘어가면 afterCompletion이 불리지 않으므로 요청 스레드의 사용자를 여기서 지운다. (다시 디스패치될 때 새로 지정한다.)
+        readConsistency.clear();
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        readConsistency.clear();
+    }
+}
@@ -0,0 +1,104 @@
+package keapoint.onlog.post.config.database;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 읽기 전용 복제본(reader) 하나
+ * <p>
+ * 복제본의 커넥션 풀을 감싸서 사용 중인 커넥션 수(in-flight)를 세고,
+ * ReplicationMonitor가 측정한 복제 위치, 지연 시간, 정상 여부를 보관한다.
+ * 처음에는 정상이 아닌 상태로 시작하며, 첫 상태 확인을 통과해야 읽기 요청을 받는다.
+ */
+@Slf4j
+@Getter
+public class ReplicaDataSource extends DelegatingDataSource {
+
+    private final String name; // 복제본 이름
+    private final int weight; // 가중치 (클수록 많은 요청을 받는다.)
+
+    private final AtomicInteger inFlight = new AtomicInteger(); // 사용 중인 커넥션 수
+    private volatile boolean healthy = false; // 읽기 요청을 받을 수 있는지 여부
+    private volatile long position = 0; // 복제본에 반영된 heartbeat 위치
+    private volatile long lagMillis = -1; // 마지막으로 측정한 복제 지연 시간 (측정 전이라면 -1)
+
+    public ReplicaDataSource(String name, int weight, DataSource dataSource) {
+        super(dataSource);
+        this.name = name;
+        this.weight = Math.max(1, weight);
+    }
+
+    /**
+     * 읽기 요청을 받을 수 있는지 여부
+     *
+     * @param requiredPosition 요청한 사용자가 마지막으로 쓴 내용이 반영된 heartbeat 위치 (없다면 0)
+     */
+    public boolean isAvailable(long requiredPosition) {
+        return healthy && position >= requiredPosition;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * 상태 확인 결과 반영
+     */
+    void update(long position, long lagMillis, boolean healthy) {
+        if (this.healthy != healthy) {
+            log.info("복제본({})을 {}합니다. (복제 지연 {}ms)", name, healthy ? "다시 사용" : "제외", lagMillis);
+        }
+        this.position = position;
+        this.lagMillis = lagMillis;
+        this.healthy = healthy;
+    }
+
+    /**
+     * 연결할 수 없는 복제본 제외 (다음 상태 확인을 통과하면 다시 사용한다.)
+     */
+    void markDown(Exception cause) {
+        if (healthy) {
+            log.warn("복제본({})에 연결할 수 없어 제외합니다: {}", name, cause.getMessage());
+        }
+        healthy = false;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return track(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return track(super.getConnection(username, password));
+    }
+
+    /**
+     * 커넥션을 반납(close)할 때 사용 중인 커넥션 수를 줄이도록 감싼다.
+     */
+    private Connection track(Connection connection) {
+        inFlight.incrementAndGet();
+        AtomicBoolean closed = new AtomicBoolean();
+
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("close") && closed.compareAndSet(false, true)) {
+                        inFlight.decrementAndGet();
+                    }
+                    try {
+                        return method.invoke(connection, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getTargetException();
+                    }
+                });
+    }
+}
@@ -0,0 +1,109 @@
+package keapoint.onlog.post.config.database;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 읽기 전용 복제본 목록과 부하 분산
+ * <p>
+ * 읽기 요청마다 정상이고 요청한 사용자의 마지막 쓰기가 반영된 복제본 중 하나를 고른다.
+ * 고를 수 있는 복제본이 없다면 writer를 사용한다.
+ */
+public class Replicas implements AutoCloseable {
+
+    /**
+     * 부하 분산 방식
+     */
+    public enum Balancing {
+        LEAST_IN_FLIGHT, // 가중치 대비 사용 중인 커넥션이 가장 적은 복제본 (같다면 무작위)
+        WEIGHTED; // 가중치에 비례한 무작위 선택
+
+        /**
+         * 설정값(least-in-flight, weighted)을 부하 분산 방식으로 변환
+         */
+        public static Balancing from(String value) {
+            return valueOf(value.trim().toUpperCase().replace('-', '_'));
+        }
+    }
+
+    @Getter
+    private final List<ReplicaDataSource> readers; // 복제본 목록
+
+    private final Balancing balancing; // 부하 분산 방식
+    private final AtomicLong writerFallbacks = new AtomicLong(); // 복제본 대신 writer에서 처리한 읽기 요청 수
+
+    public Replicas(List<ReplicaDataSource> readers, Balancing balancing) {
+        this.readers = List.copyOf(readers);
+        this.balancing = balancing;
+    }
+
+    /**
+     * 읽기 요청을 처리할 복제본 선택
+     *
+     * @param requiredPosition 복제본에 반영되어 있어야 하는 heartbeat 위치 (없다면 0)
+     * @return 복제본. 사용할 수 있는 복제본이 없다면 null (writer를 사용한다.)
+     */
+    public ReplicaDataSource select(long requiredPosition) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        ReplicaDataSource selected = null;
+
+        if (balancing == Balancing.WEIGHTED) {
+            // 가중치 비례 저수지 추출 (목록을 한 번만 훑는다.)
+            int totalWeight = 0;
+            for (ReplicaDataSource reader : readers) {
+                if (reader.isAvailable(requiredPosition)) {
+                    totalWeight += reader.getWeight();
+                    if (random.nextInt(totalWeight) < reader.getWeight()) {
+                        selected = reader;
+                    }
+                }
+            }
+
+        } else {
+            double minLoad = Double.MAX_VALUE;
+            int ties = 0;
+            for (ReplicaDataSource reader : readers) {
+                if (!reader.isAvailable(requiredPosition)) {
+                    continue;
+                }
+
+                double load = (reader.getInFlight() + 1) / (double) reader.getWeight();
+                if (load < minLoad) {
+                    minLoad = load;
+                    selected = reader;
+                    ties = 1;
+                } else if (load == minLoad && random.nextInt(++ties) == 0) {
+                    selected = reader;
+                }
+            }
+        }
+
+        if (selected == null) {
+            writerFallbacks.incrementAndGet();
+        }
+        return selected;
+    }
+
+    /**
+     * 복제본 대신 writer에서 처리한 읽기 요청 수
+     */
+    public long getWriterFallbacks() {
+        return writerFallbacks.get();
+    }
+
+    /**
+     * 복제본 커넥션 풀 종료 (Bean 소멸 시 호출된다.)
+     */
+    @Override
+    public void close() {
+        for (ReplicaDataSource reader : readers) {
+            if (reader.getTargetDataSource() instanceof HikariDataSource hikari) {
+                hikari.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package keapoint.onlog.post.config.database;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * 복제본 상태 확인
+ * <p>
+ * post.datasource.health-check-interval-ms마다 writer의 heartbeat 위치를 1 증가시키고,
+ * 각 복제본에서 heartbeat 행을 읽어 반영된 위치와 복제 지연 시간(현재 시각 - 반영된 heartbeat 기록 시각)을 측정한다.
+ * 지연 시간이 post.datasource.max-lag-ms를 넘거나 연결할 수 없는 복제본은 읽기 요청에서 제외하고, 다시 따라잡으면 사용한다.
+ * 지연 시간은 heartbeat 주기 단위로 측정되므로 max-lag-ms는 주기보다 충분히 커야 한다.
+ * <p>
+ * 다른 @Scheduled 작업(받은 편지함 정리, 통계 재계산 등)이 오래 걸려도 상태 확인이 밀리지 않도록 전용 스레드에서 실행한다.
+ */
+@Slf4j
+@Component
+public class ReplicationMonitor {
+
+    private static final int PROBE_TIMEOUT_SECONDS = 2; // 복제본 상태 확인 쿼리 제한 시간
+
+    private final JdbcTemplate writer;
+    private final Replicas replicas;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${post.datasource.max-lag-ms:3000}")
+    private long maxLagMillis; // 읽기 요청을 받을 수 있는 최대 복제 지연 시간
+
+    @Value("${post.datasource.health-check-interval-ms:1000}")
+    private long checkIntervalMillis; // 상태 확인 주기
+
+    private ThreadPoolTaskScheduler scheduler; // 상태 확인 전용 스레드
+
+    public ReplicationMonitor(@Qualifier(DataSourceConfiguration.WRITER_DATASOURCE) DataSource writerDataSource,
+                              Replicas replicas, MeterRegistry meterRegistry) {
+        this.writer = new JdbcTemplate(writerDataSource);
+        this.replicas = replicas;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @PostConstruct
+    public void init() {
+        for (ReplicaDataSource reader : replicas.getReaders()) {
+            Gauge.builder("post.datasource.replica.lag", reader, ReplicaDataSource::getLagMillis)
+                    .tag("replica", reader.getName())
+                    .description("복제 지연 시간 (ms)")
+                    .register(meterRegistry);
+
+            Gauge.builder("post.datasource.replica.in.flight", reader, ReplicaDataSource::getInFlight)
+                    .tag("replica", reader.getName())
+                    .description("복제본에서 사용 중인 커넥션 수")
+                    .register(meterRegistry);
+
+            Gauge.builder("post.datasource.replica.healthy", reader, replica -> replica.isHealthy() ? 1 : 0)
+                    .tag("replica", reader.getName())
+                    .description("복제본 사용 여부 (1: 사용, 0: 제외)")
+                    .register(meterRegistry);
+        }
+
+        FunctionCounter.builder("post.datasource.replica.writer.fallback", replicas, Replicas::getWriterFallbacks)
+                .description("사용할 수 있는 복제본이 없어 writer에서 처리한 읽기 요청 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 서버가 준비되면 전용 스레드에서 상태 확인을 시작한다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (replicas.getReaders().isEmpty()) {
+            return;
+        }
+
+        scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(1);
+        scheduler.setThreadNamePrefix("replication-monitor-");
+        scheduler.initialize();
+        scheduler.scheduleWithFixedDelay(this::check, Duration.ofMillis(checkIntervalMillis));
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (scheduler != null) {
+            scheduler.shutdown();
+        }
+    }
+
+    /**
+     * heartbeat를 기록하고 모든 복제본의 상태를 확인한다.
+     */
+    public synchronized void check() {
+        if (replicas.getReaders().isEmpty()) {
+            return;
+        }
+
+        beat();
+
+        for (ReplicaDataSource reader : replicas.getReaders()) {
+            probe(reader);
+        }
+    }
+
+    /**
+     * writer의 heartbeat 위치를 1 증가시킨다. (행이 없다면 만든다.)
+     */
+    private void beat() {
+        try {
+            long now = System.currentTimeMillis();
+            int updated = writer.update(
+                    "UPDATE replication_heartbeat SET beat_position = beat_position + 1, beat_at = ? WHERE heartbeat_id = 1", now);
+
+            if (updated == 0) {
+                try {
+                    writer.update("INSERT INTO replication_heartbeat (heartbeat_id, beat_position, beat_at) VALUES (1, 1, ?)", now);
+                } catch (DuplicateKeyException ignored) {
+                    // 다른 서버가 먼저 만들었다.
+                }
+            }
+
+        } catch (Exception e) {
+            log.error("복제 heartbeat를 기록하는 데 실패하였습니다. 다음 주기에 다시 시도합니다.", e);
+        }
+    }
+
+    /**
+     * 복제본에 반영된 heartbeat를 읽어 위치와 지연 시간을 갱신한다.
+     */
+    private void probe(ReplicaDataSource reader) {
+        try {
+            JdbcTemplate replica = new JdbcTemplate(reader.getTargetDataSource());
+            replica.setQueryTimeout(PROBE_TIMEOUT_SECONDS);
+
+            Map<String, Object> row = replica.queryForMap(
+                    "SELECT beat_position, beat_at FROM replication_heartbeat WHERE heartbeat_id = 1");
+            long position = ((Number) row.get("beat_position")).longValue();
+            long lagMillis = Math.max(0, System.currentTimeMillis() - ((Number) row.get("beat_at")).longValue());
+
+            reader.update(position, lagMillis, lagMillis <= maxLagMillis);
+
+        } catch (Exception e) {
+            reader.markDown(e);
+        }
+    }
+}
@@ -4,21 +4,99 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
 import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * writer, 복제본 라우팅
+ * <p>
+ * 읽기 전용 트랜잭션은 정상이고 요청한 사용자의 마지막 쓰기가 반영된 복제본 중 하나(Replicas)로,
+ * 그 외에는 writer로 보낸다. 사용할 수 있는 복제본이 없거나 고른 복제본에 연결할 수 없다면 writer를 사용한다.
+ * 내어주는 커넥션은 SqlInstrumentation으로 감싸서, 실행한 문장을 처리한 데이터 소스와 함께 기록한다.
+ */
 @Slf4j
 public class RoutingDataSource extends AbstractRoutingDataSource {
 
+    static final String WRITER = "writer";
+
+    private final DataSource writerDataSource;
+    private final Replicas replicas;
+    private final ReadConsistency readConsistency;
+    private final SqlInstrumentation sqlInstrumentation;
+
+    public RoutingDataSource(DataSource writerDataSource, Replicas replicas, ReadConsistency readConsistency,
+                             SqlInstrumentation sqlInstrumentation) {
+        this.writerDataSource = writerDataSource;
+        this.replicas = replicas;
+        this.readConsistency = readConsistency;
+        this.sqlInstrumentation = sqlInstrumentation;
+
+        Map<Object, Object> targetDataSources = new HashMap<>();
+        targetDataSources.put(WRITER, writerDataSource);
+        for (ReplicaDataSource reader : replicas.getReaders()) {
+            if (targetDataSources.put(reader.getName(), reader) != null) {
+                throw new IllegalArgumentException("복제본 이름이 중복되었습니다: " + reader.getName());
+            }
+        }
+
+        // 대상 데이터 소스를 writer와 복제본으로 지정하고, 기본 대상은 writer로 설정한다.
+        setTargetDataSources(targetDataSources);
+        setDefaultTargetDataSource(writerDataSource);
+    }
+
     @Override
     // 현재 데이터베이스 연결을 결정하기 위해 호출하는 메서드
     protected Object determineCurrentLookupKey() {
         boolean isReadOnly = TransactionSynchronizationManager.isCurrentTransactionReadOnly();
 
-//        if (isReadOnly) {
-//            log.info("Slave DataSource 호출 => ");
-//        } else {
-//            log.info("Master DataSource 호출");
-//        }
+        // 현재 트랜잭션이 읽기 전용인 경우는 복제본, 아닐 경우 writer를 반환한다 -> 트랜잭션의 속성에 따라 데이터베이스 연결을 결정
+        if (!isReadOnly) {
+            readConsistency.onWriteTransaction();
+            return WRITER;
+        }
+
+        ReplicaDataSource reader = replicas.select(readConsistency.requiredPosition());
+        return reader == null ? WRITER : reader.getName();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        DataSource target = determineTargetDataSource();
+        try {
+            return sqlInstrumentation.wrap(target.getConnection(), nameOf(target));
+
+        } catch (SQLException e) {
+            return sqlInstrumentation.wrap(fallbackToWriter(target, e).getConnection(), WRITER);
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        DataSource target = determineTargetDataSource();
+        try {
+            return sqlInstrumentation.wrap(target.getConnection(username, password), nameOf(target));
+
+        } catch (SQLException e) {
+            return sqlInstrumentation.wrap(fallbackToWriter(target, e).getConnection(username, password), WRITER);
+        }
+    }
+
+    private static String nameOf(DataSource target) {
+        return target instanceof ReplicaDataSource reader ? reader.getName() : WRITER;
+    }
+
+    /**
+     * 복제본에 연결할 수 없다면 복제본을 제외하고 writer를 사용한다. writer에 연결할 수 없다면 그대로 실패한다.
+     */
+    private DataSource fallbackToWriter(DataSource target, SQLException e) throws SQLException {
+        if (!(target instanceof ReplicaDataSource reader)) {
+            throw e;
+        }
 
-        // 현재 트랜잭션이 읽기 전용인 경우는 reader, 아닐 경우 writer를 반환한다 -> 트랜잭션의 속성에 따라 데이터베이스 연결을 결정
-        return isReadOnly ? "reader" : "writer";
+        reader.markDown(e);
+        return writerDataSource;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,336 @@
+package keapoint.onlog.post.config.database;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import keapoint.onlog.post.utils.SqlShape;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * SQL 문장 계측
+ * <p>
+ * RoutingDataSource가 내어주는 커넥션을 감싸서, 실행되는 모든 문장(Hibernate의 지연 로딩과 JdbcTemplate 포함)의 실행 시간을
+ * 현재 요청의 엔드포인트(HTTP 메서드 + URL 패턴)와 문장을 처리한 데이터 소스(writer, 복제본 이름)별로 기록한다.
+ * 실행 시간은 execute 호출 시간이며, 결과를 읽는 시간은 포함하지 않는다.
+ * <p>
+ * 요청이 끝나면 같은 형태(SqlShape)의 문장이 post.sql.n-plus-one-threshold번 이상 실행되었는지 확인하여 N+1 조회로 의심되는 문장을 기록하고,
+ * post.sql.slow-query-ms 이상 걸린 문장은 post.sql.slow-query-sample-rate 비율만 느린 쿼리 로그(keapoint.onlog.post.sql.slow)에 남긴다.
+ * 로그와 N+1 의심 목록에는 값을 뺀 문장 형태만 남긴다.
+ * <p>
+ * 엔드포인트별 누적 통계는 actuator의 sql 엔드포인트로, 문장 실행 시간과 요청당 문장 수는 Micrometer 지표로 확인할 수 있다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SqlInstrumentation {
+
+    static final String NO_REQUEST = "background"; // 요청 밖(스케줄러 등)에서 실행된 문장의 엔드포인트
+
+    private static final Logger SLOW_QUERY_LOG = LoggerFactory.getLogger("keapoint.onlog.post.sql.slow");
+    private static final ThreadLocal<RequestStats> CURRENT = new ThreadLocal<>(); // 현재 요청의 문장 기록
+    private static final int MAX_REPEATED_STATEMENTS = 20; // 엔드포인트마다 보관할 N+1 의심 문장 수
+    private static final int MAX_SLOW_QUERIES = 20; // 엔드포인트마다 보관할 최근 느린 쿼리 수
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${post.sql.enabled:true}")
+    private boolean enabled; // 계측 여부
+
+    @Value("${post.sql.n-plus-one-threshold:5}")
+    private int nPlusOneThreshold; // 한 요청에서 같은 형태의 문장이 이 수 이상 실행되면 N+1 조회로 의심한다
+
+    @Value("${post.sql.slow-query-ms:200}")
+    private long slowQueryMillis; // 느린 쿼리 기준 시간
+
+    @Value("${post.sql.slow-query-sample-rate:0.1}")
+    private double slowQuerySampleRate; // 느린 쿼리 중 로그에 남길 비율
+
+    private final Map<String, EndpointStats> endpoints = new ConcurrentHashMap<>(); // 엔드포인트 → 누적 통계
+    private final Map<String, Timer> statementTimers = new ConcurrentHashMap<>(); // 엔드포인트, 데이터 소스 → 문장 실행 시간
+    private final Map<String, DistributionSummary> requestSummaries = new ConcurrentHashMap<>(); // 엔드포인트 → 요청당 문장 수
+    private Cache<String, Boolean> reportedRepeats; // 최근에 경고한 (엔드포인트, 문장 형태)
+
+    /**
+     * 요청 하나에서 실행된 문장 (요청을 처리하는 스레드에서만 사용한다.)
+     */
+    private static final class RequestStats {
+        private final String endpoint;
+        private int statements;
+        private long nanos;
+        private final Map<String, Integer> byDataSource = new HashMap<>();
+        private final Map<String, Integer> shapes = new HashMap<>();
+
+        private RequestStats(String endpoint) {
+            this.endpoint = endpoint;
+        }
+    }
+
+    /**
+     * 엔드포인트별 누적 통계
+     */
+    private static final class EndpointStats {
+        private final LongAdder requests = new LongAdder();
+        private final LongAdder statements = new LongAdder();
+        private final LongAdder nanos = new LongAdder();
+        private final AtomicLong maxStatements = new AtomicLong();
+        private final LongAdder nPlusOneRequests = new LongAdder();
+        private final Map<String, LongAdder> byDataSource = new ConcurrentHashMap<>();
+        private final Map<String, Long> repeatedStatements = new ConcurrentHashMap<>(); // 문장 형태 → 한 요청에서의 최대 반복 수
+        private final Deque<SlowQuery> slowQueries = new ArrayDeque<>();
+
+        private void addSlowQuery(SlowQuery slowQuery) {
+            synchronized (slowQueries) {
+                slowQueries.addFirst(slowQuery);
+                if (slowQueries.size() > MAX_SLOW_QUERIES) {
+                    slowQueries.removeLast();
+                }
+            }
+        }
+
+        private EndpointSnapshot snapshot(String endpoint) {
+            long requestCount = requests.sum();
+            long statementCount = statements.sum();
+
+            Map<String, Long> dataSources = new TreeMap<>();
+            byDataSource.forEach((name, count) -> dataSources.put(name, count.sum()));
+
+            List<RepeatedStatement> repeated = repeatedStatements.entrySet().stream()
+                    .map(entry -> new RepeatedStatement(entry.getKey(), entry.getValue()))
+                    .sorted(Comparator.comparingLong(RepeatedStatement::maxRepeats).reversed())
+                    .toList();
+
+            List<SlowQuery> slow;
+            synchronized (slowQueries) {
+                slow = List.copyOf(slowQueries);
+            }
+
+            return new EndpointSnapshot(endpoint, requestCount, statementCount,
+                    requestCount == 0 ? 0 : (double) statementCount / requestCount, maxStatements.get(),
+                    TimeUnit.NANOSECONDS.toMillis(nanos.sum()), dataSources, nPlusOneRequests.sum(), repeated, slow);
+        }
+    }
+
+    /**
+     * 엔드포인트 통계 (actuator 응답)
+     */
+    public record EndpointSnapshot(String endpoint, long requests, long statements, double statementsPerRequest,
+                                   long maxStatementsPerRequest, long totalDbTimeMs, Map<String, Long> statementsByDataSource,
+                                   long nPlusOneRequests, List<RepeatedStatement> repeatedStatements,
+                                   List<SlowQuery> slowQueries) {
+    }
+
+    /**
+     * N+1 조회로 의심되는 문장
+     */
+    public record RepeatedStatement(String shape, long maxRepeats) {
+    }
+
+    /**
+     * 느린 쿼리
+     */
+    public record SlowQuery(LocalDateTime executedAt, String dataSource, long elapsedMs, String shape) {
+    }
+
+    @PostConstruct
+    public void init() {
+        reportedRepeats = CacheBuilder.newBuilder()
+                .expireAfterWrite(1, TimeUnit.MINUTES)
+                .maximumSize(10_000)
+                .build();
+    }
+
+    /**
+     * 요청 시작 (이후 이 스레드에서 실행되는 문장은 엔드포인트에 기록된다.)
+     *
+     * @param endpoint HTTP 메서드 + URL 패턴
+     */
+    public void begin(String endpoint) {
+        if (enabled) {
+            CURRENT.set(new RequestStats(endpoint));
+        }
+    }
+
+    /**
+     * 요청 종료. 요청의 문장 수를 엔드포인트 통계에 더하고 N+1 의심 문장을 확인한다.
+     */
+    public void end() {
+        RequestStats request = CURRENT.get();
+        if (request == null) {
+            return;
+        }
+        CURRENT.remove();
+
+        EndpointStats stats = endpoints.computeIfAbsent(request.endpoint, endpoint -> new EndpointStats());
+        stats.requests.increment();
+        stats.statements.add(request.statements);
+        stats.nanos.add(request.nanos);
+        stats.maxStatements.accumulateAndGet(request.statements, Math::max);
+        request.byDataSource.forEach((name, count) -> stats.byDataSource.computeIfAbsent(name, key -> new LongAdder()).add(count));
+
+        requestSummaries.computeIfAbsent(request.endpoint, endpoint -> DistributionSummary.builder("post.sql.request.statements")
+                        .tag("endpoint", endpoint)
+                        .description("요청당 실행한 SQL 문장 수")
+                        .register(meterRegistry))
+                .record(request.statements);
+
+        boolean suspected = false;
+        for (Map.Entry<String, Integer> shape : request.shapes.entrySet()) {
+            if (shape.getValue() < nPlusOneThreshold) {
+                continue;
+            }
+            suspected = true;
+
+            long repeats = shape.getValue();
+            if (stats.repeatedStatements.containsKey(shape.getKey()) || stats.repeatedStatements.size() < MAX_REPEATED_STATEMENTS) {
+                stats.repeatedStatements.merge(shape.getKey(), repeats, Math::max);
+            }
+
+            String key = request.endpoint + "\n" + shape.getKey();
+            if (reportedRepeats.asMap().putIfAbsent(key, Boolean.TRUE) == null) {
+                log.warn("N+1 조회가 의심됩니다. {}에서 같은 형태의 문장을 {}번 실행하였습니다: {}", request.endpoint, repeats, shape.getKey());
+            }
+        }
+
+        if (suspected) {
+            stats.nPlusOneRequests.increment();
+            Counter.builder("post.sql.n.plus.one")
+                    .tag("endpoint", request.endpoint)
+                    .description("같은 형태의 문장이 반복되어 N+1 조회가 의심되는 요청 수")
+                    .register(meterRegistry)
+                    .increment();
+        }
+    }
+
+    /**
+     * 계측하는 커넥션 (커넥션이 만드는 Statement의 execute 호출을 기록한다.)
+     *
+     * @param connection 커넥션
+     * @param dataSource 커넥션을 내어준 데이터 소스 이름
+     */
+    public Connection wrap(Connection connection, String dataSource) {
+        if (!enabled) {
+            return connection;
+        }
+
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    Object result = invoke(connection, method, args);
+                    if (result instanceof Statement statement && Statement.class.isAssignableFrom(method.getReturnType())) {
+                        String sql = args != null && args.length > 0 && args[0] instanceof String prepared ? prepared : null;
+                        return wrap(statement, method.getReturnType(), sql, dataSource);
+                    }
+                    return result;
+                });
+    }
+
+    /**
+     * 엔드포인트별 누적 통계
+     */
+    public List<EndpointSnapshot> snapshot() {
+        return endpoints.entrySet().stream()
+                .map(entry -> entry.getValue().snapshot(entry.getKey()))
+                .sorted(Comparator.comparingLong(EndpointSnapshot::statements).reversed())
+                .toList();
+    }
+
+    /**
+     * 누적 통계 초기화 (Micrometer 지표는 유지한다.)
+     */
+    public void reset() {
+        endpoints.clear();
+        reportedRepeats.invalidateAll();
+    }
+
+    private Statement wrap(Statement statement, Class<?> type, String preparedSql, String dataSource) {
+        return (Statement) Proxy.newProxyInstance(Statement.class.getClassLoader(), new Class<?>[]{type},
+                (proxy, method, args) -> {
+                    if (!method.getName().startsWith("execute")) {
+                        return invoke(statement, method, args);
+                    }
+
+                    String sql = preparedSql != null ? preparedSql
+                            : args != null && args.length > 0 && args[0] instanceof String executed ? executed : null;
+                    long start = System.nanoTime();
+                    try {
+                        return invoke(statement, method, args);
+                    } finally {
+                        record(dataSource, sql, System.nanoTime() - start);
+                    }
+                });
+    }
+
+    /**
+     * 문장 실행 기록
+     */
+    private void record(String dataSource, String sql, long nanos) {
+        RequestStats request = CURRENT.get();
+        String endpoint = request == null ? NO_REQUEST : request.endpoint;
+
+        statementTimers.computeIfAbsent(endpoint + "\n" + dataSource, key -> Timer.builder("post.sql.statement")
+                        .tag("endpoint", endpoint)
+                        .tag("datasource", dataSource)
+                        .description("SQL 문장 실행 시간")
+                        .register(meterRegistry))
+                .record(nanos, TimeUnit.NANOSECONDS);
+
+        String shape = null;
+        if (request != null) {
+            shape = sql == null ? "(batch)" : SqlShape.of(sql);
+            request.statements++;
+            request.nanos += nanos;
+            request.byDataSource.merge(dataSource, 1, Integer::sum);
+            request.shapes.merge(shape, 1, Integer::sum);
+        }
+
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(nanos);
+        if (elapsedMillis < slowQueryMillis) {
+            return;
+        }
+
+        Counter.builder("post.sql.slow")
+                .tag("endpoint", endpoint)
+                .tag("datasource", dataSource)
+                .description("느린 쿼리 수")
+                .register(meterRegistry)
+                .increment();
+
+        if (ThreadLocalRandom.current().nextDouble() < slowQuerySampleRate) {
+            if (shape == null) {
+                shape = sql == null ? "(batch)" : SqlShape.of(sql);
+            }
+            SLOW_QUERY_LOG.warn("{}ms [{}] {} {}", elapsedMillis, dataSource, endpoint, shape);
+            endpoints.computeIfAbsent(endpoint, key -> new EndpointStats())
+                    .addSlowQuery(new SlowQuery(LocalDateTime.now(), dataSource, elapsedMillis, shape));
+        }
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package keapoint.onlog.post.config.database;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * 요청을 처리하는 동안 실행된 SQL 문장을 요청의 엔드포인트(HTTP 메서드 + URL 패턴)로 기록하도록 SqlInstrumentation에 알린다.
+ * URL 패턴(/posts/{postId})을 사용하므로 경로 변수 값마다 엔드포인트가 늘어나지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class SqlInstrumentationInterceptor implements AsyncHandlerInterceptor {
+
+    private static final String UNKNOWN_PATTERN = "UNKNOWN";
+
+    private final SqlInstrumentation sqlInstrumentation;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        sqlInstrumentation.begin(request.getMethod() + " " + (pattern == null ? UNKNOWN_PATTERN : pattern));
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        // 비동기 처리로 넘어가면 요청 스레드의 기록을 끝낸다. (다시 디스패치될 때 새로 시작한다.)
+        sqlInstrumentation.end();
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        sqlInstrumentation.end();
+    }
+}
@@ -0,0 +1,33 @@
+package keapoint.onlog.post.config.database;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * SQL 통계 actuator 엔드포인트 (/actuator/sql)
+ * <p>
+ * 엔드포인트별 요청 수, 요청당 문장 수, 총 DB 시간, 데이터 소스별 문장 수, N+1 의심 문장, 최근 느린 쿼리를
+ * 문장 수가 많은 순서로 보여준다. DELETE 요청으로 누적 통계를 초기화한다.
+ */
+@Component
+@Endpoint(id = "sql")
+@RequiredArgsConstructor
+public class SqlStatsEndpoint {
+
+    private final SqlInstrumentation sqlInstrumentation;
+
+    @ReadOperation
+    public List<SqlInstrumentation.EndpointSnapshot> endpoints() {
+        return sqlInstrumentation.snapshot();
+    }
+
+    @DeleteOperation
+    public void reset() {
+        sqlInstrumentation.reset();
+    }
+}
@@ -0,0 +1,41 @@
+package keapoint.onlog.post.config.security;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.security.Principal;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 검증된 access token의 사용자 정보
+ * <p>
+ * 토큰을 한 번 검증한 뒤 SecurityContext에 넣어두는 인증 주체이며, 컨트롤러는 @LoginBlogId로 memberIdx를 받는다.
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class JwtPrincipal implements Principal {
+
+    private final UUID memberIdx; // 사용자(블로그) 식별자
+    private final UUID tokenId; // 토큰 식별자 (jti. 발급 시 jti가 없던 토큰은 null)
+    private final String subject; // 토큰 subject (이메일)
+    private final List<GrantedAuthority> authorities; // 권한 목록
+    private final long expiresAt; // 토큰 만료 시각 (epoch 밀리초)
+
+    @Override
+    public String getName() {
+        return subject;
+    }
+
+    /**
+     * 토큰 만료 여부
+     *
+     * @param now 현재 시각 (epoch 밀리초)
+     */
+    public boolean isExpired(long now) {
+        return now >= expiresAt;
+    }
+}
@@ -7,7 +7,6 @@ import jakarta.servlet.ServletRequest;
 import jakarta.servlet.ServletResponse;
 import jakarta.servlet.http.HttpServletRequest;
 import keapoint.onlog.post.utils.JwtTokenProvider;
-import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.filter.GenericFilterBean;
 
@@ -25,12 +24,13 @@ public class JwtTokenFilter extends GenericFilterBean {
     public void doFilter(ServletRequest req, ServletResponse res, FilterChain filterChain) throws IOException, ServletException {
         String token = jwtTokenProvider.resolveToken((HttpServletRequest) req);
 
-        if (token != null && jwtTokenProvider.validateToken(token)) {
-            Authentication auth = jwtTokenProvider.getAuthentication(token);
-            SecurityContextHolder.getContext().setAuthentication(auth);
+        // 토큰은 여기서 한 번만 검증하고, 컨트롤러는 @LoginBlogId로 검증된 사용자 식별자를 받는다.
+        if (token != null) {
+            jwtTokenProvider.verify(token)
+                    .ifPresent(principal -> SecurityContextHolder.getContext().setAuthentication(jwtTokenProvider.getAuthentication(principal)));
         }
 
         filterChain.doFilter(req, res);
     }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,22 @@
+package keapoint.onlog.post.config.security;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 로그인한 사용자의 블로그 식별자(UUID)를 컨트롤러 메서드 파라미터로 받는다.
+ * <p>
+ * JwtTokenFilter가 검증해 둔 인증 주체에서 꺼내므로 컨트롤러에서 토큰을 다시 파싱하지 않는다.
+ * 토큰이 없거나 유효하지 않으면 INVALID_TOKEN_EXCEPTION 응답을 반환하며, required가 false라면 null을 받는다.
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface LoginBlogId {
+
+    /**
+     * 로그인이 필요한지 여부
+     */
+    boolean required() default true;
+}
@@ -0,0 +1,58 @@
+package keapoint.onlog.post.config.security;
+
+import jakarta.servlet.http.HttpServletRequest;
+import keapoint.onlog.post.base.BaseErrorCode;
+import keapoint.onlog.post.base.BaseException;
+import keapoint.onlog.post.utils.JwtTokenProvider;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.MethodParameter;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * @LoginBlogId 파라미터에 로그인한 사용자의 블로그 식별자를 넣는다.
+ * <p>
+ * SecurityContext에 JwtPrincipal이 있으면 그대로 사용하고, 필터를 거치지 않은 요청(인증 없이 허용된 경로 등)은
+ * Authorization 헤더의 토큰을 검증한다. (검증 결과는 JwtTokenProvider가 캐시한다.)
+ */
+@Component
+@RequiredArgsConstructor
+public class LoginBlogIdArgumentResolver implements HandlerMethodArgumentResolver {
+
+    private final JwtTokenProvider jwtTokenProvider;
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return parameter.hasParameterAnnotation(LoginBlogId.class) && UUID.class.equals(parameter.getParameterType());
+    }
+
+    @Override
+    public Object resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
+                                  NativeWebRequest webRequest, WebDataBinderFactory binderFactory) throws BaseException {
+        boolean required = parameter.getParameterAnnotation(LoginBlogId.class).required();
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof JwtPrincipal principal) {
+            return principal.getMemberIdx();
+        }
+
+        String token = jwtTokenProvider.resolveToken(webRequest.getNativeRequest(HttpServletRequest.class));
+        Optional<JwtPrincipal> principal = token == null ? Optional.empty() : jwtTokenProvider.verify(token);
+
+        if (principal.isPresent()) {
+            return principal.get().getMemberIdx();
+        }
+        if (required) {
+            throw new BaseException(BaseErrorCode.INVALID_TOKEN_EXCEPTION);
+        }
+        return null;
+    }
+}
@@ -45,6 +45,8 @@ public class SecurityConfig {
                         .requestMatchers("/swagger-ui/**").permitAll() // Swagger는 인증 없이 허용
                         .requestMatchers("auth/kakao/login").permitAll() // "/auth/kakao/login" 경로에 대한 요청은 인증 없이 허용
                         .requestMatchers("auth/logout").permitAll() // "/auth/logout" 경로에 대한 요청은 인증 없이 허용
+                        .requestMatchers("/actuator/health").permitAll() // 상태 확인은 인증 없이 허용
+                        .requestMatchers("/actuator/**").hasRole("ADMIN") // 지표, SQL 통계(초기화 포함)는 관리자만 허용
                         .anyRequest().authenticated()
                 )
                 .addFilterBefore(new JwtTokenFilter(jwtTokenProvider), UsernamePasswordAuthenticationFilter.class);
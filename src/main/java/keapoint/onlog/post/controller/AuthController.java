@@ -9,9 +9,12 @@ import keapoint.onlog.post.dto.auth.PostLoginRes;
 import keapoint.onlog.post.dto.auth.PostLogoutRes;
 import keapoint.onlog.post.dto.auth.SocialAccountUserInfo;
 import keapoint.onlog.post.service.AuthService;
+import keapoint.onlog.post.social.SocialAccountProvider;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+import reactor.core.schedulers.Schedulers;
 
 @Slf4j
 @RestController
@@ -21,9 +24,12 @@ public class AuthController {
 
     private final AuthService authService;
 
+    private final SocialAccountProvider kakaoAccountProvider;
+
     @Autowired
-    public AuthController(AuthService authService) {
+    public AuthController(AuthService authService, SocialAccountProvider kakaoAccountProvider) {
         this.authService = authService;
+        this.kakaoAccountProvider = kakaoAccountProvider;
     }
 
     /**
@@ -35,25 +41,13 @@ public class AuthController {
     @ResponseBody
     @RequestMapping("/kakao/login")
     @Operation(summary = "카카오 계정을 통한 로그인", description = "카카오 계정을 통해서 로그인을 진행합니다.")
-    public BaseResponse<PostLoginRes> kakaoCallback(@RequestParam String code) {
-        try {
-            // 카카오 인가 코드 로깅
-            log.info("kakao auth code = " + code);
-
-            // 카카오 access token 받아오기
-            String accessToken = authService.getKakaoAccessToken(code);
-            log.info("kakao access token = " + accessToken);
-
-            // 받은 access token으로 사용자 정보 받아오기
-            SocialAccountUserInfo data = authService.getKakaoUserInfo(accessToken);
-            log.info("user = " + data.toString());
-
-            // 서비스에 로그인 후 응답 반환
-            return BaseResponse.onSuccess(authService.loginWithSocialAccount(data, AccountType.KAKAO));
-
-        } catch (BaseException e) {
-            return new BaseResponse<>(e);
-        }
+    public Mono<BaseResponse<PostLoginRes>> kakaoCallback(@RequestParam String code) {
+        // 카카오 호출을 기다리는 동안 서블릿 스레드를 반환하고, DB 작업이 필요한 로그인 처리만 별도 스레드에서 실행한다.
+        return kakaoAccountProvider.getUserInfo(code)
+                .doOnNext(data -> log.info("user = " + data.toString()))
+                .flatMap(data -> Mono.fromCallable(() -> BaseResponse.onSuccess(authService.loginWithSocialAccount(data, kakaoAccountProvider.getAccountType())))
+                        .subscribeOn(Schedulers.boundedElastic()))
+                .onErrorResume(BaseException.class, e -> Mono.just(new BaseResponse<>(e)));
     }
 
     /**
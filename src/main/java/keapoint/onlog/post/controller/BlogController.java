@@ -5,16 +5,20 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import keapoint.onlog.post.base.BaseErrorCode;
 import keapoint.onlog.post.base.BaseException;
 import keapoint.onlog.post.base.BaseResponse;
+import keapoint.onlog.post.config.security.LoginBlogId;
 import keapoint.onlog.post.dto.blog.BlogDto;
 import keapoint.onlog.post.dto.blog.BlogProfileDto;
+import keapoint.onlog.post.dto.blog.BlogVisitStatsDto;
 import keapoint.onlog.post.dto.blog.PostCreateBlogReqDto;
 import keapoint.onlog.post.dto.blog.PutUpdateBlogReqDto;
 import keapoint.onlog.post.service.BlogService;
-import keapoint.onlog.post.utils.JwtTokenProvider;
+import keapoint.onlog.post.service.BlogVisitService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
 import java.util.UUID;
 
 
@@ -25,10 +29,10 @@ import java.util.UUID;
 @RequestMapping("/blog")
 public class BlogController {
 
-    private final JwtTokenProvider jwtTokenProvider;
-
     private final BlogService blogService;
 
+    private final BlogVisitService blogVisitService;
+
     @Operation(summary = "블로그 생성", description = "새로운 블로그를 생성합니다.", hidden = true)
     @PostMapping("")
     public BaseResponse<BlogDto> createBlog(@RequestBody PostCreateBlogReqDto data) {
@@ -46,10 +50,9 @@ public class BlogController {
 
     @Operation(summary = "블로그 수정", description = "사용자 블로그 정보를 수정합니다.")
     @PutMapping("")
-    public BaseResponse<BlogDto> updateBlog(@RequestHeader("Authorization") String token,
+    public BaseResponse<BlogDto> updateBlog(@LoginBlogId UUID blogId,
                                             @RequestBody PutUpdateBlogReqDto data) {
         try {
-            UUID blogId = UUID.fromString(jwtTokenProvider.extractIdx(token)); // JWT 토큰에서 블로그 ID 추출 후 UUID로 변환
             return BaseResponse.onCreate(blogService.updateBlog(blogId, data));
 
         } catch (BaseException e) {
@@ -63,9 +66,8 @@ public class BlogController {
 
     @Operation(summary = "블로그 탈퇴", description = "사용자의 블로그를 탈퇴합니다.")
     @DeleteMapping("")
-    public BaseResponse<Void> deleteBlog(@RequestHeader("Authorization") String token) {
+    public BaseResponse<Void> deleteBlog(@LoginBlogId UUID blogId) {
         try {
-            UUID blogId = UUID.fromString(jwtTokenProvider.extractIdx(token)); // JWT 토큰에서 블로그 ID 추출 후 UUID로 변환
             blogService.deleteBlog(blogId);
             return BaseResponse.onSuccess(null);
 
@@ -80,9 +82,27 @@ public class BlogController {
 
     @Operation(summary = "블로그 조회", description = "블로그를 조회합니다.")
     @GetMapping("")
-    public BaseResponse<BlogProfileDto> getMyProfile(@RequestParam("blog_id") UUID blogId) {
+    public BaseResponse<BlogProfileDto> getMyProfile(@LoginBlogId(required = false) UUID visitorId,
+                                                     @RequestParam("blog_id") UUID blogId) {
+        try {
+            return BaseResponse.onSuccess(blogService.getProfile(blogId, visitorId));
+
+        } catch (BaseException e) {
+            return new BaseResponse<>(e);
+
+        } catch (Exception e) {
+            log.error(e.getMessage());
+            return new BaseResponse<>(new BaseException(BaseErrorCode.UNEXPECTED_ERROR));
+        }
+    }
+
+    @Operation(summary = "블로그 방문 통계 조회", description = "내 블로그의 기간별 조회 수와 고유 방문자 수를 조회합니다. 통계는 일정 주기로 모아서 기록되므로 최근 방문은 늦게 반영될 수 있습니다.")
+    @GetMapping("/hits")
+    public BaseResponse<BlogVisitStatsDto> getVisitStats(@LoginBlogId UUID blogId,
+                                                         @RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                                         @RequestParam("to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
         try {
-            return BaseResponse.onSuccess(blogService.getProfile(blogId));
+            return BaseResponse.onSuccess(blogVisitService.getVisitStats(blogId, from, to));
 
         } catch (BaseException e) {
             return new BaseResponse<>(e);
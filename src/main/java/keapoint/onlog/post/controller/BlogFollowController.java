@@ -5,16 +5,21 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import keapoint.onlog.post.base.BaseErrorCode;
 import keapoint.onlog.post.base.BaseException;
 import keapoint.onlog.post.base.BaseResponse;
+import keapoint.onlog.post.config.security.LoginBlogId;
+import keapoint.onlog.post.dto.CursorSliceDto;
+import keapoint.onlog.post.dto.blog.BlogDto;
+import keapoint.onlog.post.dto.blog.follow.BlogFollowCountDto;
 import keapoint.onlog.post.dto.blog.follow.BlogFollowDto;
 import keapoint.onlog.post.dto.blog.follow.DeleteFollowReqDto;
 import keapoint.onlog.post.dto.blog.follow.PostFollowReqDto;
 import keapoint.onlog.post.service.BlogFollowService;
-import keapoint.onlog.post.utils.JwtTokenProvider;
+import keapoint.onlog.post.service.FollowGraph;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 
@@ -25,14 +30,12 @@ import java.util.UUID;
 @RequestMapping("/blog/follow")
 public class BlogFollowController {
 
-    private final JwtTokenProvider jwtTokenProvider;
     private final BlogFollowService blogFollowService;
 
     @Operation(summary = "팔로우 조회", description = "내가 팔로우 하고 있는 블로그를 조회합니다.")
     @GetMapping("")
-    public BaseResponse<List<BlogFollowDto>> follow(@RequestHeader("Authorization") String token) {
+    public BaseResponse<List<BlogFollowDto>> follow(@LoginBlogId UUID blogId) {
         try {
-            UUID blogId = UUID.fromString(jwtTokenProvider.extractIdx(token)); // JWT 토큰에서 블로그 ID 추출 후 UUID로 변환
             return BaseResponse.onSuccess(blogFollowService.getFollowers(blogId));
 
         } catch (BaseException e) {
@@ -44,12 +47,79 @@ public class BlogFollowController {
         }
     }
 
+    @Operation(summary = "팔로우 하는 블로그 목록 조회 (커서 기반)", description = "블로그가 팔로우 하는 블로그를 블로그 식별자 순서로 조회합니다. 블로그를 지정하지 않으면 내 블로그를 조회합니다.")
+    @GetMapping("/following")
+    public BaseResponse<CursorSliceDto<BlogDto>> getFollowing(@LoginBlogId UUID myBlogId,
+                                                              @RequestParam(value = "blog_id", required = false) UUID blogId,
+                                                              @RequestParam(value = "cursor", required = false) String cursor,
+                                                              @RequestParam(value = "size", defaultValue = "20") int size) {
+        try {
+            return BaseResponse.onSuccess(blogFollowService.getFollowList(blogId == null ? myBlogId : blogId, FollowGraph.Direction.FOLLOWING, cursor, size));
+
+        } catch (BaseException e) {
+            return new BaseResponse<>(e);
+
+        } catch (Exception e) {
+            log.error(e.getMessage());
+            return new BaseResponse<>(new BaseException(BaseErrorCode.UNEXPECTED_ERROR));
+        }
+    }
+
+    @Operation(summary = "팔로워 목록 조회 (커서 기반)", description = "블로그를 팔로우 하는 블로그를 블로그 식별자 순서로 조회합니다. 블로그를 지정하지 않으면 내 블로그를 조회합니다.")
+    @GetMapping("/followers")
+    public BaseResponse<CursorSliceDto<BlogDto>> getFollowers(@LoginBlogId UUID myBlogId,
+                                                              @RequestParam(value = "blog_id", required = false) UUID blogId,
+                                                              @RequestParam(value = "cursor", required = false) String cursor,
+                                                              @RequestParam(value = "size", defaultValue = "20") int size) {
+        try {
+            return BaseResponse.onSuccess(blogFollowService.getFollowList(blogId == null ? myBlogId : blogId, FollowGraph.Direction.FOLLOWER, cursor, size));
+
+        } catch (BaseException e) {
+            return new BaseResponse<>(e);
+
+        } catch (Exception e) {
+            log.error(e.getMessage());
+            return new BaseResponse<>(new BaseException(BaseErrorCode.UNEXPECTED_ERROR));
+        }
+    }
+
+    @Operation(summary = "팔로우 수 조회", description = "블로그의 팔로워 수와 팔로우 하는 블로그 수를 조회합니다. 블로그를 지정하지 않으면 내 블로그를 조회합니다.")
+    @GetMapping("/count")
+    public BaseResponse<BlogFollowCountDto> getFollowCount(@LoginBlogId UUID myBlogId,
+                                                           @RequestParam(value = "blog_id", required = false) UUID blogId) {
+        try {
+            return BaseResponse.onSuccess(blogFollowService.getFollowCount(blogId == null ? myBlogId : blogId));
+
+        } catch (BaseException e) {
+            return new BaseResponse<>(e);
+
+        } catch (Exception e) {
+            log.error(e.getMessage());
+            return new BaseResponse<>(new BaseException(BaseErrorCode.UNEXPECTED_ERROR));
+        }
+    }
+
+    @Operation(summary = "팔로우 여부 조회", description = "여러 블로그를 내가 팔로우 하고 있는지 한 번에 조회합니다. (최대 100개)")
+    @GetMapping("/status")
+    public BaseResponse<Map<UUID, Boolean>> getFollowingStatus(@LoginBlogId UUID blogId,
+                                                               @RequestParam(value = "blog_id") List<UUID> targetBlogIds) {
+        try {
+            return BaseResponse.onSuccess(blogFollowService.getFollowingStatus(blogId, targetBlogIds));
+
+        } catch (BaseException e) {
+            return new BaseResponse<>(e);
+
+        } catch (Exception e) {
+            log.error(e.getMessage());
+            return new BaseResponse<>(new BaseException(BaseErrorCode.UNEXPECTED_ERROR));
+        }
+    }
+
     @Operation(summary = "팔로우 설정", description = "특정 블로그를 팔로우합니다.")
     @PostMapping("")
-    public BaseResponse<BlogFollowDto> follow(@RequestHeader("Authorization") String token,
+    public BaseResponse<BlogFollowDto> follow(@LoginBlogId UUID blogId,
                                               @RequestBody PostFollowReqDto data) {
         try {
-            UUID blogId = UUID.fromString(jwtTokenProvider.extractIdx(token)); // JWT 토큰에서 블로그 ID 추출 후 UUID로 변환
             return BaseResponse.onCreate(blogFollowService.toggleFollow(blogId, data.getTargetBlogId(), true));
 
         } catch (BaseException e) {
@@ -63,10 +133,9 @@ public class BlogFollowController {
 
     @Operation(summary = "팔로우 해제", description = "특정 블로그 팔로우를 해제합니다.")
     @DeleteMapping("")
-    public BaseResponse<BlogFollowDto> unFollow(@RequestHeader("Authorization") String token,
+    public BaseResponse<BlogFollowDto> unFollow(@LoginBlogId UUID blogId,
                                                 @RequestBody DeleteFollowReqDto data) {
         try {
-            UUID blogId = UUID.fromString(jwtTokenProvider.extractIdx(token)); // JWT 토큰에서 블로그 ID 추출 후 UUID로 변환
             return BaseResponse.onSuccess(blogFollowService.toggleFollow(blogId, data.getTargetBlogId(), false));
 
         } catch (BaseException e) {
@@ -5,15 +5,17 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import keapoint.onlog.post.base.BaseErrorCode;
 import keapoint.onlog.post.base.BaseException;
 import keapoint.onlog.post.base.BaseResponse;
+import keapoint.onlog.post.config.security.LoginBlogId;
 import keapoint.onlog.post.dto.category.CategoryDto;
 import keapoint.onlog.post.dto.category.DeleteCategoryReqDto;
 import keapoint.onlog.post.dto.category.PostCreateCategoryReqDto;
 import keapoint.onlog.post.dto.category.PutCategoryUpdateReqDto;
 import keapoint.onlog.post.service.CategoryService;
-import keapoint.onlog.post.utils.JwtTokenProvider;
+import keapoint.onlog.post.service.ReferenceDataCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 import java.util.UUID;
@@ -26,13 +28,17 @@ import java.util.UUID;
 public class CategoryController {
 
     private final CategoryService categoryService;
-    private final JwtTokenProvider jwtTokenProvider;
 
-    @Operation(summary = "카테고리 조회", description = "특정 유저의 카테고리를 조회합니다.")
+    @Operation(summary = "카테고리 조회", description = "특정 유저의 카테고리를 조회합니다. If-None-Match 헤더의 ETag가 같다면 304를 반환합니다.")
     @GetMapping("")
-    public BaseResponse<List<CategoryDto>> getCategories(@RequestParam("blog_id") UUID blogId) {
+    public BaseResponse<List<CategoryDto>> getCategories(@RequestParam("blog_id") UUID blogId,
+                                                         WebRequest request) {
         try {
-            return BaseResponse.onSuccess(categoryService.getCategories(blogId));
+            ReferenceDataCache.Versioned<List<CategoryDto>> categories = categoryService.getVersionedCategories(blogId);
+            if (request.checkNotModified(categories.etag())) // 카테고리가 바뀌지 않았다면 본문 없이 304를 반환한다.
+                return null;
+
+            return BaseResponse.onSuccess(categories.value());
 
         } catch (BaseException e) {
             return new BaseResponse<>(e);
@@ -45,10 +51,9 @@ public class CategoryController {
 
     @Operation(summary = "카테고리 생성", description = "새로운 카테고리를 생성합니다.")
     @PostMapping("")
-    public BaseResponse<CategoryDto> createCategory(@RequestHeader("Authorization") String token,
+    public BaseResponse<CategoryDto> createCategory(@LoginBlogId UUID blogId,
                                                     @RequestBody PostCreateCategoryReqDto dto) {
         try {
-            UUID blogId = UUID.fromString(jwtTokenProvider.extractIdx(token)); // JWT 토큰에서 사용자 ID 추출 후 UUID로 변환
             return BaseResponse.onCreate(categoryService.createCategory(blogId, dto));
 
         } catch (BaseException e) {
@@ -62,10 +67,9 @@ public class CategoryController {
 
     @Operation(summary = "카테고리 수정", description = "카테고리 이름을 수정합니다.")
     @PutMapping("")
-    public BaseResponse<CategoryDto> updateCategory(@RequestHeader("Authorization") String token,
+    public BaseResponse<CategoryDto> updateCategory(@LoginBlogId UUID blogId,
                                                     @RequestBody PutCategoryUpdateReqDto dto) {
         try {
-            UUID blogId = UUID.fromString(jwtTokenProvider.extractIdx(token)); // JWT 토큰에서 사용자 ID 추출 후 UUID로 변환
             return BaseResponse.onCreate(categoryService.updateCategory(blogId, dto));
 
         } catch (BaseException e) {
@@ -79,10 +83,9 @@ public class CategoryController {
 
     @Operation(summary = "카테고리 삭제", description = "카테고리를 삭제합니다.")
     @DeleteMapping("")
-    public BaseResponse<Void> deleteCategory(@RequestHeader("Authorization") String token,
+    public BaseResponse<Void> deleteCategory(@LoginBlogId UUID blogId,
                                                     @RequestBody DeleteCategoryReqDto dto) {
         try {
-            UUID blogId = UUID.fromString(jwtTokenProvider.extractIdx(token)); // JWT 토큰에서 사용자 ID 추출 후 UUID로 변환
             categoryService.deleteCategory(blogId, dto);
             return BaseResponse.onSuccess(null);
 
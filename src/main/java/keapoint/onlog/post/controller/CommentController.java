@@ -5,12 +5,14 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import keapoint.onlog.post.base.BaseErrorCode;
 import keapoint.onlog.post.base.BaseException;
 import keapoint.onlog.post.base.BaseResponse;
+import keapoint.onlog.post.config.security.LoginBlogId;
+import keapoint.onlog.post.dto.CursorSliceDto;
+import keapoint.onlog.post.dto.comment.CommentDto;
 import keapoint.onlog.post.dto.comment.CommentSummaryDto;
 import keapoint.onlog.post.dto.comment.DeleteCommentReqDto;
 import keapoint.onlog.post.dto.comment.PostCreateCommentReqDto;
 import keapoint.onlog.post.dto.comment.PutUpdateCommentReqDto;
 import keapoint.onlog.post.service.CommentService;
-import keapoint.onlog.post.utils.JwtTokenProvider;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.web.bind.annotation.*;
@@ -24,15 +26,67 @@ import java.util.UUID;
 @RequestMapping("/post/comments")
 public class CommentController {
 
-    private final JwtTokenProvider jwtTokenProvider;
     private final CommentService commentService;
 
+    @Operation(summary = "댓글 조회", description = "게시글의 최상위 댓글을 커서 기반으로 조회합니다. 첫 페이지는 커서 없이 요청합니다.")
+    @GetMapping("")
+    public BaseResponse<CursorSliceDto<CommentDto>> getComments(@LoginBlogId UUID blogId,
+                                                                @RequestParam(value = "post_id") UUID postId,
+                                                                @RequestParam(value = "cursor", required = false) String cursor,
+                                                                @RequestParam(value = "size", defaultValue = "20") int size) {
+        try {
+            return BaseResponse.onSuccess(commentService.getComments(blogId, postId, cursor, size));
+
+        } catch (BaseException e) {
+            return new BaseResponse<>(e);
+
+        } catch (Exception e) {
+            log.error(e.getMessage());
+            return new BaseResponse<>(new BaseException(BaseErrorCode.UNEXPECTED_ERROR));
+        }
+    }
+
+    @Operation(summary = "답글 조회", description = "댓글의 바로 아래 답글을 커서 기반으로 조회합니다. 첫 페이지는 커서 없이 요청합니다.")
+    @GetMapping("/{commentId}/replies")
+    public BaseResponse<CursorSliceDto<CommentDto>> getReplies(@LoginBlogId UUID blogId,
+                                                               @PathVariable UUID commentId,
+                                                               @RequestParam(value = "cursor", required = false) String cursor,
+                                                               @RequestParam(value = "size", defaultValue = "20") int size) {
+        try {
+            return BaseResponse.onSuccess(commentService.getReplies(blogId, commentId, cursor, size));
+
+        } catch (BaseException e) {
+            return new BaseResponse<>(e);
+
+        } catch (Exception e) {
+            log.error(e.getMessage());
+            return new BaseResponse<>(new BaseException(BaseErrorCode.UNEXPECTED_ERROR));
+        }
+    }
+
+    @Operation(summary = "댓글 스레드 조회", description = "댓글 아래의 모든 답글을 화면에 표시할 순서대로 펼쳐서 커서 기반으로 조회합니다. 첫 페이지는 커서 없이 요청합니다.")
+    @GetMapping("/{commentId}/thread")
+    public BaseResponse<CursorSliceDto<CommentDto>> getThread(@LoginBlogId UUID blogId,
+                                                              @PathVariable UUID commentId,
+                                                              @RequestParam(value = "cursor", required = false) String cursor,
+                                                              @RequestParam(value = "size", defaultValue = "20") int size) {
+        try {
+            return BaseResponse.onSuccess(commentService.getThread(blogId, commentId, cursor, size));
+
+        } catch (BaseException e) {
+            return new BaseResponse<>(e);
+
+        } catch (Exception e) {
+            log.error(e.getMessage());
+            return new BaseResponse<>(new BaseException(BaseErrorCode.UNEXPECTED_ERROR));
+        }
+    }
+
     @Operation(summary = "댓글 작성", description = "게시글에 댓글을 작성합니다.")
     @PostMapping("")
-    public BaseResponse<CommentSummaryDto> createComment(@RequestHeader("Authorization") String token,
+    public BaseResponse<CommentSummaryDto> createComment(@LoginBlogId UUID blogId,
                                                   @RequestBody PostCreateCommentReqDto dto) {
         try {
-            UUID blogId = UUID.fromString(jwtTokenProvider.extractIdx(token)); // JWT 토큰에서 사용자 ID 추출 후 UUID로 변환
             return BaseResponse.onCreate(commentService.createComment(blogId, dto));
 
         } catch (BaseException e) {
@@ -46,10 +100,9 @@ public class CommentController {
 
     @Operation(summary = "댓글 수정", description = "사용자가 작성한 댓글의 내용을 수정합니다.")
     @PutMapping("")
-    public BaseResponse<CommentSummaryDto> updateComment(@RequestHeader("Authorization") String token,
+    public BaseResponse<CommentSummaryDto> updateComment(@LoginBlogId UUID blogId,
                                                   @RequestBody PutUpdateCommentReqDto dto) {
         try {
-            UUID blogId = UUID.fromString(jwtTokenProvider.extractIdx(token)); // JWT 토큰에서 사용자 ID 추출 후 UUID로 변환
             return BaseResponse.onCreate(commentService.updateComment(blogId, dto));
 
         } catch (BaseException e) {
@@ -63,10 +116,9 @@ public class CommentController {
 
     @Operation(summary = "댓글 삭제", description = "사용자가 작성한 댓글을 삭제합니다.")
     @DeleteMapping("")
-    public BaseResponse<Void> deleteComment(@RequestHeader("Authorization") String token,
+    public BaseResponse<Void> deleteComment(@LoginBlogId UUID blogId,
                                                   @RequestBody DeleteCommentReqDto dto) {
         try {
-            UUID blogId = UUID.fromString(jwtTokenProvider.extractIdx(token)); // JWT 토큰에서 사용자 ID 추출 후 UUID로 변환
             commentService.deleteComment(blogId, dto); // 댓글 삭제
             return BaseResponse.onSuccess(null);
 
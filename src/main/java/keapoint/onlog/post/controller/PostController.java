@@ -5,17 +5,20 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import keapoint.onlog.post.base.BaseErrorCode;
 import keapoint.onlog.post.base.BaseException;
 import keapoint.onlog.post.base.BaseResponse;
+import keapoint.onlog.post.config.security.LoginBlogId;
+import keapoint.onlog.post.dto.CursorSliceDto;
 import keapoint.onlog.post.dto.post.*;
 import keapoint.onlog.post.dto.topic.TopicDto;
-import keapoint.onlog.post.entity.Topic;
-import keapoint.onlog.post.repository.TopicRepository;
 import keapoint.onlog.post.service.PostService;
-import keapoint.onlog.post.utils.JwtTokenProvider;
+import keapoint.onlog.post.service.ReferenceDataCache;
+import keapoint.onlog.post.service.TimelineService;
+import keapoint.onlog.post.service.TrendingService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 import java.util.UUID;
@@ -28,23 +31,109 @@ import java.util.UUID;
 public class PostController {
 
     private final PostService postService;
-    private final TopicRepository topicRepository;
-    private final JwtTokenProvider jwtTokenProvider;
+    private final ReferenceDataCache referenceDataCache;
+    private final TimelineService timelineService;
+    private final TrendingService trendingService;
 
-    @Operation(summary = "(카드) 최근 게시글 조회", description = "조건에 따른 게시글을 조회합니다.")
+    @Operation(summary = "(카드) 최근 게시글 조회", description = "조건에 따른 게시글을 조회합니다. fields 파라미터로 응답할 필드를 지정할 수 있습니다. (예: title,summary,excerpt)")
     @GetMapping("")
     public BaseResponse<Page<PostSummaryDto>> getPosts(
-            @RequestHeader("Authorization") String token,
+            @LoginBlogId UUID myBlogId,
             @RequestParam(value = "topic", required = false) String topicName,
             @RequestParam(value = "hashtag", required = false) String hashtag,
             @RequestParam(value = "blog_id", required = false) UUID blogId,
             @RequestParam(value = "category_id", required = false) Long categoryId,
             @RequestParam(value = "is_public", required = false) Boolean isPublic,
+            @RequestParam(value = "fields", required = false) String fields,
             Pageable pageable
     ) {
         try {
-            UUID myBlogId = UUID.fromString(jwtTokenProvider.extractIdx(token)); // JWT 토큰에서 사용자 ID 추출 후 UUID로 변환
-            return BaseResponse.onSuccess(postService.getRecentPosts(myBlogId, topicName, hashtag, blogId, categoryId, isPublic, pageable));
+            return BaseResponse.onSuccess(postService.getRecentPosts(myBlogId, topicName, hashtag, blogId, categoryId, isPublic, pageable, PostFieldSet.parse(fields)));
+
+        } catch (BaseException e) {
+            return new BaseResponse<>(e);
+
+        } catch (Exception e) {
+            log.error(e.getMessage());
+            return new BaseResponse<>(new BaseException(BaseErrorCode.UNEXPECTED_ERROR));
+        }
+    }
+
+    @Operation(summary = "(카드) 최근 게시글 조회 (커서 기반)", description = "조건에 따른 게시글을 커서 기반으로 조회합니다. 첫 페이지는 빈 커서로 요청합니다.")
+    @GetMapping(value = "", params = "cursor")
+    public BaseResponse<CursorSliceDto<PostSummaryDto>> getPostsByCursor(
+            @LoginBlogId UUID myBlogId,
+            @RequestParam(value = "topic", required = false) String topicName,
+            @RequestParam(value = "hashtag", required = false) String hashtag,
+            @RequestParam(value = "blog_id", required = false) UUID blogId,
+            @RequestParam(value = "category_id", required = false) Long categoryId,
+            @RequestParam(value = "is_public", required = false) Boolean isPublic,
+            @RequestParam(value = "cursor") String cursor,
+            @RequestParam(value = "size", defaultValue = "20") int size,
+            @RequestParam(value = "fields", required = false) String fields
+    ) {
+        try {
+            return BaseResponse.onSuccess(postService.getRecentPostsByCursor(myBlogId, topicName, hashtag, blogId, categoryId, isPublic, cursor, size, PostFieldSet.parse(fields)));
+
+        } catch (BaseException e) {
+            return new BaseResponse<>(e);
+
+        } catch (Exception e) {
+            log.error(e.getMessage());
+            return new BaseResponse<>(new BaseException(BaseErrorCode.UNEXPECTED_ERROR));
+        }
+    }
+
+    @Operation(summary = "(카드) 홈 타임라인 조회", description = "팔로우 하는 블로그의 최신 공개 게시글을 커서 기반으로 조회합니다. 첫 페이지는 커서 없이 요청합니다.")
+    @GetMapping("/timeline")
+    public BaseResponse<CursorSliceDto<PostSummaryDto>> getTimeline(
+            @LoginBlogId UUID myBlogId,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "20") int size,
+            @RequestParam(value = "fields", required = false) String fields
+    ) {
+        try {
+            return BaseResponse.onSuccess(timelineService.getTimeline(myBlogId, cursor, size, PostFieldSet.parse(fields)));
+
+        } catch (BaseException e) {
+            return new BaseResponse<>(e);
+
+        } catch (Exception e) {
+            log.error(e.getMessage());
+            return new BaseResponse<>(new BaseException(BaseErrorCode.UNEXPECTED_ERROR));
+        }
+    }
+
+    @Operation(summary = "(카드) 인기 게시글 조회", description = "최근 조회, 좋아요, 댓글이 많은 공개 게시글을 점수 순서로 조회합니다. 주제를 지정하면 주제별 인기 게시글을 조회합니다.")
+    @GetMapping("/trending")
+    public BaseResponse<List<PostSummaryDto>> getTrendingPosts(
+            @LoginBlogId UUID myBlogId,
+            @RequestParam(value = "topic", required = false) String topicName,
+            @RequestParam(value = "size", defaultValue = "20") int size,
+            @RequestParam(value = "fields", required = false) String fields
+    ) {
+        try {
+            return BaseResponse.onSuccess(trendingService.getTrendingPosts(myBlogId, topicName, size, PostFieldSet.parse(fields)));
+
+        } catch (BaseException e) {
+            return new BaseResponse<>(e);
+
+        } catch (Exception e) {
+            log.error(e.getMessage());
+            return new BaseResponse<>(new BaseException(BaseErrorCode.UNEXPECTED_ERROR));
+        }
+    }
+
+    @Operation(summary = "(카드) 게시글 검색", description = "제목, 요약, 본문에 검색어가 포함된 공개 게시글을 관련도 순으로 조회합니다.")
+    @GetMapping("/search")
+    public BaseResponse<Page<PostSummaryDto>> searchPosts(
+            @LoginBlogId UUID myBlogId,
+            @RequestParam(value = "query") String query,
+            @RequestParam(value = "fields", required = false) String fields,
+            Pageable pageable
+    ) {
+        try {
+            return BaseResponse.onSuccess(postService.searchPosts(myBlogId, query, pageable, PostFieldSet.parse(fields)));
 
         } catch (BaseException e) {
             return new BaseResponse<>(e);
@@ -57,10 +146,9 @@ public class PostController {
 
     @Operation(summary = "특정 게시글 조회", description = "ID에 따른 특정 게시글을 조회합니다.")
     @GetMapping("/{postId}")
-    public BaseResponse<PostWithRelatedPostsDto> getPost(@RequestHeader("Authorization") String token,
+    public BaseResponse<PostWithRelatedPostsDto> getPost(@LoginBlogId UUID myBlogId,
                                                          @PathVariable UUID postId) {
         try {
-            UUID myBlogId = UUID.fromString(jwtTokenProvider.extractIdx(token)); // JWT 토큰에서 사용자 ID 추출 후 UUID로 변환
             return BaseResponse.onSuccess(postService.getPost(myBlogId, postId));
 
         } catch (BaseException e) {
@@ -75,10 +163,11 @@ public class PostController {
     @Deprecated
     @Operation(summary = "비공개 게시글 조회", description = "나의 비공개 게시글을 조회합니다.")
     @GetMapping("/private")
-    public BaseResponse<Page<PostSummaryDto>> getPrivatePosts(@RequestHeader("Authorization") String token, Pageable pageable) {
+    public BaseResponse<Page<PostSummaryDto>> getPrivatePosts(@LoginBlogId UUID blogId,
+                                                              @RequestParam(value = "fields", required = false) String fields,
+                                                              Pageable pageable) {
         try {
-            UUID blogId = UUID.fromString(jwtTokenProvider.extractIdx(token)); // JWT 토큰에서 사용자 ID 추출 후 UUID로 변환
-            return BaseResponse.onSuccess(postService.getPrivatePosts(blogId, pageable));
+            return BaseResponse.onSuccess(postService.getPrivatePosts(blogId, pageable, PostFieldSet.parse(fields)));
 
         } catch (BaseException e) {
             return new BaseResponse<>(e);
@@ -91,10 +180,9 @@ public class PostController {
 
     @Operation(summary = "게시글 작성", description = "게시글을 작성합니다.")
     @PostMapping("")
-    public BaseResponse<PostSummaryDto> writePost(@RequestHeader("Authorization") String token,
+    public BaseResponse<PostSummaryDto> writePost(@LoginBlogId UUID blogId,
                                                   @RequestBody PostWritePostReqDto dto) {
         try {
-            UUID blogId = UUID.fromString(jwtTokenProvider.extractIdx(token)); // JWT 토큰에서 사용자 ID 추출 후 UUID로 변환
             return BaseResponse.onCreate(postService.writePost(blogId, dto));
 
         } catch (BaseException e) {
@@ -108,10 +196,9 @@ public class PostController {
 
     @Operation(summary = "게시글 수정", description = "게시글을 수정합니다.")
     @PutMapping("")
-    public BaseResponse<PostSummaryDto> modifyPost(@RequestHeader("Authorization") String token,
+    public BaseResponse<PostSummaryDto> modifyPost(@LoginBlogId UUID blogId,
                                                    @RequestBody PutModifyPostReqDto dto) {
         try {
-            UUID blogId = UUID.fromString(jwtTokenProvider.extractIdx(token)); // JWT 토큰에서 사용자 ID 추출 후 UUID로 변환
             return BaseResponse.onCreate(postService.modifyPost(blogId, dto));
 
         } catch (BaseException e) {
@@ -125,10 +212,9 @@ public class PostController {
 
     @Operation(summary = "게시글 삭제", description = "게시글을 삭제합니다.")
     @DeleteMapping("")
-    public BaseResponse<Void> deletePost(@RequestHeader("Authorization") String token,
+    public BaseResponse<Void> deletePost(@LoginBlogId UUID blogId,
                                                    @RequestBody DeletePostReqDto dto) {
         try {
-            UUID blogId = UUID.fromString(jwtTokenProvider.extractIdx(token)); // JWT 토큰에서 사용자 ID 추출 후 UUID로 변환
             postService.deletePost(blogId, dto);
             return BaseResponse.onSuccess(null);
 
@@ -142,18 +228,15 @@ public class PostController {
     }
 
     @Deprecated
-    @Operation(summary = "게시글 주제 목록 조회", description = "게시글 주제 목록을 조회합니다.")
+    @Operation(summary = "게시글 주제 목록 조회", description = "게시글 주제 목록을 조회합니다. If-None-Match 헤더의 ETag가 같다면 304를 반환합니다.")
     @GetMapping("/topics")
-    public BaseResponse<List<TopicDto>> getTopicList() {
+    public BaseResponse<List<TopicDto>> getTopicList(WebRequest request) {
         try {
-            List<Topic> topics = topicRepository.findAll();
-
-            return BaseResponse.onSuccess(topics.stream()
-                    .map(topic -> TopicDto.builder()
-                            .id(topic.getId())
-                            .name(topic.getName())
-                            .build())
-                    .toList());
+            ReferenceDataCache.Versioned<List<TopicDto>> topics = referenceDataCache.getTopics();
+            if (request.checkNotModified(topics.etag())) // 주제가 바뀌지 않았다면 본문 없이 304를 반환한다.
+                return null;
+
+            return BaseResponse.onSuccess(topics.value());
 
         } catch (Exception e) {
             log.error(e.getMessage());
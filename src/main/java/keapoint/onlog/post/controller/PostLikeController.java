@@ -5,15 +5,17 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import keapoint.onlog.post.base.BaseErrorCode;
 import keapoint.onlog.post.base.BaseException;
 import keapoint.onlog.post.base.BaseResponse;
+import keapoint.onlog.post.config.security.LoginBlogId;
+import keapoint.onlog.post.dto.blog.BlogDto;
 import keapoint.onlog.post.dto.post.like.DeletePostLikeReqDto;
 import keapoint.onlog.post.dto.post.like.PostLikeDto;
 import keapoint.onlog.post.dto.post.like.PostPostLikeReqDto;
 import keapoint.onlog.post.service.PostLikeService;
-import keapoint.onlog.post.utils.JwtTokenProvider;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
 import java.util.UUID;
 
 @Slf4j
@@ -24,15 +26,13 @@ import java.util.UUID;
 public class PostLikeController {
 
     private final PostLikeService postLikeService;
-    private final JwtTokenProvider jwtTokenProvider;
 
-    @Operation(summary = "게시글 좋아요", description = "사용자가 특정 게시글에 좋아요를 남깁니다.")
+    @Operation(summary = "게시글 좋아요", description = "사용자가 특정 게시글에 좋아요를 남깁니다. 이미 좋아요 한 게시글이라면 상태가 바뀌지 않습니다.")
     @PostMapping("")
-    public BaseResponse<PostLikeDto> likePost(@RequestHeader("Authorization") String token,
+    public BaseResponse<PostLikeDto> likePost(@LoginBlogId UUID blogId,
                                               @RequestBody PostPostLikeReqDto dto) {
         try {
-            UUID blogId = UUID.fromString(jwtTokenProvider.extractIdx(token)); // JWT 토큰에서 사용자 ID 추출 후 UUID로 변환
-            return BaseResponse.onCreate(postLikeService.toggleLike(blogId, dto.getPostId())); // 좋아요 추가 처리 서비스 호출
+            return BaseResponse.onCreate(postLikeService.like(blogId, dto.getPostId())); // 좋아요 추가 처리 서비스 호출
 
         } catch (BaseException e) {
             return new BaseResponse<>(e);
@@ -43,13 +43,28 @@ public class PostLikeController {
         }
     }
 
-    @Operation(summary = "게시글 좋아요 취소", description = "사용자가 특정 게시물에 남긴 좋아요를 취소합니다.")
+    @Operation(summary = "팔로우 하는 블로그의 게시글 좋아요 조회", description = "내가 팔로우 하는 블로그 중 특정 게시글을 좋아요 한 블로그를 조회합니다.")
+    @GetMapping("/following")
+    public BaseResponse<List<BlogDto>> getFollowingLikers(@LoginBlogId UUID blogId,
+                                                          @RequestParam("post_id") UUID postId) {
+        try {
+            return BaseResponse.onSuccess(postLikeService.getFollowingLikers(blogId, postId));
+
+        } catch (BaseException e) {
+            return new BaseResponse<>(e);
+
+        } catch (Exception e) {
+            log.error(e.getMessage());
+            return new BaseResponse<>(new BaseException(BaseErrorCode.UNEXPECTED_ERROR));
+        }
+    }
+
+    @Operation(summary = "게시글 좋아요 취소", description = "사용자가 특정 게시물에 남긴 좋아요를 취소합니다. 좋아요 하지 않은 게시글이라면 상태가 바뀌지 않습니다.")
     @DeleteMapping("")
-    public BaseResponse<PostLikeDto> unlikePost(@RequestHeader("Authorization") String token,
+    public BaseResponse<PostLikeDto> unlikePost(@LoginBlogId UUID blogId,
                                                 @RequestBody DeletePostLikeReqDto dto) {
         try {
-            UUID blogId = UUID.fromString(jwtTokenProvider.extractIdx(token)); // JWT 토큰에서 사용자 ID 추출 후 UUID로 변환
-            return BaseResponse.onSuccess(postLikeService.toggleLike(blogId, dto.getPostId())); // 좋아요 제거 처리 서비스 호출
+            return BaseResponse.onSuccess(postLikeService.unlike(blogId, dto.getPostId())); // 좋아요 제거 처리 서비스 호출
 
         } catch (BaseException e) {
             return new BaseResponse<>(e);
@@ -0,0 +1,16 @@
+package keapoint.onlog.post.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorSliceDto<T> {
+    private List<T> content; // 조회된 데이터
+    private boolean hasNext; // 다음 페이지 존재 여부
+    private String nextCursor; // 다음 페이지 조회에 사용할 커서 (다음 페이지가 없으면 null)
+}
@@ -0,0 +1,23 @@
+package keapoint.onlog.post.dto.blog;
+
+import keapoint.onlog.post.entity.BlogHits;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BlogDailyVisitDto {
+    private LocalDate date; // 방문 날짜
+    private long viewCount; // 블로그, 게시글 조회 수
+    private long visitorCount; // 추정 고유 방문자 수
+
+    public BlogDailyVisitDto(BlogHits blogHits) {
+        this.date = blogHits.getBlogVisitDate();
+        this.viewCount = blogHits.getBlogViewCount();
+        this.visitorCount = blogHits.getBlogVisitorCount();
+    }
+}
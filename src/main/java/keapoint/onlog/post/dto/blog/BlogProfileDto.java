@@ -1,7 +1,7 @@
 package keapoint.onlog.post.dto.blog;
 
 import keapoint.onlog.post.entity.Blog;
-import keapoint.onlog.post.entity.Post;
+import keapoint.onlog.post.entity.BlogStats;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -19,20 +19,24 @@ public class BlogProfileDto {
     private String blogIntro; // 사용자 블로그 한 줄 소개
     private String blogThemeImg; // 사용자 블로그 테마 이미지
     private long postCount; // 작성한 글 개수
+    private long publicPostCount; // 작성한 공개 글 개수
     private long likeCount; // 좋아요 개수
-    private long subscriberCount; // 구독자 수
+    private long commentCount; // 작성한 글에 달린 댓글 개수
+    private long subscriberCount; // 구독자 수 (이 블로그를 팔로우 하는 블로그 수)
+    private long followingCount; // 이 블로그가 팔로우 하는 블로그 수
 
-    public BlogProfileDto(Blog blog, long subscriberCount) {
+    public BlogProfileDto(Blog blog, BlogStats stats) {
         this.blogId = blog.getBlogId();
         this.blogName = blog.getBlogName();
         this.blogNickname = blog.getBlogNickname();
         this.blogProfileImg = blog.getBlogProfileImg();
         this.blogIntro = blog.getBlogIntro();
         this.blogThemeImg = blog.getBlogThemeImg();
-        this.postCount = blog.getPostList().size();
-        this.likeCount = blog.getPostList().stream()
-                .mapToLong(Post::getLikesCount)
-                .sum();
-        this.subscriberCount = subscriberCount;
+        this.postCount = stats.getPostCount();
+        this.publicPostCount = stats.getPublicPostCount();
+        this.likeCount = stats.getLikeCount();
+        this.commentCount = stats.getCommentCount();
+        this.subscriberCount = stats.getFollowerCount();
+        this.followingCount = stats.getFollowingCount();
     }
 }
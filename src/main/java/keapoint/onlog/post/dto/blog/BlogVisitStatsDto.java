@@ -0,0 +1,19 @@
+package keapoint.onlog.post.dto.blog;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BlogVisitStatsDto {
+    private LocalDate from; // 시작 날짜 (포함)
+    private LocalDate to; // 끝 날짜 (포함)
+    private long viewCount; // 기간 전체 조회 수
+    private long visitorCount; // 기간 전체 추정 고유 방문자 수 (여러 날 방문한 방문자는 한 번만 센다)
+    private List<BlogDailyVisitDto> daily; // 날짜별 방문 통계 (방문이 없던 날짜는 0)
+}
@@ -0,0 +1,16 @@
+package keapoint.onlog.post.dto.blog.follow;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BlogFollowCountDto {
+    private UUID blogId; // 블로그 식별자
+    private int followerCount; // 이 블로그를 팔로우 하는 블로그 수
+    private int followingCount; // 이 블로그가 팔로우 하는 블로그 수
+}
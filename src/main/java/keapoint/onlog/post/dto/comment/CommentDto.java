@@ -17,15 +17,17 @@ public class CommentDto {
     private String content; // 댓글 내용
     private Boolean modified; // 댓글 수정 여부
     private long ref; // 그룹
-    private long refOrder; // 그룹 순서
+    private long refOrder; // 형제 댓글 사이의 순서
     private long step; // 댓글의 계층
     private UUID parentCommentId; // 부모댓글의 ID
     private long answerNum; // 해당댓글의 자식댓글의 수
+    private String path; // 스레드 정렬 경로
     private LocalDateTime createdAt; // 댓글 작성 시간
     private UUID postId; // 댓글이 달린 게시글 식별자
     private BlogDto writer; // 댓글 작성자의 블로그 식별자
     private Boolean commentLiked; // 댓글 좋아요 하고 있는지 여부
     private Long likesCount; // 댓글 좋아요 갯수
+    private Boolean deleted; // 삭제된 댓글 여부 (삭제된 댓글은 답글을 펼칠 수 있도록 내용과 작성자만 비운다)
 
     public CommentDto(Comment comment, Boolean commentLiked) {
         this.commentId = comment.getCommentId();
@@ -36,10 +38,17 @@ public class CommentDto {
         this.step = comment.getStep();
         this.parentCommentId = comment.getParentNum();
         this.answerNum = comment.getAnswerNum();
+        this.path = comment.getPath();
         this.createdAt = comment.getCreatedAt();
         this.postId = comment.getPost().getPostId();
         this.writer = new BlogDto(comment.getWriter());
         this.commentLiked = commentLiked;
         this.likesCount = comment.getLikesCount();
+        this.deleted = comment.getStatus().equals(false);
+
+        if (this.deleted) {
+            this.content = null;
+            this.writer = null;
+        }
     }
 }
@@ -12,10 +12,11 @@ public class CommentSummaryDto {
     private String content; // 댓글 내용
     private Boolean modified; // 댓글 수정 여부
     private long ref; // 그룹
-    private long refOrder; // 그룹 순서
+    private long refOrder; // 형제 댓글 사이의 순서
     private long step; // 댓글의 계층
     private UUID parentCommentId; // 부모댓글의 ID
     private long answerNum; // 해당댓글의 자식댓글의 수
+    private String path; // 스레드 정렬 경로
     private LocalDateTime createdAt; // 댓글 작성 시간
 
     public CommentSummaryDto(Comment comment) {
@@ -27,6 +28,7 @@ public class CommentSummaryDto {
         this.step = comment.getStep();
         this.parentCommentId = comment.getParentNum();
         this.answerNum = comment.getAnswerNum();
+        this.path = comment.getPath();
         this.createdAt = comment.getCreatedAt();
     }
 }
@@ -0,0 +1,57 @@
+package keapoint.onlog.post.dto.post;
+
+import keapoint.onlog.post.base.BaseErrorCode;
+import keapoint.onlog.post.base.BaseException;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * 게시글 목록 커서 (작성 시간, 게시글 식별자)
+ * 클라이언트에는 내부 구조를 알 수 없는 문자열로 전달된다.
+ */
+@Getter
+@AllArgsConstructor
+public class PostCursor {
+
+    private static final String DELIMITER = "|";
+
+    private final LocalDateTime createdAt; // 마지막으로 조회된 게시글의 작성 시간
+    private final UUID postId; // 마지막으로 조회된 게시글 식별자
+
+    /**
+     * 커서를 문자열로 변환
+     *
+     * @return 클라이언트에게 전달할 커서 문자열
+     */
+    public String encode() {
+        String raw = createdAt.toString() + DELIMITER + postId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 문자열을 커서로 변환
+     *
+     * @param cursor 클라이언트에게 전달받은 커서 문자열
+     * @return 커서. 첫 페이지 요청인 경우 null
+     */
+    public static PostCursor decode(String cursor) throws BaseException {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int index = raw.indexOf(DELIMITER);
+
+            return new PostCursor(LocalDateTime.parse(raw.substring(0, index)), UUID.fromString(raw.substring(index + 1)));
+
+        } catch (Exception e) {
+            throw new BaseException(BaseErrorCode.INVALID_CURSOR_EXCEPTION);
+        }
+    }
+}
@@ -32,7 +32,8 @@ public class PostDto {
     private CategoryDto category; // 게시글 카테고리
     private List<HashtagDto> hashtagList; // 해시태그 리스트
     private Long commentsCounts; // 게시글 댓글 갯수
-    private List<CommentDto> comments; // 게시글 댓글
+    private List<CommentDto> comments; // 게시글 댓글 (첫 페이지)
+    private String commentsNextCursor; // 댓글 다음 페이지 커서. 다음 페이지가 없으면 null
     private BlogDto writer; // 작성자
     private LocalDateTime createdAt; // Row 생성 시점
 
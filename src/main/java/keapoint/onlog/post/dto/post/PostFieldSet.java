@@ -0,0 +1,107 @@
+package keapoint.onlog.post.dto.post;
+
+import keapoint.onlog.post.base.BaseErrorCode;
+import keapoint.onlog.post.base.BaseException;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 게시글 목록 응답에 포함할 필드 목록 (fields 파라미터)
+ * <p>
+ * 예) fields=title,summary,excerpt → 제목, 요약, 잘린 본문만 응답한다.
+ * 본문은 content(전체), excerpt(앞부분만), 생략 중 하나로 조회되며, 조회하지 않는 경우 DB에서 읽지도 않는다.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class PostFieldSet {
+
+    public static final int EXCERPT_LENGTH = 200; // 잘린 본문의 최대 길이
+
+    private static final String CONTENT = "content";
+    private static final String EXCERPT = "excerpt";
+
+    private static final Set<String> SUPPORTED_FIELDS = Set.of(
+            "postId", "title", CONTENT, EXCERPT, "summary", "thumbnailLink", "likesCount",
+            "category", "topic", "commentsCounts", "writer", "createdAt", "postLiked"
+    );
+
+    public static final PostFieldSet ALL = new PostFieldSet(null, ContentMode.FULL); // 모든 필드
+    public static final PostFieldSet WITHOUT_CONTENT = new PostFieldSet(null, ContentMode.NONE); // 본문을 제외한 모든 필드
+
+    public enum ContentMode {
+        FULL, // 본문 전체
+        EXCERPT, // 본문 앞부분
+        NONE // 본문 제외
+    }
+
+    private final Set<String> fields; // 응답할 필드 목록. null이면 모든 필드
+    private final ContentMode contentMode; // 본문 조회 방식
+
+    /**
+     * fields 파라미터를 필드 목록으로 변환
+     *
+     * @param fields 쉼표로 구분된 필드 이름 (null 또는 빈 문자열이면 모든 필드)
+     * @return 필드 목록
+     */
+    public static PostFieldSet parse(String fields) throws BaseException {
+        if (fields == null || fields.isBlank()) {
+            return ALL;
+        }
+
+        Set<String> requested = Arrays.stream(fields.split(","))
+                .map(String::trim)
+                .filter(field -> !field.isEmpty())
+                .collect(Collectors.toCollection(HashSet::new));
+
+        if (!SUPPORTED_FIELDS.containsAll(requested)) {
+            throw new BaseException(BaseErrorCode.INVALID_FIELDS_EXCEPTION);
+        }
+
+        ContentMode contentMode = requested.contains(CONTENT) ? ContentMode.FULL
+                : requested.contains(EXCERPT) ? ContentMode.EXCERPT
+                : ContentMode.NONE;
+
+        return new PostFieldSet(requested, contentMode);
+    }
+
+    /**
+     * 응답에 포함할 필드인지 확인
+     *
+     * @param field 필드 이름
+     * @return 포함 여부
+     */
+    public boolean includes(String field) {
+        return fields == null || fields.contains(field);
+    }
+
+    /**
+     * 요청하지 않은 필드를 비운다. 게시글 식별자는 항상 유지한다.
+     *
+     * @param dto 게시글 요약 정보
+     * @return 요청한 필드만 남은 게시글 요약 정보
+     */
+    public PostSummaryDto apply(PostSummaryDto dto) {
+        if (fields == null) {
+            return dto;
+        }
+
+        if (!includes("title")) dto.setTitle(null);
+        if (!includes("summary")) dto.setSummary(null);
+        if (!includes("thumbnailLink")) dto.setThumbnailLink(null);
+        if (!includes("likesCount")) dto.setLikesCount(null);
+        if (!includes("category")) dto.setCategory(null);
+        if (!includes("topic")) dto.setTopic(null);
+        if (!includes("commentsCounts")) dto.setCommentsCounts(null);
+        if (!includes("writer")) dto.setWriter(null);
+        if (!includes("createdAt")) dto.setCreatedAt(null);
+        if (!includes("postLiked")) dto.setPostLiked(null);
+
+        return dto;
+    }
+}
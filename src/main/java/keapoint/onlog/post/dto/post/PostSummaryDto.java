@@ -1,5 +1,6 @@
 package keapoint.onlog.post.dto.post;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import keapoint.onlog.post.dto.blog.BlogDto;
 import keapoint.onlog.post.dto.category.CategoryDto;
 import keapoint.onlog.post.dto.topic.TopicDto;
@@ -14,6 +15,7 @@ import java.util.UUID;
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL) // 요청하지 않은 필드는 응답에서 제외
 public class PostSummaryDto {
     private UUID postId; // 게시글 식별자
     private String title; // 게시글 제목
@@ -26,6 +28,7 @@ public class PostSummaryDto {
     private Long commentsCounts; // 게시글 댓글 갯수
     private BlogDto writer; // 작성자
     private LocalDateTime createdAt; // 게시글 작성 시간
+    private Boolean postLiked; // 게시글을 좋아요 하고 있는지 여부
 
     public PostSummaryDto(Post post) {
         this.postId = post.getPostId();
@@ -17,14 +17,11 @@ public class PostWithRelatedPostsDto {
     @JsonUnwrapped
     private PostDto data; // 사용자가 조회한 게시글
 
-    private List<PostSummaryDto> relatedPosts; // 같은 카테고리의 다른 게시글들
+    private List<PostSummaryDto> relatedPosts; // 연관 게시글 (카테고리, 주제, 해시태그, 최신성 기준)
 
-    public PostWithRelatedPostsDto(Post post, boolean isLiked, List<CommentDto> commentDtoList) {
+    public PostWithRelatedPostsDto(Post post, boolean isLiked, List<CommentDto> commentDtoList, List<PostSummaryDto> relatedPosts) {
         this.data = new PostDto(post, isLiked, commentDtoList);
-        this.relatedPosts = post.getCategory().getPosts()
-                .stream()
-                .map(PostSummaryDto::new)
-                .toList();
+        this.relatedPosts = relatedPosts;
     }
 
 }
@@ -3,11 +3,20 @@ package keapoint.onlog.post.entity;
 import jakarta.persistence.*;
 import lombok.Getter;
 
-import java.sql.Timestamp;
+import java.time.LocalDate;
 import java.util.UUID;
 
+/**
+ * 블로그 일별 방문 통계
+ * <p>
+ * 방문마다 행을 쓰지 않고, 서버 메모리에서 (블로그, 날짜)별로 모은 방문 횟수와 고유 방문자 스케치를 주기적으로 합쳐서 기록한다.
+ * 고유 방문자 수는 스케치(HyperLogLog)에서 추정한 값이며, 기간 전체의 고유 방문자 수는 날짜별 스케치를 합쳐서 추정한다.
+ */
 @Getter
 @Entity
+@Table(name = "blog_hits", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_blog_hits_blog_date", columnNames = {"blog_id", "date"}) // (블로그, 날짜)마다 한 행
+})
 public class BlogHits {
 
     @Id
@@ -16,11 +25,17 @@ public class BlogHits {
     private UUID blogHitsId;
 
     @Column(name = "date", nullable = false)
-    private Timestamp blogVisitDate; // 블로그 방문 날짜
+    private LocalDate blogVisitDate; // 블로그 방문 날짜
 
     @Column(name = "blog_id", nullable = false)
-    private String blogId; // 방문 블로그 식별자
+    private UUID blogId; // 방문 블로그 식별자
 
     @Column(name = "blog_visitor_count", nullable = false)
-    private Long blogVisitorCount;
+    private Long blogVisitorCount; // 추정 고유 방문자 수
+
+    @Column(name = "blog_view_count", nullable = false, columnDefinition = "BIGINT NOT NULL DEFAULT 0")
+    private Long blogViewCount; // 블로그, 게시글 조회 수
+
+    @Column(name = "visitor_sketch", columnDefinition = "VARBINARY(2048)")
+    private byte[] visitorSketch; // 고유 방문자 스케치 (HyperLogLog 레지스터)
 }
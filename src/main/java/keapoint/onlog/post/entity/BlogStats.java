@@ -0,0 +1,73 @@
+package keapoint.onlog.post.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * 블로그 통계 (읽기 모델)
+ * <p>
+ * 블로그 프로필에 보여줄 개수를 블로그마다 한 행에 미리 계산해 두어, 프로필 조회 시 게시글, 댓글, 팔로우 테이블을 읽지 않도록 한다.
+ * 게시글, 좋아요, 댓글, 팔로우 서비스가 원본을 바꿀 때 같은 트랜잭션에서 증감하며,
+ * 어긋난 값은 주기적으로 원본 테이블에서 다시 계산하여 바로잡는다.
+ */
+@Getter
+@Entity
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "blog_stats", indexes = {
+        @Index(name = "idx_blog_stats_follower_count", columnList = "follower_count") // 팔로워가 많은 블로그 조회 (타임라인)
+})
+public class BlogStats {
+
+    /**
+     * 증감할 수 있는 개수와 컬럼 이름
+     */
+    public enum Counter {
+        POST("post_count"), // 삭제되지 않은 게시글 수
+        PUBLIC_POST("public_post_count"), // 삭제되지 않은 공개 게시글 수
+        LIKE("like_count"), // 게시글이 받은 좋아요 수
+        COMMENT("comment_count"), // 게시글에 달린 댓글 수
+        FOLLOWER("follower_count"), // 이 블로그를 팔로우 하는 블로그 수
+        FOLLOWING("following_count"); // 이 블로그가 팔로우 하는 블로그 수
+
+        private final String column;
+
+        Counter(String column) {
+            this.column = column;
+        }
+
+        public String getColumn() {
+            return column;
+        }
+    }
+
+    @Id
+    @Column(name = "blog_id", nullable = false)
+    private UUID blogId; // 블로그 식별자
+
+    @Column(name = "post_count", nullable = false, columnDefinition = "BIGINT NOT NULL DEFAULT 0")
+    private long postCount; // 삭제되지 않은 게시글 수
+
+    @Column(name = "public_post_count", nullable = false, columnDefinition = "BIGINT NOT NULL DEFAULT 0")
+    private long publicPostCount; // 삭제되지 않은 공개 게시글 수
+
+    @Column(name = "like_count", nullable = false, columnDefinition = "BIGINT NOT NULL DEFAULT 0")
+    private long likeCount; // 게시글이 받은 좋아요 수 (분산 카운터에서 합쳐진 값)
+
+    @Column(name = "comment_count", nullable = false, columnDefinition = "BIGINT NOT NULL DEFAULT 0")
+    private long commentCount; // 삭제되지 않은 게시글에 달린 댓글 수
+
+    @Column(name = "follower_count", nullable = false, columnDefinition = "BIGINT NOT NULL DEFAULT 0")
+    private long followerCount; // 이 블로그를 팔로우 하는 블로그 수
+
+    @Column(name = "following_count", nullable = false, columnDefinition = "BIGINT NOT NULL DEFAULT 0")
+    private long followingCount; // 이 블로그가 팔로우 하는 블로그 수
+
+    public BlogStats(UUID blogId) {
+        this.blogId = blogId;
+    }
+}
@@ -15,7 +15,11 @@ import java.util.UUID;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "comment")
+@Table(name = "comment", indexes = {
+        @Index(name = "idx_comment_post_ref_order", columnList = "post_id, comment_ref, comment_ref_order"), // 게시글 최상위 댓글 조회
+        @Index(name = "idx_comment_parent_ref_order", columnList = "comment_parent_num, comment_ref_order"), // 답글 조회
+        @Index(name = "idx_comment_post_path", columnList = "post_id, comment_path") // 댓글 스레드 조회
+})
 public class Comment extends BaseEntity {
 
     @Id
@@ -33,7 +37,7 @@ public class Comment extends BaseEntity {
     private long ref; // 그룹
 
     @Column(name = "comment_ref_order", nullable = false)
-    private long refOrder; // 그룹 순서
+    private long refOrder; // 형제 댓글 사이의 순서 (최상위 댓글은 1)
 
     @Column(name = "comment_step", nullable = false)
     private long step; // 댓글의 계층
@@ -42,7 +46,11 @@ public class Comment extends BaseEntity {
     private UUID parentNum; // 부모댓글의 ID
 
     @Column(name = "comment_answer_num", nullable = false)
-    private long answerNum; // 해당댓글의 자식댓글의 수
+    private long answerNum; // 해당댓글의 자식댓글의 수 (마지막으로 배정한 답글 형제 순서)
+
+    @Column(name = "comment_path", nullable = false,
+            columnDefinition = "VARCHAR(500) CHARACTER SET ascii COLLATE ascii_bin NOT NULL DEFAULT ''")
+    private String path; // 스레드 정렬 경로 (CommentPath)
 
     @Column(name = "comment_likes_count", nullable = false)
     private Long likesCount; // 댓글 좋아요 갯수
@@ -61,21 +69,28 @@ public class Comment extends BaseEntity {
     }
 
     /**
-     * 댓글 좋아요
+     * 답글 작성 시 자식 댓글 수를 늘리고, 새 답글의 형제 순서로 사용한다.
+     *
+     * @return 새 답글의 형제 순서
      */
-    public void commentLike() {
-        this.likesCount += 1;
+    public long nextChildOrder() {
+        this.answerNum += 1;
+        return this.answerNum;
     }
 
     /**
-     * 댓글 좋아요 취소
+     * 스레드 정렬 경로 지정 (기존 댓글 이전용)
+     *
+     * @param path      경로
+     * @param ref       그룹 (다른 최상위 댓글과 겹쳐서 새로 발급받은 경우 바뀐다)
+     * @param refOrder  형제 댓글 사이의 순서
+     * @param answerNum 자식 댓글 수
      */
-    public void commentUnlike() {
-        this.likesCount -= 1;
-    }
-
-    public void updateNumberOfChildComment() {
-        this.answerNum += 1;
+    public void assignPath(String path, long ref, long refOrder, long answerNum) {
+        this.path = path;
+        this.ref = ref;
+        this.refOrder = refOrder;
+        this.answerNum = answerNum;
     }
 
     /**
@@ -113,6 +128,7 @@ public class Comment extends BaseEntity {
                 ", step=" + step +
                 ", parentNum=" + parentNum +
                 ", answerNum=" + answerNum +
+                ", path='" + path + '\'' +
                 ", likesCount=" + likesCount +
                 ", post=" + post.getPostId() +
                 ", writer=" + writer.getBlogId() +
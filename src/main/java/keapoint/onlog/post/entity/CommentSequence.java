@@ -0,0 +1,33 @@
+package keapoint.onlog.post.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * 게시글별 댓글 그룹 번호 발급기
+ * <p>
+ * 최상위 댓글의 그룹(ref)을 게시글마다 한 행의 카운터에서 "last_ref = last_ref + n" 형태의 문장 하나로 발급하여,
+ * 댓글을 작성할 때 그룹의 최댓값을 읽지 않고 동시에 작성된 댓글도 서로 다른 그룹을 받도록 한다.
+ * 행은 게시글에 처음 최상위 댓글이 작성될 때 기존 댓글 그룹의 최댓값부터 시작하도록 만들어진다.
+ */
+@Getter
+@Entity
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "comment_sequence")
+public class CommentSequence {
+
+    @Id
+    @Column(name = "post_id", nullable = false)
+    private UUID postId; // 게시글 식별자
+
+    @Column(name = "last_ref", nullable = false)
+    private Long lastRef; // 마지막으로 발급한 댓글 그룹
+}
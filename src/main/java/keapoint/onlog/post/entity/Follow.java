@@ -13,7 +13,9 @@ import lombok.NoArgsConstructor;
 @Builder
 @AllArgsConstructor
 @NoArgsConstructor
-@Table(name = "follow")
+@Table(name = "follow", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_follow_blog_target", columnNames = {"blog_id", "follow_id"}) // 블로그 쌍마다 팔로우 정보는 하나
+})
 public class Follow {
 
     @Id
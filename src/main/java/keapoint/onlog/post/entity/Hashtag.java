@@ -12,7 +12,9 @@ import java.util.List;
 @Entity
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "hashtag")
+@Table(name = "hashtag", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_hashtag_name", columnNames = "hashtag_name") // 해시태그 이름은 정규화된 값으로 한 번만 저장한다.
+})
 public class Hashtag {
 
     @Id
@@ -31,6 +33,18 @@ public class Hashtag {
         this.postList = new ArrayList<>();
     }
 
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof Hashtag other)) return false;
+        return getId() != null && getId().equals(other.getId());
+    }
+
+    @Override
+    public int hashCode() {
+        return Hashtag.class.hashCode();
+    }
+
     @Override
     public String toString() {
         return "Hashtag{" +
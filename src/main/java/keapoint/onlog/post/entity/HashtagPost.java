@@ -0,0 +1,58 @@
+package keapoint.onlog.post.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 해시태그 → 게시글 역색인 (posting list)
+ * <p>
+ * 해시태그별 게시글을 (hashtag_id, created_at DESC, post_id) 순서로 보관하여,
+ * 해시태그 최신 게시글을 테이블 크기와 관계없이 인덱스 범위 스캔으로 조회할 수 있도록 한다.
+ * 삭제되지 않은 게시글만 보관하며, 게시글 작성, 수정, 삭제 시 함께 갱신된다.
+ */
+@Getter
+@Entity
+@NoArgsConstructor
+@AllArgsConstructor
+@IdClass(HashtagPost.HashtagPostId.class)
+@Table(name = "hashtag_post", indexes = {
+        @Index(name = "idx_hashtag_post_posting", columnList = "hashtag_id, created_at DESC, post_id") // 해시태그 최신 게시글 조회
+})
+public class HashtagPost {
+
+    @Id
+    @Column(name = "hashtag_id", nullable = false)
+    private Long hashtagId; // 해시태그 식별자
+
+    @Id
+    @Column(name = "post_id", nullable = false)
+    private UUID postId; // 게시글 식별자
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt; // 게시글 작성 시간
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "post_id", insertable = false, updatable = false, foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
+    private Post post; // 게시글 (조회용)
+
+    public HashtagPost(Long hashtagId, UUID postId, LocalDateTime createdAt) {
+        this.hashtagId = hashtagId;
+        this.postId = postId;
+        this.createdAt = createdAt;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class HashtagPostId implements Serializable {
+        private Long hashtagId;
+        private UUID postId;
+    }
+}
@@ -0,0 +1,56 @@
+package keapoint.onlog.post.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.util.UUID;
+
+/**
+ * 좋아요 개수 분산 카운터
+ * <p>
+ * 게시글, 댓글마다 여러 개의 행(shard)에 좋아요 증감량을 나누어 기록하여, 인기 게시글에 좋아요가 몰려도 한 행의 잠금을 기다리지 않도록 한다.
+ * 좋아요 개수는 post_likes_count, comment_likes_count 값에 모든 행의 증감량을 더한 값이며,
+ * 증감량은 주기적으로 post_likes_count, comment_likes_count에 합쳐진 뒤 그만큼 차감된다.
+ */
+@Getter
+@Entity
+@NoArgsConstructor
+@AllArgsConstructor
+@IdClass(LikeCounterShard.LikeCounterShardId.class)
+@Table(name = "like_counter_shard")
+public class LikeCounterShard {
+
+    public enum TargetType {
+        POST, // 게시글 좋아요
+        COMMENT // 댓글 좋아요
+    }
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(name = "target_type", nullable = false, length = 16)
+    private TargetType targetType; // 좋아요 대상 종류
+
+    @Id
+    @Column(name = "target_id", nullable = false)
+    private UUID targetId; // 게시글 또는 댓글 식별자
+
+    @Id
+    @Column(name = "shard", nullable = false)
+    private Integer shard; // 분산 카운터 번호
+
+    @Column(name = "delta", nullable = false)
+    private Long delta; // 아직 합쳐지지 않은 좋아요 증감량
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class LikeCounterShardId implements Serializable {
+        private TargetType targetType;
+        private UUID targetId;
+        private Integer shard;
+    }
+}
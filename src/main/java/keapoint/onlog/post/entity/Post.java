@@ -9,16 +9,19 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.UUID;
+import java.util.*;
+import java.util.stream.Collectors;
 
 @Getter
 @Entity
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "post")
+@Table(name = "post", indexes = {
+        @Index(name = "idx_post_status_created_at", columnList = "status, created_at, post_id"), // 최신 게시글 커서 조회
+        @Index(name = "idx_post_updated_at", columnList = "updated_at, post_id"), // 검색 색인 증분 갱신
+        @Index(name = "idx_post_blog_created_at", columnList = "blog_id, status, post_public, created_at, post_id") // 블로그별 최신 공개 게시글 (타임라인)
+})
 public class Post extends BaseEntity {
 
     @Id
@@ -58,13 +61,18 @@ public class Post extends BaseEntity {
     @JoinColumn(name = "topic_id")
     private Topic topic; // 게시글 주제
 
-    @ManyToMany(cascade = CascadeType.ALL)
+    // Set으로 매핑하여 해시태그가 바뀔 때 변경된 연결 행만 INSERT/DELETE 되도록 한다. (List는 전체를 지우고 다시 INSERT 한다)
+    @ManyToMany
     @JoinTable(
             name = "Post_HashTag_Table",
             joinColumns = @JoinColumn(name = "post_id"),
             inverseJoinColumns = @JoinColumn(name = "hashtag_id")
     )
-    private List<Hashtag> hashtagList = new ArrayList<>();
+    private Set<Hashtag> hashtagList = new LinkedHashSet<>();
+
+    // 해시태그 → 게시글 역색인. 해시태그로 게시글을 조회할 때만 사용하며, 갱신은 HashtagService가 담당한다.
+    @OneToMany(mappedBy = "post")
+    private List<HashtagPost> hashtagPostings = new ArrayList<>();
 
     @OneToMany(mappedBy = "post", cascade = CascadeType.ALL)
     private List<Comment> comments = new ArrayList<>(); // 게시글 댓글
@@ -80,27 +88,6 @@ public class Post extends BaseEntity {
         this.writer = blog;
     }
 
-    /**
-     * 게시글 방문
-     */
-    public void hit() {
-        this.postHits += 1; // 방문 횟수 1 증가
-    }
-
-    /**
-     * 게시글 좋아요
-     */
-    public void postLike() {
-        this.likesCount += 1;
-    }
-
-    /**
-     * 게시글 좋아요 취소
-     */
-    public void postUnlike() {
-        this.likesCount -= 1;
-    }
-
     /**
      * 게시글 좋아요 갯수 초기화 (소프트 삭제)
      */
@@ -131,7 +118,7 @@ public class Post extends BaseEntity {
      * @param topic       게시글의 주제
      * @param hashtagList 게시글의 해시태그 리스트
      */
-    public Post(PostWritePostReqDto dto, Blog writer, Category category, Topic topic, List<Hashtag> hashtagList) {
+    public Post(PostWritePostReqDto dto, Blog writer, Category category, Topic topic, Collection<Hashtag> hashtagList) {
         this.postHits = 0L;
         this.title = dto.getTitle();
         this.content = dto.getContent();
@@ -141,6 +128,7 @@ public class Post extends BaseEntity {
         this.modified = false;
         this.likesCount = 0L;
         this.comments = new ArrayList<>();
+        this.hashtagList = new LinkedHashSet<>();
 
         // 연관관계 설정
         writer.addNewPost(this);
@@ -157,26 +145,43 @@ public class Post extends BaseEntity {
      * @param topic       수정된 게시글의 주제
      * @param hashtagList 수정된 게시글의 해시태그 리스트
      */
-    public void modifyPost(PutModifyPostReqDto dto, Category category, Topic topic, List<Hashtag> hashtagList) {
+    public void modifyPost(PutModifyPostReqDto dto, Category category, Topic topic, Collection<Hashtag> hashtagList) {
         this.title = dto.getTitle();
         this.content = dto.getContent();
         this.summary = dto.getSummary();
         this.thumbnailLink = dto.getThumbnailLink();
         this.isPublic = dto.getIsPublic();
-        this.category = category;
-        this.hashtagList = hashtagList;
 
         this.modified = true; // 게시글이 수정되었음을 표시
 
         // 기존 연관관계 제거
         removeCategory();
         removeAssignedTopic();
-        this.hashtagList.forEach(this::removeHashtag);
 
         // 연관관계 설정
         assignCategory(category);
         assignTopic(topic);
-        hashtagList.forEach(this::addHashtag);
+        updateHashtags(hashtagList);
+    }
+
+    /**
+     * 게시글 해시태그 변경
+     * 빠진 해시태그와 새로 추가된 해시태그만 반영하여, 바뀌지 않은 연결 행은 건드리지 않는다.
+     *
+     * @param hashtags 변경할 해시태그 목록
+     */
+    public void updateHashtags(Collection<Hashtag> hashtags) {
+        Set<Long> newIds = hashtags.stream()
+                .map(Hashtag::getId)
+                .collect(Collectors.toSet());
+        Set<Long> currentIds = this.hashtagList.stream()
+                .map(Hashtag::getId)
+                .collect(Collectors.toSet());
+
+        this.hashtagList.removeIf(hashtag -> !newIds.contains(hashtag.getId()));
+        hashtags.stream()
+                .filter(hashtag -> !currentIds.contains(hashtag.getId()))
+                .forEach(this::addHashtag);
     }
 
     /**
@@ -205,8 +210,8 @@ public class Post extends BaseEntity {
      * @param hashtag 해시태그
      */
     public void addHashtag(Hashtag hashtag) {
+        // 해시태그 쪽 게시글 목록은 초기화하지 않는다. (인기 해시태그의 경우 모든 게시글을 불러오게 된다)
         this.hashtagList.add(hashtag);
-        hashtag.getPostList().add(this);
     }
 
     /**
@@ -215,8 +220,7 @@ public class Post extends BaseEntity {
      * @param hashtag 해시태그
      */
     public void removeHashtag(Hashtag hashtag) {
-        hashtag.getPostList().remove(this);
-        this.hashtagList.remove(hashtag);
+        this.hashtagList.removeIf(current -> current.getId().equals(hashtag.getId()));
     }
 
     /**
@@ -0,0 +1,34 @@
+package keapoint.onlog.post.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 복제 heartbeat
+ * <p>
+ * writer에서 한 행의 위치(beat_position)를 주기적으로 1씩 증가시키고 기록 시각을 함께 남긴다.
+ * 복제본에서 같은 행을 읽으면 복제본에 반영된 위치와 복제 지연 시간을 알 수 있으며,
+ * 사용자가 쓴 직후의 위치보다 큰 위치가 반영된 복제본에는 그 사용자의 쓰기도 반영되어 있다.
+ */
+@Getter
+@Entity
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "replication_heartbeat")
+public class ReplicationHeartbeat {
+
+    @Id
+    @Column(name = "heartbeat_id", nullable = false)
+    private Integer heartbeatId; // 항상 1
+
+    @Column(name = "beat_position", nullable = false)
+    private Long beatPosition; // heartbeat 위치 (1씩 증가)
+
+    @Column(name = "beat_at", nullable = false)
+    private Long beatAt; // 기록 시각 (epoch 밀리초)
+}
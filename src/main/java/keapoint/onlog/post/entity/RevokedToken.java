@@ -0,0 +1,37 @@
+package keapoint.onlog.post.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 폐기된 access token
+ * <p>
+ * 로그아웃한 access token의 식별자(jti)를 토큰 만료 시각까지 보관한다.
+ * 서버마다 revoked_at 순서로 새로 폐기된 토큰을 주기적으로 읽어 메모리의 폐기 목록에 반영하며,
+ * 만료 시각이 지난 행은 토큰 자체가 유효하지 않으므로 주기적으로 삭제한다.
+ */
+@Getter
+@Entity
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "revoked_token", indexes = {
+        @Index(name = "idx_revoked_token_revoked_at", columnList = "revoked_at"), // 새로 폐기된 토큰 동기화
+        @Index(name = "idx_revoked_token_expires_at", columnList = "expires_at") // 만료된 행 삭제
+})
+public class RevokedToken {
+
+    @Id
+    @Column(name = "jti", nullable = false)
+    private UUID jti; // access token 식별자
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt; // access token 만료 시각
+
+    @Column(name = "revoked_at", nullable = false)
+    private LocalDateTime revokedAt; // 폐기 시각
+}
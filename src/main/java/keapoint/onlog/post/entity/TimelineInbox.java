@@ -0,0 +1,53 @@
+package keapoint.onlog.post.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 홈 타임라인 받은 편지함
+ * <p>
+ * 팔로워가 많지 않은 블로그가 공개 게시글을 작성하면, 팔로워마다 한 행씩 미리 넣어 둔다. (fan-out on write)
+ * 읽는 사람별로 (reader_blog_id, created_at DESC, post_id) 순서로 보관하여 인덱스 범위 스캔으로 최신 게시글을 조회하며,
+ * 읽는 사람마다 최신 post.timeline.inbox-size개만 남기고 주기적으로 정리한다.
+ */
+@Getter
+@Entity
+@NoArgsConstructor
+@AllArgsConstructor
+@IdClass(TimelineInbox.TimelineInboxId.class)
+@Table(name = "timeline_inbox", indexes = {
+        @Index(name = "idx_timeline_inbox_reader_created_at", columnList = "reader_blog_id, created_at DESC, post_id"), // 타임라인 조회
+        @Index(name = "idx_timeline_inbox_reader_author", columnList = "reader_blog_id, author_blog_id"), // 언팔로우 시 삭제
+        @Index(name = "idx_timeline_inbox_post", columnList = "post_id") // 게시글 삭제, 비공개 전환 시 삭제
+})
+public class TimelineInbox {
+
+    @Id
+    @Column(name = "reader_blog_id", nullable = false)
+    private UUID readerBlogId; // 타임라인을 읽는 블로그 식별자
+
+    @Id
+    @Column(name = "post_id", nullable = false)
+    private UUID postId; // 게시글 식별자
+
+    @Column(name = "author_blog_id", nullable = false)
+    private UUID authorBlogId; // 게시글 작성자 블로그 식별자
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt; // 게시글 작성 시간
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class TimelineInboxId implements Serializable {
+        private UUID readerBlogId;
+        private UUID postId;
+    }
+}
@@ -11,7 +11,9 @@ import lombok.NoArgsConstructor;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "user_comment_like")
+@Table(name = "user_comment_like", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_user_comment_like_blog_comment", columnNames = {"blog_id", "comment_id"}) // 블로그마다 댓글 좋아요는 하나
+})
 public class UserCommentLike {
 
     @Id
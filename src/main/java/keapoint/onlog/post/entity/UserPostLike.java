@@ -11,7 +11,9 @@ import lombok.NoArgsConstructor;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "user_post_like")
+@Table(name = "user_post_like", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_user_post_like_blog_post", columnNames = {"blog_id", "post_id"}) // 블로그마다 게시글 좋아요는 하나
+})
 public class UserPostLike {
 
     @Id
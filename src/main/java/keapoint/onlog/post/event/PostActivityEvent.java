@@ -0,0 +1,46 @@
+package keapoint.onlog.post.event;
+
+import keapoint.onlog.post.entity.Post;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 게시글 조회, 좋아요, 댓글 이벤트 (인기 게시글 집계용)
+ * <p>
+ * 트랜잭션이 커밋된 이후에 처리되므로 엔티티 대신 필요한 값만 복사하여 전달한다.
+ * 게시글을 조회하지 않고 발행하는 경우(좋아요) 주제와 공개 여부는 null이며, 받는 쪽에서 필요할 때 조회한다.
+ */
+@Getter
+@AllArgsConstructor
+public class PostActivityEvent {
+
+    public enum Type {
+        VIEW, // 게시글 조회
+        LIKE, // 게시글 좋아요
+        UNLIKE, // 게시글 좋아요 취소
+        COMMENT // 댓글 작성
+    }
+
+    private final Type type; // 이벤트 종류
+    private final UUID postId; // 게시글 식별자
+    private final Long topicId; // 게시글 주제 식별자 (알 수 없다면 null)
+    private final Boolean isPublic; // 게시글 공개 여부 (알 수 없다면 null)
+    private final LocalDateTime occurredAt; // 이벤트 발생 시간
+
+    public static PostActivityEvent of(Type type, Post post) {
+        return new PostActivityEvent(
+                type,
+                post.getPostId(),
+                post.getTopic() == null ? null : post.getTopic().getId(),
+                Boolean.TRUE.equals(post.getIsPublic()),
+                LocalDateTime.now()
+        );
+    }
+
+    public static PostActivityEvent of(Type type, UUID postId) {
+        return new PostActivityEvent(type, postId, null, null, LocalDateTime.now());
+    }
+}
@@ -0,0 +1,55 @@
+package keapoint.onlog.post.event;
+
+import keapoint.onlog.post.entity.Hashtag;
+import keapoint.onlog.post.entity.Post;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * 게시글 작성, 수정, 삭제 이벤트
+ * <p>
+ * 트랜잭션이 커밋된 이후에 처리되므로 엔티티 대신 필요한 값만 복사하여 전달한다.
+ */
+@Getter
+@AllArgsConstructor
+public class PostChangedEvent {
+
+    public enum Type {
+        CREATED, // 게시글 작성
+        MODIFIED, // 게시글 수정
+        DELETED // 게시글 삭제
+    }
+
+    private final Type type; // 이벤트 종류
+    private final UUID postId; // 게시글 식별자
+    private final UUID blogId; // 작성자 블로그 식별자
+    private final Long categoryId; // 게시글 카테고리 식별자
+    private final Long topicId; // 게시글 주제 식별자
+    private final Set<Long> hashtagIds; // 게시글 해시태그 식별자 목록
+    private final boolean isPublic; // 게시글 공개 여부
+    private final LocalDateTime createdAt; // 게시글 작성 시간
+    private final String title; // 게시글 제목
+    private final String summary; // 게시글 요약
+    private final String content; // 게시글 본문
+
+    public static PostChangedEvent of(Type type, Post post) {
+        return new PostChangedEvent(
+                type,
+                post.getPostId(),
+                post.getWriter().getBlogId(),
+                post.getCategory() == null ? null : post.getCategory().getId(),
+                post.getTopic() == null ? null : post.getTopic().getId(),
+                post.getHashtagList().stream().map(Hashtag::getId).collect(Collectors.toUnmodifiableSet()),
+                Boolean.TRUE.equals(post.getIsPublic()),
+                post.getCreatedAt() == null ? LocalDateTime.now() : post.getCreatedAt(),
+                post.getTitle(),
+                post.getSummary(),
+                post.getContent()
+        );
+    }
+}
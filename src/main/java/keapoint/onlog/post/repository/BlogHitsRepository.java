@@ -4,8 +4,20 @@ import keapoint.onlog.post.entity.BlogHits;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.util.List;
 import java.util.UUID;
 
 @Repository
 public interface BlogHitsRepository extends JpaRepository<BlogHits, UUID> {
+
+    /**
+     * 기간 안의 블로그 일별 방문 통계 조회
+     *
+     * @param blogId 블로그 식별자
+     * @param from   시작 날짜 (포함)
+     * @param to     끝 날짜 (포함)
+     * @return 날짜순 일별 방문 통계 (방문이 없던 날짜는 없다)
+     */
+    List<BlogHits> findByBlogIdAndBlogVisitDateBetweenOrderByBlogVisitDate(UUID blogId, LocalDate from, LocalDate to);
 }
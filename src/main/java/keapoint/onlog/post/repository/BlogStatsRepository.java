@@ -0,0 +1,43 @@
+package keapoint.onlog.post.repository;
+
+import keapoint.onlog.post.entity.BlogStats;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface BlogStatsRepository extends JpaRepository<BlogStats, UUID> {
+
+    /**
+     * 블로그와 블로그 통계를 기본 키로 한 번에 조회
+     *
+     * @param blogId 블로그 식별자
+     * @return [블로그, 블로그 통계] 목록. 블로그가 없다면 비어있고, 통계가 없다면 통계 자리는 null
+     */
+    @Query("select b, s from Blog b left join BlogStats s on s.blogId = b.blogId where b.blogId = :blogId")
+    List<Object[]> findProfile(@Param("blogId") UUID blogId);
+
+    /**
+     * 식별자 순서로 다음 블로그 식별자 목록 조회 (통계 재계산, 받은 편지함 정리용)
+     *
+     * @param after    이전에 조회한 마지막 블로그 식별자
+     * @param pageable 조회할 최대 블로그 수
+     * @return 블로그 식별자 목록
+     */
+    @Query("select b.blogId from Blog b where b.blogId > :after order by b.blogId")
+    List<UUID> findBlogIdsAfter(@Param("after") UUID after, Pageable pageable);
+
+    /**
+     * 팔로워 수가 기준 이상인 블로그 식별자 조회
+     *
+     * @param threshold 팔로워 수 기준
+     * @return 블로그 식별자 목록
+     */
+    @Query("select s.blogId from BlogStats s where s.followerCount >= :threshold")
+    List<UUID> findBlogIdsWithFollowersAtLeast(@Param("threshold") long threshold);
+}
@@ -2,8 +2,22 @@ package keapoint.onlog.post.repository;
 
 import keapoint.onlog.post.entity.Category;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+import java.util.UUID;
+
 @Repository
 public interface CategoryRepository extends JpaRepository<Category, Long> {
-}
\ No newline at end of file
+
+    /**
+     * 블로그의 유효한 카테고리 조회
+     *
+     * @param blogId 블로그 식별자
+     * @return 식별자 순서의 유효한 카테고리 목록
+     */
+    @Query("select c from Blog b join b.categories c where b.blogId = :blogId and c.status = true order by c.id")
+    List<Category> findValidByBlogId(@Param("blogId") UUID blogId);
+}
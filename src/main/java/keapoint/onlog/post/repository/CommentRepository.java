@@ -1,27 +1,113 @@
 package keapoint.onlog.post.repository;
 
+import jakarta.persistence.LockModeType;
 import keapoint.onlog.post.entity.Comment;
-import keapoint.onlog.post.entity.Post;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 @Repository
 public interface CommentRepository extends JpaRepository<Comment, UUID> {
-    @Query("select max(c.ref) from Comment c where c.post =?1")
-    Optional<Long> findMaxRefByPost(Post post);
+    /**
+     * 답글을 작성할 부모 댓글을 잠그고 조회한다. (같은 부모에 동시에 작성된 답글이 같은 형제 순서를 받지 않도록)
+     *
+     * @param commentId 부모 댓글 식별자
+     * @return 부모 댓글
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select c from Comment c where c.commentId = :commentId")
+    Optional<Comment> findByIdForUpdate(@Param("commentId") UUID commentId);
 
-    @Query("select sum(answerNum) from Comment where ref = ?1")
-    Long getSumOfAnswerNum(Long ref);
+    /**
+     * 분산 카운터에 쌓인 좋아요 증감량을 댓글 좋아요 개수에 합친다.
+     *
+     * @param commentId 댓글 식별자
+     * @param delta     좋아요 증감량
+     */
+    @Modifying
+    @Query("update Comment c set c.likesCount = c.likesCount + :delta where c.commentId = :commentId")
+    void addLikesCount(@Param("commentId") UUID commentId, @Param("delta") long delta);
 
-    @Query("select max(step) from Comment where ref = ?1")
-    Long getMaxStep(Long ref);
+    /**
+     * 게시글의 최상위 댓글을 그룹 순서대로 조회한다.
+     * 삭제된 댓글은 남아 있는 답글을 펼칠 수 있도록 답글이 있을 때만 함께 조회한다.
+     *
+     * @param postId   게시글 식별자
+     * @param afterRef 이전 페이지의 마지막 댓글 그룹 (첫 페이지는 0)
+     * @param pageable 조회할 최대 댓글 수
+     * @return afterRef 이후의 최상위 댓글 목록
+     */
+    @Query("select c from Comment c join fetch c.writer " +
+            "where c.post.postId = :postId and c.step = 1 and c.ref > :afterRef " +
+            "and (c.status = true or exists (select r.commentId from Comment r where r.parentNum = c.commentId and r.status = true)) " +
+            "order by c.ref")
+    List<Comment> findRootComments(@Param("postId") UUID postId, @Param("afterRef") long afterRef, Pageable pageable);
 
-    @Modifying
-    @Query("update Comment set refOrder = refOrder + 1 where ref = ?1 and refOrder > ?2")
-    void updateRefOrder(Long ref, Long refOrder);
-}
\ No newline at end of file
+    /**
+     * 댓글의 바로 아래 답글을 형제 순서대로 조회한다. (답글이 남아 있는 삭제된 답글 포함)
+     *
+     * @param parentId      부모 댓글 식별자
+     * @param afterRefOrder 이전 페이지의 마지막 답글의 형제 순서 (첫 페이지는 0)
+     * @param pageable      조회할 최대 답글 수
+     * @return afterRefOrder 이후의 답글 목록
+     */
+    @Query("select c from Comment c join fetch c.writer " +
+            "where c.parentNum = :parentId and c.refOrder > :afterRefOrder " +
+            "and (c.status = true or exists (select r.commentId from Comment r where r.parentNum = c.commentId and r.status = true)) " +
+            "order by c.refOrder")
+    List<Comment> findReplies(@Param("parentId") UUID parentId, @Param("afterRefOrder") long afterRefOrder, Pageable pageable);
+
+    /**
+     * 댓글의 하위 답글 전체를 스레드 순서(경로 순서)대로 조회한다.
+     *
+     * @param postId     게시글 식별자
+     * @param afterPath  이전 페이지의 마지막 답글 경로 (첫 페이지는 댓글 자신의 경로)
+     * @param upperBound 하위 답글 경로의 상한 (포함하지 않음)
+     * @param pageable   조회할 최대 답글 수
+     * @return afterPath 이후의 하위 답글 목록
+     */
+    @Query("select c from Comment c join fetch c.writer " +
+            "where c.post.postId = :postId and c.path > :afterPath and c.path < :upperBound and c.status = true " +
+            "order by c.path")
+    List<Comment> findThread(@Param("postId") UUID postId, @Param("afterPath") String afterPath,
+                             @Param("upperBound") String upperBound, Pageable pageable);
+
+    /**
+     * 경로 이전을 위해 게시글의 모든 댓글을 잠그고 조회한다.
+     *
+     * @param postId 게시글 식별자
+     * @return 게시글의 모든 댓글 (삭제된 댓글 포함)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select c from Comment c where c.post.postId = :postId")
+    List<Comment> findAllByPostIdForUpdate(@Param("postId") UUID postId);
+
+    /**
+     * 경로가 지정되지 않은 댓글이 있는 게시글 조회
+     *
+     * @param afterPostId 이전 페이지의 마지막 게시글 식별자
+     * @param pageable    조회할 최대 게시글 수
+     * @return 게시글 식별자 목록 (식별자 순서)
+     */
+    @Query("select distinct c.post.postId from Comment c where c.path = '' and c.post.postId > :afterPostId order by c.post.postId")
+    List<UUID> findPostIdsWithoutPath(@Param("afterPostId") UUID afterPostId, Pageable pageable);
+
+    /**
+     * 기간 안에 공개 게시글에 작성된 댓글 조회 (인기 게시글 인덱스 적재용)
+     *
+     * @param since 기준 시간
+     * @return [게시글 식별자, 주제 식별자, 댓글 작성 시간] 목록
+     */
+    @Query("select p.postId, t.id, c.createdAt from Comment c join c.post p left join p.topic t " +
+            "where c.status = true and p.status = true and p.isPublic = true and c.createdAt >= :since")
+    List<Object[]> findRecentPublicCommentActivity(@Param("since") LocalDateTime since);
+}
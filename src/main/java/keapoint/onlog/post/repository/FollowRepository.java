@@ -1,31 +1,49 @@
 package keapoint.onlog.post.repository;
 
+import jakarta.persistence.LockModeType;
 import keapoint.onlog.post.entity.Blog;
 import keapoint.onlog.post.entity.Follow;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 @Repository
 public interface FollowRepository extends JpaRepository<Follow, Long> {
 
+    Optional<Follow> findByMeAndTarget(Blog me, Blog target);
+
     /**
-     * 내가 팔로우 하고 있는 블로그 정보 조회
+     * 팔로우 정보를 잠그고 조회한다. (동시에 같은 팔로우를 바꾸는 요청이 팔로우 수를 두 번 바꾸지 않도록)
      *
-     * @param me 내 블로그
-     * @return 내가 팔로우 하고 있는 블로그 정보 조회
+     * @param me     내 블로그
+     * @param target 팔로우 할 블로그
+     * @return 팔로우 정보
      */
-    Optional<List<Follow>> findByMe(Blog me);
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select f from Follow f where f.me = :me and f.target = :target")
+    Optional<Follow> findByMeAndTargetForUpdate(@Param("me") Blog me, @Param("target") Blog target);
 
-    Optional<Follow> findByMeAndTarget(Blog me, Blog target);
+    /**
+     * 내가 팔로우 하고 있는 블로그의 식별자만 조회
+     *
+     * @param blogId 내 블로그 식별자
+     * @return 팔로우 하고 있는 블로그 식별자 목록
+     */
+    @Query("select f.target.blogId from Follow f where f.me.blogId = :blogId and f.following = true")
+    List<UUID> findFollowingBlogIds(@Param("blogId") UUID blogId);
 
     /**
-     * 특정 블로그가 구독하고 있는 다른 블로그의 수 구하기
+     * 나를 팔로우 하고 있는 블로그의 식별자만 조회
      *
-     * @param blog 구독자 수를 확인하려는 블로그
-     * @return 해당 블로그가 구독하고 있는 블로그의 수
+     * @param blogId 내 블로그 식별자
+     * @return 팔로워 블로그 식별자 목록
      */
-    int countByMeAndFollowingIsTrue(Blog blog);
+    @Query("select f.me.blogId from Follow f where f.target.blogId = :blogId and f.following = true")
+    List<UUID> findFollowerBlogIds(@Param("blogId") UUID blogId);
 }
@@ -0,0 +1,44 @@
+package keapoint.onlog.post.repository;
+
+import keapoint.onlog.post.entity.HashtagPost;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface HashtagPostRepository extends JpaRepository<HashtagPost, HashtagPost.HashtagPostId>, HashtagPostRepositoryCustom {
+
+    /**
+     * 게시글이 역색인에 등록된 해시태그 식별자 조회
+     *
+     * @param postId 게시글 식별자
+     * @return 해시태그 식별자 목록
+     */
+    @Query("select hp.hashtagId from HashtagPost hp where hp.postId = :postId")
+    List<Long> findHashtagIdsByPostId(@Param("postId") UUID postId);
+
+    /**
+     * 게시글의 일부 해시태그를 역색인에서 제거
+     *
+     * @param postId     게시글 식별자
+     * @param hashtagIds 제거할 해시태그 식별자 목록
+     */
+    @Modifying
+    @Query("delete from HashtagPost hp where hp.postId = :postId and hp.hashtagId in :hashtagIds")
+    void deleteByPostIdAndHashtagIdIn(@Param("postId") UUID postId, @Param("hashtagIds") Collection<Long> hashtagIds);
+
+    /**
+     * 게시글을 역색인에서 제거
+     *
+     * @param postId 게시글 식별자
+     */
+    @Modifying
+    @Query("delete from HashtagPost hp where hp.postId = :postId")
+    void deleteByPostId(@Param("postId") UUID postId);
+}
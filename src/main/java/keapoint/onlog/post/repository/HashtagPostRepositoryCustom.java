@@ -0,0 +1,16 @@
+package keapoint.onlog.post.repository;
+
+import keapoint.onlog.post.entity.HashtagPost;
+
+import java.util.Collection;
+
+public interface HashtagPostRepositoryCustom {
+
+    /**
+     * 역색인 행 추가
+     * 식별자가 직접 지정된 엔티티라 save()를 사용하면 행마다 SELECT가 먼저 실행되므로, 바로 persist 한다.
+     *
+     * @param postings 추가할 역색인 행 목록
+     */
+    void insertAll(Collection<HashtagPost> postings);
+}
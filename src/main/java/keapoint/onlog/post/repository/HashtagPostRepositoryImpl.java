@@ -0,0 +1,18 @@
+package keapoint.onlog.post.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import keapoint.onlog.post.entity.HashtagPost;
+
+import java.util.Collection;
+
+public class HashtagPostRepositoryImpl implements HashtagPostRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public void insertAll(Collection<HashtagPost> postings) {
+        postings.forEach(entityManager::persist);
+    }
+}
@@ -2,11 +2,23 @@ package keapoint.onlog.post.repository;
 
 import keapoint.onlog.post.entity.Hashtag;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface HashtagRepository extends JpaRepository<Hashtag, Long> {
     List<Hashtag> findByName(String name);
+
+    /**
+     * 해시태그 이름 목록에 해당하는 식별자를 한 번에 조회한다.
+     *
+     * @param names 해시태그 이름 목록
+     * @return [해시태그 이름, 해시태그 식별자] 목록
+     */
+    @Query("select h.name, h.id from Hashtag h where h.name in :names")
+    List<Object[]> findIdsByNameIn(@Param("names") Collection<String> names);
 }
@@ -0,0 +1,72 @@
+package keapoint.onlog.post.repository;
+
+import keapoint.onlog.post.entity.LikeCounterShard;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface LikeCounterShardRepository extends JpaRepository<LikeCounterShard, LikeCounterShard.LikeCounterShardId> {
+
+    /**
+     * 합쳐지지 않은 증감량이 남아있는 행 조회
+     *
+     * @param targetType 좋아요 대상 종류
+     * @param pageable   조회할 최대 행 수
+     * @return 분산 카운터 행 목록 (대상 식별자 순서)
+     */
+    @Query("select s from LikeCounterShard s where s.targetType = :targetType and s.delta <> 0 order by s.targetId, s.shard")
+    List<LikeCounterShard> findPending(@Param("targetType") LikeCounterShard.TargetType targetType, Pageable pageable);
+
+    /**
+     * 읽은 만큼의 증감량을 차감한다. 그 사이에 더해진 증감량은 남는다.
+     */
+    @Modifying
+    @Query("update LikeCounterShard s set s.delta = s.delta - :delta " +
+            "where s.targetType = :targetType and s.targetId = :targetId and s.shard = :shard")
+    void subtract(@Param("targetType") LikeCounterShard.TargetType targetType, @Param("targetId") UUID targetId, @Param("shard") Integer shard, @Param("delta") long delta);
+
+    /**
+     * 증감량이 모두 합쳐진 행 삭제
+     */
+    @Modifying
+    @Query("delete from LikeCounterShard s where s.targetType = :targetType and s.delta = 0")
+    int deleteFolded(@Param("targetType") LikeCounterShard.TargetType targetType);
+
+    /**
+     * 대상의 분산 카운터 삭제 (게시글, 댓글 삭제 시)
+     */
+    @Modifying
+    @Query("delete from LikeCounterShard s where s.targetType = :targetType and s.targetId = :targetId")
+    void deleteByTarget(@Param("targetType") LikeCounterShard.TargetType targetType, @Param("targetId") UUID targetId);
+
+    /**
+     * 게시글 좋아요 개수 조회
+     * 합쳐진 개수와 분산 카운터 증감량을 한 문장으로 읽으므로, 합치는 도중에도 같은 좋아요가 두 번 더해지지 않는다.
+     *
+     * @param postIds 게시글 식별자 목록
+     * @return [게시글 식별자, 좋아요 개수] 목록
+     */
+    @Query("select p.postId, p.likesCount + coalesce((select sum(s.delta) from LikeCounterShard s " +
+            "where s.targetType = keapoint.onlog.post.entity.LikeCounterShard.TargetType.POST and s.targetId = p.postId), 0) " +
+            "from Post p where p.postId in :postIds")
+    List<Object[]> findPostLikesCounts(@Param("postIds") Collection<UUID> postIds);
+
+    /**
+     * 댓글 좋아요 개수 조회
+     *
+     * @param commentIds 댓글 식별자 목록
+     * @return [댓글 식별자, 좋아요 개수] 목록
+     */
+    @Query("select c.commentId, c.likesCount + coalesce((select sum(s.delta) from LikeCounterShard s " +
+            "where s.targetType = keapoint.onlog.post.entity.LikeCounterShard.TargetType.COMMENT and s.targetId = c.commentId), 0) " +
+            "from Comment c where c.commentId in :commentIds")
+    List<Object[]> findCommentLikesCounts(@Param("commentIds") Collection<UUID> commentIds);
+}
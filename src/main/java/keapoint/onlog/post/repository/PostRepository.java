@@ -6,12 +6,19 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 
 @Repository
-public interface PostRepository extends JpaRepository<Post, UUID>, JpaSpecificationExecutor<Post> {
+public interface PostRepository extends JpaRepository<Post, UUID>, JpaSpecificationExecutor<Post>, PostRepositoryCustom {
 
     /**
      * 나의 최근 비공개 게시글을 페이지네이션하여 가져옴
@@ -23,4 +30,108 @@ public interface PostRepository extends JpaRepository<Post, UUID>, JpaSpecificat
      * @return 주어진 상태와 공개 여부에 따른 게시글의 페이지네이션 결과
      */
     Page<Post> findByWriterAndStatusAndIsPublic(Blog writer, boolean status, boolean isPublic, Pageable pageable);
+
+    /**
+     * 여러 게시글의 방문 횟수를 한 번에 증가시킨다.
+     * 같은 증가량을 가진 게시글들을 하나의 UPDATE 문으로 묶기 위해 사용한다.
+     *
+     * @param hits    증가시킬 방문 횟수
+     * @param postIds 방문 횟수를 증가시킬 게시글 식별자 목록
+     * @return 반영된 게시글 수
+     */
+    @Transactional
+    @Modifying
+    @Query("update Post p set p.postHits = p.postHits + :hits where p.postId in :postIds")
+    int increaseHits(@Param("hits") long hits, @Param("postIds") Collection<UUID> postIds);
+
+    /**
+     * 분산 카운터에 쌓인 좋아요 증감량을 게시글 좋아요 개수에 합친다.
+     *
+     * @param postId 게시글 식별자
+     * @param delta  좋아요 증감량
+     */
+    @Modifying
+    @Query("update Post p set p.likesCount = p.likesCount + :delta where p.postId = :postId")
+    void addLikesCount(@Param("postId") UUID postId, @Param("delta") long delta);
+
+    /**
+     * 유효한 게시글의 연관 게시글 계산용 특징 조회
+     *
+     * @return [게시글 식별자, 카테고리 식별자, 주제 식별자, 공개 여부, 작성 시간] 목록
+     */
+    @Query("select p.postId, c.id, t.id, p.isPublic, p.createdAt from Post p left join p.category c left join p.topic t where p.status = true")
+    List<Object[]> findAllValidPostFeatures();
+
+    /**
+     * 유효한 게시글의 해시태그 식별자 조회
+     *
+     * @return [게시글 식별자, 해시태그 식별자] 목록
+     */
+    @Query("select p.postId, h.id from Post p join p.hashtagList h where p.status = true")
+    List<Object[]> findAllValidPostHashtagIds();
+
+    /**
+     * 검색 색인용 게시글 조회
+     * 기준 시각 이후에 수정된 게시글을 (수정 시간, 게시글 식별자) 순서로 커서 이후부터 조회한다.
+     * 삭제되거나 비공개로 바뀐 게시글도 색인에서 제거해야 하므로 상태와 관계없이 조회한다.
+     *
+     * @param since          기준 시각
+     * @param afterUpdatedAt 마지막으로 조회된 게시글의 수정 시간 (처음에는 기준 시각)
+     * @param afterPostId    마지막으로 조회된 게시글 식별자
+     * @param pageable       조회할 게시글 수
+     * @return 게시글 식별자, 제목, 요약, 본문, 공개 여부, 상태, 수정 시간
+     */
+    @Query("select p.postId, p.title, p.summary, p.content, p.isPublic, p.status, p.updatedAt from Post p " +
+            "where p.updatedAt > :since " +
+            "and (p.updatedAt > :afterUpdatedAt or (p.updatedAt = :afterUpdatedAt and p.postId > :afterPostId)) " +
+            "order by p.updatedAt, p.postId")
+    List<Object[]> findSearchDocuments(@Param("since") LocalDateTime since,
+                                       @Param("afterUpdatedAt") LocalDateTime afterUpdatedAt,
+                                       @Param("afterPostId") UUID afterPostId,
+                                       Pageable pageable);
+
+    /**
+     * 블로그의 최신 공개 게시글 조회 (타임라인의 블로그별 게시글 흐름)
+     *
+     * @param blogId   작성자 블로그 식별자
+     * @param pageable 조회할 최대 게시글 수
+     * @return [게시글 식별자, 작성 시간] 목록 (작성 시간, 게시글 식별자 내림차순)
+     */
+    @Query("select p.postId, p.createdAt from Post p where p.writer.blogId = :blogId and p.status = true and p.isPublic = true " +
+            "order by p.createdAt desc, p.postId desc")
+    List<Object[]> findLatestPublic(@Param("blogId") UUID blogId, Pageable pageable);
+
+    /**
+     * 블로그의 커서 이후 공개 게시글 조회 (타임라인의 블로그별 게시글 흐름)
+     *
+     * @param blogId    작성자 블로그 식별자
+     * @param createdAt 마지막으로 조회된 게시글의 작성 시간
+     * @param postId    마지막으로 조회된 게시글 식별자
+     * @param pageable  조회할 최대 게시글 수
+     * @return [게시글 식별자, 작성 시간] 목록 (작성 시간, 게시글 식별자 내림차순)
+     */
+    @Query("select p.postId, p.createdAt from Post p where p.writer.blogId = :blogId and p.status = true and p.isPublic = true " +
+            "and (p.createdAt < :createdAt or (p.createdAt = :createdAt and p.postId < :postId)) " +
+            "order by p.createdAt desc, p.postId desc")
+    List<Object[]> findPublicBefore(@Param("blogId") UUID blogId, @Param("createdAt") LocalDateTime createdAt,
+                                    @Param("postId") UUID postId, Pageable pageable);
+
+    /**
+     * 기간 안에 작성된 공개 게시글의 활동 조회 (인기 게시글 인덱스 적재용)
+     *
+     * @param since 기준 시간
+     * @return [게시글 식별자, 주제 식별자, 작성 시간, 방문 횟수, 좋아요 개수] 목록
+     */
+    @Query("select p.postId, t.id, p.createdAt, p.postHits, p.likesCount from Post p left join p.topic t " +
+            "where p.status = true and p.isPublic = true and p.createdAt >= :since")
+    List<Object[]> findRecentPublicActivity(@Param("since") LocalDateTime since);
+
+    /**
+     * 삭제되지 않은 공개 게시글의 주제 조회
+     *
+     * @param postId 게시글 식별자
+     * @return [게시글 식별자, 주제 식별자] 목록. 삭제되었거나 비공개 게시글이라면 비어있다.
+     */
+    @Query("select p.postId, t.id from Post p left join p.topic t where p.postId = :postId and p.status = true and p.isPublic = true")
+    List<Object[]> findPublicTopic(@Param("postId") UUID postId);
 }
@@ -0,0 +1,49 @@
+package keapoint.onlog.post.repository;
+
+import keapoint.onlog.post.dto.post.PostCursor;
+import keapoint.onlog.post.dto.post.PostFieldSet;
+import keapoint.onlog.post.dto.post.PostSummaryDto;
+import keapoint.onlog.post.entity.Post;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+public interface PostRepositoryCustom {
+
+    /**
+     * 게시글 목록에 필요한 컬럼만 조회하여 게시글 요약 정보로 변환
+     * 엔티티를 조회하지 않으므로 카테고리, 주제, 작성자에 대한 추가 쿼리가 발생하지 않는다.
+     *
+     * @param specification 조회 조건
+     * @param sort          정렬 조건
+     * @param offset        건너뛸 게시글 수
+     * @param limit         조회할 최대 게시글 수
+     * @param fields        본문 조회 방식 (전체, 앞부분, 제외)
+     * @return 조회된 게시글 요약 정보 목록
+     */
+    List<PostSummaryDto> findSummaries(Specification<Post> specification, Sort sort, long offset, int limit, PostFieldSet fields);
+
+    /**
+     * 해시태그 역색인을 따라 해시태그가 달린 게시글 요약 정보를 최신순으로 조회
+     * (hashtag_id, created_at DESC, post_id) 인덱스를 범위 스캔하므로 게시글 수와 관계없이 일정한 시간에 조회된다.
+     *
+     * @param hashtagId     해시태그 식별자
+     * @param specification 추가 조회 조건
+     * @param cursor        마지막으로 조회된 게시글의 커서 (없으면 null)
+     * @param offset        건너뛸 게시글 수
+     * @param limit         조회할 최대 게시글 수
+     * @param fields        본문 조회 방식 (전체, 앞부분, 제외)
+     * @return 조회된 게시글 요약 정보 목록 (작성 시간, 게시글 식별자 내림차순)
+     */
+    List<PostSummaryDto> findSummariesByHashtag(Long hashtagId, Specification<Post> specification, PostCursor cursor, long offset, int limit, PostFieldSet fields);
+
+    /**
+     * 해시태그 역색인을 따라 해시태그가 달린 게시글 수 조회
+     *
+     * @param hashtagId     해시태그 식별자
+     * @param specification 추가 조회 조건
+     * @return 게시글 수
+     */
+    long countByHashtag(Long hashtagId, Specification<Post> specification);
+}
@@ -0,0 +1,175 @@
+package keapoint.onlog.post.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.*;
+import keapoint.onlog.post.dto.blog.BlogDto;
+import keapoint.onlog.post.dto.category.CategoryDto;
+import keapoint.onlog.post.dto.post.PostCursor;
+import keapoint.onlog.post.dto.post.PostFieldSet;
+import keapoint.onlog.post.dto.post.PostSummaryDto;
+import keapoint.onlog.post.dto.topic.TopicDto;
+import keapoint.onlog.post.entity.Blog;
+import keapoint.onlog.post.entity.Category;
+import keapoint.onlog.post.entity.HashtagPost;
+import keapoint.onlog.post.entity.Post;
+import keapoint.onlog.post.entity.Topic;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+public class PostRepositoryImpl implements PostRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<PostSummaryDto> findSummaries(Specification<Post> specification, Sort sort, long offset, int limit, PostFieldSet fields) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = criteriaBuilder.createTupleQuery();
+        Root<Post> root = query.from(Post.class);
+
+        selectSummary(query, root, criteriaBuilder, fields);
+
+        Predicate predicate = specification.toPredicate(root, query, criteriaBuilder);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(QueryUtils.toOrders(sort, root, criteriaBuilder));
+
+        return fetchSummaries(query, offset, limit, fields);
+    }
+
+    @Override
+    public List<PostSummaryDto> findSummariesByHashtag(Long hashtagId, Specification<Post> specification, PostCursor cursor, long offset, int limit, PostFieldSet fields) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = criteriaBuilder.createTupleQuery();
+        Root<Post> root = query.from(Post.class);
+        Join<Post, HashtagPost> posting = root.join("hashtagPostings", JoinType.INNER);
+
+        selectSummary(query, root, criteriaBuilder, fields);
+
+        List<Predicate> predicates = postingPredicates(hashtagId, specification, root, posting, query, criteriaBuilder);
+        if (cursor != null) {
+            // 커서 조건도 역색인 컬럼에 걸어야 인덱스 범위 스캔으로 이어서 조회할 수 있다.
+            predicates.add(criteriaBuilder.or(
+                    criteriaBuilder.lessThan(posting.<LocalDateTime>get("createdAt"), cursor.getCreatedAt()),
+                    criteriaBuilder.and(
+                            criteriaBuilder.equal(posting.get("createdAt"), cursor.getCreatedAt()),
+                            criteriaBuilder.lessThan(posting.<UUID>get("postId"), cursor.getPostId())
+                    )
+            ));
+        }
+        query.where(predicates.toArray(Predicate[]::new));
+        query.orderBy(criteriaBuilder.desc(posting.get("createdAt")), criteriaBuilder.desc(posting.get("postId")));
+
+        return fetchSummaries(query, offset, limit, fields);
+    }
+
+    @Override
+    public long countByHashtag(Long hashtagId, Specification<Post> specification) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = criteriaBuilder.createQuery(Long.class);
+        Root<Post> root = query.from(Post.class);
+        Join<Post, HashtagPost> posting = root.join("hashtagPostings", JoinType.INNER);
+
+        query.select(criteriaBuilder.count(root));
+        query.where(postingPredicates(hashtagId, specification, root, posting, query, criteriaBuilder).toArray(Predicate[]::new));
+
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    private List<Predicate> postingPredicates(Long hashtagId, Specification<Post> specification, Root<Post> root, Join<Post, HashtagPost> posting, CriteriaQuery<?> query, CriteriaBuilder criteriaBuilder) {
+        List<Predicate> predicates = new ArrayList<>();
+        predicates.add(criteriaBuilder.equal(posting.get("hashtagId"), hashtagId));
+
+        Predicate predicate = specification.toPredicate(root, query, criteriaBuilder);
+        if (predicate != null) {
+            predicates.add(predicate);
+        }
+        return predicates;
+    }
+
+    /**
+     * 게시글 목록에 필요한 컬럼만 SELECT 절에 추가한다.
+     */
+    private void selectSummary(CriteriaQuery<Tuple> query, Root<Post> root, CriteriaBuilder criteriaBuilder, PostFieldSet fields) {
+        Join<Post, Category> category = root.join("category", JoinType.LEFT);
+        Join<Post, Topic> topic = root.join("topic", JoinType.LEFT);
+        Join<Post, Blog> writer = root.join("writer", JoinType.INNER);
+
+        List<Selection<?>> selections = new ArrayList<>(List.of(
+                root.get("postId").alias("postId"),
+                root.get("title").alias("title"),
+                root.get("summary").alias("summary"),
+                root.get("thumbnailLink").alias("thumbnailLink"),
+                root.get("likesCount").alias("likesCount"),
+                root.get("commentsCount").alias("commentsCount"),
+                root.get("createdAt").alias("createdAt"),
+                category.get("id").alias("categoryId"),
+                category.get("name").alias("categoryName"),
+                category.get("order").alias("categoryOrder"),
+                topic.get("id").alias("topicId"),
+                topic.get("name").alias("topicName"),
+                writer.get("blogId").alias("blogId"),
+                writer.get("blogName").alias("blogName"),
+                writer.get("blogNickname").alias("blogNickname"),
+                writer.get("blogProfileImg").alias("blogProfileImg"),
+                writer.get("blogIntro").alias("blogIntro"),
+                writer.get("blogThemeImg").alias("blogThemeImg")
+        ));
+
+        // 본문은 요청한 방식에 따라 전체, 앞부분만 조회하거나 아예 조회하지 않는다.
+        switch (fields.getContentMode()) {
+            case FULL -> selections.add(root.get("content").alias("content"));
+            case EXCERPT -> selections.add(criteriaBuilder.substring(root.get("content"), 1, PostFieldSet.EXCERPT_LENGTH).alias("content"));
+            case NONE -> {
+            }
+        }
+
+        query.multiselect(selections);
+    }
+
+    private List<PostSummaryDto> fetchSummaries(CriteriaQuery<Tuple> query, long offset, int limit, PostFieldSet fields) {
+        return entityManager.createQuery(query)
+                .setFirstResult(Math.toIntExact(offset))
+                .setMaxResults(limit)
+                .getResultList()
+                .stream()
+                .map(tuple -> toSummary(tuple, fields))
+                .toList();
+    }
+
+    private PostSummaryDto toSummary(Tuple tuple, PostFieldSet fields) {
+        Long categoryId = tuple.get("categoryId", Long.class);
+        Long topicId = tuple.get("topicId", Long.class);
+
+        return new PostSummaryDto(
+                tuple.get("postId", UUID.class),
+                tuple.get("title", String.class),
+                fields.getContentMode() == PostFieldSet.ContentMode.NONE ? null : tuple.get("content", String.class),
+                tuple.get("summary", String.class),
+                tuple.get("thumbnailLink", String.class),
+                tuple.get("likesCount", Long.class),
+                categoryId == null ? null : new CategoryDto(categoryId, tuple.get("categoryName", String.class), tuple.get("categoryOrder", Integer.class)),
+                topicId == null ? null : new TopicDto(topicId, tuple.get("topicName", String.class)),
+                tuple.get("commentsCount", Long.class),
+                new BlogDto(
+                        tuple.get("blogId", UUID.class),
+                        tuple.get("blogName", String.class),
+                        tuple.get("blogNickname", String.class),
+                        tuple.get("blogProfileImg", String.class),
+                        tuple.get("blogIntro", String.class),
+                        tuple.get("blogThemeImg", String.class)
+                ),
+                tuple.get("createdAt", LocalDateTime.class),
+                null // 좋아요 여부는 조회하는 사용자에 따라 달라지므로 서비스에서 채운다.
+        );
+    }
+}
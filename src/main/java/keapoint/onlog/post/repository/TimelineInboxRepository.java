@@ -0,0 +1,42 @@
+package keapoint.onlog.post.repository;
+
+import keapoint.onlog.post.entity.TimelineInbox;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface TimelineInboxRepository extends JpaRepository<TimelineInbox, TimelineInbox.TimelineInboxId> {
+
+    /**
+     * 받은 편지함의 최신 게시글 조회
+     *
+     * @param readerBlogId 타임라인을 읽는 블로그 식별자
+     * @param pageable     조회할 최대 게시글 수
+     * @return [게시글 식별자, 작성 시간] 목록 (작성 시간, 게시글 식별자 내림차순)
+     */
+    @Query("select t.postId, t.createdAt from TimelineInbox t where t.readerBlogId = :readerBlogId " +
+            "order by t.createdAt desc, t.postId desc")
+    List<Object[]> findLatest(@Param("readerBlogId") UUID readerBlogId, Pageable pageable);
+
+    /**
+     * 받은 편지함에서 커서 이후의 게시글 조회
+     *
+     * @param readerBlogId 타임라인을 읽는 블로그 식별자
+     * @param createdAt    마지막으로 조회된 게시글의 작성 시간
+     * @param postId       마지막으로 조회된 게시글 식별자
+     * @param pageable     조회할 최대 게시글 수
+     * @return [게시글 식별자, 작성 시간] 목록 (작성 시간, 게시글 식별자 내림차순)
+     */
+    @Query("select t.postId, t.createdAt from TimelineInbox t where t.readerBlogId = :readerBlogId " +
+            "and (t.createdAt < :createdAt or (t.createdAt = :createdAt and t.postId < :postId)) " +
+            "order by t.createdAt desc, t.postId desc")
+    List<Object[]> findBefore(@Param("readerBlogId") UUID readerBlogId, @Param("createdAt") LocalDateTime createdAt,
+                              @Param("postId") UUID postId, Pageable pageable);
+}
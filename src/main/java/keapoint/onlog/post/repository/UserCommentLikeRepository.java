@@ -1,30 +1,40 @@
 package keapoint.onlog.post.repository;
 
-import keapoint.onlog.post.entity.Blog;
 import keapoint.onlog.post.entity.Comment;
 import keapoint.onlog.post.entity.UserCommentLike;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
-import java.util.Optional;
+import java.util.UUID;
 
 @Repository
 public interface UserCommentLikeRepository extends JpaRepository<UserCommentLike, Long> {
-    Optional<UserCommentLike> findByBlogAndComment(Blog blog, Comment comment);
 
     /**
-     * 블로그와 유효한(삭제되지 않은) 댓글 목록에 해당하는 좋아요 정보를 조회한다.
+     * 댓글마다 좋아요 한 블로그의 식별자만 조회한다.
      *
-     * @param blog     좋아요 정보를 조회할 블로그
-     * @param comments 좋아요 정보를 조회할 댓글 목록
-     * @return 블로그와 유효한 댓글 목록에 해당하는 좋아요 정보 리스트
+     * @param commentIds 좋아요 정보를 조회할 댓글 식별자 목록
+     * @return [댓글 식별자, 블로그 식별자] 목록
      */
-    @Query("SELECT u FROM UserCommentLike u WHERE u.blog = :blog AND u.comment IN :comments AND u.comment.status = true")
-    List<UserCommentLike> findByBlogAndValidComments(@Param("blog") Blog blog, @Param("comments") List<Comment> comments);
+    @Query("SELECT u.comment.commentId, u.blog.blogId FROM UserCommentLike u WHERE u.comment.commentId IN :commentIds")
+    List<Object[]> findLikers(@Param("commentIds") Collection<UUID> commentIds);
 
     void deleteByComment(Comment comment);
+
+    /**
+     * 댓글 좋아요 정보 삭제
+     *
+     * @param blogId    좋아요 취소를 원하는 블로그 식별자
+     * @param commentId 좋아요 취소 할 댓글 식별자
+     * @return 삭제된 행 수 (좋아요 하지 않았다면 0)
+     */
+    @Modifying
+    @Query("DELETE FROM UserCommentLike u WHERE u.blog.blogId = :blogId AND u.comment.commentId = :commentId")
+    int deleteByBlogIdAndCommentId(@Param("blogId") UUID blogId, @Param("commentId") UUID commentId);
 }
 
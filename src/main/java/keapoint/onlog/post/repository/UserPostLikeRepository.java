@@ -1,21 +1,43 @@
 package keapoint.onlog.post.repository;
 
-import keapoint.onlog.post.entity.Blog;
 import keapoint.onlog.post.entity.Post;
 import keapoint.onlog.post.entity.UserPostLike;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 @Repository
 public interface UserPostLikeRepository extends JpaRepository<UserPostLike, Long> {
 
     Optional<List<UserPostLike>> findByPost(Post post);
 
-    Optional<UserPostLike> findByBlogAndPost(Blog blog, Post post);
-
     void deleteByPost(Post post);
+
+    /**
+     * 게시글 좋아요 정보 삭제
+     *
+     * @param blogId 좋아요 취소를 원하는 블로그 식별자
+     * @param postId 좋아요 취소 할 게시글 식별자
+     * @return 삭제된 행 수 (좋아요 하지 않았다면 0)
+     */
+    @Modifying
+    @Query("DELETE FROM UserPostLike u WHERE u.blog.blogId = :blogId AND u.post.postId = :postId")
+    int deleteByBlogIdAndPostId(@Param("blogId") UUID blogId, @Param("postId") UUID postId);
+
+    /**
+     * 게시글마다 좋아요 한 블로그의 식별자만 조회한다.
+     *
+     * @param postIds 좋아요 정보를 조회할 게시글 식별자 목록
+     * @return [게시글 식별자, 블로그 식별자] 목록
+     */
+    @Query("SELECT u.post.postId, u.blog.blogId FROM UserPostLike u WHERE u.post.postId IN :postIds")
+    List<Object[]> findLikers(@Param("postIds") Collection<UUID> postIds);
 }
 
@@ -0,0 +1,88 @@
+package keapoint.onlog.post.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 검색어 및 게시글 본문 토크나이저
+ * <p>
+ * 한국어는 띄어쓰기와 조사 때문에 단어 단위로 나누면 "스프링은", "스프링을"처럼 같은 단어가 다른 토큰이 된다.
+ * 따라서 한글, 한자, 가나는 두 글자씩 겹쳐 자른 바이그램(bigram)으로, 영문과 숫자는 단어 단위로 나눈다.
+ * 예) "스프링부트 JPA" → [스프, 프링, 링부, 부트, jpa]
+ */
+public final class BigramTokenizer {
+
+    private BigramTokenizer() {
+    }
+
+    /**
+     * 문자열을 토큰 목록으로 변환
+     *
+     * @param text 문자열
+     * @return 토큰 목록 (중복 포함, 등장 순서)
+     */
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return tokens;
+        }
+
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+
+        StringBuilder run = new StringBuilder(); // 같은 종류의 문자가 이어진 구간
+        boolean runIsCjk = false;
+
+        for (int i = 0; i < normalized.length(); ) {
+            int codePoint = normalized.codePointAt(i);
+            i += Character.charCount(codePoint);
+
+            if (!Character.isLetterOrDigit(codePoint)) {
+                flush(run, runIsCjk, tokens);
+                continue;
+            }
+
+            boolean cjk = isCjk(codePoint);
+            if (run.length() > 0 && cjk != runIsCjk) {
+                flush(run, runIsCjk, tokens);
+            }
+            runIsCjk = cjk;
+            run.appendCodePoint(codePoint);
+        }
+        flush(run, runIsCjk, tokens);
+
+        return tokens;
+    }
+
+    private static void flush(StringBuilder run, boolean cjk, List<String> tokens) {
+        if (run.length() == 0) {
+            return;
+        }
+
+        String value = run.toString();
+        run.setLength(0);
+
+        if (!cjk) {
+            tokens.add(value);
+            return;
+        }
+
+        int[] codePoints = value.codePoints().toArray();
+        if (codePoints.length == 1) {
+            tokens.add(value); // 한 글자짜리 단어는 그대로 사용한다.
+            return;
+        }
+        for (int i = 0; i + 1 < codePoints.length; i++) {
+            tokens.add(new String(codePoints, i, 2));
+        }
+    }
+
+    private static boolean isCjk(int codePoint) {
+        Character.UnicodeScript script = Character.UnicodeScript.of(codePoint);
+        return script == Character.UnicodeScript.HANGUL
+                || script == Character.UnicodeScript.HAN
+                || script == Character.UnicodeScript.HIRAGANA
+                || script == Character.UnicodeScript.KATAKANA;
+    }
+}
@@ -0,0 +1,463 @@
+package keapoint.onlog.post.search;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 게시글 전문 검색 역색인
+ * <p>
+ * 제목, 요약, 본문을 {@link BigramTokenizer}로 나눈 토큰마다 (문서 번호, 등장 횟수) 목록을 문서 번호 오름차순으로 보관하고, BM25로 순위를 매긴다.
+ * 제목과 요약에 등장한 토큰은 본문보다 높은 가중치를 주어 등장 횟수를 센다.
+ * 검색어의 토큰이 모두 등장한 게시글만 결과에 포함된다.
+ * <p>
+ * 게시글이 수정되면 기존 문서 번호는 삭제 표시만 하고 새 문서 번호를 발급하므로, 목록은 항상 뒤에 덧붙이기만 한다.
+ * 삭제 표시된 문서가 일정 비율을 넘으면 살아있는 문서만 남기고 번호를 다시 매긴다.
+ */
+public class SearchIndex {
+
+    private static final double K1 = 1.2; // 등장 횟수 포화 정도
+    private static final double B = 0.75; // 문서 길이 보정 정도
+
+    private static final int TITLE_WEIGHT = 3; // 제목 토큰 가중치
+    private static final int SUMMARY_WEIGHT = 2; // 요약 토큰 가중치
+    private static final int CONTENT_WEIGHT = 1; // 본문 토큰 가중치
+
+    private static final int MIN_PURGE_SIZE = 1024; // 번호를 다시 매기기 시작할 최소 문서 번호 수
+    private static final double PURGE_RATIO = 0.3; // 번호를 다시 매길 삭제 문서 비율
+
+    // 점수 오름차순. 점수가 같으면 식별자로 순서를 고정한다.
+    private static final Comparator<Hit> LOWEST_FIRST = Comparator.comparingDouble(Hit::score)
+            .thenComparing(Hit::postId, Comparator.reverseOrder());
+
+    private final Map<UUID, Integer> docNos = new HashMap<>(); // 게시글 식별자 → 문서 번호
+    private UUID[] postIds = new UUID[MIN_PURGE_SIZE]; // 문서 번호 → 게시글 식별자
+    private int[] lengths = new int[MIN_PURGE_SIZE]; // 문서 번호 → 가중 문서 길이
+    private long[] fingerprints = new long[MIN_PURGE_SIZE]; // 문서 번호 → 문서 내용 지문
+    private final BitSet live = new BitSet(); // 삭제되지 않은 문서 번호
+    private int nextDocNo; // 다음에 발급할 문서 번호
+    private long totalLength; // 살아있는 문서 길이 합 (평균 문서 길이 계산용)
+
+    private final Map<String, Postings> postings = new HashMap<>(); // 토큰 → (문서 번호, 등장 횟수) 목록
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * 색인 문서
+     *
+     * @param postId          게시글 식별자
+     * @param termFrequencies 토큰별 가중 등장 횟수
+     * @param length          가중 문서 길이
+     */
+    public record Document(UUID postId, Map<String, Integer> termFrequencies, int length) {
+
+        public static Document of(UUID postId, String title, String summary, String content) {
+            Map<String, Integer> termFrequencies = new HashMap<>();
+            int length = count(termFrequencies, title, TITLE_WEIGHT)
+                    + count(termFrequencies, summary, SUMMARY_WEIGHT)
+                    + count(termFrequencies, content, CONTENT_WEIGHT);
+            return new Document(postId, Map.copyOf(termFrequencies), length);
+        }
+
+        /**
+         * 문서 내용 지문. 같은 내용의 문서를 다시 색인하지 않기 위해 사용한다.
+         */
+        public long fingerprint() {
+            long hash = length;
+            for (Map.Entry<String, Integer> entry : termFrequencies.entrySet()) {
+                long h = entry.getKey().hashCode() * 0x9E3779B97F4A7C15L + entry.getValue();
+                hash += (h ^ (h >>> 29)) * 0xBF58476D1CE4E5B9L; // 순서와 무관하도록 더한다.
+            }
+            return hash;
+        }
+
+        private static int count(Map<String, Integer> termFrequencies, String text, int weight) {
+            List<String> tokens = BigramTokenizer.tokenize(text);
+            tokens.forEach(token -> termFrequencies.merge(token, weight, Integer::sum));
+            return tokens.size() * weight;
+        }
+    }
+
+    /**
+     * 검색 결과 항목
+     *
+     * @param postId 게시글 식별자
+     * @param score  BM25 점수
+     */
+    public record Hit(UUID postId, double score) {
+    }
+
+    /**
+     * 검색 결과
+     *
+     * @param hits  요청한 범위의 검색 결과 (점수 내림차순)
+     * @param total 검색어와 일치하는 전체 게시글 수
+     */
+    public record Result(List<Hit> hits, int total) {
+    }
+
+    /**
+     * 한 토큰의 (문서 번호, 등장 횟수) 목록. 두 값을 번갈아 저장한다.
+     */
+    private static final class Postings {
+
+        private int[] entries = new int[4];
+        private int size; // 항목 수
+
+        private void add(int docNo, int frequency) {
+            if (size * 2 == entries.length) {
+                entries = Arrays.copyOf(entries, entries.length * 2);
+            }
+            entries[size * 2] = docNo;
+            entries[size * 2 + 1] = frequency;
+            size++;
+        }
+
+        private int docNo(int i) {
+            return entries[i * 2];
+        }
+
+        private int frequency(int i) {
+            return entries[i * 2 + 1];
+        }
+
+        /**
+         * from 이후에서 문서 번호가 docNo 이상인 첫 항목 위치 (지수 탐색)
+         */
+        private int seek(int from, int docNo) {
+            int bound = 1;
+            while (from + bound < size && docNo(from + bound) < docNo) {
+                bound *= 2;
+            }
+
+            int low = from + bound / 2;
+            int high = Math.min(from + bound, size);
+            if (bound == 1) {
+                low = from;
+            }
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (docNo(mid) < docNo) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+
+    /**
+     * 문서 추가 또는 교체
+     *
+     * @param document 색인 문서
+     * @return 색인이 바뀌었다면 true. 같은 내용의 문서가 이미 있다면 false
+     */
+    public boolean put(Document document) {
+        long fingerprint = document.fingerprint();
+
+        lock.writeLock().lock();
+        try {
+            Integer old = docNos.get(document.postId());
+            if (old != null && fingerprints[old] == fingerprint) {
+                return false;
+            }
+            if (old != null) {
+                kill(old);
+            }
+
+            int docNo = nextDocNo++;
+            ensureCapacity(nextDocNo);
+            postIds[docNo] = document.postId();
+            lengths[docNo] = document.length();
+            fingerprints[docNo] = fingerprint;
+            live.set(docNo);
+            docNos.put(document.postId(), docNo);
+            totalLength += document.length();
+
+            document.termFrequencies().forEach((term, frequency) ->
+                    postings.computeIfAbsent(term, t -> new Postings()).add(docNo, frequency));
+
+            purgeIfNeeded();
+            return true;
+
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 문서 제거
+     *
+     * @param postId 게시글 식별자
+     * @return 제거된 문서가 있다면 true
+     */
+    public boolean remove(UUID postId) {
+        lock.writeLock().lock();
+        try {
+            Integer docNo = docNos.remove(postId);
+            if (docNo == null) {
+                return false;
+            }
+            kill(docNo);
+            purgeIfNeeded();
+            return true;
+
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 모든 문서 제거
+     */
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            docNos.clear();
+            postIds = new UUID[MIN_PURGE_SIZE];
+            lengths = new int[MIN_PURGE_SIZE];
+            fingerprints = new long[MIN_PURGE_SIZE];
+            live.clear();
+            nextDocNo = 0;
+            totalLength = 0;
+            postings.clear();
+
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 검색
+     *
+     * @param query  검색어
+     * @param offset 건너뛸 결과 수
+     * @param limit  반환할 최대 결과 수
+     * @return 점수가 높은 순서의 검색 결과
+     */
+    public Result search(String query, int offset, int limit) {
+        Set<String> terms = new LinkedHashSet<>(BigramTokenizer.tokenize(query));
+        if (terms.isEmpty() || limit <= 0) {
+            return new Result(List.of(), 0);
+        }
+
+        lock.readLock().lock();
+        try {
+            // 1. 검색어 토큰의 목록을 짧은 순서로 정렬한다. 하나라도 없으면 일치하는 게시글이 없다.
+            List<Postings> lists = new ArrayList<>();
+            for (String term : terms) {
+                Postings list = postings.get(term);
+                if (list == null) {
+                    return new Result(List.of(), 0);
+                }
+                lists.add(list);
+            }
+            lists.sort(Comparator.comparingInt(list -> list.size));
+
+            // 삭제 표시된 문서도 등장 문서 수에 포함되지만, 번호를 다시 매길 때 정리되므로 오차는 크지 않다.
+            int documentCount = docNos.size();
+            double averageLength = (double) totalLength / Math.max(1, documentCount);
+            double[] idf = new double[lists.size()];
+            for (int i = 0; i < lists.size(); i++) {
+                int df = Math.min(lists.get(i).size, documentCount);
+                idf[i] = Math.log(1 + (documentCount - df + 0.5) / (df + 0.5));
+            }
+
+            // 2. 가장 짧은 목록을 기준으로 모든 토큰이 등장한 문서만 점수를 계산하고, 상위 offset + limit개만 남긴다.
+            int keep = offset + limit;
+            PriorityQueue<Hit> top = new PriorityQueue<>(LOWEST_FIRST);
+            int[] positions = new int[lists.size()];
+            int total = 0;
+
+            Postings shortest = lists.get(0);
+            candidates:
+            for (int i = 0; i < shortest.size; i++) {
+                int docNo = shortest.docNo(i);
+                if (!live.get(docNo)) {
+                    continue;
+                }
+
+                double lengthNorm = K1 * (1 - B + B * lengths[docNo] / averageLength);
+                double score = idf[0] * shortest.frequency(i) * (K1 + 1) / (shortest.frequency(i) + lengthNorm);
+
+                for (int j = 1; j < lists.size(); j++) {
+                    Postings list = lists.get(j);
+                    positions[j] = list.seek(positions[j], docNo);
+                    if (positions[j] >= list.size) {
+                        break candidates; // 더 이상 모든 토큰이 등장하는 문서가 없다.
+                    }
+                    if (list.docNo(positions[j]) != docNo) {
+                        continue candidates;
+                    }
+
+                    int frequency = list.frequency(positions[j]);
+                    score += idf[j] * frequency * (K1 + 1) / (frequency + lengthNorm);
+                }
+
+                total++;
+                top.offer(new Hit(postIds[docNo], score));
+                if (top.size() > keep) {
+                    top.poll();
+                }
+            }
+
+            List<Hit> hits = new ArrayList<>(top);
+            hits.sort(LOWEST_FIRST.reversed());
+            return new Result(offset >= hits.size() ? List.of() : List.copyOf(hits.subList(offset, hits.size())), total);
+
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 색인된 문서 수
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return docNos.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 색인을 세그먼트 형식으로 기록한다. 기록 전에 삭제 표시된 문서를 정리한다.
+     * <p>
+     * 문서 수, (게시글 식별자, 문서 길이, 지문)*, 토큰 수, (토큰, 항목 수, (문서 번호, 등장 횟수)*)*
+     */
+    public void writeTo(DataOutput out) throws IOException {
+        lock.writeLock().lock();
+        try {
+            purge();
+
+            out.writeInt(nextDocNo);
+            for (int docNo = 0; docNo < nextDocNo; docNo++) {
+                out.writeLong(postIds[docNo].getMostSignificantBits());
+                out.writeLong(postIds[docNo].getLeastSignificantBits());
+                out.writeInt(lengths[docNo]);
+                out.writeLong(fingerprints[docNo]);
+            }
+
+            out.writeInt(postings.size());
+            for (Map.Entry<String, Postings> entry : postings.entrySet()) {
+                Postings list = entry.getValue();
+                out.writeUTF(entry.getKey());
+                out.writeInt(list.size);
+                for (int i = 0; i < list.size * 2; i++) {
+                    out.writeInt(list.entries[i]);
+                }
+            }
+
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 세그먼트 형식으로 기록된 색인을 읽는다. 기존 색인은 비워진다.
+     */
+    public void readFrom(DataInput in) throws IOException {
+        lock.writeLock().lock();
+        try {
+            clear();
+
+            int count = in.readInt();
+            ensureCapacity(count);
+            for (int docNo = 0; docNo < count; docNo++) {
+                postIds[docNo] = new UUID(in.readLong(), in.readLong());
+                lengths[docNo] = in.readInt();
+                fingerprints[docNo] = in.readLong();
+                docNos.put(postIds[docNo], docNo);
+                totalLength += lengths[docNo];
+            }
+            live.set(0, count);
+            nextDocNo = count;
+
+            int termCount = in.readInt();
+            for (int t = 0; t < termCount; t++) {
+                String term = in.readUTF();
+                Postings list = new Postings();
+                list.size = in.readInt();
+                list.entries = new int[Math.max(4, list.size * 2)];
+                for (int i = 0; i < list.size * 2; i++) {
+                    list.entries[i] = in.readInt();
+                }
+                postings.put(term, list);
+            }
+
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void kill(int docNo) {
+        live.clear(docNo);
+        totalLength -= lengths[docNo];
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= postIds.length) {
+            return;
+        }
+        int newCapacity = Math.max(capacity, postIds.length * 2);
+        postIds = Arrays.copyOf(postIds, newCapacity);
+        lengths = Arrays.copyOf(lengths, newCapacity);
+        fingerprints = Arrays.copyOf(fingerprints, newCapacity);
+    }
+
+    private void purgeIfNeeded() {
+        int dead = nextDocNo - docNos.size();
+        if (nextDocNo >= MIN_PURGE_SIZE && dead > nextDocNo * PURGE_RATIO) {
+            purge();
+        }
+    }
+
+    /**
+     * 삭제 표시된 문서를 정리하고 살아있는 문서의 번호를 순서대로 다시 매긴다. 순서가 유지되므로 목록은 정렬된 상태로 남는다.
+     */
+    private void purge() {
+        if (nextDocNo == docNos.size()) {
+            return;
+        }
+
+        int[] renumbered = new int[nextDocNo];
+        int count = 0;
+        for (int docNo = live.nextSetBit(0); docNo >= 0 && docNo < nextDocNo; docNo = live.nextSetBit(docNo + 1)) {
+            renumbered[docNo] = count;
+            postIds[count] = postIds[docNo];
+            lengths[count] = lengths[docNo];
+            fingerprints[count] = fingerprints[docNo];
+            docNos.put(postIds[count], count);
+            count++;
+        }
+        Arrays.fill(postIds, count, nextDocNo, null);
+
+        Iterator<Postings> iterator = postings.values().iterator();
+        while (iterator.hasNext()) {
+            Postings list = iterator.next();
+            int size = 0;
+            for (int i = 0; i < list.size; i++) {
+                int docNo = list.docNo(i);
+                if (live.get(docNo)) {
+                    list.entries[size * 2] = renumbered[docNo];
+                    list.entries[size * 2 + 1] = list.frequency(i);
+                    size++;
+                }
+            }
+            list.size = size;
+            if (size == 0) {
+                iterator.remove();
+            }
+        }
+
+        live.clear();
+        live.set(0, count);
+        nextDocNo = count;
+    }
+}
@@ -0,0 +1,195 @@
+package keapoint.onlog.post.search;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 검색 색인 디스크 저장소
+ * <p>
+ * 색인 전체를 기록한 세그먼트 파일과, 세그먼트 이후의 변경 사항을 순서대로 덧붙이는 저널 파일로 구성된다.
+ * 서버를 다시 시작하면 세그먼트를 읽고 저널을 재생하여 DB를 다시 읽지 않고 색인을 복구한다.
+ * 저널이 길어지면 {@link #compact}로 현재 색인을 새 세그먼트로 기록하고 저널을 비운다.
+ * <p>
+ * 세그먼트: MAGIC, VERSION, 색인 기준 시각, 역색인 ({@link SearchIndex#writeTo} 참고)
+ * 저널: (PUT, 문서 | REMOVE, 게시글 식별자)*
+ * 문서: 게시글 식별자, 문서 길이, 토큰 수, (토큰, 등장 횟수)*
+ */
+public class SearchSegmentStore implements Closeable {
+
+    private static final int MAGIC = 0x4F4E5347; // "ONSG"
+    private static final int VERSION = 1;
+
+    private static final byte PUT = 1;
+    private static final byte REMOVE = 2;
+
+    private final Path segmentPath;
+    private final Path journalPath;
+
+    private DataOutputStream journal; // 열려 있는 저널
+    private int journalEntries; // 마지막 세그먼트 이후 저널에 기록된 변경 수
+
+    public SearchSegmentStore(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        this.segmentPath = directory.resolve("segment.dat");
+        this.journalPath = directory.resolve("journal.dat");
+    }
+
+    /**
+     * 세그먼트를 읽고 저널을 재생하여 색인을 복구한다.
+     *
+     * @param index 복구할 색인 (기존 내용은 비워진다)
+     * @return 세그먼트의 색인 기준 시각. 세그먼트가 없다면 null
+     */
+    public synchronized LocalDateTime load(SearchIndex index) throws IOException {
+        if (!Files.exists(segmentPath)) {
+            return null;
+        }
+
+        LocalDateTime indexedUntil;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(segmentPath)))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                throw new IOException("지원하지 않는 검색 세그먼트 형식입니다: " + segmentPath);
+            }
+            indexedUntil = LocalDateTime.parse(in.readUTF());
+            index.readFrom(in);
+        }
+
+        journalEntries = replayJournal(index);
+        return indexedUntil;
+    }
+
+    /**
+     * 문서 추가 또는 교체를 저널에 기록한다.
+     */
+    public synchronized void appendPut(SearchIndex.Document document) throws IOException {
+        DataOutputStream out = journal();
+        out.writeByte(PUT);
+        writeDocument(out, document);
+        out.flush();
+        journalEntries++;
+    }
+
+    /**
+     * 문서 제거를 저널에 기록한다.
+     */
+    public synchronized void appendRemove(UUID postId) throws IOException {
+        DataOutputStream out = journal();
+        out.writeByte(REMOVE);
+        writeUuid(out, postId);
+        out.flush();
+        journalEntries++;
+    }
+
+    /**
+     * 마지막 세그먼트 이후 저널에 기록된 변경 수
+     */
+    public synchronized int getJournalEntries() {
+        return journalEntries;
+    }
+
+    /**
+     * 현재 색인을 새 세그먼트로 기록하고 저널을 비운다.
+     * 임시 파일에 먼저 기록한 뒤 교체하여, 기록 도중 종료되어도 이전 세그먼트와 저널이 보존되도록 한다.
+     *
+     * @param index        기록할 색인
+     * @param indexedUntil 이 시각 이전에 수정된 게시글은 모두 색인에 반영되어 있다.
+     */
+    public synchronized void compact(SearchIndex index, LocalDateTime indexedUntil) throws IOException {
+        Path temp = segmentPath.resolveSibling(segmentPath.getFileName() + ".tmp");
+
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeUTF(indexedUntil.toString());
+            index.writeTo(out);
+        }
+
+        Files.move(temp, segmentPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        close();
+        Files.deleteIfExists(journalPath);
+        journalEntries = 0;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (journal != null) {
+            journal.close();
+            journal = null;
+        }
+    }
+
+    /**
+     * 저널을 재생한다. 기록 도중 종료되어 잘린 마지막 변경은 무시한다.
+     *
+     * @return 재생한 변경 수
+     */
+    private int replayJournal(SearchIndex index) throws IOException {
+        if (!Files.exists(journalPath)) {
+            return 0;
+        }
+
+        int replayed = 0;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(journalPath)))) {
+            while (true) {
+                byte type = in.readByte();
+                if (type == PUT) {
+                    index.put(readDocument(in));
+                } else if (type == REMOVE) {
+                    index.remove(readUuid(in));
+                } else {
+                    throw new IOException("손상된 검색 저널입니다: " + journalPath);
+                }
+                replayed++;
+            }
+        } catch (EOFException e) {
+            return replayed;
+        }
+    }
+
+    private DataOutputStream journal() throws IOException {
+        if (journal == null) {
+            journal = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(journalPath,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND)));
+        }
+        return journal;
+    }
+
+    private static void writeDocument(DataOutputStream out, SearchIndex.Document document) throws IOException {
+        writeUuid(out, document.postId());
+        out.writeInt(document.length());
+        out.writeInt(document.termFrequencies().size());
+        for (Map.Entry<String, Integer> entry : document.termFrequencies().entrySet()) {
+            out.writeUTF(entry.getKey());
+            out.writeInt(entry.getValue());
+        }
+    }
+
+    private static SearchIndex.Document readDocument(DataInputStream in) throws IOException {
+        UUID postId = readUuid(in);
+        int length = in.readInt();
+        int termCount = in.readInt();
+
+        Map<String, Integer> termFrequencies = new HashMap<>(termCount * 2);
+        for (int i = 0; i < termCount; i++) {
+            termFrequencies.put(in.readUTF(), in.readInt());
+        }
+        return new SearchIndex.Document(postId, Map.copyOf(termFrequencies), length);
+    }
+
+    private static void writeUuid(DataOutputStream out, UUID uuid) throws IOException {
+        out.writeLong(uuid.getMostSignificantBits());
+        out.writeLong(uuid.getLeastSignificantBits());
+    }
+
+    private static UUID readUuid(DataInputStream in) throws IOException {
+        return new UUID(in.readLong(), in.readLong());
+    }
+}
@@ -1,11 +1,10 @@
 package keapoint.onlog.post.service;
 
-import com.google.gson.JsonObject;
-import com.google.gson.JsonParser;
 import keapoint.onlog.post.base.AccountType;
 import keapoint.onlog.post.base.BaseErrorCode;
 import keapoint.onlog.post.base.BaseException;
 import keapoint.onlog.post.base.Role;
+import keapoint.onlog.post.config.security.JwtPrincipal;
 import keapoint.onlog.post.dto.auth.PostLoginRes;
 import keapoint.onlog.post.dto.auth.PostLogoutRes;
 import keapoint.onlog.post.dto.auth.SocialAccountUserInfo;
@@ -16,19 +15,15 @@ import keapoint.onlog.post.repository.MemberRepository;
 import keapoint.onlog.post.utils.JwtTokenProvider;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.HttpHeaders;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.config.annotation.authentication.builders.AuthenticationManagerBuilder;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.reactive.function.client.WebClient;
 
-import java.util.Map;
+import java.util.List;
 import java.util.Optional;
-import java.util.UUID;
 
 @Slf4j
 @Service
@@ -44,130 +39,11 @@ public class AuthService {
 
     private final PasswordEncoder passwordEncoder;
 
-    private final AuthenticationManagerBuilder authenticationManagerBuilder;
-
-    @Value("${spring.security.oauth2.client.registration.kakao.client-id}")
-    private String clientId; // Rest Api Key
-
-    /**
-     * 카카오 인가 코드로 카카오 access token 발급받기
-     *
-     * @param authCode Kakao auth code
-     * @return kakao access token
-     */
-    public String getKakaoAccessToken(String authCode) throws BaseException {
-        try {
-            // webClient 설정
-            WebClient kakaoWebClient =
-                    WebClient.builder()
-                            .baseUrl("https://kauth.kakao.com/oauth/token")
-                            .defaultHeader(HttpHeaders.CONTENT_TYPE, "application/x-www-form-urlencoded;charset=utf-8")
-                            .build();
-
-            // token api 호출
-            Map<String, Object> tokenResponse =
-                    kakaoWebClient
-                            .post()
-                            .uri(uriBuilder -> uriBuilder
-                                    .queryParam("grant_type", "authorization_code")
-                                    .queryParam("client_id", clientId)
-                                    .queryParam("code", authCode)
-                                    .build())
-                            .retrieve()
-                            .bodyToMono(Map.class)
-                            .block();
-
-            return (String) tokenResponse.get("access_token");
-
-        } catch (Exception exception) {
-            log.error(exception.getMessage());
-            throw new BaseException(BaseErrorCode.INTERNAL_SERVER_ERROR);
-        }
-    }
-
-    /**
-     * 카카오 access token으로 사용자의 정보 발급받기
-     *
-     * @param accessToken Kakao access token
-     * @return 사용자의 이름과 메일이 들어있는 객체
-     */
-    public SocialAccountUserInfo getKakaoUserInfo(String accessToken) throws BaseException {
-        try {
-            // webClient 설정
-            WebClient kakaoApiWebClient =
-                    WebClient.builder()
-                            .baseUrl("https://kapi.kakao.com/v2/user/me")
-                            .defaultHeader(HttpHeaders.CONTENT_TYPE, "application/x-www-form-urlencoded;charset=utf-8")
-                            .build();
-
-            String response =
-                    kakaoApiWebClient
-                            .post()
-                            .header("Authorization", "Bearer " + accessToken)
-                            .retrieve()
-                            .bodyToMono(String.class)
-                            .block();
-
-            log.info("User Information Request Results : " + response);
-
-            JsonObject kakaoAccount = JsonParser.parseString(response)
-                    .getAsJsonObject()
-                    .get("kakao_account")
-                    .getAsJsonObject();
-
-            // 닉네임 정보 담기
-            String username = kakaoAccount.get("profile")
-                    .getAsJsonObject()
-                    .get("nickname")
-                    .getAsString();
-
-            // 이메일 정보 담기
-            String email;
-            if (kakaoAccount.get("has_email").getAsBoolean()) {
-                email = kakaoAccount.get("email").getAsString();
-                log.info("사용자 email: " + email);
-
-            } else { // 이메일이 없는 경우 Exception. 이메일이 사용자의 식별자로 사용되고 있기 때문에 무조건 필요함
-                throw new BaseException(BaseErrorCode.EMAIL_NOT_FOUND_EXCEPTION);
-            }
-
-            // 프로필 이미지 권한이 있는 경우 해당 이미지를 사용하고
-            // 프로필 이미지 권한이 없는 경우 null로 설정한다.
-            boolean needProfileImageAgreement = kakaoAccount
-                    .get("profile_image_needs_agreement")
-                    .getAsBoolean();
-            log.info("사용자 프로필 이미지 동의 여부: " + needProfileImageAgreement);
-
-            String profileImgUrl; // 사용자 프로필 이미지 url
-            if (needProfileImageAgreement) {
-                profileImgUrl = null;
-
-            } else {
-                profileImgUrl = kakaoAccount
-                        .get("profile")
-                        .getAsJsonObject()
-                        .get("profile_image_url")
-                        .getAsString();
-                log.info("사용자 프로필 이미지 url: " + profileImgUrl);
-            }
-
-            return SocialAccountUserInfo.builder()
-                    .userName(username)
-                    .userEmail(email)
-                    .profileImgUrl(profileImgUrl)
-                    .build();
-
-        } catch (BaseException exception) {
-            throw exception;
-
-        } catch (Exception exception) {
-            log.error("Exception in get Kakao user info : " + exception.getMessage());
-            throw new BaseException(BaseErrorCode.INTERNAL_SERVER_ERROR);
-        }
-    }
+    private final TokenRevocationService tokenRevocationService;
 
     /**
      * 로그인 - 소셜 계정
+     * 소셜 계정 제공자가 확인한 사용자이므로 비밀번호 검증(AuthenticationManager) 없이 토큰을 발급한다.
      */
     @Transactional(rollbackFor = BaseException.class)
     public PostLoginRes loginWithSocialAccount(SocialAccountUserInfo data, AccountType type) throws BaseException {
@@ -203,7 +79,7 @@ public class AuthService {
 
             // --- 로그인 처리 ---
             // 토큰을 발급받고, refresh token을 DB에 저장한다.
-            TokensDto token = generateToken(member.getEmail(), member.getEmail(), member.getMemberIdx(), member.getPassword());
+            TokensDto token = issueTokens(member);
             member.updateRefreshToken(token.getRefreshToken());
 
             // 사용자 정보 로깅
@@ -219,21 +95,21 @@ public class AuthService {
 
     /**
      * 토큰 발행
+     * 사용자 정보를 다시 조회하거나 비밀번호를 비교하지 않고, 인증 객체를 만들어 토큰을 발급한다.
+     * 권한은 UserDetailService와 같이 모든 사용자에게 USER 하나만 부여한다.
      *
-     * @param principal   로그인 시도 아이디
-     * @param credentials 로그인 시도 비밀번호
-     * @param memberIdx   사용자 식별자
-     * @param password    사용자 비밀번호
+     * @param member 로그인한 사용자
      * @return 토큰이 들어있는 객체
      */
-    public TokensDto generateToken(Object principal, Object credentials, UUID memberIdx, String password) throws Exception {
-        UsernamePasswordAuthenticationToken authenticationToken = new UsernamePasswordAuthenticationToken(principal, credentials);
-        Authentication authentication = authenticationManagerBuilder.getObject().authenticate(authenticationToken);
-        return jwtTokenProvider.createTokens(authentication, memberIdx, password);
+    private TokensDto issueTokens(Member member) throws Exception {
+        Authentication authentication = UsernamePasswordAuthenticationToken.authenticated(member.getEmail(), null,
+                List.of(new SimpleGrantedAuthority("ROLE_USER")));
+        return jwtTokenProvider.createTokens(authentication, member.getMemberIdx(), member.getPassword());
     }
 
     /**
      * 사용자 로그아웃
+     * refresh token을 파기하고, 로그아웃에 사용한 access token을 만료 시각까지 폐기 목록에 기록한다.
      *
      * @param token 사용자 token
      * @return 사용자 식별자
@@ -241,11 +117,12 @@ public class AuthService {
     public PostLogoutRes logout(String token) throws BaseException {
         try {
             // 사용자의 식별자 추출
-            String memberIdx = jwtTokenProvider.extractIdx(token);
-            log.info("로그아웃 하는 사용자의 식별자: " + memberIdx);
+            JwtPrincipal principal = jwtTokenProvider.verify(token)
+                    .orElseThrow(() -> new BaseException(BaseErrorCode.INVALID_TOKEN_EXCEPTION));
+            log.info("로그아웃 하는 사용자의 식별자: " + principal.getMemberIdx());
 
             // 사용자 정보 가져오기
-            Member member = memberRepository.findById(UUID.fromString(memberIdx)).
+            Member member = memberRepository.findById(principal.getMemberIdx()).
                     orElseThrow(() -> new BaseException(BaseErrorCode.USER_NOT_FOUND_EXCEPTION));
             log.info("로그아웃 하는 사용자 정보: " + member.toString());
 
@@ -253,6 +130,11 @@ public class AuthService {
             member.invalidateRefreshToken();
             log.info("사용자 (" + member.getEmail() + ")의 refresh token 파기 완료");
 
+            // access token 폐기
+            if (principal.getTokenId() != null) {
+                tokenRevocationService.revoke(principal.getTokenId(), principal.getExpiresAt());
+            }
+
             return new PostLogoutRes(true);
 
         } catch (Exception e) {
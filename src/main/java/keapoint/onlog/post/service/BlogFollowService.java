@@ -2,19 +2,25 @@ package keapoint.onlog.post.service;
 
 import keapoint.onlog.post.base.BaseErrorCode;
 import keapoint.onlog.post.base.BaseException;
+import keapoint.onlog.post.dto.CursorSliceDto;
+import keapoint.onlog.post.dto.blog.BlogDto;
+import keapoint.onlog.post.dto.blog.follow.BlogFollowCountDto;
 import keapoint.onlog.post.dto.blog.follow.BlogFollowDto;
 import keapoint.onlog.post.entity.Blog;
+import keapoint.onlog.post.entity.BlogStats;
 import keapoint.onlog.post.entity.Follow;
 import keapoint.onlog.post.repository.BlogRepository;
 import keapoint.onlog.post.repository.FollowRepository;
+import keapoint.onlog.post.utils.UuidBytes;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.UUID;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -22,8 +28,15 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class BlogFollowService {
 
+    private static final int MAX_PAGE_SIZE = 100; // 한 번에 조회할 수 있는 최대 블로그 수
+    private static final int MAX_STATUS_TARGETS = 100; // 한 번에 팔로우 여부를 확인할 수 있는 최대 블로그 수
+
     private final BlogRepository blogRepository;
     private final FollowRepository followRepository;
+    private final BlogStatsService blogStatsService;
+    private final FollowGraph followGraph;
+    private final TimelineService timelineService;
+    private final JdbcTemplate jdbcTemplate;
 
     /**
      * 내가 팔로우 하고 있는 블로그 조회
@@ -31,18 +44,120 @@ public class BlogFollowService {
      * @param blogId 내 블로그 식별자
      * @return 내가 팔로우 하고 있는 블로그 정보
      */
+    @Transactional(readOnly = true)
     public List<BlogFollowDto> getFollowers(UUID blogId) throws BaseException {
         try {
-            // 내 블로그 조회
-            Blog me = blogRepository.findById(blogId)
-                    .orElseThrow(() -> new BaseException(BaseErrorCode.BLOG_NOT_FOUND_EXCEPTION));
-            log.info("팔로우 정보 조회하는 블로그: " + me.toString());
+            // 내 블로그가 있는지 확인
+            if (!blogRepository.existsById(blogId))
+                throw new BaseException(BaseErrorCode.BLOG_NOT_FOUND_EXCEPTION);
 
             // 결과 return
-            return followRepository.findByMe(me).orElse(new ArrayList<>()).stream()
-                    .map(BlogFollowDto::new)
+            return followGraph.page(FollowGraph.Direction.FOLLOWING, blogId, null, Integer.MAX_VALUE).stream()
+                    .map(targetBlogId -> new BlogFollowDto(blogId, targetBlogId, true))
+                    .toList();
+
+        } catch (BaseException e) {
+            log.error(e.getErrorCode().getMessage());
+            throw e;
+
+        } catch (Exception e) {
+            log.error(e.getMessage());
+            throw new BaseException(BaseErrorCode.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    /**
+     * 팔로우 하는 블로그 또는 팔로워 목록 조회 (커서 기반)
+     * 블로그 식별자 순서로 조회하며, 다음 페이지 커서는 마지막으로 조회한 블로그 식별자이다.
+     *
+     * @param blogId    블로그 식별자
+     * @param direction 팔로우 방향
+     * @param cursor    이전 페이지의 다음 페이지 커서 (첫 페이지라면 null)
+     * @param size      조회할 블로그 수
+     * @return 블로그 정보와 다음 페이지 커서
+     */
+    @Transactional(readOnly = true)
+    public CursorSliceDto<BlogDto> getFollowList(UUID blogId, FollowGraph.Direction direction, String cursor, int size) throws BaseException {
+        try {
+            if (!blogRepository.existsById(blogId))
+                throw new BaseException(BaseErrorCode.BLOG_NOT_FOUND_EXCEPTION);
+
+            int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+            UUID after = decodeCursor(cursor);
+
+            // 다음 페이지가 있는지 확인하기 위해 요청한 크기보다 하나 더 조회한다.
+            List<UUID> blogIds = followGraph.page(direction, blogId, after, pageSize + 1);
+
+            boolean hasNext = blogIds.size() > pageSize;
+            List<UUID> pageIds = hasNext ? blogIds.subList(0, pageSize) : blogIds;
+            String nextCursor = hasNext ? pageIds.get(pageIds.size() - 1).toString() : null;
+
+            // 블로그 정보를 한 번에 조회한 뒤 그래프의 순서대로 정렬한다.
+            Map<UUID, Blog> blogs = blogRepository.findAllById(pageIds).stream()
+                    .collect(Collectors.toMap(Blog::getBlogId, Function.identity()));
+            List<BlogDto> content = pageIds.stream()
+                    .map(blogs::get)
+                    .filter(Objects::nonNull)
+                    .map(BlogDto::new)
                     .toList();
 
+            return new CursorSliceDto<>(content, hasNext, nextCursor);
+
+        } catch (BaseException e) {
+            log.error(e.getErrorCode().getMessage());
+            throw e;
+
+        } catch (Exception e) {
+            log.error(e.getMessage());
+            throw new BaseException(BaseErrorCode.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    /**
+     * 팔로워 수, 팔로우 하는 블로그 수 조회
+     *
+     * @param blogId 블로그 식별자
+     * @return 팔로워 수와 팔로우 하는 블로그 수
+     */
+    @Transactional(readOnly = true)
+    public BlogFollowCountDto getFollowCount(UUID blogId) throws BaseException {
+        try {
+            if (!blogRepository.existsById(blogId))
+                throw new BaseException(BaseErrorCode.BLOG_NOT_FOUND_EXCEPTION);
+
+            return new BlogFollowCountDto(blogId,
+                    followGraph.count(FollowGraph.Direction.FOLLOWER, blogId),
+                    followGraph.count(FollowGraph.Direction.FOLLOWING, blogId));
+
+        } catch (BaseException e) {
+            log.error(e.getErrorCode().getMessage());
+            throw e;
+
+        } catch (Exception e) {
+            log.error(e.getMessage());
+            throw new BaseException(BaseErrorCode.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    /**
+     * 여러 블로그에 대한 팔로우 여부 조회
+     *
+     * @param blogId        내 블로그 식별자
+     * @param targetBlogIds 팔로우 여부를 확인할 블로그 식별자 목록
+     * @return 블로그 식별자 → 팔로우 여부
+     */
+    @Transactional(readOnly = true)
+    public Map<UUID, Boolean> getFollowingStatus(UUID blogId, List<UUID> targetBlogIds) throws BaseException {
+        try {
+            if (targetBlogIds.size() > MAX_STATUS_TARGETS)
+                throw new BaseException(BaseErrorCode.TOO_MANY_FOLLOW_TARGETS_EXCEPTION);
+
+            Set<UUID> following = followGraph.findFollowing(blogId, targetBlogIds);
+
+            Map<UUID, Boolean> result = new LinkedHashMap<>();
+            targetBlogIds.forEach(targetBlogId -> result.put(targetBlogId, following.contains(targetBlogId)));
+            return result;
+
         } catch (BaseException e) {
             log.error(e.getErrorCode().getMessage());
             throw e;
@@ -73,23 +188,29 @@ public class BlogFollowService {
                     .orElseThrow(() -> new BaseException(BaseErrorCode.BLOG_NOT_FOUND_EXCEPTION));
             log.info("팔로우할 블로그: " + target.toString());
 
-            // 팔로우 정보 조회
-            Follow follow = followRepository.findByMeAndTarget(me, target)
-                    .orElseGet(() -> {
-                        Follow newFollow = Follow.builder()
-                                .me(me)
-                                .target(target)
-                                .following(false) // 기존에 팔로우 한 기록이 없으면 팔로우X 상태
-                                .build();
-
-                        return followRepository.save(newFollow); // 새로운 팔로우 정보 생성 및 저장
-                    });
+            // 팔로우 정보가 없으면 팔로우X 상태로 만들고, 있으면 그 행을 배타 잠금한다. (동시에 만들어도 유일 키로 한 행만 남는다.)
+            // 없는 행을 먼저 잠그고 조회하면 간격 잠금끼리 INSERT를 막아 교착 상태가 되므로, 잠금 조회보다 먼저 실행한다.
+            // INSERT IGNORE는 이미 있는 행에 공유 잠금을 잡아 잠금 조회에서 배타 잠금으로 올리다 교착될 수 있어, 배타 잠금을 잡는 형태로 실행한다.
+            jdbcTemplate.update("INSERT INTO follow (blog_id, follow_id, is_following) VALUES (?, ?, false) " +
+                            "ON DUPLICATE KEY UPDATE follow_id = follow_id",
+                    UuidBytes.toBytes(blogId), UuidBytes.toBytes(targetBlogId));
+
+            // 팔로우 정보를 잠그고 조회한다. 동시에 같은 요청이 오면 뒤의 요청은 바뀐 상태를 보고 실패한다.
+            Follow follow = followRepository.findByMeAndTargetForUpdate(me, target)
+                    .orElseThrow(() -> new BaseException(BaseErrorCode.INTERNAL_SERVER_ERROR));
             log.info("팔로우 정보: " + follow);
 
-            // 팔로우 정보 업데이트
+            // 팔로우 정보 업데이트 (이미 같은 상태라면 예외가 발생하여 팔로우 수는 바뀌지 않는다.)
             follow.updateFollow(targetValue);
+            followGraph.update(blogId, targetBlogId, follow.isFollowing());
+            timelineService.onFollowChanged(blogId, targetBlogId, follow.isFollowing());
             log.info("수정된 팔로우 정보: " + follow);
 
+            // 두 블로그의 팔로잉, 팔로워 수를 갱신한다.
+            long delta = follow.isFollowing() ? 1 : -1;
+            blogStatsService.increment(blogId, BlogStats.Counter.FOLLOWING, delta);
+            blogStatsService.increment(targetBlogId, BlogStats.Counter.FOLLOWER, delta);
+
             // 결과 return
             return new BlogFollowDto(follow);
 
@@ -102,4 +223,17 @@ public class BlogFollowService {
             throw new BaseException(BaseErrorCode.INTERNAL_SERVER_ERROR);
         }
     }
+
+    private UUID decodeCursor(String cursor) throws BaseException {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        try {
+            return UUID.fromString(cursor);
+
+        } catch (IllegalArgumentException e) {
+            throw new BaseException(BaseErrorCode.INVALID_CURSOR_EXCEPTION);
+        }
+    }
 }
@@ -7,13 +7,15 @@ import keapoint.onlog.post.dto.blog.BlogProfileDto;
 import keapoint.onlog.post.dto.blog.PostCreateBlogReqDto;
 import keapoint.onlog.post.dto.blog.PutUpdateBlogReqDto;
 import keapoint.onlog.post.entity.Blog;
+import keapoint.onlog.post.entity.BlogStats;
 import keapoint.onlog.post.repository.BlogRepository;
-import keapoint.onlog.post.repository.FollowRepository;
+import keapoint.onlog.post.repository.BlogStatsRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.UUID;
 
 @Slf4j
@@ -22,8 +24,11 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class BlogService {
 
-    private final FollowRepository followRepository;
     private final BlogRepository blogRepository;
+    private final BlogStatsRepository blogStatsRepository;
+    private final BlogStatsService blogStatsService;
+    private final FollowGraph followGraph;
+    private final BlogVisitService blogVisitService;
 
     /**
      * 블로그 생성
@@ -46,6 +51,7 @@ public class BlogService {
 
             // 예외가 없는 경우 블로그를 생성한다.
             Blog blog = blogRepository.save(data.toEntity(data.getBlogId()));
+            blogStatsService.create(blog.getBlogId());
             log.info("생성된 블로그 정보: " + blog);
 
             // 생성 결과를 반환한다.
@@ -109,6 +115,8 @@ public class BlogService {
 
             // 블로그 탈퇴를 진행한다.
             blogRepository.delete(blog);
+            blogStatsService.delete(blogId);
+            followGraph.invalidate(blogId);
             log.info("블로그가 탈퇴되었습니다.");
 
         } catch (BaseException e) {
@@ -122,6 +130,20 @@ public class BlogService {
 
     }
 
+    /**
+     * 블로그 프로필 조회 (방문 기록)
+     *
+     * @param blogId    프로필 조회를 하고자 하는 블로그 식별자
+     * @param visitorId 조회하는 블로그 식별자 (로그인하지 않았다면 null)
+     * @return 블로그 프로필 정보
+     */
+    @Transactional(readOnly = true)
+    public BlogProfileDto getProfile(UUID blogId, UUID visitorId) throws BaseException {
+        BlogProfileDto profile = getProfile(blogId);
+        blogVisitService.recordView(blogId, visitorId);
+        return profile;
+    }
+
     /**
      * 블로그 프로필 조회
      *
@@ -131,16 +153,20 @@ public class BlogService {
     @Transactional(readOnly = true)
     public BlogProfileDto getProfile(UUID blogId) throws BaseException {
         try {
-            // 블로그 조회
-            Blog blog = blogRepository.findById(blogId)
-                    .orElseThrow(() -> new BaseException(BaseErrorCode.BLOG_NOT_FOUND_EXCEPTION));
+            // 블로그와 블로그 통계를 함께 조회
+            List<Object[]> rows = blogStatsRepository.findProfile(blogId);
+            if (rows.isEmpty())
+                throw new BaseException(BaseErrorCode.BLOG_NOT_FOUND_EXCEPTION);
+
+            Blog blog = (Blog) rows.get(0)[0];
             log.info("프로필 조회할 블로그 정보: " + blog.toString());
 
-            // 구독자 수 조회
-            int subscriberCount = followRepository.countByMeAndFollowingIsTrue(blog);
-            log.info("구독자 수: " + subscriberCount);
+            // 통계가 아직 없는 블로그라면 원본 테이블에서 계산한다.
+            BlogStats stats = (BlogStats) rows.get(0)[1];
+            if (stats == null)
+                stats = blogStatsService.rebuild(blogId);
 
-            return new BlogProfileDto(blog, subscriberCount);
+            return new BlogProfileDto(blog, stats);
 
         } catch (BaseException e) {
             log.error(e.getErrorCode().getMessage());
@@ -0,0 +1,185 @@
+package keapoint.onlog.post.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import keapoint.onlog.post.entity.BlogStats;
+import keapoint.onlog.post.repository.BlogStatsRepository;
+import keapoint.onlog.post.utils.UuidBytes;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 블로그 통계 서비스
+ * <p>
+ * 원본을 바꾸는 서비스가 같은 트랜잭션에서 {@link #increment}를 호출하여 blog_stats 행을 증감한다.
+ * 게시글 좋아요는 좋아요마다 작성자 행을 잠그지 않도록, 분산 카운터를 게시글 좋아요 개수에 합칠 때 함께 더한다.
+ * <p>
+ * 증감이 빠지거나 겹쳐 어긋난 값은 스케줄러가 블로그 식별자 순서로 일정 개수씩 원본 테이블에서 다시 계산하여 덮어쓴다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BlogStatsService {
+
+    private static final UUID MIN_BLOG_ID = new UUID(0L, 0L); // 재계산을 시작할 블로그 식별자
+
+    // 블로그 통계를 원본 테이블에서 다시 계산하여 덮어쓴다. IN 절의 자리 표시자는 호출할 때 채운다.
+    private static final String RECOMPUTE_SQL = "INSERT INTO blog_stats " +
+            "(blog_id, post_count, public_post_count, like_count, comment_count, follower_count, following_count) " +
+            "SELECT b.blog_id, " +
+            "(SELECT COUNT(*) FROM post p WHERE p.blog_id = b.blog_id AND p.status = true), " +
+            "(SELECT COUNT(*) FROM post p WHERE p.blog_id = b.blog_id AND p.status = true AND p.post_public = true), " +
+            "(SELECT COALESCE(SUM(p.post_likes_count), 0) FROM post p WHERE p.blog_id = b.blog_id AND p.status = true), " +
+            "(SELECT COUNT(*) FROM comment c JOIN post p ON p.post_id = c.post_id " +
+            "WHERE p.blog_id = b.blog_id AND p.status = true AND c.status = true), " +
+            "(SELECT COUNT(*) FROM follow f WHERE f.follow_id = b.blog_id AND f.is_following = true), " +
+            "(SELECT COUNT(*) FROM follow f WHERE f.blog_id = b.blog_id AND f.is_following = true) " +
+            "FROM blog b WHERE b.blog_id IN (%s) " +
+            "ON DUPLICATE KEY UPDATE post_count = VALUES(post_count), public_post_count = VALUES(public_post_count), " +
+            "like_count = VALUES(like_count), comment_count = VALUES(comment_count), " +
+            "follower_count = VALUES(follower_count), following_count = VALUES(following_count)";
+
+    private final BlogStatsRepository blogStatsRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${post.blog-stats.reconcile-chunk-size:500}")
+    private int reconcileChunkSize; // 한 트랜잭션에서 다시 계산할 최대 블로그 수
+
+    private TransactionTemplate transactionTemplate;
+    private Timer reconcileTimer;
+
+    @PostConstruct
+    public void init() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        reconcileTimer = Timer.builder("post.blog.stats.reconcile")
+                .description("블로그 통계를 원본 테이블에서 다시 계산하는 데 걸린 시간")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 블로그 생성 시 비어있는 통계 행을 만든다.
+     *
+     * @param blogId 블로그 식별자
+     */
+    public void create(UUID blogId) {
+        blogStatsRepository.save(new BlogStats(blogId));
+    }
+
+    /**
+     * 블로그 탈퇴 시 통계 행을 삭제한다.
+     *
+     * @param blogId 블로그 식별자
+     */
+    public void delete(UUID blogId) {
+        blogStatsRepository.deleteById(blogId);
+    }
+
+    /**
+     * 블로그 통계 증감
+     * 호출한 트랜잭션에 포함되므로, 원본 변경이 롤백되면 증감도 함께 롤백된다.
+     * 통계 행이 아직 없다면 아무것도 하지 않으며, 처음 조회할 때 원본 테이블에서 계산된다.
+     *
+     * @param blogId  블로그 식별자
+     * @param counter 증감할 개수
+     * @param delta   증감량
+     */
+    public void increment(UUID blogId, BlogStats.Counter counter, long delta) {
+        if (delta == 0) {
+            return;
+        }
+
+        jdbcTemplate.update("UPDATE blog_stats SET " + counter.getColumn() + " = " + counter.getColumn() + " + ? WHERE blog_id = ?",
+                delta, UuidBytes.toBytes(blogId));
+    }
+
+    /**
+     * 게시글 좋아요 증감량을 게시글 작성자의 좋아요 수에 더한다. (분산 카운터를 합칠 때 호출)
+     *
+     * @param postId 게시글 식별자
+     * @param delta  증감량
+     */
+    public void addPostLikes(UUID postId, long delta) {
+        if (delta == 0) {
+            return;
+        }
+
+        jdbcTemplate.update("UPDATE blog_stats s JOIN post p ON p.blog_id = s.blog_id " +
+                        "SET s.like_count = s.like_count + ? WHERE p.post_id = ? AND p.status = true",
+                delta, UuidBytes.toBytes(postId));
+    }
+
+    /**
+     * 블로그 통계를 원본 테이블에서 다시 계산한다.
+     * 조회하는 트랜잭션과 별도의 트랜잭션에서 계산하여 저장하므로, 읽기 전용 트랜잭션에서도 호출할 수 있다.
+     *
+     * @param blogId 블로그 식별자
+     * @return 다시 계산된 블로그 통계
+     */
+    public BlogStats rebuild(UUID blogId) {
+        return transactionTemplate.execute(status -> {
+            recompute(List.of(blogId));
+            return blogStatsRepository.findById(blogId).orElseGet(() -> new BlogStats(blogId));
+        });
+    }
+
+    /**
+     * 모든 블로그의 통계를 식별자 순서로 일정 개수씩 다시 계산한다.
+     * 블로그 묶음마다 별도의 트랜잭션에서 처리하므로, 잠금은 짧게 유지된다.
+     */
+    @Scheduled(initialDelayString = "${post.blog-stats.reconcile-interval-ms:3600000}",
+            fixedDelayString = "${post.blog-stats.reconcile-interval-ms:3600000}")
+    public synchronized void reconcile() {
+        try {
+            reconcileTimer.record(() -> {
+                UUID after = MIN_BLOG_ID;
+                int reconciled = 0;
+
+                while (true) {
+                    List<UUID> blogIds = blogStatsRepository.findBlogIdsAfter(after, PageRequest.of(0, reconcileChunkSize));
+                    if (blogIds.isEmpty()) {
+                        break;
+                    }
+
+                    transactionTemplate.executeWithoutResult(status -> recompute(blogIds));
+
+                    reconciled += blogIds.size();
+                    after = blogIds.get(blogIds.size() - 1);
+                    if (blogIds.size() < reconcileChunkSize) {
+                        break;
+                    }
+                }
+
+                log.info("블로그 {}개의 통계를 다시 계산하였습니다.", reconciled);
+            });
+
+        } catch (Exception e) {
+            log.error("블로그 통계를 다시 계산하는 데 실패하였습니다. 다음 주기에 다시 시도합니다.", e);
+        }
+    }
+
+    private void recompute(List<UUID> blogIds) {
+        String placeholders = String.join(", ", Collections.nCopies(blogIds.size(), "?"));
+        Object[] args = blogIds.stream()
+                .map(UuidBytes::toBytes)
+                .toArray();
+
+        jdbcTemplate.update(RECOMPUTE_SQL.formatted(placeholders), args);
+    }
+}
@@ -0,0 +1,294 @@
+package keapoint.onlog.post.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import keapoint.onlog.post.base.BaseErrorCode;
+import keapoint.onlog.post.base.BaseException;
+import keapoint.onlog.post.dto.blog.BlogDailyVisitDto;
+import keapoint.onlog.post.dto.blog.BlogVisitStatsDto;
+import keapoint.onlog.post.entity.BlogHits;
+import keapoint.onlog.post.repository.BlogHitsRepository;
+import keapoint.onlog.post.utils.HyperLogLog;
+import keapoint.onlog.post.utils.UuidBytes;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 블로그 방문 통계 수집 서비스
+ * <p>
+ * 블로그, 게시글 조회마다 행을 쓰지 않고 서버 메모리에서 (블로그, 날짜)별로 조회 수와 고유 방문자 스케치(HyperLogLog)를 모은 뒤,
+ * 스케줄러가 주기적으로 blog_hits 행에 합쳐서 기록한다. 고유 방문자는 저장된 스케치와 합쳐서 다시 추정하므로,
+ * 같은 방문자가 여러 주기나 여러 서버에 걸쳐 방문해도 한 번만 센다.
+ * <p>
+ * 통계 조회는 기록된 일별 행만 읽는다. 아직 기록되지 않은 방문은 최대 기록 주기만큼 늦게 반영된다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BlogVisitService {
+
+    private static final int FLUSH_CHUNK_SIZE = 200; // 한 트랜잭션에서 기록할 최대 (블로그, 날짜) 수
+    private static final int MAX_RANGE_DAYS = 366; // 한 번에 조회할 수 있는 최대 기간
+
+    // blog_hits의 (blog_id, date) 순서. BINARY(16)은 부호 없는 바이트 순서로 비교되므로 UUID.compareTo(부호 있는 비교)를 쓰지 않는다.
+    private static final Comparator<Key> KEY_ORDER = Comparator
+            .comparing(Key::blogId, (left, right) -> {
+                int byHigh = Long.compareUnsigned(left.getMostSignificantBits(), right.getMostSignificantBits());
+                return byHigh != 0 ? byHigh : Long.compareUnsigned(left.getLeastSignificantBits(), right.getLeastSignificantBits());
+            })
+            .thenComparing(Key::date);
+
+    private final BlogHitsRepository blogHitsRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<Key, Aggregate> pending = new ConcurrentHashMap<>(); // 기록 대기 중인 (블로그, 날짜)별 방문
+
+    private TransactionTemplate transactionTemplate;
+    private Timer flushTimer;
+
+    /**
+     * 방문한 블로그와 날짜
+     */
+    private record Key(UUID blogId, LocalDate date) {
+    }
+
+    /**
+     * (블로그, 날짜)별로 모은 조회 수와 고유 방문자 스케치
+     * 기록을 위해 꺼낸 뒤에는 닫아서 더 이상 방문을 받지 않는다.
+     */
+    private static final class Aggregate {
+
+        private long views; // 조회 수
+        private final HyperLogLog visitors = new HyperLogLog(); // 고유 방문자 스케치
+        private boolean closed; // 기록을 위해 꺼냈는지 여부
+
+        synchronized boolean record(UUID visitorId) {
+            if (closed) {
+                return false;
+            }
+
+            views++;
+            if (visitorId != null) {
+                visitors.add(visitorId);
+            }
+            return true;
+        }
+
+        synchronized boolean merge(Aggregate other) {
+            if (closed) {
+                return false;
+            }
+
+            views += other.views;
+            visitors.merge(other.visitors);
+            return true;
+        }
+
+        synchronized void close() {
+            closed = true;
+        }
+    }
+
+    @PostConstruct
+    public void init() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        Gauge.builder("post.blog.hits.backlog", pending, Map::size)
+                .description("방문 통계 기록을 기다리는 (블로그, 날짜) 수")
+                .register(meterRegistry);
+
+        flushTimer = Timer.builder("post.blog.hits.flush")
+                .description("방문 통계 일괄 기록 소요 시간")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 블로그, 게시글 조회 기록
+     * 블로그 주인이 자신의 블로그를 조회한 경우는 세지 않는다.
+     *
+     * @param blogId    조회된 블로그 식별자 (게시글이라면 작성자 블로그 식별자)
+     * @param visitorId 조회한 블로그 식별자 (알 수 없다면 null. 조회 수만 센다.)
+     */
+    public void recordView(UUID blogId, UUID visitorId) {
+        if (blogId.equals(visitorId)) {
+            return;
+        }
+
+        Key key = new Key(blogId, LocalDate.now());
+        while (true) {
+            Aggregate aggregate = pending.computeIfAbsent(key, k -> new Aggregate());
+            if (aggregate.record(visitorId)) {
+                return;
+            }
+            pending.remove(key, aggregate); // 기록을 위해 꺼낸 집계라면 새 집계에 다시 기록한다.
+        }
+    }
+
+    /**
+     * 모은 방문 통계를 blog_hits에 합쳐서 기록한다.
+     * 기록에 실패한 통계는 다시 모아서 다음 주기에 기록한다.
+     */
+    @Scheduled(fixedDelayString = "${post.blog-hits.flush-interval-ms:60000}")
+    public synchronized void flush() {
+        Map<Key, Aggregate> snapshot = drain();
+        if (snapshot.isEmpty()) {
+            return;
+        }
+
+        // 여러 서버가 같은 행을 잠글 때 교착 상태가 생기지 않도록 항상 같은 순서로 기록한다.
+        List<Key> keys = new ArrayList<>(snapshot.keySet());
+        keys.sort(KEY_ORDER);
+
+        for (int from = 0; from < keys.size(); from += FLUSH_CHUNK_SIZE) {
+            List<Key> chunk = keys.subList(from, Math.min(from + FLUSH_CHUNK_SIZE, keys.size()));
+
+            try {
+                flushTimer.record(() -> transactionTemplate.executeWithoutResult(status -> write(chunk, snapshot)));
+
+            } catch (Exception e) {
+                log.error("방문 통계 기록에 실패하였습니다. 다음 주기에 다시 시도합니다.", e);
+                chunk.forEach(key -> addBack(key, snapshot.get(key)));
+            }
+        }
+
+        log.info("(블로그, 날짜) {}개의 방문 통계를 기록하였습니다.", snapshot.size());
+    }
+
+    @PreDestroy
+    public void destroy() {
+        flush();
+    }
+
+    /**
+     * 블로그 방문 통계 조회 (기간)
+     *
+     * @param blogId 블로그 식별자
+     * @param from   시작 날짜 (포함)
+     * @param to     끝 날짜 (포함)
+     * @return 기간 전체와 날짜별 조회 수, 추정 고유 방문자 수
+     */
+    @Transactional(readOnly = true)
+    public BlogVisitStatsDto getVisitStats(UUID blogId, LocalDate from, LocalDate to) throws BaseException {
+        try {
+            if (from.isAfter(to) || ChronoUnit.DAYS.between(from, to) >= MAX_RANGE_DAYS)
+                throw new BaseException(BaseErrorCode.INVALID_DATE_RANGE_EXCEPTION);
+
+            List<BlogHits> rows = blogHitsRepository.findByBlogIdAndBlogVisitDateBetweenOrderByBlogVisitDate(blogId, from, to);
+            Map<LocalDate, BlogHits> byDate = rows.stream()
+                    .collect(Collectors.toMap(BlogHits::getBlogVisitDate, Function.identity()));
+
+            // 기간 전체의 고유 방문자는 날짜별 스케치를 합쳐서 추정한다.
+            HyperLogLog visitors = new HyperLogLog();
+            long views = 0;
+            for (BlogHits row : rows) {
+                visitors.merge(HyperLogLog.fromBytes(row.getVisitorSketch()));
+                views += row.getBlogViewCount();
+            }
+
+            List<BlogDailyVisitDto> daily = from.datesUntil(to.plusDays(1))
+                    .map(date -> byDate.containsKey(date)
+                            ? new BlogDailyVisitDto(byDate.get(date))
+                            : new BlogDailyVisitDto(date, 0, 0))
+                    .toList();
+
+            return new BlogVisitStatsDto(from, to, views, visitors.cardinality(), daily);
+
+        } catch (BaseException e) {
+            log.error(e.getErrorCode().getMessage());
+            throw e;
+
+        } catch (Exception e) {
+            log.error(e.getMessage());
+            throw new BaseException(BaseErrorCode.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    /**
+     * 모은 방문 통계를 꺼낸다. 꺼낸 집계는 닫히므로 이후의 방문은 새 집계에 모인다.
+     */
+    private Map<Key, Aggregate> drain() {
+        Map<Key, Aggregate> snapshot = new HashMap<>();
+
+        for (Key key : pending.keySet()) {
+            Aggregate aggregate = pending.remove(key);
+            if (aggregate != null) {
+                aggregate.close();
+                snapshot.put(key, aggregate);
+            }
+        }
+
+        return snapshot;
+    }
+
+    /**
+     * (블로그, 날짜)마다 행을 만들어 두고 잠근 뒤, 저장된 스케치와 합쳐서 조회 수와 고유 방문자 수를 갱신한다.
+     */
+    private void write(List<Key> keys, Map<Key, Aggregate> snapshot) {
+        jdbcTemplate.batchUpdate("INSERT IGNORE INTO blog_hits (blog_hit_id, date, blog_id, blog_visitor_count, blog_view_count) " +
+                        "VALUES (?, ?, ?, 0, 0)",
+                keys.stream()
+                        .map(key -> new Object[]{UuidBytes.toBytes(UUID.randomUUID()), key.date(), UuidBytes.toBytes(key.blogId())})
+                        .toList());
+
+        String placeholders = String.join(", ", Collections.nCopies(keys.size(), "(?, ?)"));
+        List<Object> args = new ArrayList<>();
+        keys.forEach(key -> {
+            args.add(UuidBytes.toBytes(key.blogId()));
+            args.add(key.date());
+        });
+
+        Map<Key, HyperLogLog> stored = new HashMap<>();
+        jdbcTemplate.query(("SELECT blog_id, date, visitor_sketch FROM blog_hits WHERE (blog_id, date) IN (%s) " +
+                        "ORDER BY blog_id, date FOR UPDATE").formatted(placeholders),
+                rs -> {
+                    Key key = new Key(UuidBytes.toUuid(rs.getBytes("blog_id")), rs.getObject("date", LocalDate.class));
+                    stored.put(key, HyperLogLog.fromBytes(rs.getBytes("visitor_sketch")));
+                },
+                args.toArray());
+
+        List<Object[]> updates = new ArrayList<>();
+        for (Key key : keys) {
+            Aggregate aggregate = snapshot.get(key);
+            HyperLogLog visitors = stored.getOrDefault(key, new HyperLogLog());
+            visitors.merge(aggregate.visitors);
+
+            updates.add(new Object[]{aggregate.views, visitors.cardinality(), visitors.toBytes(), UuidBytes.toBytes(key.blogId()), key.date()});
+        }
+
+        jdbcTemplate.batchUpdate("UPDATE blog_hits SET blog_view_count = blog_view_count + ?, blog_visitor_count = ?, visitor_sketch = ? " +
+                "WHERE blog_id = ? AND date = ?", updates);
+    }
+
+    /**
+     * 기록에 실패한 집계를 다시 모은다.
+     */
+    private void addBack(Key key, Aggregate failed) {
+        while (true) {
+            Aggregate aggregate = pending.computeIfAbsent(key, k -> new Aggregate());
+            if (aggregate.merge(failed)) {
+                return;
+            }
+            pending.remove(key, aggregate);
+        }
+    }
+}
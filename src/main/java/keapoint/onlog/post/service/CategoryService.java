@@ -9,10 +9,12 @@ import keapoint.onlog.post.dto.category.PutCategoryUpdateReqDto;
 import keapoint.onlog.post.entity.Blog;
 import keapoint.onlog.post.entity.Category;
 import keapoint.onlog.post.entity.Post;
+import keapoint.onlog.post.event.PostChangedEvent;
 import keapoint.onlog.post.repository.BlogRepository;
 import keapoint.onlog.post.repository.CategoryRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -30,6 +32,8 @@ public class CategoryService {
 
     private final BlogRepository blogRepository;
     private final CategoryRepository categoryRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ReferenceDataCache referenceDataCache;
 
     /**
      * 카테고리 조회
@@ -37,17 +41,28 @@ public class CategoryService {
      * @param blogId 조회하고자 하는 블로그 식별자
      * @return 특정 유저의 카테고리 정보
      */
+    @Transactional(readOnly = true)
     public List<CategoryDto> getCategories(UUID blogId) throws BaseException {
+        return getVersionedCategories(blogId).value();
+    }
+
+    /**
+     * 카테고리 조회 (버전 포함)
+     * 기준 정보 캐시에서 조회하며, 버전은 ETag로 사용된다.
+     *
+     * @param blogId 조회하고자 하는 블로그 식별자
+     * @return 특정 유저의 카테고리 정보와 버전
+     */
+    @Transactional(readOnly = true)
+    public ReferenceDataCache.Versioned<List<CategoryDto>> getVersionedCategories(UUID blogId) throws BaseException {
         try {
-            // 사용자 조회
-            Blog blog = blogRepository.findById(blogId)
-                    .orElseThrow(() -> new BaseException(BaseErrorCode.BLOG_NOT_FOUND_EXCEPTION));
-            log.info("카테고리 조회할 블로그 정보: " + blog.toString());
+            ReferenceDataCache.Versioned<List<CategoryDto>> categories = referenceDataCache.getCategories(blogId);
+
+            // 카테고리가 없다면 블로그가 존재하는지 확인한다.
+            if (categories.value().isEmpty() && !blogRepository.existsById(blogId))
+                throw new BaseException(BaseErrorCode.BLOG_NOT_FOUND_EXCEPTION);
 
-            return blog.getCategories().stream()
-                    .filter(Category::getStatus)  // 유효한 카테고리만 반환
-                    .map(CategoryDto::new)
-                    .toList();
+            return categories;
 
         } catch (BaseException e) {
             log.error(e.getErrorCode().getMessage());
@@ -95,6 +110,7 @@ public class CategoryService {
             // 카테고리 생성
             Category category = categoryRepository.save(newOrUpdatedCategory);
             blog.getCategories().add(category);
+            referenceDataCache.invalidateCategories(blogId);
 
             log.info("생성된 카테고리 정보: " + category);
 
@@ -136,6 +152,7 @@ public class CategoryService {
 
             // 카테고리 이름 수정
             category.updateCategory(dto.getName());
+            referenceDataCache.invalidateCategories(blogId);
             log.info("수정된 카테고리 정보: " + category);
 
             // 수정된 카테고리 반환
@@ -178,10 +195,12 @@ public class CategoryService {
             List<Post> posts = new ArrayList<>(category.getPosts());
             for (Post post : posts) {
                 post.removeCategory();
+                eventPublisher.publishEvent(PostChangedEvent.of(PostChangedEvent.Type.MODIFIED, post));
             }
 
             // 카테고리 삭제
             category.setStatus(false);
+            referenceDataCache.invalidateCategories(blogId);
             log.info("카테고리가 삭제되었습니다.");
 
         } catch (BaseException e) {
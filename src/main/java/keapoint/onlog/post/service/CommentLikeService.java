@@ -3,20 +3,26 @@ package keapoint.onlog.post.service;
 import keapoint.onlog.post.base.BaseErrorCode;
 import keapoint.onlog.post.base.BaseException;
 import keapoint.onlog.post.dto.comment.like.CommentLikeDto;
-import keapoint.onlog.post.entity.Blog;
 import keapoint.onlog.post.entity.Comment;
-import keapoint.onlog.post.entity.UserCommentLike;
+import keapoint.onlog.post.entity.LikeCounterShard;
 import keapoint.onlog.post.repository.BlogRepository;
 import keapoint.onlog.post.repository.CommentRepository;
 import keapoint.onlog.post.repository.UserCommentLikeRepository;
+import keapoint.onlog.post.utils.UuidBytes;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Optional;
 import java.util.UUID;
 
+/**
+ * 댓글 좋아요 서비스
+ * <p>
+ * 게시글 좋아요와 마찬가지로 (blog_id, comment_id) 유일 키를 가진 집합으로 다루며,
+ * 실제로 행이 바뀐 경우에만 좋아요 개수를 증감한다.
+ */
 @Slf4j
 @Service
 @Transactional
@@ -26,55 +32,71 @@ public class CommentLikeService {
     private final BlogRepository blogRepository;
     private final CommentRepository commentRepository;
     private final UserCommentLikeRepository userCommentLikeRepository;
+    private final LikeCounterService likeCounterService;
+    private final LikeMembershipIndex likeMembershipIndex;
+    private final JdbcTemplate jdbcTemplate;
 
     /**
-     * 댓글 좋아요, 좋아요 취소
+     * 댓글 좋아요
+     * 이미 좋아요 한 댓글이라면 아무것도 바뀌지 않는다.
      *
-     * @param blogId      좋아요/좋아요 취소를 원하는 블로그 식별자
-     * @param commentId   좋아요/좋아요 취소 할 댓글 식별자
-     * @return 성공 여부
+     * @param blogId    좋아요를 원하는 블로그 식별자
+     * @param commentId 좋아요 할 댓글 식별자
+     * @return 좋아요 정보
      */
-    public CommentLikeDto toggleLike(UUID blogId, UUID commentId) throws BaseException {
+    public CommentLikeDto like(UUID blogId, UUID commentId) throws BaseException {
         try {
-            // 사용자 정보 조회
-            Blog blog = blogRepository.findById(blogId)
-                    .orElseThrow(() -> new BaseException(BaseErrorCode.BLOG_NOT_FOUND_EXCEPTION));
-            log.info("댓글 좋아요 수정하는 사용자 정보: " + blog.toString());
-
-            // 댓글 정보 조회
-            Comment comment = commentRepository.findById(commentId)
-                    .orElseThrow(() -> new BaseException(BaseErrorCode.COMMENT_NOT_FOUND_EXCEPTION));
-            log.info("좋아요 정보 수정 요청 온 댓글 정보: " + comment.toString());
-
-            // 댓글이 삭제되었는지 확인한다.
-            if (comment.getStatus().equals(false))
-                throw new BaseException(BaseErrorCode.COMMENT_NOT_FOUND_EXCEPTION);
-            log.info("좋아요 정보 수정하고자 하는 댓글 정보: " + comment);
-
-            // 댓글 좋아요 정보를 조회한다
-            Optional<UserCommentLike> userCommentLike = userCommentLikeRepository.findByBlogAndComment(blog, comment);
-            boolean isLiked = userCommentLike.isPresent();
-            log.info("사용자 댓글 좋아요 정보: " + isLiked);
-
-            if (isLiked) { // 댓글 좋아요 했던 상태라면
-                userCommentLikeRepository.delete(userCommentLike.get()); // DB에서 삭제하고
-                comment.commentUnlike(); // 댓글 좋아요 개수를 줄여준다.
-
-            } else { // 댓글 좋아요 하지 않았던 상태라면
-                UserCommentLike like = UserCommentLike.builder()
-                        .blog(blog)
-                        .comment(comment)
-                        .build();
-
-                userCommentLikeRepository.save(like); // DB에 추가하고
-                comment.commentLike(); // 댓글 좋아요 개수를 늘려준다.
+            // 같은 트랜잭션에서 바뀐 댓글 상태가 아래 INSERT 문에 보이도록 먼저 반영한다.
+            userCommentLikeRepository.flush();
+
+            // 삭제되지 않은 댓글에만 좋아요 정보를 추가한다. 이미 좋아요 했다면 무시된다.
+            int inserted = jdbcTemplate.update("INSERT IGNORE INTO user_comment_like (blog_id, comment_id) " +
+                            "SELECT ?, comment_id FROM comment WHERE comment_id = ? AND status = true",
+                    UuidBytes.toBytes(blogId), UuidBytes.toBytes(commentId));
+
+            if (inserted > 0) {
+                likeCounterService.increment(LikeCounterShard.TargetType.COMMENT, commentId, 1); // 댓글 좋아요 개수를 늘려준다.
+                likeMembershipIndex.update(LikeCounterShard.TargetType.COMMENT, commentId, blogId, true);
+
+            } else { // 추가되지 않았다면 이미 좋아요 한 댓글인지, 없는 블로그나 댓글인지 확인한다.
+                checkLikable(blogId, commentId);
             }
 
-            // 업데이트 된 댓글 정보 로깅
-            log.info("업데이트 된 댓글 정보: " + comment);
+            log.info("사용자({})가 댓글({})을 좋아요 하였습니다. (변경 여부: {})", blogId, commentId, inserted > 0);
+            return new CommentLikeDto(blogId, commentId, true);
+
+        } catch (BaseException e) {
+            log.error(e.getErrorCode().getMessage());
+            throw e;
+
+        } catch (Exception e) {
+            log.error(e.getMessage());
+            throw new BaseException(BaseErrorCode.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    /**
+     * 댓글 좋아요 취소
+     * 좋아요 하지 않은 댓글이라면 아무것도 바뀌지 않는다.
+     *
+     * @param blogId    좋아요 취소를 원하는 블로그 식별자
+     * @param commentId 좋아요 취소 할 댓글 식별자
+     * @return 좋아요 정보
+     */
+    public CommentLikeDto unlike(UUID blogId, UUID commentId) throws BaseException {
+        try {
+            int deleted = userCommentLikeRepository.deleteByBlogIdAndCommentId(blogId, commentId);
+
+            if (deleted > 0) {
+                likeCounterService.increment(LikeCounterShard.TargetType.COMMENT, commentId, -deleted); // 댓글 좋아요 개수를 줄여준다.
+                likeMembershipIndex.update(LikeCounterShard.TargetType.COMMENT, commentId, blogId, false);
 
-            // 결과 리턴
-            return new CommentLikeDto(blog, comment, !isLiked);
+            } else { // 삭제되지 않았다면 없는 블로그나 댓글인지 확인한다.
+                checkLikable(blogId, commentId);
+            }
+
+            log.info("사용자({})가 댓글({}) 좋아요를 취소하였습니다. (변경 여부: {})", blogId, commentId, deleted > 0);
+            return new CommentLikeDto(blogId, commentId, false);
 
         } catch (BaseException e) {
             log.error(e.getErrorCode().getMessage());
@@ -85,5 +107,18 @@ public class CommentLikeService {
             throw new BaseException(BaseErrorCode.INTERNAL_SERVER_ERROR);
         }
     }
-}
 
+    /**
+     * 좋아요 정보가 바뀌지 않은 경우에만 호출되며, 블로그와 댓글이 유효한지 확인한다.
+     */
+    private void checkLikable(UUID blogId, UUID commentId) throws BaseException {
+        if (!blogRepository.existsById(blogId))
+            throw new BaseException(BaseErrorCode.BLOG_NOT_FOUND_EXCEPTION);
+
+        boolean commentExists = commentRepository.findById(commentId)
+                .map(Comment::getStatus)
+                .orElse(false);
+        if (!commentExists)
+            throw new BaseException(BaseErrorCode.COMMENT_NOT_FOUND_EXCEPTION);
+    }
+}
@@ -0,0 +1,162 @@
+package keapoint.onlog.post.service;
+
+import jakarta.annotation.PostConstruct;
+import keapoint.onlog.post.entity.Comment;
+import keapoint.onlog.post.repository.CommentRepository;
+import keapoint.onlog.post.utils.CommentPath;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * 기존 댓글의 스레드 정렬 경로 이전
+ * <p>
+ * 그룹(ref)과 그룹 순서(refOrder)로 정렬하던 댓글에 경로(CommentPath)를 지정한다.
+ * 최상위 댓글은 그룹 번호, 답글은 부모 댓글 안에서 기존 그룹 순서대로 1부터 다시 매긴 형제 순서를 경로로 사용하므로
+ * 이전 후에도 스레드 표시 순서는 그대로이다.
+ * 동시에 작성되어 그룹 번호가 겹친 최상위 댓글은 경로도 겹치므로, 먼저 작성된 댓글만 번호를 유지하고
+ * 나머지는 게시글 카운터에서 새 번호를 받아 (답글과 함께) 게시글의 마지막 그룹으로 옮긴다.
+ * <p>
+ * 서버 시작 시 경로가 없는 댓글이 있는 게시글을 게시글마다 한 트랜잭션으로 이전하며,
+ * 이전이 끝나기 전에 경로가 없는 댓글에 답글이 작성되면 댓글 서비스가 그 게시글을 먼저 이전한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CommentPathMigrator implements ApplicationRunner {
+
+    private static final int BATCH_SIZE = 100; // 한 번에 조회할 게시글 수
+
+    private static final Comparator<Comment> ROOT_ORDER = Comparator.comparingLong(Comment::getRef)
+            .thenComparing(Comment::getCreatedAt, Comparator.nullsLast(Comparator.naturalOrder()));
+
+    private static final Comparator<Comment> SIBLING_ORDER = Comparator.comparingLong(Comment::getRefOrder)
+            .thenComparing(Comment::getCreatedAt, Comparator.nullsLast(Comparator.naturalOrder()));
+
+    private final CommentRepository commentRepository;
+    private final CommentRefAllocator commentRefAllocator;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${post.comments.path-migration.enabled:true}")
+    private boolean enabled; // 서버 시작 시 이전 여부
+
+    private TransactionTemplate transactionTemplate;
+
+    @PostConstruct
+    public void init() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!enabled) {
+            return;
+        }
+
+        UUID after = new UUID(0L, 0L);
+        int migrated = 0;
+
+        while (true) {
+            List<UUID> postIds = commentRepository.findPostIdsWithoutPath(after, PageRequest.of(0, BATCH_SIZE));
+            if (postIds.isEmpty()) {
+                break;
+            }
+
+            for (UUID postId : postIds) {
+                try {
+                    transactionTemplate.executeWithoutResult(status -> migrate(postId));
+                    migrated++;
+
+                } catch (Exception e) {
+                    log.error("게시글(" + postId + ") 댓글 경로 이전에 실패하였습니다.", e);
+                }
+            }
+
+            after = postIds.get(postIds.size() - 1);
+        }
+
+        if (migrated > 0) {
+            log.info("게시글 {}개의 댓글 경로를 이전하였습니다.", migrated);
+        }
+    }
+
+    /**
+     * 게시글 댓글 경로 이전 (호출하는 쪽의 트랜잭션 안에서 실행된다.)
+     * 게시글의 댓글을 모두 잠근 뒤, 경로가 없는 댓글이 남아있을 때만 이전한다.
+     *
+     * @param postId 게시글 식별자
+     */
+    public void migrate(UUID postId) {
+        List<Comment> comments = commentRepository.findAllByPostIdForUpdate(postId);
+        if (comments.stream().noneMatch(comment -> comment.getPath() == null || comment.getPath().isEmpty())) {
+            return; // 다른 요청이 먼저 이전하였다.
+        }
+
+        Map<UUID, Comment> byId = comments.stream()
+                .collect(Collectors.toMap(Comment::getCommentId, comment -> comment));
+
+        // 부모가 같은 게시글에 없는 답글은 최상위 댓글로 취급한다.
+        Map<UUID, List<Comment>> children = new HashMap<>();
+        List<Comment> roots = new ArrayList<>();
+        for (Comment comment : comments) {
+            if (comment.getParentNum() != null && byId.containsKey(comment.getParentNum())) {
+                children.computeIfAbsent(comment.getParentNum(), id -> new ArrayList<>()).add(comment);
+            } else {
+                roots.add(comment);
+            }
+        }
+
+        roots.sort(ROOT_ORDER);
+
+        // 그룹 번호가 앞의 최상위 댓글과 겹치는 댓글은 카운터에서 새 번호를 받는다.
+        Set<Long> usedRefs = new HashSet<>();
+        List<Comment> duplicates = new ArrayList<>();
+        for (Comment root : roots) {
+            if (!usedRefs.add(root.getRef())) {
+                duplicates.add(root);
+            }
+        }
+
+        Map<UUID, Long> refs = new HashMap<>();
+        if (!duplicates.isEmpty()) {
+            long maxRef = comments.stream().mapToLong(Comment::getRef).max().orElse(0L);
+            long nextRef = commentRefAllocator.reserveAfter(postId, maxRef, duplicates.size());
+            for (Comment duplicate : duplicates) {
+                refs.put(duplicate.getCommentId(), nextRef++);
+            }
+            log.info("게시글({})에서 그룹 번호가 겹친 최상위 댓글 {}개에 새 번호를 지정하였습니다.", postId, duplicates.size());
+        }
+
+        Deque<Comment> queue = new ArrayDeque<>();
+        for (Comment root : roots) {
+            List<Comment> replies = children.getOrDefault(root.getCommentId(), List.of());
+            long ref = refs.getOrDefault(root.getCommentId(), root.getRef());
+            root.assignPath(CommentPath.root(ref), ref, root.getRefOrder(), Math.max(root.getAnswerNum(), replies.size()));
+            queue.add(root);
+        }
+
+        while (!queue.isEmpty()) {
+            Comment parent = queue.poll();
+            List<Comment> replies = children.getOrDefault(parent.getCommentId(), List.of());
+            replies.sort(SIBLING_ORDER);
+
+            long order = 0;
+            for (Comment reply : replies) {
+                int grandChildren = children.getOrDefault(reply.getCommentId(), List.of()).size();
+                reply.assignPath(CommentPath.child(parent.getPath(), ++order), parent.getRef(), order, Math.max(reply.getAnswerNum(), grandChildren));
+                queue.add(reply);
+            }
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package keapoint.onlog.post.service;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import jakarta.annotation.PostConstruct;
+import keapoint.onlog.post.utils.UuidBytes;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.UUID;
+
+/**
+ * 최상위 댓글 그룹 번호 발급 서비스
+ * <p>
+ * 게시글마다 comment_sequence 행 하나를 원자적으로 증가시켜 그룹 번호를 발급한다.
+ * 증가한 값은 같은 연결의 LAST_INSERT_ID()로 바로 읽으므로, 행이 만들어진 뒤에는 댓글 테이블을 읽지 않는다.
+ * <p>
+ * post.comments.ref-block-size가 1이라면 댓글을 저장하는 트랜잭션 안에서 발급하므로, 같은 게시글의 최상위 댓글은
+ * 카운터 행의 잠금 순서대로 번호를 받고 작성이 롤백되면 번호도 함께 되돌아간다.
+ * 1보다 크다면 별도 트랜잭션에서 번호를 묶음으로 예약해 서버 메모리에서 나누어 주므로 카운터 행의 잠금을 거의 기다리지 않지만,
+ * 여러 서버가 같은 게시글에 동시에 댓글을 받으면 그룹 순서가 작성 순서와 조금 어긋날 수 있고 사용하지 않은 번호는 건너뛴다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CommentRefAllocator {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${post.comments.ref-block-size:1}")
+    private int blockSize; // 한 번에 예약할 그룹 번호 수
+
+    private Cache<UUID, Block> blocks; // 게시글 → 예약해 둔 그룹 번호
+    private TransactionTemplate transactionTemplate;
+
+    /**
+     * 서버 메모리에 예약해 둔 그룹 번호 [next, last]
+     */
+    private static final class Block {
+
+        private long next; // 다음에 나누어 줄 번호
+        private final long last; // 예약한 마지막 번호
+
+        private Block(long first, long last) {
+            this.next = first;
+            this.last = last;
+        }
+
+        /**
+         * @return 다음 번호. 모두 나누어 주었다면 -1
+         */
+        synchronized long take() {
+            return next <= last ? next++ : -1;
+        }
+    }
+
+    @PostConstruct
+    public void init() {
+        blocks = CacheBuilder.newBuilder()
+                .maximumSize(10_000)
+                .build();
+
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 최상위 댓글 그룹 번호 발급
+     *
+     * @param postId 게시글 식별자
+     * @return 게시글 안에서 겹치지 않는 그룹 번호 (1부터 증가)
+     */
+    public long next(UUID postId) {
+        if (blockSize <= 1) {
+            return reserve(postId, 1);
+        }
+
+        Block block = blocks.getIfPresent(postId);
+        if (block != null) {
+            long ref = block.take();
+            if (ref > 0) {
+                return ref;
+            }
+        }
+
+        // 예약한 번호를 모두 썼다면 새 묶음을 예약한다. (동시에 예약한 묶음 중 하나는 일부 번호를 건너뛸 수 있다.)
+        long last = transactionTemplate.execute(status -> reserve(postId, blockSize));
+        Block reserved = new Block(last - blockSize + 1, last);
+        long ref = reserved.take();
+        blocks.put(postId, reserved);
+        return ref;
+    }
+
+    /**
+     * 카운터를 minimum 이상으로 올린 뒤 그 다음 번호 count개를 예약한다. (기존 댓글 경로 이전용)
+     * 호출한 트랜잭션 안에서 실행되므로, 이전이 커밋될 때까지 같은 게시글의 번호 발급은 카운터 행의 잠금을 기다린다.
+     *
+     * @param postId  게시글 식별자
+     * @param minimum 이미 사용 중인 가장 큰 그룹 번호
+     * @param count   예약할 번호 수
+     * @return 예약한 첫 번호 (예약한 번호는 [반환값, 반환값 + count - 1])
+     */
+    public long reserveAfter(UUID postId, long minimum, int count) {
+        byte[] id = UuidBytes.toBytes(postId);
+
+        jdbcTemplate.update("INSERT INTO comment_sequence (post_id, last_ref) VALUES (?, LAST_INSERT_ID(? + ?)) " +
+                        "ON DUPLICATE KEY UPDATE last_ref = LAST_INSERT_ID(GREATEST(last_ref, ?) + ?)",
+                id, minimum, count, minimum, count);
+
+        return jdbcTemplate.queryForObject("SELECT LAST_INSERT_ID()", Long.class) - count + 1;
+    }
+
+    /**
+     * 카운터 행을 count만큼 증가시키고 증가한 값을 반환한다. (호출한 트랜잭션의 연결에서 실행된다.)
+     * 행이 없다면 기존 댓글 그룹의 최댓값부터 시작하는 행을 같은 문장으로 만든다.
+     * 없는 행을 UPDATE하면 호출한 트랜잭션이 간격 잠금을 잡으므로, 행 생성과 증가를 INSERT ... ON DUPLICATE KEY UPDATE 하나로 처리한다.
+     *
+     * @return 예약한 마지막 번호 (예약한 번호는 [반환값 - count + 1, 반환값])
+     */
+    private long reserve(UUID postId, int count) {
+        byte[] id = UuidBytes.toBytes(postId);
+
+        // 잠그지 않는 읽기로 행이 있는지 확인하고, 없을 때만 기존 댓글 그룹의 최댓값을 읽는다. (게시글마다 한 번)
+        long start = 0L;
+        if (jdbcTemplate.queryForObject("SELECT COUNT(*) FROM comment_sequence WHERE post_id = ?", Integer.class, id) == 0) {
+            start = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(comment_ref), 0) FROM comment WHERE post_id = ?", Long.class, id);
+        }
+
+        jdbcTemplate.update("INSERT INTO comment_sequence (post_id, last_ref) VALUES (?, LAST_INSERT_ID(? + ?)) " +
+                        "ON DUPLICATE KEY UPDATE last_ref = LAST_INSERT_ID(last_ref + ?)",
+                id, start, count, count);
+
+        return jdbcTemplate.queryForObject("SELECT LAST_INSERT_ID()", Long.class);
+    }
+}
@@ -2,22 +2,32 @@ package keapoint.onlog.post.service;
 
 import keapoint.onlog.post.base.BaseErrorCode;
 import keapoint.onlog.post.base.BaseException;
+import keapoint.onlog.post.dto.CursorSliceDto;
+import keapoint.onlog.post.dto.comment.CommentDto;
 import keapoint.onlog.post.dto.comment.CommentSummaryDto;
 import keapoint.onlog.post.dto.comment.DeleteCommentReqDto;
 import keapoint.onlog.post.dto.comment.PostCreateCommentReqDto;
 import keapoint.onlog.post.dto.comment.PutUpdateCommentReqDto;
 import keapoint.onlog.post.entity.Blog;
+import keapoint.onlog.post.entity.BlogStats;
 import keapoint.onlog.post.entity.Comment;
+import keapoint.onlog.post.entity.LikeCounterShard;
 import keapoint.onlog.post.entity.Post;
+import keapoint.onlog.post.event.PostActivityEvent;
 import keapoint.onlog.post.repository.BlogRepository;
 import keapoint.onlog.post.repository.CommentRepository;
 import keapoint.onlog.post.repository.PostRepository;
 import keapoint.onlog.post.repository.UserCommentLikeRepository;
+import keapoint.onlog.post.utils.CommentPath;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 @Slf4j
@@ -26,10 +36,211 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class CommentService {
 
+    private static final int MAX_PAGE_SIZE = 100; // 한 번에 조회할 수 있는 최대 댓글 수
+
     private final BlogRepository blogRepository;
     private final PostRepository postRepository;
     private final CommentRepository commentRepository;
     private final UserCommentLikeRepository userCommentLikeRepository;
+    private final ViewerStateResolver viewerStateResolver;
+    private final LikeCounterService likeCounterService;
+    private final BlogStatsService blogStatsService;
+    private final LikeMembershipIndex likeMembershipIndex;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CommentPathMigrator commentPathMigrator;
+    private final CommentRefAllocator commentRefAllocator;
+
+    /**
+     * 게시글 댓글 조회 (커서 기반)
+     * 최상위 댓글을 그룹 순서대로 조회하며, 답글은 getReplies로 필요할 때 펼친다.
+     * 삭제된 댓글은 내용과 작성자를 비운 채로 자리를 지킨다.
+     *
+     * @param blogId 내 블로그 식별자
+     * @param postId 댓글을 조회할 게시글 식별자
+     * @param cursor 이전 응답의 다음 페이지 커서 (첫 페이지는 null 또는 빈 문자열)
+     * @param size   조회할 댓글 수
+     * @return 최상위 댓글과 다음 페이지 커서
+     */
+    @Transactional(readOnly = true)
+    public CursorSliceDto<CommentDto> getComments(UUID blogId, UUID postId, String cursor, int size) throws BaseException {
+        try {
+            Post post = postRepository.findById(postId)
+                    .orElseThrow(() -> new BaseException(BaseErrorCode.POST_NOT_FOUND_EXCEPTION));
+            checkReadable(blogId, post);
+
+            return readRootComments(blogId, postId, parseCursor(cursor), size);
+
+        } catch (BaseException e) {
+            log.error(e.getErrorCode().getMessage());
+            throw e;
+
+        } catch (Exception e) {
+            log.error(e.getMessage());
+            throw new BaseException(BaseErrorCode.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    /**
+     * 답글 조회 (커서 기반)
+     * 댓글의 바로 아래 답글만 조회하며, 더 깊은 답글은 각 답글의 answerNum을 보고 다시 펼친다.
+     *
+     * @param blogId    내 블로그 식별자
+     * @param commentId 답글을 조회할 댓글 식별자
+     * @param cursor    이전 응답의 다음 페이지 커서 (첫 페이지는 null 또는 빈 문자열)
+     * @param size      조회할 답글 수
+     * @return 답글과 다음 페이지 커서
+     */
+    @Transactional(readOnly = true)
+    public CursorSliceDto<CommentDto> getReplies(UUID blogId, UUID commentId, String cursor, int size) throws BaseException {
+        try {
+            Comment parent = commentRepository.findById(commentId)
+                    .orElseThrow(() -> new BaseException(BaseErrorCode.COMMENT_NOT_FOUND_EXCEPTION));
+
+            // 삭제된 댓글도 남아 있는 답글은 펼칠 수 있다.
+            Post post = parent.getPost();
+            checkReadable(blogId, post);
+
+            int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+
+            // 다음 페이지가 있는지 확인하기 위해 요청한 크기보다 하나 더 조회한다.
+            List<Comment> replies = commentRepository.findReplies(parent.getCommentId(), parseCursor(cursor), PageRequest.of(0, pageSize + 1));
+
+            boolean hasNext = replies.size() > pageSize;
+            List<Comment> content = hasNext ? replies.subList(0, pageSize) : replies;
+            String nextCursor = hasNext ? String.valueOf(content.get(content.size() - 1).getRefOrder()) : null;
+
+            return new CursorSliceDto<>(toCommentDtos(blogId, content), hasNext, nextCursor);
+
+        } catch (BaseException e) {
+            log.error(e.getErrorCode().getMessage());
+            throw e;
+
+        } catch (Exception e) {
+            log.error(e.getMessage());
+            throw new BaseException(BaseErrorCode.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    /**
+     * 댓글 스레드 조회 (커서 기반)
+     * 댓글 아래의 모든 답글을 계층과 관계없이 화면에 표시할 순서대로 펼쳐서 조회한다. (경로 범위 하나만 읽는다.)
+     *
+     * @param blogId    내 블로그 식별자
+     * @param commentId 스레드를 조회할 댓글 식별자
+     * @param cursor    이전 응답의 다음 페이지 커서 (첫 페이지는 null 또는 빈 문자열)
+     * @param size      조회할 답글 수
+     * @return 하위 답글과 다음 페이지 커서
+     */
+    @Transactional(readOnly = true)
+    public CursorSliceDto<CommentDto> getThread(UUID blogId, UUID commentId, String cursor, int size) throws BaseException {
+        try {
+            Comment parent = commentRepository.findById(commentId)
+                    .orElseThrow(() -> new BaseException(BaseErrorCode.COMMENT_NOT_FOUND_EXCEPTION));
+
+            // 삭제된 댓글도 남아 있는 답글은 펼칠 수 있다.
+            Post post = parent.getPost();
+            checkReadable(blogId, post);
+
+            // 아직 경로가 이전되지 않은 댓글은 바로 아래 답글만 조회할 수 있다.
+            if (parent.getPath().isEmpty())
+                return new CursorSliceDto<>(List.of(), false, null);
+
+            String afterPath = parent.getPath();
+            if (cursor != null && !cursor.isBlank()) {
+                // 커서는 이 댓글의 하위 답글 경로여야 한다.
+                if (!CommentPath.isValid(cursor) || cursor.length() <= afterPath.length() || !cursor.startsWith(afterPath))
+                    throw new BaseException(BaseErrorCode.INVALID_CURSOR_EXCEPTION);
+                afterPath = cursor;
+            }
+
+            int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+
+            // 다음 페이지가 있는지 확인하기 위해 요청한 크기보다 하나 더 조회한다.
+            List<Comment> thread = commentRepository.findThread(post.getPostId(), afterPath, CommentPath.upperBound(parent.getPath()), PageRequest.of(0, pageSize + 1));
+
+            boolean hasNext = thread.size() > pageSize;
+            List<Comment> content = hasNext ? thread.subList(0, pageSize) : thread;
+            String nextCursor = hasNext ? content.get(content.size() - 1).getPath() : null;
+
+            return new CursorSliceDto<>(toCommentDtos(blogId, content), hasNext, nextCursor);
+
+        } catch (BaseException e) {
+            log.error(e.getErrorCode().getMessage());
+            throw e;
+
+        } catch (Exception e) {
+            log.error(e.getMessage());
+            throw new BaseException(BaseErrorCode.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    /**
+     * 최상위 댓글 한 페이지 조회 (게시글 권한 확인은 호출하는 쪽에서 한다)
+     *
+     * @param blogId   내 블로그 식별자
+     * @param postId   게시글 식별자
+     * @param afterRef 이전 페이지의 마지막 댓글 그룹 (첫 페이지는 0)
+     * @param size     조회할 댓글 수
+     * @return 최상위 댓글과 다음 페이지 커서
+     */
+    CursorSliceDto<CommentDto> readRootComments(UUID blogId, UUID postId, long afterRef, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+
+        // 다음 페이지가 있는지 확인하기 위해 요청한 크기보다 하나 더 조회한다.
+        List<Comment> comments = commentRepository.findRootComments(postId, afterRef, PageRequest.of(0, pageSize + 1));
+
+        boolean hasNext = comments.size() > pageSize;
+        List<Comment> content = hasNext ? comments.subList(0, pageSize) : comments;
+        String nextCursor = hasNext ? String.valueOf(content.get(content.size() - 1).getRef()) : null;
+
+        return new CursorSliceDto<>(toCommentDtos(blogId, content), hasNext, nextCursor);
+    }
+
+    /**
+     * 댓글 목록을 나의 좋아요 여부, 좋아요 개수와 함께 DTO로 변환한다.
+     */
+    private List<CommentDto> toCommentDtos(UUID blogId, List<Comment> comments) {
+        List<UUID> commentIds = comments.stream().map(Comment::getCommentId).toList();
+        ViewerState viewerState = viewerStateResolver.resolve(blogId, List.of(), commentIds);
+        Map<UUID, Long> likesCounts = likeCounterService.getCounts(LikeCounterShard.TargetType.COMMENT, commentIds);
+
+        return comments.stream()
+                .map(comment -> {
+                    CommentDto dto = new CommentDto(comment, viewerState.isCommentLiked(comment.getCommentId()));
+                    dto.setLikesCount(likesCounts.getOrDefault(comment.getCommentId(), comment.getLikesCount()));
+                    return dto;
+                })
+                .toList();
+    }
+
+    /**
+     * 게시글의 댓글을 조회할 수 있는지 확인한다.
+     */
+    private void checkReadable(UUID blogId, Post post) throws BaseException {
+        // 게시글이 삭제되었는지 확인한다.
+        if (post.getStatus().equals(false))
+            throw new BaseException(BaseErrorCode.POST_NOT_FOUND_EXCEPTION);
+
+        // 게시글의 권한을 확인한다.
+        if (post.getIsPublic().equals(false) && !post.getWriter().getBlogId().equals(blogId))
+            throw new BaseException(BaseErrorCode.ACCESS_DENIED_EXCEPTION);
+    }
+
+    /**
+     * 댓글 커서 변환 (최상위 댓글은 그룹, 답글은 형제 순서)
+     */
+    private static long parseCursor(String cursor) throws BaseException {
+        if (cursor == null || cursor.isBlank()) {
+            return 0L;
+        }
+
+        try {
+            return Long.parseLong(cursor);
+
+        } catch (NumberFormatException e) {
+            throw new BaseException(BaseErrorCode.INVALID_CURSOR_EXCEPTION);
+        }
+    }
 
     /**
      * 댓글 작성
@@ -51,25 +262,37 @@ public class CommentService {
                 throw new BaseException(BaseErrorCode.POST_NOT_FOUND_EXCEPTION);
 
             long ref; // 그룹
-            long refOrder; // 그룹 순서
+            long refOrder; // 형제 댓글 사이의 순서
             long step; // 댓글의 계층
+            String path; // 스레드 정렬 경로
             UUID parentNum = data.getParentCommentId(); // 부모댓글의 ID
             long answerNum = 0L; // 해당댓글의 자식댓글의 수. 댓글이 작성된 경우이므로 0
 
             if (parentNum != null) { // 부모 댓글이 있는 경우 (대댓글)
-                Comment parentComment = commentRepository.findById(data.getParentCommentId())
+                // 같은 부모에 동시에 작성된 답글이 같은 형제 순서를 받지 않도록 부모 댓글을 잠근다.
+                Comment parentComment = commentRepository.findByIdForUpdate(parentNum)
                         .orElseThrow(() -> new BaseException(BaseErrorCode.COMMENT_NOT_FOUND_EXCEPTION));
 
+                if (!parentComment.getPost().getPostId().equals(post.getPostId()))
+                    throw new BaseException(BaseErrorCode.COMMENT_NOT_FOUND_EXCEPTION);
+
+                // 아직 경로가 이전되지 않은 게시글이라면 먼저 이전한다.
+                if (parentComment.getPath().isEmpty())
+                    commentPathMigrator.migrate(post.getPostId());
+
+                if (CommentPath.depth(parentComment.getPath()) >= CommentPath.MAX_DEPTH)
+                    throw new BaseException(BaseErrorCode.COMMENT_TOO_DEEP_EXCEPTION);
+
                 ref = parentComment.getRef(); // 부모와 같은 그룹
                 step = parentComment.getStep() + 1L; // 부모의 댓글이므로 댓글의 계층은 부모 계층 + 1
-                refOrder = updateAndGetCurrentRefOrder(parentComment);
-
-                parentComment.updateNumberOfChildComment(); // 부모 댓글의 자식 댓글 갯수 update
+                refOrder = parentComment.nextChildOrder(); // 부모 댓글의 자식 댓글 갯수 update 후 마지막 형제 다음 순서
+                path = CommentPath.child(parentComment.getPath(), refOrder);
 
             } else { // 부모 댓글이 없는 경우 (댓글)
-                ref = commentRepository.findMaxRefByPost(post).orElse(1L) + 1; // 첫번째 댓글은 1, 그 외 댓글은 최댓값 + 1
-                refOrder = 1L; // 대댓글이 없으므로 그룹 순서는 1
+                ref = commentRefAllocator.next(post.getPostId()); // 게시글별 카운터에서 발급한 그룹
+                refOrder = 1L; // 형제 댓글은 그룹 순서로 정렬하므로 1
                 step = 1L; // 대댓글이 아닌 댓글이므로 계층은 1
+                path = CommentPath.root(ref);
             }
 
             // 댓글 Entity 생성
@@ -81,6 +304,7 @@ public class CommentService {
                     .step(step)
                     .parentNum(parentNum)
                     .answerNum(answerNum)
+                    .path(path)
                     .likesCount(0L)
                     .post(post)
                     .writer(writer)
@@ -91,6 +315,9 @@ public class CommentService {
             commentRepository.save(comment);
 
             post.writeComment();
+            blogStatsService.increment(post.getWriter().getBlogId(), BlogStats.Counter.COMMENT, 1);
+            if (post.getIsPublic())
+                eventPublisher.publishEvent(PostActivityEvent.of(PostActivityEvent.Type.COMMENT, post));
 
             log.info("사용자 (" + blogId + ")가 게시글 (" + post.getPostId() + ")에 댓글(" + comment.getCommentId() +")을 작성하는 데 성공하였습니다.");
             return new CommentSummaryDto(comment);
@@ -105,37 +332,6 @@ public class CommentService {
         }
     }
 
-    private long updateAndGetCurrentRefOrder(Comment parentComment) {
-        long saveStep = parentComment.getStep() + 1L;
-        long refOrder = parentComment.getRefOrder();
-        long answerNum = parentComment.getAnswerNum();
-        long ref = parentComment.getRef();
-
-        // 부모 댓글 그룹의 자식 수
-        long answerNumSum = commentRepository.getSumOfAnswerNum(ref);
-
-        // 부모 댓글 그룹의 최대 step값
-        long maxStep = commentRepository.getMaxStep(ref);
-
-        // 저장할 대댓글 step과 그룹내의 최댓값 step 조건 비교
-        /*
-         * step + 1 < 그룹리스트에서 max step값  AnswerNum sum + 1           * NO UPDATE
-         * step + 1 = 그룹리스트에서 max step값  refOrder + AnswerNum + 1    * UPDATE
-         * step + 1 > 그룹리스트에서 max step값  refOrder + 1                * UPDATE
-         */
-        if (saveStep < maxStep) {
-            return answerNumSum + 1;
-
-        } else if (saveStep == maxStep) {
-            commentRepository.updateRefOrder(ref, refOrder + answerNum);
-            return refOrder + answerNum + 1;
-
-        } else {
-            commentRepository.updateRefOrder(ref, refOrder);
-            return refOrder + 1;
-        }
-    }
-
     /**
      * 댓글 수정
      *
@@ -221,13 +417,19 @@ public class CommentService {
 
             // 댓글 좋아요 정보 삭제
             userCommentLikeRepository.deleteByComment(comment);
+            likeMembershipIndex.invalidate(LikeCounterShard.TargetType.COMMENT, comment.getCommentId());
 
             // 댓글 삭제
             comment.setStatus(false);
             comment.resetCommentLike();
+            likeCounterService.reset(LikeCounterShard.TargetType.COMMENT, comment.getCommentId());
 
             comment.getPost().deleteComment();
 
+            // 삭제된 게시글의 댓글은 게시글을 삭제할 때 이미 블로그 통계에서 빠졌다.
+            if (comment.getPost().getStatus())
+                blogStatsService.increment(comment.getPost().getWriter().getBlogId(), BlogStats.Counter.COMMENT, -1);
+
             log.info("댓글이 삭제되었습니다.");
 
         } catch (BaseException e) {
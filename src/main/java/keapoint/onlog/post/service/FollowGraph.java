@@ -0,0 +1,217 @@
+package keapoint.onlog.post.service;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import keapoint.onlog.post.repository.FollowRepository;
+import keapoint.onlog.post.utils.AfterCommit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 팔로우 그래프
+ * <p>
+ * 블로그마다 팔로우 하는 블로그(나가는 방향)와 팔로워(들어오는 방향)의 식별자를 정렬된 배열로 보관한다.
+ * 개수는 배열 길이로, 팔로우 여부는 이진 탐색으로, 목록은 마지막으로 본 식별자 다음부터 잘라서 조회한다.
+ * <p>
+ * 배열은 필요할 때 한 번에 조회하여 만들고, 이 서버에서 팔로우가 바뀌면 트랜잭션이 커밋된 이후에 새 배열로 바꾼다.
+ * 배열은 바뀌지 않으므로 읽는 쪽은 잠금 없이 사용할 수 있다. 다른 서버에서 바뀐 팔로우는 최대 유지 시간 이후에 반영된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FollowGraph {
+
+    /**
+     * 팔로우 방향
+     */
+    public enum Direction {
+        FOLLOWING, // 블로그가 팔로우 하는 블로그
+        FOLLOWER // 블로그를 팔로우 하는 블로그
+    }
+
+    private final FollowRepository followRepository;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${post.follow-graph.maximum-weight:500000}")
+    private long maximumWeight; // 보관할 최대 식별자 수 (UUID 객체와 배열 참조를 합쳐 식별자 하나에 약 40바이트)
+
+    @Value("${post.follow-graph.ttl-seconds:300}")
+    private long ttlSeconds; // 배열 유지 시간
+
+    private final Map<Key, Object> loadStamps = new ConcurrentHashMap<>(); // 배열을 만드는 중인 블로그 → 조회 시작 표식
+
+    private Cache<Key, UUID[]> adjacency; // (방향, 블로그) → 정렬된 블로그 식별자
+
+    /**
+     * 팔로우 방향과 블로그
+     */
+    private record Key(Direction direction, UUID blogId) {
+    }
+
+    @PostConstruct
+    public void init() {
+        adjacency = CacheBuilder.newBuilder()
+                .maximumWeight(maximumWeight)
+                .weigher((Key key, UUID[] blogIds) -> blogIds.length + 1)
+                .expireAfterWrite(ttlSeconds, TimeUnit.SECONDS)
+                .recordStats()
+                .build();
+
+        Gauge.builder("post.follow.graph.hit.ratio", adjacency, cache -> cache.stats().hitRate())
+                .description("팔로우 그래프 적중률")
+                .register(meterRegistry);
+        Gauge.builder("post.follow.graph.entries", adjacency, Cache::size)
+                .description("팔로우 그래프에 보관 중인 블로그 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 팔로우 하는 블로그 수, 팔로워 수 조회
+     *
+     * @param direction 팔로우 방향
+     * @param blogId    블로그 식별자
+     * @return 블로그 수
+     */
+    public int count(Direction direction, UUID blogId) {
+        return get(direction, blogId).length;
+    }
+
+    /**
+     * 팔로우 하는 블로그, 팔로워 목록 조회 (식별자 순서)
+     *
+     * @param direction 팔로우 방향
+     * @param blogId    블로그 식별자
+     * @param after     이전 페이지의 마지막 블로그 식별자 (첫 페이지라면 null)
+     * @param limit     조회할 최대 블로그 수
+     * @return 블로그 식별자 목록
+     */
+    public List<UUID> page(Direction direction, UUID blogId, UUID after, int limit) {
+        UUID[] blogIds = get(direction, blogId);
+
+        int from = 0;
+        if (after != null) {
+            int index = Arrays.binarySearch(blogIds, after);
+            from = index >= 0 ? index + 1 : -index - 1;
+        }
+
+        return List.of(Arrays.copyOfRange(blogIds, from, Math.min(blogIds.length, from + limit)));
+    }
+
+    /**
+     * 블로그 중 내가 팔로우 하는 블로그 조회
+     *
+     * @param blogId  내 블로그 식별자
+     * @param targets 확인할 블로그 식별자 목록
+     * @return 팔로우 하는 블로그 식별자
+     */
+    public Set<UUID> findFollowing(UUID blogId, Collection<UUID> targets) {
+        UUID[] following = get(Direction.FOLLOWING, blogId);
+
+        Set<UUID> result = new HashSet<>();
+        for (UUID target : targets) {
+            if (Arrays.binarySearch(following, target) >= 0) {
+                result.add(target);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 팔로우가 바뀌면 트랜잭션이 커밋된 이후에 두 블로그의 배열을 바꾼다.
+     * 배열이 없다면 다음 조회 때 새로 만든다.
+     *
+     * @param blogId       팔로우 하는 블로그 식별자
+     * @param targetBlogId 팔로우 대상 블로그 식별자
+     * @param following    팔로우 여부
+     */
+    public void update(UUID blogId, UUID targetBlogId, boolean following) {
+        AfterCommit.run(() -> {
+            apply(new Key(Direction.FOLLOWING, blogId), targetBlogId, following);
+            apply(new Key(Direction.FOLLOWER, targetBlogId), blogId, following);
+        });
+    }
+
+    /**
+     * 블로그가 탈퇴하면 트랜잭션이 커밋된 이후에 블로그의 배열을 제거한다.
+     *
+     * @param blogId 블로그 식별자
+     */
+    public void invalidate(UUID blogId) {
+        AfterCommit.run(() -> {
+            for (Direction direction : Direction.values()) {
+                Key key = new Key(direction, blogId);
+                loadStamps.remove(key);
+                adjacency.invalidate(key);
+            }
+        });
+    }
+
+    /**
+     * 블로그의 배열 조회. 없다면 팔로우 정보를 조회하여 만든다.
+     * 조회 전에 표식을 남기고, 팔로우가 바뀐 블로그는 표식을 지운다.
+     * 조회하는 동안 표식이 지워졌다면 만든 배열을 이번 요청에만 사용하고 캐시하지 않는다.
+     */
+    private UUID[] get(Direction direction, UUID blogId) {
+        Key key = new Key(direction, blogId);
+        UUID[] cached = adjacency.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        Object stamp = new Object();
+        loadStamps.put(key, stamp);
+
+        try {
+            List<UUID> loaded = direction == Direction.FOLLOWING
+                    ? followRepository.findFollowingBlogIds(blogId)
+                    : followRepository.findFollowerBlogIds(blogId);
+
+            UUID[] blogIds = loaded.toArray(new UUID[0]);
+            Arrays.sort(blogIds);
+
+            if (loadStamps.remove(key, stamp)) {
+                adjacency.put(key, blogIds);
+            }
+            return blogIds;
+        } finally {
+            loadStamps.remove(key, stamp);
+        }
+    }
+
+    /**
+     * 식별자를 넣거나 뺀 새 배열로 바꾼다. (다시 넣어서 바뀐 크기를 반영한다.)
+     */
+    private void apply(Key key, UUID blogId, boolean add) {
+        loadStamps.remove(key);
+        adjacency.asMap().computeIfPresent(key, (k, blogIds) -> {
+            int index = Arrays.binarySearch(blogIds, blogId);
+
+            if (add && index < 0) {
+                int insertAt = -index - 1;
+                UUID[] updated = new UUID[blogIds.length + 1];
+                System.arraycopy(blogIds, 0, updated, 0, insertAt);
+                updated[insertAt] = blogId;
+                System.arraycopy(blogIds, insertAt, updated, insertAt + 1, blogIds.length - insertAt);
+                return updated;
+            }
+
+            if (!add && index >= 0) {
+                UUID[] updated = new UUID[blogIds.length - 1];
+                System.arraycopy(blogIds, 0, updated, 0, index);
+                System.arraycopy(blogIds, index + 1, updated, index, blogIds.length - index - 1);
+                return updated;
+            }
+
+            return blogIds;
+        });
+    }
+}
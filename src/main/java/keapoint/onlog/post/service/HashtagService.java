@@ -0,0 +1,242 @@
+package keapoint.onlog.post.service;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import jakarta.annotation.PostConstruct;
+import keapoint.onlog.post.base.BaseErrorCode;
+import keapoint.onlog.post.base.BaseException;
+import keapoint.onlog.post.entity.Hashtag;
+import keapoint.onlog.post.entity.HashtagPost;
+import keapoint.onlog.post.entity.Post;
+import keapoint.onlog.post.repository.HashtagPostRepository;
+import keapoint.onlog.post.repository.HashtagRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.text.Normalizer;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * 해시태그 사전 서비스
+ * <p>
+ * 해시태그 이름을 정규화한 뒤 이름 → 식별자 캐시에서 먼저 찾고, 캐시에 없는 이름은 IN 쿼리 한 번으로 조회한다.
+ * 그래도 없는 이름은 INSERT IGNORE 한 번으로 만들기 때문에, 동시에 같은 해시태그를 만들어도 중복 행이 생기지 않는다.
+ * 해시태그는 삭제되지 않으므로 이름과 식별자의 대응은 변하지 않는다.
+ * (정규화 이전에 저장된 이름은 소문자로 바꾸고 중복 행을 합친 뒤 uk_hashtag_name을 적용해야 한다.)
+ * <p>
+ * 해시태그로 게시글을 조회할 수 있도록 해시태그 → 게시글 역색인(hashtag_post)도 함께 관리한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class HashtagService {
+
+    private static final int MAX_NAME_LENGTH = 100; // hashtag_name 컬럼 길이
+
+    private final HashtagRepository hashtagRepository;
+    private final HashtagPostRepository hashtagPostRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${post.hashtag-cache.maximum-size:50000}")
+    private long maximumSize; // 캐시에 보관할 최대 해시태그 수
+
+    private Cache<String, Long> idsByName; // 정규화된 해시태그 이름 → 식별자
+
+    @PostConstruct
+    public void init() {
+        idsByName = CacheBuilder.newBuilder()
+                .maximumSize(maximumSize)
+                .build();
+    }
+
+    /**
+     * 해시태그 이름 정규화
+     * 앞뒤 공백과 앞에 붙은 '#'을 제거하고, 유니코드 정규화(NFC) 후 소문자로 바꾼다.
+     *
+     * @param name 해시태그 이름
+     * @return 정규화된 해시태그 이름. 비어있다면 빈 문자열
+     */
+    public static String normalize(String name) {
+        if (name == null) {
+            return "";
+        }
+
+        String normalized = Normalizer.normalize(name, Normalizer.Form.NFC).strip();
+        while (normalized.startsWith("#")) {
+            normalized = normalized.substring(1).strip();
+        }
+
+        return normalized.replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 해시태그 이름 목록을 해시태그로 변환한다. 없는 해시태그는 만든다.
+     * 반환되는 해시태그는 식별자만 가진 참조이므로 추가 SELECT가 발생하지 않는다.
+     *
+     * @param names 해시태그 이름 목록 (정규화 전)
+     * @return 중복이 제거된 해시태그 목록 (요청 순서 유지)
+     */
+    public List<Hashtag> resolve(Collection<String> names) throws BaseException {
+        Map<String, Long> ids = resolveIds(names);
+
+        return ids.values().stream()
+                .filter(Objects::nonNull)
+                .map(hashtagRepository::getReferenceById)
+                .toList();
+    }
+
+    /**
+     * 이미 존재하는 해시태그의 식별자 조회. 없는 해시태그는 만들지 않는다.
+     *
+     * @param name 해시태그 이름 (정규화 전)
+     * @return 해시태그 식별자
+     */
+    public Optional<Long> findId(String name) {
+        String normalized = normalize(name);
+        if (normalized.isEmpty()) {
+            return Optional.empty();
+        }
+
+        Long cached = idsByName.getIfPresent(normalized);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        Map<String, Long> found = select(List.of(normalized));
+        idsByName.putAll(found);
+        return Optional.ofNullable(found.get(normalized));
+    }
+
+    /**
+     * 게시글의 해시태그 역색인 갱신
+     * 역색인에 등록된 해시태그와 게시글의 해시태그를 비교하여 바뀐 행만 추가, 삭제한다.
+     * 게시글을 작성하거나 해시태그를 수정한 같은 트랜잭션 안에서 호출해야 한다.
+     *
+     * @param post 작성 또는 수정된 게시글
+     */
+    public void updatePostings(Post post) {
+        UUID postId = post.getPostId();
+
+        Set<Long> hashtagIds = post.getHashtagList().stream()
+                .map(Hashtag::getId)
+                .collect(Collectors.toSet());
+        Set<Long> indexedIds = new HashSet<>(hashtagPostRepository.findHashtagIdsByPostId(postId));
+
+        List<Long> removed = indexedIds.stream()
+                .filter(hashtagId -> !hashtagIds.contains(hashtagId))
+                .toList();
+        if (!removed.isEmpty()) {
+            hashtagPostRepository.deleteByPostIdAndHashtagIdIn(postId, removed);
+        }
+
+        List<HashtagPost> added = hashtagIds.stream()
+                .filter(hashtagId -> !indexedIds.contains(hashtagId))
+                .map(hashtagId -> new HashtagPost(hashtagId, postId, post.getCreatedAt()))
+                .toList();
+        if (!added.isEmpty()) {
+            hashtagPostRepository.insertAll(added);
+        }
+    }
+
+    /**
+     * 삭제된 게시글을 해시태그 역색인에서 제거
+     *
+     * @param postId 삭제된 게시글 식별자
+     */
+    public void removePostings(UUID postId) {
+        hashtagPostRepository.deleteByPostId(postId);
+    }
+
+    private Map<String, Long> resolveIds(Collection<String> names) throws BaseException {
+        // 1. 정규화하고 중복을 제거한다.
+        Set<String> normalized = new LinkedHashSet<>();
+        if (names != null) {
+            for (String name : names) {
+                String hashtag = normalize(name);
+                if (hashtag.isEmpty()) {
+                    continue;
+                }
+                if (hashtag.length() > MAX_NAME_LENGTH) {
+                    throw new BaseException(BaseErrorCode.INVALID_HASHTAG_EXCEPTION);
+                }
+                normalized.add(hashtag);
+            }
+        }
+
+        Map<String, Long> ids = new LinkedHashMap<>();
+        normalized.forEach(name -> ids.put(name, null));
+
+        // 2. 캐시에서 찾는다.
+        List<String> missing = new ArrayList<>();
+        for (String name : normalized) {
+            Long cached = idsByName.getIfPresent(name);
+            if (cached != null) {
+                ids.put(name, cached);
+            } else {
+                missing.add(name);
+            }
+        }
+
+        // 3. 캐시에 없는 이름은 IN 쿼리 한 번으로 조회한다.
+        if (!missing.isEmpty()) {
+            Map<String, Long> found = select(missing);
+            idsByName.putAll(found);
+            ids.putAll(found);
+            missing.removeAll(found.keySet());
+        }
+
+        // 4. 그래도 없는 이름은 한 번에 만든 뒤 다시 조회한다.
+        if (!missing.isEmpty()) {
+            insertIgnore(missing);
+            Map<String, Long> created = select(missing);
+            ids.putAll(created);
+            cacheAfterCommit(created);
+        }
+
+        return ids;
+    }
+
+    /**
+     * 정규화된 이름으로 해시태그 식별자를 조회한다.
+     * 컬럼 콜레이션이 대소문자를 구분하지 않으므로 정규화 이전에 저장된 이름("Java")도 함께 조회될 수 있다.
+     * 조회된 이름도 정규화해서 키로 사용하며, 같은 이름이 여러 행이라면 가장 먼저 만들어진 해시태그를 사용한다.
+     */
+    private Map<String, Long> select(Collection<String> names) {
+        Map<String, Long> found = new HashMap<>();
+        for (Object[] row : hashtagRepository.findIdsByNameIn(names)) {
+            found.merge(normalize((String) row[0]), (Long) row[1], Math::min);
+        }
+        return found;
+    }
+
+    /**
+     * 여러 해시태그를 INSERT 문 하나로 만든다. 다른 요청이 먼저 만든 해시태그는 무시된다.
+     */
+    private void insertIgnore(List<String> names) {
+        String placeholders = String.join(", ", Collections.nCopies(names.size(), "(?)"));
+        jdbcTemplate.update("INSERT IGNORE INTO hashtag (hashtag_name) VALUES " + placeholders, names.toArray());
+    }
+
+    /**
+     * 새로 만든 해시태그는 트랜잭션이 롤백될 수 있으므로 커밋된 이후에 캐시에 넣는다.
+     */
+    private void cacheAfterCommit(Map<String, Long> created) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            idsByName.putAll(created);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                idsByName.putAll(created);
+            }
+        });
+    }
+}
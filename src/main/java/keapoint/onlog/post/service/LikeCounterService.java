@@ -0,0 +1,259 @@
+package keapoint.onlog.post.service;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import keapoint.onlog.post.dto.post.PostSummaryDto;
+import keapoint.onlog.post.entity.LikeCounterShard;
+import keapoint.onlog.post.entity.LikeCounterShard.TargetType;
+import keapoint.onlog.post.repository.CommentRepository;
+import keapoint.onlog.post.repository.LikeCounterShardRepository;
+import keapoint.onlog.post.repository.PostRepository;
+import keapoint.onlog.post.utils.UuidBytes;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 게시글, 댓글 좋아요 개수 분산 카운터 서비스
+ * <p>
+ * 좋아요마다 게시글(댓글) 행을 읽고 고쳐 쓰지 않고, 대상마다 여러 개의 분산 카운터 행 중 하나를 골라
+ * "delta = delta + 1" 형태의 문장 하나로 증감량을 기록한다. 동시에 좋아요가 몰려도 증감량이 유실되지 않고, 잠금은 행 수만큼 나뉜다.
+ * <p>
+ * 좋아요 개수는 post_likes_count(comment_likes_count)와 분산 카운터 증감량의 합을 한 문장으로 읽으며, 짧은 시간 동안 캐시한다.
+ * 스케줄러는 주기적으로 증감량을 post_likes_count(comment_likes_count)와 블로그 통계에 합치고, 읽은 만큼만 차감한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LikeCounterService {
+
+    private static final int FOLD_BATCH_SIZE = 500; // 한 트랜잭션에서 합칠 최대 분산 카운터 행 수
+    private static final int MAX_FOLD_BATCHES = 100; // 한 주기에 처리할 최대 배치 수
+    private static final int IN_CLAUSE_CHUNK_SIZE = 1000; // IN 절에 넣을 최대 식별자 수
+
+    private final LikeCounterShardRepository shardRepository;
+    private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
+    private final BlogStatsService blogStatsService;
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${post.likes.shards:16}")
+    private int shards; // 대상마다 나누어 기록할 분산 카운터 행 수
+
+    @Value("${post.likes.cache-ttl-ms:1000}")
+    private long cacheTtlMillis; // 좋아요 개수 캐시 유지 시간
+
+    private Cache<CounterKey, Long> counts; // 좋아요 대상 → 좋아요 개수
+    private TransactionTemplate transactionTemplate;
+    private Timer foldTimer;
+
+    /**
+     * 좋아요 개수 캐시 키
+     */
+    private record CounterKey(TargetType targetType, UUID targetId) {
+    }
+
+    @PostConstruct
+    public void init() {
+        counts = CacheBuilder.newBuilder()
+                .expireAfterWrite(cacheTtlMillis, TimeUnit.MILLISECONDS)
+                .maximumSize(100_000)
+                .build();
+
+        transactionTemplate = new TransactionTemplate(transactionManager);
+
+        foldTimer = Timer.builder("post.likes.fold")
+                .description("좋아요 분산 카운터를 합치는 데 걸린 시간")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 좋아요 개수 증감
+     * 호출한 트랜잭션에 포함되므로, 좋아요 정보 저장이 롤백되면 증감량도 함께 롤백된다.
+     *
+     * @param targetType 좋아요 대상 종류
+     * @param targetId   게시글 또는 댓글 식별자
+     * @param delta      증감량 (좋아요 1, 좋아요 취소 -1)
+     */
+    public void increment(TargetType targetType, UUID targetId, long delta) {
+        int shard = ThreadLocalRandom.current().nextInt(shards);
+
+        jdbcTemplate.update("INSERT INTO like_counter_shard (target_type, target_id, shard, delta) VALUES (?, ?, ?, ?) " +
+                        "ON DUPLICATE KEY UPDATE delta = delta + VALUES(delta)",
+                targetType.name(), UuidBytes.toBytes(targetId), shard, delta);
+
+        evictAfterCommit(new CounterKey(targetType, targetId));
+    }
+
+    /**
+     * 게시글, 댓글 삭제 시 분산 카운터를 함께 삭제한다.
+     *
+     * @param targetType 좋아요 대상 종류
+     * @param targetId   게시글 또는 댓글 식별자
+     */
+    public void reset(TargetType targetType, UUID targetId) {
+        shardRepository.deleteByTarget(targetType, targetId);
+        evictAfterCommit(new CounterKey(targetType, targetId));
+    }
+
+    /**
+     * 좋아요 개수 조회
+     *
+     * @param targetType 좋아요 대상 종류
+     * @param targetId   게시글 또는 댓글 식별자
+     * @return 좋아요 개수. 대상이 없다면 0
+     */
+    public long getCount(TargetType targetType, UUID targetId) {
+        return getCounts(targetType, List.of(targetId)).getOrDefault(targetId, 0L);
+    }
+
+    /**
+     * 여러 대상의 좋아요 개수 조회
+     * 캐시에 없는 대상만 IN 쿼리로 조회한다.
+     *
+     * @param targetType 좋아요 대상 종류
+     * @param targetIds  게시글 또는 댓글 식별자 목록
+     * @return 식별자 → 좋아요 개수
+     */
+    public Map<UUID, Long> getCounts(TargetType targetType, Collection<UUID> targetIds) {
+        Map<UUID, Long> result = new HashMap<>();
+        List<UUID> missing = new ArrayList<>();
+
+        for (UUID targetId : new LinkedHashSet<>(targetIds)) {
+            Long cached = counts.getIfPresent(new CounterKey(targetType, targetId));
+            if (cached != null) {
+                result.put(targetId, cached);
+            } else {
+                missing.add(targetId);
+            }
+        }
+
+        for (int from = 0; from < missing.size(); from += IN_CLAUSE_CHUNK_SIZE) {
+            List<UUID> chunk = missing.subList(from, Math.min(from + IN_CLAUSE_CHUNK_SIZE, missing.size()));
+            List<Object[]> rows = targetType == TargetType.POST
+                    ? shardRepository.findPostLikesCounts(chunk)
+                    : shardRepository.findCommentLikesCounts(chunk);
+
+            for (Object[] row : rows) {
+                UUID targetId = (UUID) row[0];
+                long count = ((Number) row[1]).longValue();
+                result.put(targetId, count);
+                counts.put(new CounterKey(targetType, targetId), count);
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * 게시글 목록의 좋아요 개수를 분산 카운터까지 합친 값으로 채운다.
+     *
+     * @param posts 게시글 요약 정보 목록
+     * @return 좋아요 개수가 채워진 게시글 요약 정보 목록
+     */
+    public List<PostSummaryDto> fillPostLikesCount(List<PostSummaryDto> posts) {
+        Map<UUID, Long> likes = getCounts(TargetType.POST, posts.stream()
+                .map(PostSummaryDto::getPostId)
+                .toList());
+
+        posts.forEach(post -> post.setLikesCount(likes.getOrDefault(post.getPostId(), post.getLikesCount())));
+        return posts;
+    }
+
+    /**
+     * 분산 카운터의 증감량을 post_likes_count, comment_likes_count에 합친다.
+     */
+    @Scheduled(fixedDelayString = "${post.likes.fold-interval-ms:10000}")
+    public synchronized void fold() {
+        try {
+            foldTimer.record(() -> {
+                for (TargetType targetType : TargetType.values()) {
+                    fold(targetType);
+                }
+            });
+
+        } catch (Exception e) {
+            log.error("좋아요 분산 카운터를 합치는 데 실패하였습니다. 다음 주기에 다시 시도합니다.", e);
+        }
+    }
+
+    @PreDestroy
+    public void destroy() {
+        fold();
+    }
+
+    private void fold(TargetType targetType) {
+        int folded = 0;
+
+        for (int batch = 0; batch < MAX_FOLD_BATCHES; batch++) {
+            List<LikeCounterShard> pending = shardRepository.findPending(targetType, PageRequest.of(0, FOLD_BATCH_SIZE));
+            if (pending.isEmpty()) {
+                break;
+            }
+
+            Map<UUID, List<LikeCounterShard>> byTarget = pending.stream()
+                    .collect(Collectors.groupingBy(LikeCounterShard::getTargetId, LinkedHashMap::new, Collectors.toList()));
+
+            // 합친 만큼만 차감하므로, 읽은 뒤에 더해진 증감량은 다음 주기에 합쳐진다.
+            transactionTemplate.executeWithoutResult(status -> byTarget.forEach((targetId, rows) -> {
+                long delta = rows.stream().mapToLong(LikeCounterShard::getDelta).sum();
+
+                if (targetType == TargetType.POST) {
+                    postRepository.addLikesCount(targetId, delta);
+                    blogStatsService.addPostLikes(targetId, delta); // 게시글 작성자의 좋아요 수에도 함께 더한다.
+                } else {
+                    commentRepository.addLikesCount(targetId, delta);
+                }
+
+                rows.forEach(row -> shardRepository.subtract(targetType, targetId, row.getShard(), row.getDelta()));
+            }));
+
+            folded += pending.size();
+            if (pending.size() < FOLD_BATCH_SIZE) {
+                break;
+            }
+        }
+
+        Integer deleted = transactionTemplate.execute(status -> shardRepository.deleteFolded(targetType));
+
+        if (folded > 0) {
+            log.info("좋아요 분산 카운터 {}개를 합쳤습니다. (대상: {}, 삭제된 행: {})", folded, targetType, deleted);
+        }
+    }
+
+    /**
+     * 좋아요 개수가 바뀌면 트랜잭션이 커밋된 이후에 캐시에서 제거한다.
+     */
+    private void evictAfterCommit(CounterKey key) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            counts.invalidate(key);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                counts.invalidate(key);
+            }
+        });
+    }
+}
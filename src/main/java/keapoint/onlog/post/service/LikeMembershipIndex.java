@@ -0,0 +1,296 @@
+package keapoint.onlog.post.service;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import keapoint.onlog.post.entity.LikeCounterShard.TargetType;
+import keapoint.onlog.post.repository.UserCommentLikeRepository;
+import keapoint.onlog.post.repository.UserPostLikeRepository;
+import keapoint.onlog.post.utils.AfterCommit;
+import keapoint.onlog.post.utils.CompressedBitmap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 좋아요 한 블로그 색인
+ * <p>
+ * 게시글, 댓글마다 좋아요 한 블로그를 압축 비트맵으로 보관하여, 좋아요 여부는 비트 하나를 확인하는 것으로 끝난다.
+ * 블로그 식별자(UUID)는 처음 본 순서대로 0부터 시작하는 정수 번호로 바꾸어 비트맵에 넣는다.
+ * <p>
+ * 비트맵은 필요할 때 한 번에 여러 대상을 조회하여 만들고, 이 서버에서 좋아요가 바뀌면 트랜잭션이 커밋된 이후에 갱신한다.
+ * 전체 메모리 사용량이 최대치를 넘으면 오래 사용하지 않은 비트맵부터 제거하며,
+ * 다른 서버에서 바뀐 좋아요는 최대 유지 시간 이후에 반영된다.
+ * <p>
+ * 번호가 부여된 블로그 수가 최대치를 넘으면 번호 사전과 비트맵을 함께 버리고 새로 시작한다.
+ * 비트맵은 만든 사전의 번호로만 해석할 수 있으므로, 둘을 한 객체로 묶어 한 번에 교체한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LikeMembershipIndex {
+
+    private static final int IN_CLAUSE_CHUNK_SIZE = 500; // 한 번에 비트맵을 만들 최대 대상 수
+
+    private final UserPostLikeRepository userPostLikeRepository;
+    private final UserCommentLikeRepository userCommentLikeRepository;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${post.like-index.maximum-weight-bytes:67108864}")
+    private long maximumWeightBytes; // 비트맵 전체 최대 메모리 사용량
+
+    @Value("${post.like-index.ttl-seconds:60}")
+    private long ttlSeconds; // 비트맵 유지 시간
+
+    @Value("${post.like-index.maximum-blogs:500000}")
+    private int maximumBlogs; // 번호를 부여할 최대 블로그 수 (넘으면 사전과 비트맵을 새로 시작한다)
+
+    private final Map<Key, Object> loadStamps = new ConcurrentHashMap<>(); // 비트맵을 만드는 중인 대상 → 조회 시작 표식
+
+    private volatile Dictionary dictionary; // 블로그 번호 사전과 그 번호로 만든 비트맵
+    private Counter resets;
+
+    /**
+     * 좋아요 대상
+     */
+    private record Key(TargetType targetType, UUID targetId) {
+    }
+
+    /**
+     * 블로그 번호 사전과 그 번호로 만든 비트맵
+     */
+    private static final class Dictionary {
+        private final Map<UUID, Integer> blogNos = new ConcurrentHashMap<>(); // 블로그 식별자 → 번호
+        private final Map<Integer, UUID> blogIds = new ConcurrentHashMap<>(); // 번호 → 블로그 식별자
+        private final AtomicInteger nextBlogNo = new AtomicInteger();
+        private final Cache<Key, CompressedBitmap> likers; // 좋아요 대상 → 좋아요 한 블로그 번호
+
+        private Dictionary(Cache<Key, CompressedBitmap> likers) {
+            this.likers = likers;
+        }
+
+        private int blogNoOf(UUID blogId) {
+            return blogNos.computeIfAbsent(blogId, id -> {
+                int blogNo = nextBlogNo.getAndIncrement();
+                blogIds.put(blogNo, id);
+                return blogNo;
+            });
+        }
+    }
+
+    @PostConstruct
+    public void init() {
+        dictionary = newDictionary();
+
+        Gauge.builder("post.like.index.hit.ratio", this, index -> index.dictionary.likers.stats().hitRate())
+                .description("좋아요 색인 적중률")
+                .register(meterRegistry);
+        Gauge.builder("post.like.index.entries", this, index -> index.dictionary.likers.size())
+                .description("좋아요 색인에 보관 중인 비트맵 수")
+                .register(meterRegistry);
+        Gauge.builder("post.like.index.blogs", this, index -> index.dictionary.blogNos.size())
+                .description("좋아요 색인에 번호가 부여된 블로그 수")
+                .register(meterRegistry);
+        resets = Counter.builder("post.like.index.resets")
+                .description("번호가 부여된 블로그 수가 최대치를 넘어 색인을 새로 시작한 횟수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 대상 중 블로그가 좋아요 한 대상 조회
+     *
+     * @param targetType 좋아요 대상 종류
+     * @param blogId     블로그 식별자
+     * @param targetIds  게시글 또는 댓글 식별자 목록
+     * @return 좋아요 한 대상 식별자
+     */
+    public Set<UUID> findLiked(TargetType targetType, UUID blogId, Collection<UUID> targetIds) {
+        if (targetIds.isEmpty()) {
+            return Set.of();
+        }
+
+        Dictionary current = current();
+        Map<UUID, CompressedBitmap> bitmaps = getBitmaps(current, targetType, targetIds);
+
+        // 모든 대상의 비트맵을 만든 뒤에도 번호가 없다면 어느 대상에도 좋아요 하지 않은 블로그다.
+        Integer blogNo = current.blogNos.get(blogId);
+        if (blogNo == null) {
+            return Set.of();
+        }
+
+        Set<UUID> liked = new HashSet<>();
+        bitmaps.forEach((targetId, bitmap) -> {
+            synchronized (bitmap) {
+                if (bitmap.contains(blogNo)) {
+                    liked.add(targetId);
+                }
+            }
+        });
+        return liked;
+    }
+
+    /**
+     * 블로그 중 대상을 좋아요 한 블로그 조회 (예: 내가 팔로우 하는 블로그 중 게시글을 좋아요 한 블로그)
+     *
+     * @param targetType 좋아요 대상 종류
+     * @param targetId   게시글 또는 댓글 식별자
+     * @param candidates 블로그 식별자 목록
+     * @return 대상을 좋아요 한 블로그 식별자 (번호 순서)
+     */
+    public List<UUID> findLikersAmong(TargetType targetType, UUID targetId, Collection<UUID> candidates) {
+        Dictionary current = current();
+        CompressedBitmap bitmap = getBitmaps(current, targetType, List.of(targetId)).get(targetId);
+
+        CompressedBitmap candidateBitmap = new CompressedBitmap();
+        for (UUID candidate : candidates) {
+            Integer blogNo = current.blogNos.get(candidate);
+            if (blogNo != null) {
+                candidateBitmap.add(blogNo);
+            }
+        }
+
+        CompressedBitmap intersection;
+        synchronized (bitmap) {
+            intersection = CompressedBitmap.and(bitmap, candidateBitmap);
+        }
+
+        List<UUID> result = new ArrayList<>();
+        intersection.forEach(blogNo -> result.add(current.blogIds.get(blogNo)));
+        return result;
+    }
+
+    /**
+     * 좋아요가 바뀌면 트랜잭션이 커밋된 이후에 비트맵을 갱신한다.
+     * 비트맵이 없다면 다음 조회 때 새로 만든다.
+     *
+     * @param targetType 좋아요 대상 종류
+     * @param targetId   게시글 또는 댓글 식별자
+     * @param blogId     블로그 식별자
+     * @param liked      좋아요 여부
+     */
+    public void update(TargetType targetType, UUID targetId, UUID blogId, boolean liked) {
+        AfterCommit.run(() -> {
+            Key changed = new Key(targetType, targetId);
+            loadStamps.remove(changed);
+
+            Dictionary current = current();
+            int blogNo = current.blogNoOf(blogId);
+
+            // 다시 넣어서 바뀐 크기를 반영한다.
+            current.likers.asMap().computeIfPresent(changed, (key, bitmap) -> {
+                synchronized (bitmap) {
+                    if (liked) {
+                        bitmap.add(blogNo);
+                    } else {
+                        bitmap.remove(blogNo);
+                    }
+                }
+                return bitmap;
+            });
+        });
+    }
+
+    /**
+     * 게시글, 댓글이 삭제되면 트랜잭션이 커밋된 이후에 비트맵을 제거한다.
+     *
+     * @param targetType 좋아요 대상 종류
+     * @param targetId   게시글 또는 댓글 식별자
+     */
+    public void invalidate(TargetType targetType, UUID targetId) {
+        AfterCommit.run(() -> {
+            Key changed = new Key(targetType, targetId);
+            loadStamps.remove(changed);
+            dictionary.likers.invalidate(changed);
+        });
+    }
+
+    /**
+     * 대상의 비트맵 조회. 없는 비트맵은 IN 쿼리로 좋아요 정보를 조회하여 만든다.
+     * 조회 전에 대상마다 표식을 남기고, 좋아요가 바뀐 대상은 표식을 지운다.
+     * 조회하는 동안 표식이 지워진 대상의 비트맵은 이번 요청에만 사용하고 캐시하지 않는다.
+     */
+    private Map<UUID, CompressedBitmap> getBitmaps(Dictionary current, TargetType targetType, Collection<UUID> targetIds) {
+        Map<UUID, CompressedBitmap> bitmaps = new HashMap<>();
+        List<UUID> missing = new ArrayList<>();
+
+        for (UUID targetId : new LinkedHashSet<>(targetIds)) {
+            CompressedBitmap cached = current.likers.getIfPresent(new Key(targetType, targetId));
+            if (cached != null) {
+                bitmaps.put(targetId, cached);
+            } else {
+                missing.add(targetId);
+            }
+        }
+
+        for (int from = 0; from < missing.size(); from += IN_CLAUSE_CHUNK_SIZE) {
+            List<UUID> chunk = missing.subList(from, Math.min(from + IN_CLAUSE_CHUNK_SIZE, missing.size()));
+
+            Object stamp = new Object();
+            Map<UUID, CompressedBitmap> loaded = new HashMap<>();
+            chunk.forEach(targetId -> {
+                loaded.put(targetId, new CompressedBitmap());
+                loadStamps.put(new Key(targetType, targetId), stamp);
+            });
+
+            try {
+                List<Object[]> rows = targetType == TargetType.POST
+                        ? userPostLikeRepository.findLikers(chunk)
+                        : userCommentLikeRepository.findLikers(chunk);
+                for (Object[] row : rows) {
+                    loaded.get((UUID) row[0]).add(current.blogNoOf((UUID) row[1]));
+                }
+
+                // 표식이 그대로 남아 있는 대상만 캐시한다. (같은 대상을 동시에 만들면 마지막에 시작한 요청만 캐시한다.)
+                loaded.forEach((targetId, bitmap) -> {
+                    Key key = new Key(targetType, targetId);
+                    if (loadStamps.remove(key, stamp)) {
+                        current.likers.put(key, bitmap);
+                    }
+                });
+            } finally {
+                chunk.forEach(targetId -> loadStamps.remove(new Key(targetType, targetId), stamp));
+            }
+            bitmaps.putAll(loaded);
+        }
+
+        return bitmaps;
+    }
+
+    /**
+     * 현재 사전. 번호가 부여된 블로그 수가 최대치를 넘었다면 비트맵과 함께 새로 시작한다.
+     * 이전 사전을 사용 중인 요청은 이전 사전과 비트맵으로 끝까지 처리된다.
+     */
+    private Dictionary current() {
+        Dictionary current = dictionary;
+        if (current.blogNos.size() <= maximumBlogs) {
+            return current;
+        }
+
+        synchronized (this) {
+            if (dictionary == current) {
+                log.info("좋아요 색인의 블로그 수가 최대치를 넘어 새로 시작합니다. blogs={}", current.blogNos.size());
+                dictionary = newDictionary();
+                resets.increment();
+            }
+            return dictionary;
+        }
+    }
+
+    private Dictionary newDictionary() {
+        return new Dictionary(CacheBuilder.newBuilder()
+                .maximumWeight(maximumWeightBytes)
+                .weigher((Key key, CompressedBitmap bitmap) -> bitmap.sizeInBytes())
+                .expireAfterWrite(ttlSeconds, TimeUnit.SECONDS)
+                .recordStats()
+                .<Key, CompressedBitmap>build());
+    }
+}
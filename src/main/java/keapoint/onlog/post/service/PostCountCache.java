@@ -0,0 +1,70 @@
+package keapoint.onlog.post.service;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * 게시글 목록의 전체 개수 캐시
+ * <p>
+ * 페이지 번호 기반 조회에서 매 요청마다 COUNT 쿼리를 실행하지 않도록, 조회 조건별 전체 개수를 일정 시간 동안 재사용한다.
+ * 따라서 반환되는 전체 개수는 최대 캐시 유지 시간만큼 오래된 근사값이다.
+ */
+@Slf4j
+@Component
+public class PostCountCache {
+
+    @Value("${post.count-cache.ttl-seconds:60}")
+    private long ttlSeconds; // 전체 개수 유지 시간
+
+    @Value("${post.count-cache.maximum-size:10000}")
+    private long maximumSize; // 최대 캐시 항목 수
+
+    private Cache<String, Long> counts;
+
+    @PostConstruct
+    public void init() {
+        counts = CacheBuilder.newBuilder()
+                .expireAfterWrite(ttlSeconds, TimeUnit.SECONDS)
+                .maximumSize(maximumSize)
+                .build();
+    }
+
+    /**
+     * 조회 조건에 해당하는 게시글의 (근사) 전체 개수 조회
+     *
+     * @param key    조회 조건을 나타내는 키
+     * @param loader 캐시에 없을 때 실제 개수를 구하는 함수
+     * @return 게시글의 전체 개수
+     */
+    public long getCount(String key, LongSupplier loader) {
+        try {
+            return counts.get(key, loader::getAsLong);
+
+        } catch (ExecutionException e) {
+            log.error("게시글 개수 조회에 실패하였습니다: " + key, e);
+            return loader.getAsLong();
+        }
+    }
+
+    /**
+     * 조회 조건을 캐시 키로 변환
+     *
+     * @param conditions 조회 조건
+     * @return 캐시 키
+     */
+    public static String keyOf(Object... conditions) {
+        StringBuilder key = new StringBuilder();
+        for (Object condition : conditions) {
+            key.append(condition).append('|');
+        }
+        return key.toString();
+    }
+}
@@ -0,0 +1,263 @@
+package keapoint.onlog.post.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import keapoint.onlog.post.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * 게시글 방문 횟수 지연 반영(write-behind) 서비스
+ * <p>
+ * 게시글 조회마다 post 행을 UPDATE 하지 않고, 게시글 식별자별 LongAdder에 방문 횟수를 누적한 뒤
+ * 스케줄러가 주기적으로 "post_hits = post_hits + ?" 형태의 UPDATE로 일괄 반영한다.
+ * 저널을 활성화하면 아직 반영되지 않은 방문 횟수를 로컬 파일에 주기적으로 기록하여,
+ * 서버가 비정상 종료되더라도 최대 저널 기록 주기만큼의 방문 횟수만 유실된다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PostHitService {
+
+    private static final int FLUSH_CHUNK_SIZE = 500; // 하나의 UPDATE 문에 묶을 최대 게시글 수
+
+    private final PostRepository postRepository;
+    private final MeterRegistry meterRegistry;
+    private final PlatformTransactionManager transactionManager;
+
+    private final Map<UUID, LongAdder> pendingHits = new ConcurrentHashMap<>(); // 반영 대기 중인 방문 횟수
+    private final AtomicLong lastFlushedAt = new AtomicLong(System.currentTimeMillis()); // 마지막으로 반영에 성공한 시각
+
+    private Timer flushTimer;
+    private TransactionTemplate transactionTemplate;
+
+    @Value("${post.hits.journal.enabled:false}")
+    private boolean journalEnabled; // 저널 사용 여부
+
+    @Value("${post.hits.journal.path:./data/post-hits.journal}")
+    private String journalPath; // 저널 파일 위치
+
+    @PostConstruct
+    public void init() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+
+        Gauge.builder("post.hits.backlog.posts", pendingHits, Map::size)
+                .description("방문 횟수 반영을 기다리는 게시글 수")
+                .register(meterRegistry);
+
+        Gauge.builder("post.hits.backlog.hits", this, PostHitService::getBacklog)
+                .description("아직 DB에 반영되지 않은 방문 횟수")
+                .register(meterRegistry);
+
+        Gauge.builder("post.hits.flush.lag", lastFlushedAt, last -> (System.currentTimeMillis() - last.get()) / 1000.0)
+                .description("마지막 반영 이후 경과 시간")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+
+        flushTimer = Timer.builder("post.hits.flush")
+                .description("방문 횟수 일괄 반영 소요 시간")
+                .register(meterRegistry);
+
+        if (journalEnabled) {
+            replayJournal();
+        }
+    }
+
+    /**
+     * 게시글 방문 기록
+     *
+     * @param postId 방문한 게시글 식별자
+     */
+    public void hit(UUID postId) {
+        pendingHits.computeIfAbsent(postId, id -> new LongAdder()).increment();
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 게시글 방문 횟수 조회
+     *
+     * @param postId 게시글 식별자
+     * @return 반영 대기 중인 방문 횟수
+     */
+    public long getPendingHits(UUID postId) {
+        LongAdder adder = pendingHits.get(postId);
+        return adder == null ? 0L : adder.sum();
+    }
+
+    /**
+     * 반영 대기 중인 전체 방문 횟수
+     */
+    public long getBacklog() {
+        return pendingHits.values().stream()
+                .mapToLong(LongAdder::sum)
+                .sum();
+    }
+
+    /**
+     * 누적된 방문 횟수를 DB에 일괄 반영한다.
+     * 같은 증가량을 가진 게시글끼리 묶어 UPDATE 문의 수를 줄인다.
+     * 한 주기의 UPDATE는 하나의 트랜잭션으로 실행하므로, 실패하면 전부 롤백된 뒤 다시 누적되어 중복 반영되지 않는다.
+     * <p>
+     * 저널은 꺼낸 방문 횟수를 뺀 상태로 DB 반영 전에 다시 기록한다.
+     * 반영 후에 기록하면, 그 사이에 종료되었을 때 이미 반영한 방문 횟수를 재시작 시 한 번 더 더하게 된다.
+     * (반영 전에 종료되면 이번 주기의 방문 횟수는 유실된다.)
+     */
+    @Scheduled(fixedDelayString = "${post.hits.flush-interval-ms:5000}")
+    public synchronized void flush() {
+        Map<UUID, Long> snapshot = drain();
+
+        if (snapshot.isEmpty()) {
+            lastFlushedAt.set(System.currentTimeMillis());
+            return;
+        }
+
+        if (journalEnabled) {
+            writeJournal();
+        }
+
+        try {
+            flushTimer.record(() -> write(snapshot));
+            lastFlushedAt.set(System.currentTimeMillis());
+            log.info("게시글 {}개의 방문 횟수를 반영하였습니다.", snapshot.size());
+
+        } catch (Exception e) {
+            log.error("게시글 방문 횟수 반영에 실패하였습니다. 다음 주기에 다시 시도합니다.", e);
+            snapshot.forEach(this::addHits); // 반영에 실패한 방문 횟수는 다시 누적한다.
+
+            if (journalEnabled) {
+                writeJournal();
+            }
+        }
+    }
+
+    /**
+     * 반영 대기 중인 방문 횟수를 주기적으로 저널에 기록한다.
+     */
+    @Scheduled(fixedDelayString = "${post.hits.journal.interval-ms:1000}")
+    public void checkpoint() {
+        if (journalEnabled) {
+            writeJournal();
+        }
+    }
+
+    @PreDestroy
+    public void destroy() {
+        flush();
+    }
+
+    /**
+     * 누적된 방문 횟수를 꺼내고 0으로 초기화한다.
+     * 한 주기 동안 방문이 없던 게시글은 맵에서 제거한다.
+     */
+    private Map<UUID, Long> drain() {
+        Map<UUID, Long> snapshot = new HashMap<>();
+
+        pendingHits.forEach((postId, adder) -> {
+            long hits = adder.sumThenReset();
+
+            if (hits > 0) {
+                snapshot.put(postId, hits);
+
+            } else if (pendingHits.remove(postId, adder)) {
+                // 제거 직전에 들어온 방문 횟수는 다시 누적한다.
+                long late = adder.sumThenReset();
+                if (late > 0) {
+                    addHits(postId, late);
+                }
+            }
+        });
+
+        return snapshot;
+    }
+
+    private void write(Map<UUID, Long> snapshot) {
+        Map<Long, List<UUID>> postIdsByHits = snapshot.entrySet().stream()
+                .collect(Collectors.groupingBy(Map.Entry::getValue,
+                        Collectors.mapping(Map.Entry::getKey, Collectors.toList())));
+
+        transactionTemplate.executeWithoutResult(status -> postIdsByHits.forEach((hits, postIds) -> {
+            for (int from = 0; from < postIds.size(); from += FLUSH_CHUNK_SIZE) {
+                List<UUID> chunk = postIds.subList(from, Math.min(from + FLUSH_CHUNK_SIZE, postIds.size()));
+                postRepository.increaseHits(hits, chunk);
+            }
+        }));
+    }
+
+    private void addHits(UUID postId, long hits) {
+        pendingHits.computeIfAbsent(postId, id -> new LongAdder()).add(hits);
+    }
+
+    /**
+     * 반영 대기 중인 방문 횟수를 저널 파일에 기록한다.
+     * 임시 파일에 먼저 기록한 뒤 교체하여, 기록 도중 종료되어도 이전 저널이 보존되도록 한다.
+     */
+    private synchronized void writeJournal() {
+        Path journal = Paths.get(journalPath);
+
+        try {
+            if (journal.getParent() != null) {
+                Files.createDirectories(journal.getParent());
+            }
+
+            Path temp = journal.resolveSibling(journal.getFileName() + ".tmp");
+            try (BufferedWriter writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+                for (Map.Entry<UUID, LongAdder> entry : pendingHits.entrySet()) {
+                    long hits = entry.getValue().sum();
+                    if (hits > 0) {
+                        writer.write(entry.getKey() + " " + hits);
+                        writer.newLine();
+                    }
+                }
+            }
+
+            Files.move(temp, journal, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        } catch (IOException e) {
+            log.error("게시글 방문 횟수 저널 기록에 실패하였습니다.", e);
+        }
+    }
+
+    /**
+     * 서버 시작 시 저널에 남아있는 방문 횟수를 다시 누적한다.
+     */
+    private void replayJournal() {
+        Path journal = Paths.get(journalPath);
+        if (!Files.exists(journal)) {
+            return;
+        }
+
+        try {
+            List<String> lines = Files.readAllLines(journal, StandardCharsets.UTF_8);
+            for (String line : lines) {
+                String[] tokens = line.trim().split(" ");
+                if (tokens.length == 2) {
+                    addHits(UUID.fromString(tokens[0]), Long.parseLong(tokens[1]));
+                }
+            }
+            log.info("저널에서 게시글 {}개의 방문 횟수를 복구하였습니다.", lines.size());
+
+        } catch (Exception e) {
+            log.error("게시글 방문 횟수 저널 복구에 실패하였습니다.", e);
+        }
+    }
+}
@@ -2,21 +2,32 @@ package keapoint.onlog.post.service;
 
 import keapoint.onlog.post.base.BaseErrorCode;
 import keapoint.onlog.post.base.BaseException;
+import keapoint.onlog.post.dto.blog.BlogDto;
 import keapoint.onlog.post.dto.post.like.PostLikeDto;
-import keapoint.onlog.post.entity.Blog;
+import keapoint.onlog.post.entity.LikeCounterShard;
 import keapoint.onlog.post.entity.Post;
-import keapoint.onlog.post.entity.UserPostLike;
+import keapoint.onlog.post.event.PostActivityEvent;
 import keapoint.onlog.post.repository.BlogRepository;
+import keapoint.onlog.post.repository.FollowRepository;
 import keapoint.onlog.post.repository.PostRepository;
 import keapoint.onlog.post.repository.UserPostLikeRepository;
+import keapoint.onlog.post.utils.UuidBytes;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Optional;
+import java.util.List;
 import java.util.UUID;
 
+/**
+ * 게시글 좋아요 서비스
+ * <p>
+ * 좋아요는 (blog_id, post_id) 유일 키를 가진 집합으로 다룬다. 좋아요는 INSERT IGNORE, 좋아요 취소는 DELETE 한 번으로 처리하고,
+ * 실제로 행이 바뀐 경우에만 좋아요 개수를 증감하므로 같은 요청을 다시 보내도 결과가 같다.
+ */
 @Slf4j
 @Service
 @Transactional
@@ -29,53 +40,113 @@ public class PostLikeService {
 
     private final UserPostLikeRepository likeRepository;
 
+    private final FollowRepository followRepository;
+
+    private final LikeCounterService likeCounterService;
+
+    private final LikeMembershipIndex likeMembershipIndex;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 게시글 좋아요
+     * 이미 좋아요 한 게시글이라면 아무것도 바뀌지 않는다.
+     *
+     * @param blogId 좋아요를 원하는 블로그 식별자
+     * @param postId 좋아요 할 게시글 식별자
+     * @return 좋아요 정보
+     */
+    public PostLikeDto like(UUID blogId, UUID postId) throws BaseException {
+        try {
+            // 같은 트랜잭션에서 바뀐 게시글 상태가 아래 INSERT 문에 보이도록 먼저 반영한다.
+            likeRepository.flush();
+
+            // 삭제되지 않은 게시글에만 좋아요 정보를 추가한다. 이미 좋아요 했다면 무시된다.
+            int inserted = jdbcTemplate.update("INSERT IGNORE INTO user_post_like (blog_id, post_id) " +
+                            "SELECT ?, post_id FROM post WHERE post_id = ? AND status = true",
+                    UuidBytes.toBytes(blogId), UuidBytes.toBytes(postId));
+
+            if (inserted > 0) {
+                likeCounterService.increment(LikeCounterShard.TargetType.POST, postId, 1); // 게시글 좋아요 개수를 늘려준다.
+                likeMembershipIndex.update(LikeCounterShard.TargetType.POST, postId, blogId, true);
+                eventPublisher.publishEvent(PostActivityEvent.of(PostActivityEvent.Type.LIKE, postId));
+
+            } else { // 추가되지 않았다면 이미 좋아요 한 게시글인지, 없는 블로그나 게시글인지 확인한다.
+                checkLikable(blogId, postId);
+            }
+
+            log.info("사용자({})가 게시글({})을 좋아요 하였습니다. (변경 여부: {})", blogId, postId, inserted > 0);
+            return new PostLikeDto(blogId, postId, true);
+
+        } catch (BaseException e) {
+            log.error(e.getErrorCode().getMessage());
+            throw e;
+
+        } catch (Exception e) {
+            log.error(e.getMessage());
+            throw new BaseException(BaseErrorCode.INTERNAL_SERVER_ERROR);
+        }
+    }
+
     /**
-     * 게시글 좋아요, 좋아요 취소
+     * 게시글 좋아요 취소
+     * 좋아요 하지 않은 게시글이라면 아무것도 바뀌지 않는다.
      *
-     * @param blogId      좋아요/좋아요 취소를 원하는 블로그 식별자
-     * @param postId      좋아요/좋아요 취소 할 게시글 식별자
-     * @return 성공 여부
+     * @param blogId 좋아요 취소를 원하는 블로그 식별자
+     * @param postId 좋아요 취소 할 게시글 식별자
+     * @return 좋아요 정보
      */
-    public PostLikeDto toggleLike(UUID blogId, UUID postId) throws BaseException {
+    public PostLikeDto unlike(UUID blogId, UUID postId) throws BaseException {
         try {
-            // 사용자 정보 조회
-            Blog blog = blogRepository.findById(blogId)
-                    .orElseThrow(() -> new BaseException(BaseErrorCode.BLOG_NOT_FOUND_EXCEPTION));
-            log.info("게시글 좋아요 수정하는 사용자 정보: " + blog.toString());
-
-            // 게시글 정보 조회
-            Post post = postRepository.findById(postId)
-                    .orElseThrow(() -> new BaseException(BaseErrorCode.POST_NOT_FOUND_EXCEPTION));
-            log.info("좋아요 정보 수정 요청 온 게시글 정보: " + post.toString());
-
-            // 게시글이 삭제되었는지 확인한다.
-            if (post.getStatus().equals(false))
-                throw new BaseException(BaseErrorCode.POST_NOT_FOUND_EXCEPTION);
-            log.info("좋아요 정보 수정하고자 하는 게시글 정보: " + post);
-
-            // 게시글 좋아요 여부를 조회한다
-            Optional<UserPostLike> userPostLike = likeRepository.findByBlogAndPost(blog, post);
-            boolean isLiked = userPostLike.isPresent();
-            log.info("사용자 게시글 좋아요 정보: " + isLiked);
-
-            if (isLiked) { // 게시글 좋아요 했던 상태라면
-                likeRepository.delete(userPostLike.get()); // DB에서 삭제하고
-                post.postUnlike(); // 게시글 좋아요 개수를 줄여준다.
-
-            } else { // 게시글 좋아요 하지 않았던 상태라면
-                UserPostLike like = UserPostLike.builder()
-                        .blog(blog)
-                        .post(post)
-                        .build();
-
-                likeRepository.save(like); // DB에 추가하고
-                post.postLike(); // 게시글 좋아요 개수를 늘려준다.
+            int deleted = likeRepository.deleteByBlogIdAndPostId(blogId, postId);
+
+            if (deleted > 0) {
+                likeCounterService.increment(LikeCounterShard.TargetType.POST, postId, -deleted); // 게시글 좋아요 개수를 줄여준다.
+                likeMembershipIndex.update(LikeCounterShard.TargetType.POST, postId, blogId, false);
+                eventPublisher.publishEvent(PostActivityEvent.of(PostActivityEvent.Type.UNLIKE, postId));
+
+            } else { // 삭제되지 않았다면 없는 블로그나 게시글인지 확인한다.
+                checkLikable(blogId, postId);
             }
 
-            // 업데이트 된 게시글 정보 로깅
-            log.info("업데이트 된 게시글 정보: " + post);
+            log.info("사용자({})가 게시글({}) 좋아요를 취소하였습니다. (변경 여부: {})", blogId, postId, deleted > 0);
+            return new PostLikeDto(blogId, postId, false);
+
+        } catch (BaseException e) {
+            log.error(e.getErrorCode().getMessage());
+            throw e;
+
+        } catch (Exception e) {
+            log.error(e.getMessage());
+            throw new BaseException(BaseErrorCode.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    /**
+     * 내가 팔로우 하는 블로그 중 게시글을 좋아요 한 블로그 조회
+     * 팔로우 하는 블로그 목록과 게시글의 좋아요 비트맵의 교집합으로 구한다.
+     *
+     * @param blogId 내 블로그 식별자
+     * @param postId 게시글 식별자
+     * @return 게시글을 좋아요 한 블로그 목록
+     */
+    @Transactional(readOnly = true)
+    public List<BlogDto> getFollowingLikers(UUID blogId, UUID postId) throws BaseException {
+        try {
+            checkLikable(blogId, postId);
+
+            List<UUID> following = followRepository.findFollowingBlogIds(blogId);
+            if (following.isEmpty()) {
+                return List.of();
+            }
 
-            return new PostLikeDto(blog, post, !isLiked);
+            List<UUID> likers = likeMembershipIndex.findLikersAmong(LikeCounterShard.TargetType.POST, postId, following);
+            return blogRepository.findAllById(likers)
+                    .stream()
+                    .map(BlogDto::new)
+                    .toList();
 
         } catch (BaseException e) {
             log.error(e.getErrorCode().getMessage());
@@ -86,4 +157,18 @@ public class PostLikeService {
             throw new BaseException(BaseErrorCode.INTERNAL_SERVER_ERROR);
         }
     }
+
+    /**
+     * 블로그와 게시글이 유효한지 확인한다.
+     */
+    private void checkLikable(UUID blogId, UUID postId) throws BaseException {
+        if (!blogRepository.existsById(blogId))
+            throw new BaseException(BaseErrorCode.BLOG_NOT_FOUND_EXCEPTION);
+
+        boolean postExists = postRepository.findById(postId)
+                .map(Post::getStatus)
+                .orElse(false);
+        if (!postExists)
+            throw new BaseException(BaseErrorCode.POST_NOT_FOUND_EXCEPTION);
+    }
 }
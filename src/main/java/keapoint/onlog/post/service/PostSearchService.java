@@ -0,0 +1,241 @@
+package keapoint.onlog.post.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import keapoint.onlog.post.event.PostChangedEvent;
+import keapoint.onlog.post.repository.PostRepository;
+import keapoint.onlog.post.search.SearchIndex;
+import keapoint.onlog.post.search.SearchSegmentStore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 게시글 전문 검색 서비스
+ * <p>
+ * 공개된 게시글의 제목, 요약, 본문을 메모리의 역색인({@link SearchIndex})에 보관하여 MySQL 없이 검색한다.
+ * 색인은 디스크의 세그먼트와 저널({@link SearchSegmentStore})에도 기록되므로, 서버를 다시 시작해도 전체를 다시 만들지 않는다.
+ * <p>
+ * 색인은 다음 두 경로로 갱신된다.
+ * 1. 이 서버에서 게시글이 작성, 수정, 삭제되면 커밋 직후 이벤트로 바로 반영한다.
+ * 2. 다른 서버의 변경이나 놓친 이벤트는 주기적으로 마지막 기준 시각 이후 수정된 게시글만 조회하여 반영한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PostSearchService {
+
+    private static final int CATCH_UP_BATCH_SIZE = 500; // 증분 갱신 시 한 번에 조회할 게시글 수
+    private static final UUID MIN_UUID = new UUID(0L, 0L);
+
+    private final PostRepository postRepository;
+    private final MeterRegistry meterRegistry;
+
+    private final SearchIndex index = new SearchIndex();
+
+    @Value("${post.search.path:./data/search}")
+    private String path; // 세그먼트와 저널을 보관할 디렉터리
+
+    @Value("${post.search.compact-threshold:10000}")
+    private int compactThreshold; // 세그먼트를 새로 기록할 저널 변경 수
+
+    @Value("${post.search.catch-up-margin-seconds:60}")
+    private long catchUpMarginSeconds; // 수정 시각 이후 커밋이 늦어지는 트랜잭션을 고려한 여유 시간
+
+    private SearchSegmentStore store;
+    private Timer searchTimer;
+
+    private volatile LocalDateTime indexedUntil; // 이 시각 이전에 수정된 게시글은 모두 색인에 반영되어 있다.
+    private volatile boolean ready; // 색인 적재 완료 여부
+
+    @PostConstruct
+    public void init() {
+        Gauge.builder("post.search.documents", index, SearchIndex::size)
+                .description("검색 색인에 보관 중인 게시글 수")
+                .register(meterRegistry);
+
+        searchTimer = Timer.builder("post.search.query")
+                .description("게시글 검색 소요 시간")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 서버 시작 시 디스크의 색인을 복구하고, 그 이후에 수정된 게시글만 DB에서 읽어 반영한다.
+     * 디스크에 색인이 없거나 손상되었다면 전체 게시글로 다시 만든다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void load() {
+        try {
+            store = new SearchSegmentStore(Paths.get(path));
+
+            LocalDateTime since = null;
+            try {
+                since = store.load(index);
+            } catch (IOException e) {
+                log.error("검색 색인 복구에 실패하였습니다. 전체 게시글로 다시 만듭니다.", e);
+                index.clear();
+            }
+
+            catchUp(since == null ? LocalDateTime.of(1970, 1, 1, 0, 0) : since);
+
+            // 잘린 저널 뒤에 기록하지 않도록, 복구한 색인을 새 세그먼트로 기록하고 저널을 비운다.
+            store.compact(index, indexedUntil);
+            ready = true;
+            log.info("게시글 {}개의 검색 색인을 적재하였습니다.", index.size());
+
+        } catch (Exception e) {
+            log.error("검색 색인 적재에 실패하였습니다.", e);
+        }
+    }
+
+    /**
+     * 게시글 변경이 커밋되면 색인을 갱신한다.
+     *
+     * @param event 게시글 변경 이벤트
+     */
+    @TransactionalEventListener
+    public void onPostChanged(PostChangedEvent event) {
+        if (!ready) {
+            return; // 적재가 끝나면 증분 갱신으로 반영된다.
+        }
+
+        if (event.getType() == PostChangedEvent.Type.DELETED || !event.isPublic()) {
+            remove(event.getPostId());
+        } else {
+            put(SearchIndex.Document.of(event.getPostId(), event.getTitle(), event.getSummary(), event.getContent()));
+        }
+    }
+
+    /**
+     * 마지막 기준 시각 이후에 수정된 게시글을 반영하고, 저널이 길어졌다면 세그먼트를 새로 기록한다.
+     */
+    @Scheduled(fixedDelayString = "${post.search.refresh-interval-ms:10000}")
+    public synchronized void refresh() {
+        if (!ready) {
+            return;
+        }
+
+        try {
+            catchUp(indexedUntil);
+
+            if (store.getJournalEntries() >= compactThreshold) {
+                store.compact(index, indexedUntil);
+            }
+
+        } catch (Exception e) {
+            log.error("검색 색인 갱신에 실패하였습니다. 다음 주기에 다시 시도합니다.", e);
+        }
+    }
+
+    @PreDestroy
+    public synchronized void destroy() {
+        if (!ready) {
+            return;
+        }
+
+        try {
+            store.compact(index, indexedUntil);
+            store.close();
+
+        } catch (IOException e) {
+            log.error("검색 색인 저장에 실패하였습니다.", e);
+        }
+    }
+
+    /**
+     * 게시글 검색
+     *
+     * @param query  검색어
+     * @param offset 건너뛸 결과 수
+     * @param limit  반환할 최대 결과 수
+     * @return 점수가 높은 순서의 게시글 식별자와 전체 결과 수
+     */
+    public SearchIndex.Result search(String query, int offset, int limit) {
+        return searchTimer.record(() -> index.search(query, offset, limit));
+    }
+
+    /**
+     * 기준 시각 이후에 수정된 게시글을 (수정 시간, 게시글 식별자) 순서로 나누어 조회하여 반영한다.
+     */
+    private void catchUp(LocalDateTime since) {
+        LocalDateTime startedAt = LocalDateTime.now();
+
+        LocalDateTime afterUpdatedAt = since;
+        UUID afterPostId = MIN_UUID;
+        int applied = 0;
+
+        while (true) {
+            List<Object[]> rows = postRepository.findSearchDocuments(since, afterUpdatedAt, afterPostId, PageRequest.of(0, CATCH_UP_BATCH_SIZE));
+
+            for (Object[] row : rows) {
+                UUID postId = (UUID) row[0];
+                boolean searchable = Boolean.TRUE.equals(row[4]) && Boolean.TRUE.equals(row[5]); // 공개된 유효한 게시글만 검색된다.
+
+                boolean changed = searchable
+                        ? put(SearchIndex.Document.of(postId, (String) row[1], (String) row[2], (String) row[3]))
+                        : remove(postId);
+                if (changed) {
+                    applied++;
+                }
+            }
+
+            if (rows.size() < CATCH_UP_BATCH_SIZE) {
+                break;
+            }
+            Object[] last = rows.get(rows.size() - 1);
+            afterPostId = (UUID) last[0];
+            afterUpdatedAt = (LocalDateTime) last[6];
+        }
+
+        // 수정 시각보다 늦게 커밋된 트랜잭션을 놓치지 않도록 여유 시간만큼 겹쳐서 다시 조회한다.
+        indexedUntil = startedAt.minusSeconds(catchUpMarginSeconds);
+        if (applied > 0) {
+            log.info("게시글 {}개의 검색 색인을 갱신하였습니다.", applied);
+        }
+    }
+
+    private boolean put(SearchIndex.Document document) {
+        if (!index.put(document)) {
+            return false;
+        }
+        journal(() -> store.appendPut(document));
+        return true;
+    }
+
+    private boolean remove(UUID postId) {
+        if (!index.remove(postId)) {
+            return false;
+        }
+        journal(() -> store.appendRemove(postId));
+        return true;
+    }
+
+    private void journal(JournalWrite write) {
+        try {
+            write.run();
+        } catch (IOException e) {
+            // 저널 기록에 실패해도 재시작 시 기준 시각 이후의 게시글을 다시 읽으므로 색인은 복구된다.
+            log.error("검색 저널 기록에 실패하였습니다.", e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface JournalWrite {
+        void run() throws IOException;
+    }
+}
@@ -2,14 +2,21 @@ package keapoint.onlog.post.service;
 
 import keapoint.onlog.post.base.BaseErrorCode;
 import keapoint.onlog.post.base.BaseException;
+import keapoint.onlog.post.dto.CursorSliceDto;
 import keapoint.onlog.post.dto.comment.CommentDto;
 import keapoint.onlog.post.dto.post.*;
 import keapoint.onlog.post.entity.*;
+import keapoint.onlog.post.event.PostActivityEvent;
+import keapoint.onlog.post.event.PostChangedEvent;
 import keapoint.onlog.post.repository.*;
+import keapoint.onlog.post.search.SearchIndex;
 import keapoint.onlog.post.specification.PostSpecification;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -17,9 +24,9 @@ import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.UUID;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -27,13 +34,33 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class PostService {
 
+    private static final int MAX_PAGE_SIZE = 100; // 한 번에 조회할 수 있는 최대 게시글 수
+    private static final int MAX_QUERY_LENGTH = 100; // 검색어 최대 길이
+
+    // 최신 게시글 정렬 조건. 작성 시간이 같은 게시글의 순서를 고정하기 위해 식별자를 함께 사용한다.
+    private static final Sort RECENT_POST_SORT = Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("postId"));
+
     private final BlogRepository blogRepository;
     private final PostRepository postRepository;
     private final TopicRepository topicRepository;
-    private final HashtagRepository hashtagRepository;
+    private final HashtagService hashtagService;
     private final CategoryRepository categoryRepository;
     private final UserPostLikeRepository userPostLikeRepository;
-    private final UserCommentLikeRepository userCommentLikeRepository;
+    private final PostHitService postHitService;
+    private final BlogVisitService blogVisitService;
+    private final LikeCounterService likeCounterService;
+    private final LikeMembershipIndex likeMembershipIndex;
+    private final BlogStatsService blogStatsService;
+    private final PostCountCache postCountCache;
+    private final RelatedPostService relatedPostService;
+    private final PostSearchService postSearchService;
+    private final ViewerStateResolver viewerStateResolver;
+    private final ReferenceDataCache referenceDataCache;
+    private final CommentService commentService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${post.comments.page-size:20}")
+    private int commentPageSize; // 게시글 조회 시 함께 보여줄 댓글 수
 
     /**
      * 최신 게시글 조회
@@ -45,25 +72,236 @@ public class PostService {
      * @param categoryId (필터 4) 카테고리
      * @param isPublic   (필터 5) 게시글 공개 여부
      * @param pageable   페이지 요청 정보 (페이지 번호, 페이지 크기 등)
-     * @return 최신 게시글
+     * @param fields     응답에 포함할 필드 목록
+     * @return 최신 게시글. 전체 개수는 캐시된 근사값이다.
      */
     @Transactional(readOnly = true)
-    public Page<PostSummaryDto> getRecentPosts(UUID myBlogId, String topicName, String hashtag, UUID blogId, Long categoryId, Boolean isPublic, Pageable pageable) throws BaseException {
+    public Page<PostSummaryDto> getRecentPosts(UUID myBlogId, String topicName, String hashtag, UUID blogId, Long categoryId, Boolean isPublic, Pageable pageable, PostFieldSet fields) throws BaseException {
         try {
             if (!myBlogId.equals(blogId) && Boolean.FALSE.equals(isPublic)) // 조회하는 비공개 게시글이 내 블로그가 아닌 경우
                 throw new BaseException(BaseErrorCode.ACCESS_DENIED_EXCEPTION); // ACCESS_DENIED_EXCEPTION을 터트린다.
 
-            Pageable sortedByUpdatedDateDesc = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), Sort.by("createdAt").descending());
+            Pageable sortedByCreatedDateDesc = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), RECENT_POST_SORT);
 
-            Specification<Post> specification = Specification.where(PostSpecification.withStatusTrue())
-                    .and(PostSpecification.withTopicName(topicName))
-                    .and(PostSpecification.withHashtag(hashtag))
-                    .and(PostSpecification.withBlogId(blogId))
-                    .and(PostSpecification.withCategoryId(categoryId))
-                    .and(PostSpecification.withIsPublic(isPublic));
+            // 주제와 해시태그는 이름을 식별자로 한 번 바꾼 뒤 조회한다. 없는 주제나 해시태그라면 게시글도 없다.
+            Optional<FeedFilter> filter = resolveFeedFilter(topicName, hashtag);
+            if (filter.isEmpty()) {
+                return new PageImpl<>(List.of(), sortedByCreatedDateDesc, 0);
+            }
+            Long hashtagId = filter.get().hashtagId();
+
+            Specification<Post> specification = recentPostSpecification(filter.get().topicId(), blogId, categoryId, isPublic);
 
-            return postRepository.findAll(specification, sortedByUpdatedDateDesc)
-                    .map(PostSummaryDto::new);
+            // 목록에 필요한 컬럼만 조회한다.
+            List<PostSummaryDto> content = findRecentSummaries(specification, hashtagId, null, sortedByCreatedDateDesc.getOffset(), sortedByCreatedDateDesc.getPageSize(), fields);
+
+            if (fields.includes("postLiked")) {
+                viewerStateResolver.fillPostLiked(myBlogId, content);
+            }
+            if (fields.includes("likesCount")) {
+                likeCounterService.fillPostLikesCount(content);
+            }
+            content.forEach(fields::apply);
+
+            // 매 요청마다 COUNT 쿼리를 실행하지 않도록 조건별 전체 개수를 캐시에서 가져온다.
+            Long countHashtagId = hashtagId;
+            long total = postCountCache.getCount(
+                    PostCountCache.keyOf(filter.get().topicId(), hashtagId, blogId, categoryId, isPublic),
+                    () -> countHashtagId == null
+                            ? postRepository.count(specification)
+                            : postRepository.countByHashtag(countHashtagId, specification)
+            );
+
+            return new PageImpl<>(content, sortedByCreatedDateDesc, total);
+
+        } catch (BaseException e) {
+            log.error(e.getErrorCode().getMessage());
+            throw e;
+
+        } catch (Exception e) {
+            log.error(e.getMessage());
+            throw new BaseException(BaseErrorCode.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    /**
+     * 최신 게시글 조회 (커서 기반)
+     * 전체 개수를 구하지 않고, 커서 이후의 게시글만 조회한다.
+     *
+     * @param myBlogId   내 블로그 식별자
+     * @param topicName  (필터 1) 주제
+     * @param hashtag    (필터 2) 해시태그
+     * @param blogId     (필터 3) 블로그
+     * @param categoryId (필터 4) 카테고리
+     * @param isPublic   (필터 5) 게시글 공개 여부
+     * @param cursor     이전 응답의 다음 페이지 커서 (첫 페이지는 null 또는 빈 문자열)
+     * @param size       조회할 게시글 수
+     * @param fields     응답에 포함할 필드 목록
+     * @return 최신 게시글과 다음 페이지 커서
+     */
+    @Transactional(readOnly = true)
+    public CursorSliceDto<PostSummaryDto> getRecentPostsByCursor(UUID myBlogId, String topicName, String hashtag, UUID blogId, Long categoryId, Boolean isPublic, String cursor, int size, PostFieldSet fields) throws BaseException {
+        try {
+            if (!myBlogId.equals(blogId) && Boolean.FALSE.equals(isPublic)) // 조회하는 비공개 게시글이 내 블로그가 아닌 경우
+                throw new BaseException(BaseErrorCode.ACCESS_DENIED_EXCEPTION); // ACCESS_DENIED_EXCEPTION을 터트린다.
+
+            int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+
+            PostCursor postCursor = PostCursor.decode(cursor);
+
+            Optional<FeedFilter> filter = resolveFeedFilter(topicName, hashtag);
+            if (filter.isEmpty()) {
+                return new CursorSliceDto<>(List.of(), false, null);
+            }
+
+            Specification<Post> specification = recentPostSpecification(filter.get().topicId(), blogId, categoryId, isPublic);
+
+            // 다음 페이지가 있는지 확인하기 위해 요청한 크기보다 하나 더 조회한다.
+            List<PostSummaryDto> posts = findRecentSummaries(specification, filter.get().hashtagId(), postCursor, 0, pageSize + 1, fields);
+
+            boolean hasNext = posts.size() > pageSize;
+            List<PostSummaryDto> content = hasNext ? posts.subList(0, pageSize) : posts;
+
+            // 요청하지 않은 필드를 비우기 전에 다음 페이지 커서를 만든다.
+            String nextCursor = null;
+            if (hasNext) {
+                PostSummaryDto last = content.get(content.size() - 1);
+                nextCursor = new PostCursor(last.getCreatedAt(), last.getPostId()).encode();
+            }
+
+            if (fields.includes("postLiked")) {
+                viewerStateResolver.fillPostLiked(myBlogId, content);
+            }
+            if (fields.includes("likesCount")) {
+                likeCounterService.fillPostLikesCount(content);
+            }
+
+            return new CursorSliceDto<>(content.stream().map(fields::apply).toList(), hasNext, nextCursor);
+
+        } catch (BaseException e) {
+            log.error(e.getErrorCode().getMessage());
+            throw e;
+
+        } catch (Exception e) {
+            log.error(e.getMessage());
+            throw new BaseException(BaseErrorCode.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    /**
+     * 이름으로 주어진 목록 필터를 식별자로 변환한 결과
+     *
+     * @param topicId   주제 식별자 (필터가 없으면 null)
+     * @param hashtagId 해시태그 식별자 (필터가 없으면 null)
+     */
+    private record FeedFilter(Long topicId, Long hashtagId) {
+    }
+
+    /**
+     * 주제 이름과 해시태그를 식별자로 변환한다.
+     * 주제는 기준 정보 캐시에서, 해시태그는 해시태그 사전에서 찾으므로 목록 조회 쿼리에서 이름으로 조인하지 않는다.
+     *
+     * @return 변환된 필터. 존재하지 않는 주제나 해시태그라면 비어있다.
+     */
+    private Optional<FeedFilter> resolveFeedFilter(String topicName, String hashtag) {
+        Long topicId = null;
+        if (topicName != null && !topicName.isEmpty()) {
+            Optional<Long> found = referenceDataCache.findTopicId(topicName);
+            if (found.isEmpty()) {
+                return Optional.empty();
+            }
+            topicId = found.get();
+        }
+
+        Long hashtagId = null;
+        if (hashtag != null && !hashtag.isEmpty()) {
+            Optional<Long> found = hashtagService.findId(hashtag);
+            if (found.isEmpty()) {
+                return Optional.empty();
+            }
+            hashtagId = found.get();
+        }
+
+        return Optional.of(new FeedFilter(topicId, hashtagId));
+    }
+
+    /**
+     * 최신 게시글 조회 조건 생성 (해시태그 제외)
+     */
+    private Specification<Post> recentPostSpecification(Long topicId, UUID blogId, Long categoryId, Boolean isPublic) {
+        return Specification.where(PostSpecification.withStatusTrue())
+                .and(PostSpecification.withTopicId(topicId))
+                .and(PostSpecification.withBlogId(blogId))
+                .and(PostSpecification.withCategoryId(categoryId))
+                .and(PostSpecification.withIsPublic(isPublic));
+    }
+
+    /**
+     * 최신 게시글 요약 정보 조회
+     * 해시태그가 주어지면 해시태그 역색인을 따라 조회하고, 아니면 게시글 테이블을 최신순으로 조회한다.
+     *
+     * @param specification 해시태그를 제외한 조회 조건
+     * @param hashtagId     해시태그 식별자 (없으면 null)
+     * @param cursor        마지막으로 조회된 게시글의 커서 (없으면 null)
+     */
+    private List<PostSummaryDto> findRecentSummaries(Specification<Post> specification, Long hashtagId, PostCursor cursor, long offset, int limit, PostFieldSet fields) {
+        if (hashtagId != null) {
+            return postRepository.findSummariesByHashtag(hashtagId, specification, cursor, offset, limit, fields);
+        }
+        return postRepository.findSummaries(specification.and(PostSpecification.withCursor(cursor)), RECENT_POST_SORT, offset, limit, fields);
+    }
+
+    /**
+     * 게시글 검색
+     * 검색 색인에서 순위를 매긴 뒤, 요청한 페이지의 게시글만 식별자로 조회한다.
+     *
+     * @param myBlogId 내 블로그 식별자
+     * @param query    검색어
+     * @param pageable 페이지 요청 정보 (페이지 번호, 페이지 크기)
+     * @param fields   응답에 포함할 필드 목록
+     * @return 검색어와 관련도가 높은 순서의 공개 게시글
+     */
+    @Transactional(readOnly = true)
+    public Page<PostSummaryDto> searchPosts(UUID myBlogId, String query, Pageable pageable, PostFieldSet fields) throws BaseException {
+        try {
+            if (query == null || query.isBlank() || query.length() > MAX_QUERY_LENGTH)
+                throw new BaseException(BaseErrorCode.INVALID_SEARCH_QUERY_EXCEPTION);
+
+            Pageable page = PageRequest.of(pageable.getPageNumber(), Math.max(1, Math.min(pageable.getPageSize(), MAX_PAGE_SIZE)));
+
+            SearchIndex.Result result = postSearchService.search(query, Math.toIntExact(page.getOffset()), page.getPageSize());
+            List<UUID> postIds = result.hits().stream().map(SearchIndex.Hit::postId).toList();
+            if (postIds.isEmpty()) {
+                return new PageImpl<>(List.of(), page, result.total());
+            }
+
+            // 색인이 갱신되기 전에 삭제되거나 비공개로 바뀐 게시글은 제외한다.
+            Specification<Post> specification = Specification.where(PostSpecification.withPostIds(postIds))
+                    .and(PostSpecification.withStatusTrue())
+                    .and(PostSpecification.withIsPublic(true));
+
+            Map<UUID, PostSummaryDto> summaries = postRepository.findSummaries(specification, Sort.unsorted(), 0, postIds.size(), fields)
+                    .stream()
+                    .collect(Collectors.toMap(PostSummaryDto::getPostId, Function.identity()));
+
+            List<PostSummaryDto> content = postIds.stream()
+                    .map(summaries::get)
+                    .filter(Objects::nonNull)
+                    .toList();
+
+            if (fields.includes("postLiked")) {
+                viewerStateResolver.fillPostLiked(myBlogId, content);
+            }
+            if (fields.includes("likesCount")) {
+                likeCounterService.fillPostLikesCount(content);
+            }
+            content.forEach(fields::apply);
+
+            return new PageImpl<>(content, page, result.total());
+
+        } catch (BaseException e) {
+            log.error(e.getErrorCode().getMessage());
+            throw e;
 
         } catch (Exception e) {
             log.error(e.getMessage());
@@ -78,6 +316,7 @@ public class PostService {
      * @param postId 조회하고자 하는 게시글 식별자
      * @return 조회된 게시글 정보
      */
+    @Transactional(readOnly = true)
     public PostWithRelatedPostsDto getPost(UUID blogId, UUID postId) throws BaseException {
         try {
             // 내 블로그를 조회한다.
@@ -96,33 +335,29 @@ public class PostService {
             if (post.getIsPublic().equals(false) && !post.getWriter().equals(me))
                 throw new BaseException(BaseErrorCode.ACCESS_DENIED_EXCEPTION);
 
-            post.hit();
-
-            // 내가 해당 게시글을 좋아요 하고 있는지 조회한다.
-            boolean isPostLiked = userPostLikeRepository.findByBlogAndPost(me, post).isPresent();
+            // 방문 횟수는 즉시 UPDATE 하지 않고 누적한 뒤 일괄 반영한다.
+            postHitService.hit(postId);
+            blogVisitService.recordView(post.getWriter().getBlogId(), me.getBlogId());
+            if (post.getIsPublic() && !post.getWriter().equals(me)) // 작성자 본인의 조회는 인기 점수에 넣지 않는다.
+                eventPublisher.publishEvent(PostActivityEvent.of(PostActivityEvent.Type.VIEW, post));
 
-            // 댓글 정보
-            List<CommentDto> commentDtoList = new ArrayList<>();
+            // 게시글에 대한 나의 좋아요 여부를 조회한다.
+            ViewerState viewerState = viewerStateResolver.resolve(me.getBlogId(), List.of(postId), List.of());
 
-            if (post.getCommentsCount() != 0) {
-                // 블로그와 댓글 목록에 해당하는 좋아요 정보를 조회한다.
-                List<UserCommentLike> userCommentLikes = userCommentLikeRepository.findByBlogAndValidComments(me, post.getComments());
+            // 댓글은 첫 페이지만 조회하고, 나머지는 댓글 조회 API로 이어서 조회한다.
+            CursorSliceDto<CommentDto> comments = post.getCommentsCount() == 0
+                    ? new CursorSliceDto<>(List.of(), false, null)
+                    : commentService.readRootComments(me.getBlogId(), postId, 0L, commentPageSize);
 
-                // 각 댓글과 해당 댓글의 좋아요 상태를 CommentDto로 만들어 리스트에 저장한다.
-                commentDtoList = post.getComments().stream()
-                        .filter(Comment::getStatus) // 유효한 (삭제되지 않은) 댓글만 필터링
-                        .map(comment -> {
-                            boolean isCommentLiked = userCommentLikes.stream()
-                                    .anyMatch(like -> like.getComment().equals(comment) && like.getBlog().equals(me));
+            PostWithRelatedPostsDto result = new PostWithRelatedPostsDto(post, viewerState.isPostLiked(postId), comments.getContent(), getRelatedPosts(me.getBlogId(), postId));
+            result.getData().setCommentsNextCursor(comments.getNextCursor());
 
-                            return new CommentDto(comment, isCommentLiked);
-                        })
-                        .toList();
-
-            }
+            // 아직 DB에 반영되지 않은 방문 횟수와 좋아요 증감량을 더해서 반환한다.
+            result.getData().setPostHits(post.getPostHits() + postHitService.getPendingHits(postId));
+            result.getData().setLikesCount(likeCounterService.getCount(LikeCounterShard.TargetType.POST, postId));
 
             log.info("사용자({})가 게시글({})를 조회하는 데 성공하였습니다.", blogId, postId);
-            return new PostWithRelatedPostsDto(post, isPostLiked, commentDtoList);
+            return result;
 
         } catch (BaseException e) {
             log.info("사용자({})가 게시글({})를 조회하는 데 실패하였습니다.", blogId, postId);
@@ -135,14 +370,47 @@ public class PostService {
         }
     }
 
+    /**
+     * 연관 게시글 조회
+     * 미리 계산된 연관 게시글 식별자로 필요한 컬럼만 한 번에 조회한다.
+     *
+     * @param myBlogId 내 블로그 식별자
+     * @param postId   게시글 식별자
+     * @return 연관 점수가 높은 순서의 게시글 요약 정보 (본문 제외)
+     */
+    private List<PostSummaryDto> getRelatedPosts(UUID myBlogId, UUID postId) {
+        List<UUID> relatedPostIds = relatedPostService.getRelatedPostIds(postId);
+        if (relatedPostIds.isEmpty()) {
+            return List.of();
+        }
+
+        // 인덱스가 갱신되기 전에 삭제되거나 비공개로 바뀐 게시글은 제외한다.
+        Specification<Post> specification = Specification.where(PostSpecification.withPostIds(relatedPostIds))
+                .and(PostSpecification.withStatusTrue())
+                .and(PostSpecification.withIsPublic(true));
+
+        Map<UUID, PostSummaryDto> summaries = postRepository.findSummaries(specification, Sort.unsorted(), 0, relatedPostIds.size(), PostFieldSet.WITHOUT_CONTENT)
+                .stream()
+                .collect(Collectors.toMap(PostSummaryDto::getPostId, Function.identity()));
+
+        List<PostSummaryDto> relatedPosts = relatedPostIds.stream()
+                .map(summaries::get)
+                .filter(Objects::nonNull)
+                .toList();
+
+        return viewerStateResolver.fillPostLiked(myBlogId, likeCounterService.fillPostLikesCount(relatedPosts));
+    }
+
     /**
      * 비공개 게시글 조회
      *
      * @param blogId   비공개 게시글을 조회하고자 하는 블로그 식별자
      * @param pageable 페이지 요청 정보 (페이지 번호, 페이지 크기 등)
+     * @param fields   응답에 포함할 필드 목록
      * @return 조회된 비공개 게시글
      */
-    public Page<PostSummaryDto> getPrivatePosts(UUID blogId, Pageable pageable) throws BaseException {
+    @Transactional(readOnly = true)
+    public Page<PostSummaryDto> getPrivatePosts(UUID blogId, Pageable pageable, PostFieldSet fields) throws BaseException {
         try {
             // 블로그 식별자를 기반으로 내 블로그를 조회한다.
             Blog writer = blogRepository.findById(blogId)
@@ -156,9 +424,22 @@ public class PostService {
                     Sort.by("updatedAt").descending()
             );
 
-            // 조회된 비공개 게시글을 DTO로 변환하여 반환한다.
-            return postRepository.findByWriterAndStatusAndIsPublic(writer, true, false, sortedByUpdatedDateDesc)
-                    .map(PostSummaryDto::new);
+            Specification<Post> specification = Specification.where(PostSpecification.withStatusTrue())
+                    .and(PostSpecification.withBlogId(writer.getBlogId()))
+                    .and(PostSpecification.withIsPublic(false));
+
+            // 목록에 필요한 컬럼만 조회하여 반환한다.
+            List<PostSummaryDto> content = postRepository.findSummaries(specification, sortedByUpdatedDateDesc.getSort(), sortedByUpdatedDateDesc.getOffset(), sortedByUpdatedDateDesc.getPageSize(), fields);
+
+            if (fields.includes("postLiked")) {
+                viewerStateResolver.fillPostLiked(blogId, content);
+            }
+            if (fields.includes("likesCount")) {
+                likeCounterService.fillPostLikesCount(content);
+            }
+            content.forEach(fields::apply);
+
+            return new PageImpl<>(content, sortedByUpdatedDateDesc, postRepository.count(specification));
 
         } catch (BaseException e) {
             log.error(e.getErrorCode().getMessage());
@@ -195,21 +476,18 @@ public class PostService {
             Topic topic = topicRepository.findById(dto.getTopicId())
                     .orElseThrow(() -> new BaseException(BaseErrorCode.TOPIC_NOT_FOUND_EXCEPTION));
 
-            // 해시태그를 조회한다. 만약 해시태그가 없는 경우엔 만든다
-            List<Hashtag> hashtagList = dto.getHashtagList()
-                    .stream()
-                    .flatMap(hashtag -> {
-                        List<Hashtag> hashtags = hashtagRepository.findByName(hashtag);
-                        if (hashtags.isEmpty()) {
-                            Hashtag newHashtag = new Hashtag(hashtag);
-                            hashtags = List.of(hashtagRepository.save(newHashtag));
-                        }
-                        return hashtags.stream();
-                    })
-                    .toList();
+            // 해시태그를 한 번에 조회한다. 만약 해시태그가 없는 경우엔 만든다
+            List<Hashtag> hashtagList = hashtagService.resolve(dto.getHashtagList());
 
             // 게시글을 생성한다.
             Post post = postRepository.save(new Post(dto, writer, category, topic, hashtagList));
+            hashtagService.updatePostings(post);
+            eventPublisher.publishEvent(PostChangedEvent.of(PostChangedEvent.Type.CREATED, post));
+
+            // 블로그 통계를 갱신한다.
+            blogStatsService.increment(blogId, BlogStats.Counter.POST, 1);
+            if (Boolean.TRUE.equals(post.getIsPublic()))
+                blogStatsService.increment(blogId, BlogStats.Counter.PUBLIC_POST, 1);
 
             // 생성된 게시글 정보를 반환한다.
             log.info("사용자(" + blogId + ")가 게시글(" + post.getPostId() + ")를 작성하는 데 성공하였습니다.");
@@ -268,23 +546,21 @@ public class PostService {
                     .orElseThrow(() -> new BaseException(BaseErrorCode.TOPIC_NOT_FOUND_EXCEPTION));
             log.info("게시글 주제 정보: " + topic.toString());
 
-            // 해시태그를 조회한다. 만약 해시태그가 없는 경우엔 만든다
-            List<Hashtag> hashtagList = dto.getHashtagList()
-                    .stream()
-                    .flatMap(hashtag -> {
-                        List<Hashtag> hashtags = hashtagRepository.findByName(hashtag);
-                        if (hashtags.isEmpty()) {
-                            Hashtag newHashtag = new Hashtag(hashtag);
-                            hashtags = List.of(hashtagRepository.save(newHashtag));
-                        }
-                        return hashtags.stream();
-                    })
-                    .toList();
+            // 해시태그를 한 번에 조회한다. 만약 해시태그가 없는 경우엔 만든다
+            List<Hashtag> hashtagList = hashtagService.resolve(dto.getHashtagList());
             log.info("게시글 해시태그 정보: " + hashtagList);
 
             // 게시글을 수정한다
+            boolean wasPublic = Boolean.TRUE.equals(post.getIsPublic());
             post.modifyPost(dto, category, topic, hashtagList);
+            hashtagService.updatePostings(post);
             log.info("수정된 게시글 정보: " + post);
+            eventPublisher.publishEvent(PostChangedEvent.of(PostChangedEvent.Type.MODIFIED, post));
+
+            // 공개 여부가 바뀌었다면 블로그 통계를 갱신한다.
+            boolean isPublic = Boolean.TRUE.equals(post.getIsPublic());
+            if (wasPublic != isPublic)
+                blogStatsService.increment(blogId, BlogStats.Counter.PUBLIC_POST, isPublic ? 1 : -1);
 
             // 수정된 게시글 정보를 반환한다.
             return new PostSummaryDto(post);
@@ -329,10 +605,21 @@ public class PostService {
 
             // 게시글 좋아요 정보를 삭제한다.
             userPostLikeRepository.deleteByPost(post);
+            likeMembershipIndex.invalidate(LikeCounterShard.TargetType.POST, post.getPostId());
+
+            // 삭제되는 게시글의 개수, 좋아요, 댓글을 블로그 통계에서 뺀다.
+            blogStatsService.increment(blogId, BlogStats.Counter.POST, -1);
+            if (Boolean.TRUE.equals(post.getIsPublic()))
+                blogStatsService.increment(blogId, BlogStats.Counter.PUBLIC_POST, -1);
+            blogStatsService.increment(blogId, BlogStats.Counter.LIKE, -post.getLikesCount());
+            blogStatsService.increment(blogId, BlogStats.Counter.COMMENT, -post.getCommentsCount());
 
             // 게시글을 삭제한다.
             post.setStatus(false);
             post.resetPostLike();
+            likeCounterService.reset(LikeCounterShard.TargetType.POST, post.getPostId());
+            hashtagService.removePostings(post.getPostId());
+            eventPublisher.publishEvent(PostChangedEvent.of(PostChangedEvent.Type.DELETED, post));
 
             log.info("게시글이 삭제되었습니다.");
 
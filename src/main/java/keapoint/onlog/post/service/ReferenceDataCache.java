@@ -0,0 +1,199 @@
+package keapoint.onlog.post.service;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import keapoint.onlog.post.dto.category.CategoryDto;
+import keapoint.onlog.post.dto.topic.TopicDto;
+import keapoint.onlog.post.repository.CategoryRepository;
+import keapoint.onlog.post.repository.TopicRepository;
+import keapoint.onlog.post.utils.AfterCommit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * 주제, 카테고리 기준 정보 캐시
+ * <p>
+ * 거의 바뀌지 않는 주제 목록과 블로그별 카테고리 목록을 버전과 함께 보관한다.
+ * 버전은 내용으로 계산하므로 서버가 달라도 같은 내용이면 같은 버전이 되어, 클라이언트는 ETag로 변경 여부만 확인할 수 있다.
+ * <p>
+ * 주제는 서비스에서 바꾸는 경로가 없으므로(DB에서 직접 관리) 무효화하지 않고, 최대 유지 시간 이후에 다시 읽는다.
+ * 카테고리가 바뀌면 트랜잭션이 커밋된 이후에 해당 블로그의 항목을 무효화한다.
+ * 무효화 전에 조회를 시작한 요청이 이전 내용을 다시 캐시에 넣지 않도록, 무효화 세대가 바뀌었다면 조회 결과를 캐시하지 않는다.
+ * 다른 서버에서 바뀐 내용은 최대 유지 시간 이후에 반영된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReferenceDataCache {
+
+    private static final String TOPICS_KEY = "topics";
+
+    private final TopicRepository topicRepository;
+    private final CategoryRepository categoryRepository;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${post.reference-cache.ttl-seconds:300}")
+    private long ttlSeconds; // 항목 유지 시간
+
+    @Value("${post.reference-cache.maximum-size:10000}")
+    private long maximumSize; // 캐시에 보관할 최대 블로그 수
+
+    private final AtomicLong generation = new AtomicLong(); // 무효화될 때마다 증가하는 세대
+
+    private Cache<String, TopicSnapshot> topics;
+    private Cache<UUID, Versioned<List<CategoryDto>>> categories;
+    private Counter categoryInvalidations;
+
+    /**
+     * 버전이 붙은 기준 정보
+     *
+     * @param version 내용으로 계산한 버전
+     * @param value   기준 정보
+     */
+    public record Versioned<T>(long version, T value) {
+
+        /**
+         * HTTP ETag 값
+         */
+        public String etag() {
+            return "\"" + Long.toHexString(version) + "\"";
+        }
+    }
+
+    /**
+     * 주제 목록과 이름 → 식별자 색인
+     */
+    private record TopicSnapshot(Versioned<List<TopicDto>> list, Map<String, Long> idsByName) {
+    }
+
+    @PostConstruct
+    public void init() {
+        topics = CacheBuilder.newBuilder()
+                .expireAfterWrite(ttlSeconds, TimeUnit.SECONDS)
+                .recordStats()
+                .build();
+
+        categories = CacheBuilder.newBuilder()
+                .expireAfterWrite(ttlSeconds, TimeUnit.SECONDS)
+                .maximumSize(maximumSize)
+                .recordStats()
+                .build();
+
+        Gauge.builder("post.reference.cache.hit.ratio", topics, cache -> cache.stats().hitRate())
+                .description("기준 정보 캐시 적중률")
+                .tag("cache", "topic")
+                .register(meterRegistry);
+        Gauge.builder("post.reference.cache.hit.ratio", categories, cache -> cache.stats().hitRate())
+                .description("기준 정보 캐시 적중률")
+                .tag("cache", "category")
+                .register(meterRegistry);
+
+        categoryInvalidations = Counter.builder("post.reference.cache.invalidations")
+                .description("기준 정보 캐시 무효화 횟수")
+                .tag("cache", "category")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 주제 목록 조회
+     *
+     * @return 식별자 순서의 주제 목록과 버전
+     */
+    public Versioned<List<TopicDto>> getTopics() {
+        return loadTopics().list();
+    }
+
+    /**
+     * 주제 이름을 식별자로 변환
+     *
+     * @param name 주제 이름
+     * @return 주제 식별자. 없는 주제라면 비어있다.
+     */
+    public Optional<Long> findTopicId(String name) {
+        return Optional.ofNullable(loadTopics().idsByName().get(name));
+    }
+
+    /**
+     * 블로그의 유효한 카테고리 목록 조회
+     *
+     * @param blogId 블로그 식별자
+     * @return 카테고리 목록과 버전
+     */
+    public Versioned<List<CategoryDto>> getCategories(UUID blogId) {
+        return load(categories, blogId, () -> {
+            List<CategoryDto> list = categoryRepository.findValidByBlogId(blogId)
+                    .stream()
+                    .map(CategoryDto::new)
+                    .toList();
+            return new Versioned<>(versionOf(list), list);
+        });
+    }
+
+    /**
+     * 트랜잭션이 커밋되면 블로그의 카테고리 목록을 무효화한다.
+     *
+     * @param blogId 카테고리가 바뀐 블로그 식별자
+     */
+    public void invalidateCategories(UUID blogId) {
+        AfterCommit.run(() -> {
+            generation.incrementAndGet();
+            categories.invalidate(blogId);
+            categoryInvalidations.increment();
+        });
+    }
+
+    private TopicSnapshot loadTopics() {
+        return load(topics, TOPICS_KEY, () -> {
+            List<TopicDto> list = topicRepository.findAll()
+                    .stream()
+                    .map(TopicDto::new)
+                    .sorted(Comparator.comparing(TopicDto::getId))
+                    .toList();
+
+            Map<String, Long> idsByName = list.stream()
+                    .collect(Collectors.toUnmodifiableMap(TopicDto::getName, TopicDto::getId, (first, second) -> first));
+
+            return new TopicSnapshot(new Versioned<>(versionOf(list), list), idsByName);
+        });
+    }
+
+    /**
+     * 캐시에 없으면 조회하여 넣는다. 조회하는 동안 무효화가 일어났다면 결과를 캐시하지 않는다.
+     */
+    private <K, V> V load(Cache<K, V> cache, K key, Supplier<V> loader) {
+        V cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        long before = generation.get();
+        V loaded = loader.get();
+        if (generation.get() == before) {
+            cache.put(key, loaded);
+        }
+        return loaded;
+    }
+
+    /**
+     * 목록 내용으로 64비트 버전을 계산한다.
+     */
+    private static long versionOf(List<?> list) {
+        long version = 1125899906842597L;
+        for (Object item : list) {
+            version = 31 * version + item.hashCode();
+        }
+        return version;
+    }
+}
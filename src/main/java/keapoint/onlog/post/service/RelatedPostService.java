@@ -0,0 +1,112 @@
+package keapoint.onlog.post.service;
+
+import jakarta.annotation.PostConstruct;
+import keapoint.onlog.post.event.PostChangedEvent;
+import keapoint.onlog.post.repository.PostRepository;
+import keapoint.onlog.post.utils.RelatedPostIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * 연관 게시글 서비스
+ * <p>
+ * 서버 시작 시 유효한 게시글의 특징을 한 번에 적재하여 연관 게시글 목록을 미리 계산하고,
+ * 이후에는 게시글 변경 이벤트를 받아 영향을 받는 목록만 갱신한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RelatedPostService {
+
+    private final PostRepository postRepository;
+
+    private RelatedPostIndex index;
+
+    @Value("${post.related.size:5}")
+    private int size; // 게시글마다 보여줄 연관 게시글 수
+
+    @Value("${post.related.candidate-limit:200}")
+    private int candidateLimit; // 카테고리, 주제, 해시태그마다 살펴볼 최대 후보 수
+
+    @Value("${post.related.half-life-days:30}")
+    private long halfLifeDays; // 최신성 가중치가 절반이 되는 기간
+
+    @PostConstruct
+    public void init() {
+        index = new RelatedPostIndex(size, candidateLimit, Duration.ofDays(halfLifeDays));
+    }
+
+    /**
+     * 서버 시작 시 유효한 게시글을 모두 적재한다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        try {
+            Map<UUID, Set<Long>> hashtagIds = new HashMap<>();
+            for (Object[] row : postRepository.findAllValidPostHashtagIds()) {
+                hashtagIds.computeIfAbsent((UUID) row[0], id -> new HashSet<>()).add((Long) row[1]);
+            }
+
+            List<RelatedPostIndex.Feature> features = postRepository.findAllValidPostFeatures()
+                    .stream()
+                    .map(row -> new RelatedPostIndex.Feature(
+                            (UUID) row[0],
+                            (Long) row[1],
+                            (Long) row[2],
+                            hashtagIds.getOrDefault((UUID) row[0], Set.of()),
+                            (LocalDateTime) row[4],
+                            Boolean.TRUE.equals(row[3])
+                    ))
+                    .toList();
+
+            index.load(features);
+            log.info("게시글 {}개의 연관 게시글을 계산하였습니다.", features.size());
+
+        } catch (Exception e) {
+            log.error("연관 게시글 인덱스 적재에 실패하였습니다.", e);
+        }
+    }
+
+    /**
+     * 게시글 변경이 커밋되면 인덱스를 갱신한다.
+     *
+     * @param event 게시글 변경 이벤트
+     */
+    @TransactionalEventListener
+    public void onPostChanged(PostChangedEvent event) {
+        if (event.getType() == PostChangedEvent.Type.DELETED) {
+            index.remove(event.getPostId());
+            return;
+        }
+
+        index.put(new RelatedPostIndex.Feature(
+                event.getPostId(),
+                event.getCategoryId(),
+                event.getTopicId(),
+                event.getHashtagIds(),
+                event.getCreatedAt(),
+                event.isPublic()
+        ));
+    }
+
+    /**
+     * 연관 게시글 식별자 조회
+     *
+     * @param postId 게시글 식별자
+     * @return 연관 점수가 높은 순서의 게시글 식별자 목록 (최대 post.related.size개)
+     */
+    public List<UUID> getRelatedPostIds(UUID postId) {
+        return index.get(postId);
+    }
+}
@@ -0,0 +1,501 @@
+package keapoint.onlog.post.service;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import keapoint.onlog.post.base.BaseErrorCode;
+import keapoint.onlog.post.base.BaseException;
+import keapoint.onlog.post.dto.CursorSliceDto;
+import keapoint.onlog.post.dto.post.PostCursor;
+import keapoint.onlog.post.dto.post.PostFieldSet;
+import keapoint.onlog.post.dto.post.PostSummaryDto;
+import keapoint.onlog.post.entity.Post;
+import keapoint.onlog.post.event.PostChangedEvent;
+import keapoint.onlog.post.repository.BlogStatsRepository;
+import keapoint.onlog.post.repository.PostRepository;
+import keapoint.onlog.post.repository.TimelineInboxRepository;
+import keapoint.onlog.post.specification.PostSpecification;
+import keapoint.onlog.post.utils.UuidBytes;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 홈 타임라인 서비스 (팔로우 하는 블로그의 최신 공개 게시글)
+ * <p>
+ * 팔로워가 post.timeline.fanout-threshold명 미만인 블로그의 게시글은 작성이 커밋된 뒤 팔로워마다 받은 편지함(timeline_inbox)에 넣어 둔다.
+ * 팔로워가 그보다 많은 블로그(인기 블로그)는 팔로워 수만큼 행을 만들지 않고, 읽을 때 블로그별 최신 게시글 흐름을 가져온다.
+ * <p>
+ * 타임라인은 받은 편지함과 팔로우 하는 인기 블로그의 게시글 흐름을 (작성 시간, 게시글 식별자) 내림차순으로 k-way 병합하여 만든다.
+ * 인기 블로그의 최신 게시글 흐름은 짧은 시간 동안 메모리에 보관하므로, 첫 페이지는 받은 편지함 조회 한 번과 게시글 요약 조회 한 번으로 끝난다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TimelineService {
+
+    private static final int MAX_PAGE_SIZE = 100; // 한 번에 조회할 수 있는 최대 게시글 수
+    private static final int FANOUT_BATCH_SIZE = 1000; // 한 트랜잭션에서 넣을 최대 받은 편지함 행 수
+    private static final UUID MIN_BLOG_ID = new UUID(0L, 0L); // 받은 편지함 정리를 시작할 블로그 식별자
+
+    // 최신 게시글 정렬 조건. 작성 시간이 같은 게시글의 순서를 고정하기 위해 식별자를 함께 사용한다.
+    private static final Sort RECENT_POST_SORT = Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("postId"));
+
+    // (작성 시간, 게시글 식별자) 내림차순. 식별자는 DB(BINARY(16))와 같이 부호 없는 바이트 순서로 비교한다.
+    private static final Comparator<TimelineItem> NEWEST_FIRST = (left, right) -> {
+        int byCreatedAt = right.createdAt().compareTo(left.createdAt());
+        if (byCreatedAt != 0) {
+            return byCreatedAt;
+        }
+
+        int byHigh = Long.compareUnsigned(right.postId().getMostSignificantBits(), left.postId().getMostSignificantBits());
+        return byHigh != 0 ? byHigh : Long.compareUnsigned(right.postId().getLeastSignificantBits(), left.postId().getLeastSignificantBits());
+    };
+
+    private final TimelineInboxRepository timelineInboxRepository;
+    private final PostRepository postRepository;
+    private final BlogStatsRepository blogStatsRepository;
+    private final FollowGraph followGraph;
+    private final ViewerStateResolver viewerStateResolver;
+    private final LikeCounterService likeCounterService;
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${post.timeline.fanout-threshold:1000}")
+    private long fanoutThreshold; // 이 수 이상의 팔로워를 가진 블로그는 읽을 때 게시글을 가져온다.
+
+    @Value("${post.timeline.inbox-size:500}")
+    private int inboxSize; // 읽는 사람마다 남겨둘 받은 편지함 행 수
+
+    @Value("${post.timeline.backfill-size:20}")
+    private int backfillSize; // 팔로우 할 때 받은 편지함에 채워 넣을 최근 게시글 수
+
+    @Value("${post.timeline.stream-size:200}")
+    private int streamSize; // 인기 블로그마다 메모리에 보관할 최신 게시글 수
+
+    @Value("${post.timeline.stream-ttl-seconds:60}")
+    private long streamTtlSeconds; // 인기 블로그 최신 게시글 유지 시간
+
+    @Value("${post.timeline.trim-chunk-size:500}")
+    private int trimChunkSize; // 한 트랜잭션에서 받은 편지함을 정리할 최대 블로그 수
+
+    private volatile Set<UUID> celebrities = ConcurrentHashMap.newKeySet(); // 인기 블로그 식별자
+    private final AtomicLong streamGeneration = new AtomicLong(); // 게시글이 바뀔 때마다 증가하는 세대
+
+    private Cache<UUID, List<TimelineItem>> streams; // 인기 블로그 → 최신 공개 게시글
+    private TransactionTemplate transactionTemplate;
+    private Counter fanoutRows;
+    private Timer readTimer;
+
+    /**
+     * 타임라인 항목 (게시글 식별자, 작성 시간)
+     */
+    private record TimelineItem(UUID postId, LocalDateTime createdAt) {
+    }
+
+    /**
+     * k-way 병합 중인 게시글 흐름의 맨 앞 항목
+     */
+    private record StreamHead(TimelineItem item, Iterator<TimelineItem> rest) {
+    }
+
+    @PostConstruct
+    public void init() {
+        streams = CacheBuilder.newBuilder()
+                .maximumSize(10_000)
+                .expireAfterWrite(streamTtlSeconds, TimeUnit.SECONDS)
+                .recordStats()
+                .build();
+
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        fanoutRows = Counter.builder("post.timeline.fanout.rows")
+                .description("받은 편지함에 넣은 행 수")
+                .register(meterRegistry);
+        readTimer = Timer.builder("post.timeline.read")
+                .description("타임라인 한 페이지를 만드는 데 걸린 시간")
+                .register(meterRegistry);
+        Gauge.builder("post.timeline.celebrities", this, service -> service.celebrities.size())
+                .description("읽을 때 게시글을 가져오는 인기 블로그 수")
+                .register(meterRegistry);
+        Gauge.builder("post.timeline.stream.hit.ratio", streams, cache -> cache.stats().hitRate())
+                .description("인기 블로그 최신 게시글 캐시 적중률")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 홈 타임라인 조회 (커서 기반)
+     *
+     * @param blogId 타임라인을 조회하는 블로그 식별자
+     * @param cursor 이전 페이지의 다음 페이지 커서 (첫 페이지라면 null)
+     * @param size   조회할 게시글 수
+     * @param fields 응답에 포함할 필드 목록
+     * @return 팔로우 하는 블로그의 최신 공개 게시글과 다음 페이지 커서
+     */
+    @Transactional(readOnly = true)
+    public CursorSliceDto<PostSummaryDto> getTimeline(UUID blogId, String cursor, int size, PostFieldSet fields) throws BaseException {
+        try {
+            int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+            PostCursor postCursor = PostCursor.decode(cursor);
+
+            // 다음 페이지가 있는지 확인하기 위해 요청한 크기보다 하나 더 병합한다.
+            List<TimelineItem> merged = readTimer.record(() -> merge(collectStreams(blogId, postCursor, pageSize + 1), pageSize + 1));
+
+            boolean hasNext = merged.size() > pageSize;
+            List<TimelineItem> page = hasNext ? merged.subList(0, pageSize) : merged;
+
+            String nextCursor = null;
+            if (hasNext) {
+                TimelineItem last = page.get(page.size() - 1);
+                nextCursor = new PostCursor(last.createdAt(), last.postId()).encode();
+            }
+
+            List<PostSummaryDto> content = findSummaries(page, fields);
+            if (fields.includes("postLiked")) {
+                viewerStateResolver.fillPostLiked(blogId, content);
+            }
+            if (fields.includes("likesCount")) {
+                likeCounterService.fillPostLikesCount(content);
+            }
+
+            return new CursorSliceDto<>(content.stream().map(fields::apply).toList(), hasNext, nextCursor);
+
+        } catch (BaseException e) {
+            log.error(e.getErrorCode().getMessage());
+            throw e;
+
+        } catch (Exception e) {
+            log.error(e.getMessage());
+            throw new BaseException(BaseErrorCode.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    /**
+     * 팔로우가 바뀌면 받은 편지함을 함께 고친다. (팔로우 변경과 같은 트랜잭션)
+     * 팔로우 하면 작성자의 최근 게시글을 채워 넣고, 언팔로우 하면 작성자의 게시글을 뺀다.
+     *
+     * @param readerBlogId 팔로우 하는 블로그 식별자
+     * @param authorBlogId 팔로우 대상 블로그 식별자
+     * @param following    팔로우 여부
+     */
+    public void onFollowChanged(UUID readerBlogId, UUID authorBlogId, boolean following) {
+        if (!following) {
+            jdbcTemplate.update("DELETE FROM timeline_inbox WHERE reader_blog_id = ? AND author_blog_id = ?",
+                    UuidBytes.toBytes(readerBlogId), UuidBytes.toBytes(authorBlogId));
+            return;
+        }
+
+        if (celebrities.contains(authorBlogId)) {
+            return; // 인기 블로그의 게시글은 읽을 때 가져온다.
+        }
+
+        jdbcTemplate.update("INSERT IGNORE INTO timeline_inbox (reader_blog_id, post_id, author_blog_id, created_at) " +
+                        "SELECT ?, p.post_id, p.blog_id, p.created_at FROM post p " +
+                        "WHERE p.blog_id = ? AND p.status = true AND p.post_public = true " +
+                        "ORDER BY p.created_at DESC, p.post_id DESC LIMIT ?",
+                UuidBytes.toBytes(readerBlogId), UuidBytes.toBytes(authorBlogId), backfillSize);
+    }
+
+    /**
+     * 게시글 변경이 커밋되면 받은 편지함과 인기 블로그 게시글 흐름에 반영한다.
+     * 공개 게시글은 팔로워의 받은 편지함에 넣고(이미 있다면 무시), 삭제되거나 비공개로 바뀐 게시글은 뺀다.
+     *
+     * @param event 게시글 변경 이벤트
+     */
+    @TransactionalEventListener
+    public void onPostChanged(PostChangedEvent event) {
+        try {
+            streamGeneration.incrementAndGet();
+            streams.invalidate(event.getBlogId());
+
+            if (event.getType() == PostChangedEvent.Type.DELETED || !event.isPublic()) {
+                transactionTemplate.executeWithoutResult(status ->
+                        jdbcTemplate.update("DELETE FROM timeline_inbox WHERE post_id = ?", UuidBytes.toBytes(event.getPostId())));
+                return;
+            }
+
+            fanOut(event.getBlogId(), event.getPostId(), event.getCreatedAt());
+
+        } catch (Exception e) {
+            log.error("게시글(" + event.getPostId() + ")을 타임라인에 반영하는 데 실패하였습니다.", e);
+        }
+    }
+
+    /**
+     * 팔로워 수가 기준 이상인 블로그를 인기 블로그로 다시 읽어온다.
+     * 인기 블로그에서 빠진 블로그는 더 이상 읽을 때 가져오지 않으므로, 최근 게시글을 팔로워의 받은 편지함에 채워 넣는다.
+     */
+    @Scheduled(fixedDelayString = "${post.timeline.celebrity-refresh-ms:60000}")
+    public void refreshCelebrities() {
+        try {
+            Set<UUID> refreshed = ConcurrentHashMap.newKeySet();
+            refreshed.addAll(blogStatsRepository.findBlogIdsWithFollowersAtLeast(fanoutThreshold));
+
+            Set<UUID> demoted = new HashSet<>(celebrities);
+            demoted.removeAll(refreshed);
+            celebrities = refreshed;
+
+            // 목록을 바꾼 뒤에 채워 넣어야 그 사이에 작성된 게시글도 받은 편지함에 들어간다.
+            for (UUID authorBlogId : demoted) {
+                try {
+                    backfillFollowers(authorBlogId);
+
+                } catch (Exception e) {
+                    log.error("인기 블로그에서 빠진 블로그(" + authorBlogId + ")의 게시글을 받은 편지함에 채우는 데 실패하였습니다.", e);
+                }
+            }
+
+        } catch (Exception e) {
+            log.error("인기 블로그 목록을 읽어오는 데 실패하였습니다. 다음 주기에 다시 시도합니다.", e);
+        }
+    }
+
+    /**
+     * 읽는 사람마다 최신 post.timeline.inbox-size개만 남기고 받은 편지함을 정리한다.
+     * 블로그 식별자 순서로 일정 개수씩 별도의 트랜잭션에서 처리한다.
+     */
+    @Scheduled(initialDelayString = "${post.timeline.trim-interval-ms:600000}",
+            fixedDelayString = "${post.timeline.trim-interval-ms:600000}")
+    public synchronized void trim() {
+        try {
+            UUID after = MIN_BLOG_ID;
+            int trimmed = 0;
+
+            while (true) {
+                List<UUID> readers = blogStatsRepository.findBlogIdsAfter(after, PageRequest.of(0, trimChunkSize));
+                if (readers.isEmpty()) {
+                    break;
+                }
+
+                Integer deleted = transactionTemplate.execute(status -> trimInboxes(readers));
+                trimmed += deleted == null ? 0 : deleted;
+
+                after = readers.get(readers.size() - 1);
+                if (readers.size() < trimChunkSize) {
+                    break;
+                }
+            }
+
+            if (trimmed > 0) {
+                log.info("받은 편지함에서 오래된 게시글 {}개를 정리하였습니다.", trimmed);
+            }
+
+        } catch (Exception e) {
+            log.error("받은 편지함을 정리하는 데 실패하였습니다. 다음 주기에 다시 시도합니다.", e);
+        }
+    }
+
+    /**
+     * 받은 편지함과 팔로우 하는 인기 블로그의 게시글 흐름을 모은다. 각 흐름은 최대 limit개이다.
+     */
+    private List<List<TimelineItem>> collectStreams(UUID blogId, PostCursor cursor, int limit) {
+        List<List<TimelineItem>> collected = new ArrayList<>();
+
+        List<Object[]> inbox = cursor == null
+                ? timelineInboxRepository.findLatest(blogId, PageRequest.of(0, limit))
+                : timelineInboxRepository.findBefore(blogId, cursor.getCreatedAt(), cursor.getPostId(), PageRequest.of(0, limit));
+        collected.add(toItems(inbox));
+
+        Set<UUID> currentCelebrities = celebrities;
+        for (UUID followee : followGraph.page(FollowGraph.Direction.FOLLOWING, blogId, null, Integer.MAX_VALUE)) {
+            if (currentCelebrities.contains(followee)) {
+                collected.add(readStream(followee, cursor, limit));
+            }
+        }
+
+        return collected;
+    }
+
+    /**
+     * 인기 블로그의 커서 이후 게시글 흐름
+     * 메모리에 보관한 최신 게시글로 충분하면 그대로 사용하고, 그보다 오래된 게시글이 필요하면 조회한다.
+     */
+    private List<TimelineItem> readStream(UUID authorBlogId, PostCursor cursor, int limit) {
+        List<TimelineItem> recent = recentPosts(authorBlogId);
+
+        List<TimelineItem> remaining = recent;
+        if (cursor != null) {
+            TimelineItem last = new TimelineItem(cursor.getPostId(), cursor.getCreatedAt());
+            remaining = recent.stream()
+                    .filter(item -> NEWEST_FIRST.compare(item, last) > 0)
+                    .toList();
+        }
+
+        // 보관한 게시글이 블로그의 모든 공개 게시글이거나, 남은 게시글로 충분한 경우
+        if (remaining.size() >= limit || recent.size() < streamSize) {
+            return remaining.size() > limit ? remaining.subList(0, limit) : remaining;
+        }
+
+        List<Object[]> rows = cursor == null
+                ? postRepository.findLatestPublic(authorBlogId, PageRequest.of(0, limit))
+                : postRepository.findPublicBefore(authorBlogId, cursor.getCreatedAt(), cursor.getPostId(), PageRequest.of(0, limit));
+        return toItems(rows);
+    }
+
+    /**
+     * 인기 블로그의 최신 공개 게시글 조회. 없다면 조회하여 보관한다.
+     * 조회하는 동안 게시글이 바뀌었다면 이번 요청에만 사용하고 보관하지 않는다.
+     */
+    private List<TimelineItem> recentPosts(UUID authorBlogId) {
+        List<TimelineItem> cached = streams.getIfPresent(authorBlogId);
+        if (cached != null) {
+            return cached;
+        }
+
+        long before = streamGeneration.get();
+        List<TimelineItem> loaded = toItems(postRepository.findLatestPublic(authorBlogId, PageRequest.of(0, streamSize)));
+
+        if (streamGeneration.get() == before) {
+            streams.put(authorBlogId, loaded);
+        }
+        return loaded;
+    }
+
+    /**
+     * 정렬된 게시글 흐름들을 k-way 병합하여 최신 게시글부터 최대 limit개를 고른다.
+     * 받은 편지함과 인기 블로그 흐름에 같은 게시글이 있다면 한 번만 고른다.
+     */
+    private static List<TimelineItem> merge(List<List<TimelineItem>> sources, int limit) {
+        PriorityQueue<StreamHead> heads = new PriorityQueue<>((left, right) -> NEWEST_FIRST.compare(left.item(), right.item()));
+        for (List<TimelineItem> source : sources) {
+            Iterator<TimelineItem> iterator = source.iterator();
+            if (iterator.hasNext()) {
+                heads.add(new StreamHead(iterator.next(), iterator));
+            }
+        }
+
+        List<TimelineItem> merged = new ArrayList<>(limit);
+        Set<UUID> seen = new HashSet<>();
+        while (!heads.isEmpty() && merged.size() < limit) {
+            StreamHead head = heads.poll();
+            if (seen.add(head.item().postId())) {
+                merged.add(head.item());
+            }
+            if (head.rest().hasNext()) {
+                heads.add(new StreamHead(head.rest().next(), head.rest()));
+            }
+        }
+
+        return merged;
+    }
+
+    /**
+     * 고른 게시글의 요약 정보를 한 번에 조회한다. 그 사이에 삭제되거나 비공개로 바뀐 게시글은 빠진다.
+     */
+    private List<PostSummaryDto> findSummaries(List<TimelineItem> items, PostFieldSet fields) {
+        if (items.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        Specification<Post> specification = Specification.where(PostSpecification.withPostIds(items.stream().map(TimelineItem::postId).toList()))
+                .and(PostSpecification.withStatusTrue())
+                .and(PostSpecification.withIsPublic(true));
+
+        return postRepository.findSummaries(specification, RECENT_POST_SORT, 0, items.size(), fields);
+    }
+
+    /**
+     * 팔로워의 받은 편지함에 게시글을 넣는다. 인기 블로그라면 넣지 않는다.
+     */
+    private void fanOut(UUID authorBlogId, UUID postId, LocalDateTime createdAt) {
+        if (celebrities.contains(authorBlogId)) {
+            return;
+        }
+
+        List<UUID> followers = followGraph.page(FollowGraph.Direction.FOLLOWER, authorBlogId, null, Integer.MAX_VALUE);
+        if (followers.size() >= fanoutThreshold) {
+            celebrities.add(authorBlogId); // 다음 목록 갱신을 기다리지 않고 인기 블로그로 다룬다.
+            return;
+        }
+
+        byte[] post = UuidBytes.toBytes(postId);
+        byte[] author = UuidBytes.toBytes(authorBlogId);
+
+        for (int from = 0; from < followers.size(); from += FANOUT_BATCH_SIZE) {
+            List<Object[]> rows = followers.subList(from, Math.min(from + FANOUT_BATCH_SIZE, followers.size()))
+                    .stream()
+                    .map(follower -> new Object[]{UuidBytes.toBytes(follower), post, author, createdAt})
+                    .toList();
+
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(
+                    "INSERT IGNORE INTO timeline_inbox (reader_blog_id, post_id, author_blog_id, created_at) VALUES (?, ?, ?, ?)", rows));
+        }
+
+        fanoutRows.increment(followers.size());
+    }
+
+    /**
+     * 인기 블로그에서 빠진 블로그의 최근 post.timeline.backfill-size개 공개 게시글을 팔로워의 받은 편지함에 넣는다.
+     * (팔로우 할 때 채워 넣는 것과 같은 수)
+     */
+    private void backfillFollowers(UUID authorBlogId) {
+        List<TimelineItem> recent = toItems(postRepository.findLatestPublic(authorBlogId, PageRequest.of(0, backfillSize)));
+        if (recent.isEmpty()) {
+            return;
+        }
+
+        List<UUID> followers = followGraph.page(FollowGraph.Direction.FOLLOWER, authorBlogId, null, Integer.MAX_VALUE);
+        byte[] author = UuidBytes.toBytes(authorBlogId);
+        int followersPerBatch = Math.max(1, FANOUT_BATCH_SIZE / recent.size());
+
+        for (int from = 0; from < followers.size(); from += followersPerBatch) {
+            List<Object[]> rows = new ArrayList<>();
+            for (UUID follower : followers.subList(from, Math.min(from + followersPerBatch, followers.size()))) {
+                byte[] reader = UuidBytes.toBytes(follower);
+                recent.forEach(item -> rows.add(new Object[]{reader, UuidBytes.toBytes(item.postId()), author, item.createdAt()}));
+            }
+
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(
+                    "INSERT IGNORE INTO timeline_inbox (reader_blog_id, post_id, author_blog_id, created_at) VALUES (?, ?, ?, ?)", rows));
+            fanoutRows.increment(rows.size());
+        }
+
+        log.info("인기 블로그에서 빠진 블로그({})의 최근 게시글을 팔로워 {}명의 받은 편지함에 채웠습니다.", authorBlogId, followers.size());
+    }
+
+    /**
+     * 식별자 목록에 해당하는 블로그들의 받은 편지함에서 최신 post.timeline.inbox-size개를 넘는 행을 삭제한다.
+     */
+    private int trimInboxes(List<UUID> readers) {
+        String placeholders = String.join(", ", Collections.nCopies(readers.size(), "?"));
+
+        List<Object> args = new ArrayList<>();
+        readers.forEach(reader -> args.add(UuidBytes.toBytes(reader)));
+        args.add(inboxSize);
+
+        return jdbcTemplate.update(("DELETE t FROM timeline_inbox t JOIN (" +
+                "SELECT reader_blog_id, post_id FROM (" +
+                "SELECT reader_blog_id, post_id, ROW_NUMBER() OVER (PARTITION BY reader_blog_id ORDER BY created_at DESC, post_id DESC) AS row_num " +
+                "FROM timeline_inbox WHERE reader_blog_id IN (%s)) ranked WHERE row_num > ?) old " +
+                "ON t.reader_blog_id = old.reader_blog_id AND t.post_id = old.post_id").formatted(placeholders), args.toArray());
+    }
+
+    private static List<TimelineItem> toItems(List<Object[]> rows) {
+        return rows.stream()
+                .map(row -> new TimelineItem((UUID) row[0], (LocalDateTime) row[1]))
+                .toList();
+    }
+}
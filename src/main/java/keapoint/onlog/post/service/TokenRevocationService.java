@@ -0,0 +1,227 @@
+package keapoint.onlog.post.service;
+
+import com.google.common.hash.BloomFilter;
+import com.google.common.hash.Funnel;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import keapoint.onlog.post.utils.UuidBytes;
+import lombok.AllArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * access token 폐기 목록
+ * <p>
+ * 로그아웃한 access token의 식별자(jti)를 revoked_token 테이블에 기록하고, 서버 메모리에는
+ * 폐기된 jti → 만료 시각을 담은 정확한 목록과 그 앞의 Bloom filter를 둔다.
+ * 요청마다 Bloom filter만 확인하므로 폐기되지 않은 토큰(대부분의 요청)은 해시 몇 번으로 통과하고,
+ * Bloom filter가 "있을 수도 있다"고 답한 경우에만 정확한 목록을 확인한다.
+ * <p>
+ * 다른 서버에서 폐기한 토큰은 post.auth.revocation.sync-interval-ms마다 revoked_at 순서로 읽어와 반영하므로,
+ * 로그아웃한 토큰이 모든 서버에서 거부되기까지 최대 동기화 주기만큼 걸린다. (로그아웃을 처리한 서버는 즉시 거부한다.)
+ * Bloom filter는 항목을 지울 수 없으므로, 만료된 항목을 정리할 때 남은 목록으로 다시 만든다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TokenRevocationService {
+
+    private static final int SYNC_BATCH_SIZE = 1000; // 동기화 시 한 번에 읽을 행 수
+    private static final Duration SYNC_OVERLAP = Duration.ofSeconds(30); // 늦게 커밋된 행을 놓치지 않도록 다시 읽을 구간
+    private static final LocalDateTime MIN_REVOKED_AT = LocalDateTime.of(1970, 1, 2, 0, 0);
+    private static final UUID MIN_JTI = new UUID(0L, 0L);
+
+    private static final Funnel<UUID> JTI_FUNNEL = (jti, sink) -> sink
+            .putLong(jti.getMostSignificantBits())
+            .putLong(jti.getLeastSignificantBits());
+
+    private final JdbcTemplate jdbcTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${post.auth.revocation.expected-insertions:100000}")
+    private long expectedInsertions; // Bloom filter 최소 용량 (폐기된 토큰 수가 이를 넘으면 두 배씩 늘린다.)
+
+    @Value("${post.auth.revocation.false-positive-rate:0.01}")
+    private double falsePositiveRate; // Bloom filter 오탐률 (오탐이면 정확한 목록을 한 번 더 확인한다.)
+
+    @Value("${post.auth.revocation.purge-chunk-size:1000}")
+    private int purgeChunkSize; // 만료된 행을 한 문장으로 삭제할 최대 수
+
+    private final Map<UUID, Long> revoked = new ConcurrentHashMap<>(); // 폐기된 jti → 토큰 만료 시각 (epoch 밀리초)
+    private final Object writeLock = new Object(); // 목록과 Bloom filter 변경 (조회는 잠그지 않는다.)
+
+    private volatile BloomFilter<UUID> bloomFilter; // 폐기된 jti (거짓 음성 없음)
+    private long bloomCapacity; // 현재 Bloom filter 용량
+    private LocalDateTime syncedUntil = MIN_REVOKED_AT; // 마지막으로 읽은 폐기 시각
+
+    /**
+     * 동기화 중 읽은 폐기 기록
+     */
+    @AllArgsConstructor
+    private static final class Revocation {
+        private final UUID jti;
+        private final long expiresAt;
+        private final LocalDateTime revokedAt;
+    }
+
+    @PostConstruct
+    public void init() {
+        synchronized (writeLock) {
+            rebuild(expectedInsertions);
+        }
+
+        Gauge.builder("post.auth.revocation.size", revoked, Map::size)
+                .description("서버 메모리에 보관한 폐기된 access token 수")
+                .register(meterRegistry);
+
+        Gauge.builder("post.auth.revocation.bloom.fpp", this, service -> service.bloomFilter.expectedFpp())
+                .description("폐기된 access token Bloom filter의 예상 오탐률")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 폐기 여부 확인 (요청마다 호출된다.)
+     *
+     * @param jti 토큰 식별자. jti가 없는 토큰은 폐기할 수 없으므로 항상 false
+     * @return 폐기된 토큰이라면 true
+     */
+    public boolean isRevoked(UUID jti) {
+        if (jti == null || !bloomFilter.mightContain(jti)) {
+            return false;
+        }
+        return revoked.containsKey(jti);
+    }
+
+    /**
+     * access token 폐기 (호출하는 쪽의 트랜잭션에서 기록된다.)
+     * 이 서버는 즉시, 다른 서버는 다음 동기화부터 토큰을 거부한다.
+     *
+     * @param jti       토큰 식별자
+     * @param expiresAt 토큰 만료 시각 (epoch 밀리초). 이 시각이 지나면 기록을 삭제한다.
+     */
+    public void revoke(UUID jti, long expiresAt) {
+        jdbcTemplate.update("INSERT IGNORE INTO revoked_token (jti, expires_at, revoked_at) VALUES (?, ?, NOW(6))",
+                UuidBytes.toBytes(jti), new Timestamp(expiresAt));
+        remember(jti, expiresAt);
+    }
+
+    /**
+     * 다른 서버에서 폐기한 토큰을 읽어와 반영한다.
+     * 마지막으로 읽은 폐기 시각보다 SYNC_OVERLAP 앞부터 (revoked_at, jti) 순서로 읽으므로, 이미 반영한 행은 다시 읽어도 무시된다.
+     */
+    @Scheduled(fixedDelayString = "${post.auth.revocation.sync-interval-ms:5000}")
+    public synchronized void sync() {
+        try {
+            LocalDateTime afterRevokedAt = syncedUntil.minus(SYNC_OVERLAP);
+            UUID afterJti = MIN_JTI;
+            Timestamp now = new Timestamp(System.currentTimeMillis());
+
+            while (true) {
+                List<Revocation> rows = jdbcTemplate.query(
+                        "SELECT jti, expires_at, revoked_at FROM revoked_token " +
+                                "WHERE (revoked_at > ? OR (revoked_at = ? AND jti > ?)) AND expires_at > ? " +
+                                "ORDER BY revoked_at, jti LIMIT ?",
+                        (rs, rowNum) -> new Revocation(
+                                UuidBytes.toUuid(rs.getBytes("jti")),
+                                rs.getTimestamp("expires_at").getTime(),
+                                rs.getTimestamp("revoked_at").toLocalDateTime()),
+                        Timestamp.valueOf(afterRevokedAt), Timestamp.valueOf(afterRevokedAt), UuidBytes.toBytes(afterJti),
+                        now, SYNC_BATCH_SIZE);
+
+                for (Revocation row : rows) {
+                    remember(row.jti, row.expiresAt);
+                }
+
+                if (!rows.isEmpty()) {
+                    Revocation last = rows.get(rows.size() - 1);
+                    afterRevokedAt = last.revokedAt;
+                    afterJti = last.jti;
+                    if (last.revokedAt.isAfter(syncedUntil)) {
+                        syncedUntil = last.revokedAt;
+                    }
+                }
+
+                if (rows.size() < SYNC_BATCH_SIZE) {
+                    break;
+                }
+            }
+
+        } catch (Exception e) {
+            log.error("폐기된 토큰 목록을 동기화하는 데 실패하였습니다. 다음 주기에 다시 시도합니다.", e);
+        }
+    }
+
+    /**
+     * 만료 시각이 지난 폐기 기록을 메모리와 DB에서 정리하고, 남은 목록으로 Bloom filter를 다시 만든다.
+     */
+    @Scheduled(initialDelayString = "${post.auth.revocation.purge-interval-ms:3600000}",
+            fixedDelayString = "${post.auth.revocation.purge-interval-ms:3600000}")
+    public void purge() {
+        try {
+            long now = System.currentTimeMillis();
+            synchronized (writeLock) {
+                revoked.values().removeIf(expiresAt -> expiresAt <= now);
+                rebuild(Math.max(expectedInsertions, revoked.size() * 2L));
+            }
+
+            int deleted;
+            int total = 0;
+            do {
+                deleted = jdbcTemplate.update("DELETE FROM revoked_token WHERE expires_at <= ? LIMIT ?",
+                        new Timestamp(now), purgeChunkSize);
+                total += deleted;
+            } while (deleted == purgeChunkSize);
+
+            if (total > 0) {
+                log.info("만료된 폐기 토큰 기록 {}개를 삭제하였습니다.", total);
+            }
+
+        } catch (Exception e) {
+            log.error("만료된 폐기 토큰 기록을 정리하는 데 실패하였습니다. 다음 주기에 다시 시도합니다.", e);
+        }
+    }
+
+    /**
+     * 메모리 목록과 Bloom filter에 추가한다. 목록에 먼저 넣으므로 Bloom filter에서 찾은 jti는 항상 목록에도 있다.
+     */
+    private void remember(UUID jti, long expiresAt) {
+        if (expiresAt <= System.currentTimeMillis()) {
+            return; // 이미 만료된 토큰은 서명 검증에서 거부된다.
+        }
+
+        synchronized (writeLock) {
+            if (revoked.put(jti, expiresAt) != null) {
+                return;
+            }
+
+            if (revoked.size() > bloomCapacity) {
+                rebuild(bloomCapacity * 2);
+            } else {
+                bloomFilter.put(jti);
+            }
+        }
+    }
+
+    /**
+     * 현재 목록으로 Bloom filter를 다시 만든다. (writeLock을 잡은 상태에서 호출한다.)
+     */
+    private void rebuild(long capacity) {
+        BloomFilter<UUID> rebuilt = BloomFilter.create(JTI_FUNNEL, capacity, falsePositiveRate);
+        revoked.keySet().forEach(rebuilt::put);
+        bloomCapacity = capacity;
+        bloomFilter = rebuilt;
+    }
+}
@@ -0,0 +1,220 @@
+package keapoint.onlog.post.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import keapoint.onlog.post.base.BaseErrorCode;
+import keapoint.onlog.post.base.BaseException;
+import keapoint.onlog.post.dto.post.PostFieldSet;
+import keapoint.onlog.post.dto.post.PostSummaryDto;
+import keapoint.onlog.post.entity.Post;
+import keapoint.onlog.post.event.PostActivityEvent;
+import keapoint.onlog.post.event.PostChangedEvent;
+import keapoint.onlog.post.repository.CommentRepository;
+import keapoint.onlog.post.repository.PostRepository;
+import keapoint.onlog.post.specification.PostSpecification;
+import keapoint.onlog.post.utils.TrendingIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 인기 게시글 서비스
+ * <p>
+ * 게시글 조회, 좋아요, 댓글 이벤트를 받아 시간에 따라 감쇠하는 점수를 메모리의 상위 K개 인덱스에 반영하고,
+ * 인기 게시글 목록은 인덱스에서 바로 고른다. (DB에서는 고른 게시글의 요약 정보만 기본 키로 조회한다.)
+ * <p>
+ * 서버 시작 시 최근 post.trending.rebuild-window-hours시간 동안 작성된 공개 게시글의 방문 횟수, 좋아요 개수와
+ * 그 기간에 작성된 댓글로 인덱스를 다시 채운다. 방문과 좋아요는 시각이 기록되지 않으므로 게시글 작성 시각에 있었던 것으로 본다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TrendingService {
+
+    private static final int MAX_PAGE_SIZE = 50; // 한 번에 조회할 수 있는 최대 게시글 수
+    private static final double VIEW_WEIGHT = 1.0; // 조회 가중치
+    private static final double LIKE_WEIGHT = 5.0; // 좋아요 가중치 (취소하면 뺀다)
+    private static final double COMMENT_WEIGHT = 3.0; // 댓글 가중치
+
+    private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
+    private final ReferenceDataCache referenceDataCache;
+    private final ViewerStateResolver viewerStateResolver;
+    private final LikeCounterService likeCounterService;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${post.trending.capacity:10000}")
+    private int capacity; // 점수를 보관할 최대 게시글 수
+
+    @Value("${post.trending.half-life-minutes:360}")
+    private long halfLifeMinutes; // 점수가 절반이 되는 시간
+
+    @Value("${post.trending.rebuild-window-hours:48}")
+    private long rebuildWindowHours; // 서버 시작 시 다시 읽어올 활동 기간
+
+    private TrendingIndex index;
+
+    @PostConstruct
+    public void init() {
+        index = new TrendingIndex(capacity, Duration.ofMinutes(halfLifeMinutes), System.currentTimeMillis());
+
+        Gauge.builder("post.trending.entries", this, service -> service.index.size())
+                .description("인기 게시글 점수를 보관 중인 게시글 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 서버 시작 시 최근 활동으로 인덱스를 다시 채운다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        try {
+            LocalDateTime since = LocalDateTime.now().minusHours(rebuildWindowHours);
+            index.clear();
+
+            List<Object[]> posts = postRepository.findRecentPublicActivity(since);
+            for (Object[] row : posts) {
+                long at = toEpochMillis((LocalDateTime) row[2]);
+                double weight = VIEW_WEIGHT * (Long) row[3] + LIKE_WEIGHT * (Long) row[4];
+                index.add((UUID) row[0], (Long) row[1], weight, at);
+            }
+
+            List<Object[]> comments = commentRepository.findRecentPublicCommentActivity(since);
+            for (Object[] row : comments) {
+                index.add((UUID) row[0], (Long) row[1], COMMENT_WEIGHT, toEpochMillis((LocalDateTime) row[2]));
+            }
+
+            log.info("게시글 {}개와 댓글 {}개로 인기 게시글 인덱스를 채웠습니다.", posts.size(), comments.size());
+
+        } catch (Exception e) {
+            log.error("인기 게시글 인덱스 적재에 실패하였습니다.", e);
+        }
+    }
+
+    /**
+     * 게시글 활동이 커밋되면 점수에 반영한다. (트랜잭션 밖에서 발행된 이벤트는 바로 반영한다.)
+     * 주제와 공개 여부를 모르는 게시글은 인덱스에 없을 때만 조회한다.
+     *
+     * @param event 게시글 활동 이벤트
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostActivity(PostActivityEvent event) {
+        try {
+            Long topicId = event.getTopicId();
+
+            if (event.getIsPublic() == null && !index.contains(event.getPostId())) {
+                List<Object[]> found = postRepository.findPublicTopic(event.getPostId());
+                if (found.isEmpty()) {
+                    return; // 삭제되었거나 비공개 게시글
+                }
+                topicId = (Long) found.get(0)[1];
+
+            } else if (Boolean.FALSE.equals(event.getIsPublic())) {
+                return;
+            }
+
+            index.add(event.getPostId(), topicId, weightOf(event.getType()), toEpochMillis(event.getOccurredAt()));
+
+        } catch (Exception e) {
+            log.error("게시글(" + event.getPostId() + ") 활동을 인기 게시글 점수에 반영하는 데 실패하였습니다.", e);
+        }
+    }
+
+    /**
+     * 게시글이 삭제되거나 비공개로 바뀌면 인덱스에서 빼고, 주제가 바뀌면 주제별 순위를 옮긴다.
+     *
+     * @param event 게시글 변경 이벤트
+     */
+    @TransactionalEventListener
+    public void onPostChanged(PostChangedEvent event) {
+        if (event.getType() == PostChangedEvent.Type.DELETED || !event.isPublic()) {
+            index.remove(event.getPostId());
+            return;
+        }
+
+        index.updateTopic(event.getPostId(), event.getTopicId());
+    }
+
+    /**
+     * 인기 게시글 조회
+     *
+     * @param blogId    내 블로그 식별자
+     * @param topicName 주제 이름 (전체라면 null)
+     * @param size      조회할 게시글 수
+     * @param fields    응답에 포함할 필드 목록
+     * @return 점수가 높은 순서의 게시글 목록
+     */
+    @Transactional(readOnly = true)
+    public List<PostSummaryDto> getTrendingPosts(UUID blogId, String topicName, int size, PostFieldSet fields) throws BaseException {
+        try {
+            Long topicId = null;
+            if (topicName != null && !topicName.isEmpty()) {
+                Optional<Long> found = referenceDataCache.findTopicId(topicName);
+                if (found.isEmpty()) {
+                    return new ArrayList<>();
+                }
+                topicId = found.get();
+            }
+
+            List<UUID> postIds = index.top(Math.max(1, Math.min(size, MAX_PAGE_SIZE)), topicId);
+            if (postIds.isEmpty()) {
+                return new ArrayList<>();
+            }
+
+            // 게시글 요약 정보를 한 번에 조회한 뒤 점수 순서로 다시 정렬한다.
+            Specification<Post> specification = Specification.where(PostSpecification.withPostIds(postIds))
+                    .and(PostSpecification.withStatusTrue())
+                    .and(PostSpecification.withIsPublic(true));
+            Map<UUID, PostSummaryDto> summaries = postRepository.findSummaries(specification, Sort.unsorted(), 0, postIds.size(), fields)
+                    .stream()
+                    .collect(Collectors.toMap(PostSummaryDto::getPostId, Function.identity()));
+
+            List<PostSummaryDto> content = postIds.stream()
+                    .map(summaries::get)
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.toList());
+
+            if (fields.includes("postLiked")) {
+                viewerStateResolver.fillPostLiked(blogId, content);
+            }
+            if (fields.includes("likesCount")) {
+                likeCounterService.fillPostLikesCount(content);
+            }
+
+            return content.stream().map(fields::apply).toList();
+
+        } catch (Exception e) {
+            log.error(e.getMessage());
+            throw new BaseException(BaseErrorCode.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    private static double weightOf(PostActivityEvent.Type type) {
+        return switch (type) {
+            case VIEW -> VIEW_WEIGHT;
+            case LIKE -> LIKE_WEIGHT;
+            case UNLIKE -> -LIKE_WEIGHT;
+            case COMMENT -> COMMENT_WEIGHT;
+        };
+    }
+
+    private static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
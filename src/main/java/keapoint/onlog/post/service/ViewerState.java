@@ -0,0 +1,36 @@
+package keapoint.onlog.post.service;
+
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 조회하는 사용자 기준의 게시글, 댓글 상태 (좋아요 여부)
+ * <p>
+ * 하나의 응답을 만드는 동안만 사용하며, 응답에 필요한 게시글과 댓글에 대해서만 값을 가지고 있다.
+ */
+public class ViewerState {
+
+    public static final ViewerState EMPTY = new ViewerState(Set.of(), Set.of());
+
+    private final Set<UUID> likedPostIds; // 좋아요 한 게시글 식별자
+    private final Set<UUID> likedCommentIds; // 좋아요 한 댓글 식별자
+
+    public ViewerState(Set<UUID> likedPostIds, Set<UUID> likedCommentIds) {
+        this.likedPostIds = likedPostIds;
+        this.likedCommentIds = likedCommentIds;
+    }
+
+    /**
+     * 게시글을 좋아요 하고 있는지 여부
+     */
+    public boolean isPostLiked(UUID postId) {
+        return likedPostIds.contains(postId);
+    }
+
+    /**
+     * 댓글을 좋아요 하고 있는지 여부
+     */
+    public boolean isCommentLiked(UUID commentId) {
+        return likedCommentIds.contains(commentId);
+    }
+}
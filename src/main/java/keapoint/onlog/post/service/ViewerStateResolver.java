@@ -0,0 +1,58 @@
+package keapoint.onlog.post.service;
+
+import keapoint.onlog.post.dto.post.PostSummaryDto;
+import keapoint.onlog.post.entity.LikeCounterShard;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+/**
+ * 사용자 기준 상태 조회기
+ * <p>
+ * 응답에 필요한 게시글, 댓글 식별자를 모아 좋아요 한 블로그 색인에서 좋아요 여부를 확인한다.
+ * 색인에 없는 게시글, 댓글만 종류별로 한 번에 조회하고, 이후 좋아요 여부는 비트맵에서 바로 확인한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ViewerStateResolver {
+
+    private final LikeMembershipIndex likeMembershipIndex;
+
+    /**
+     * 게시글, 댓글 좋아요 여부 조회
+     *
+     * @param viewerBlogId 조회하는 사용자의 블로그 식별자
+     * @param postIds      좋아요 여부가 필요한 게시글 식별자
+     * @param commentIds   좋아요 여부가 필요한 댓글 식별자
+     * @return 사용자 기준 상태
+     */
+    public ViewerState resolve(UUID viewerBlogId, Collection<UUID> postIds, Collection<UUID> commentIds) {
+        if (viewerBlogId == null) {
+            return ViewerState.EMPTY;
+        }
+
+        return new ViewerState(
+                likeMembershipIndex.findLiked(LikeCounterShard.TargetType.POST, viewerBlogId, postIds == null ? List.of() : postIds),
+                likeMembershipIndex.findLiked(LikeCounterShard.TargetType.COMMENT, viewerBlogId, commentIds == null ? List.of() : commentIds)
+        );
+    }
+
+    /**
+     * 게시글 목록에 좋아요 여부를 채운다.
+     *
+     * @param viewerBlogId 조회하는 사용자의 블로그 식별자
+     * @param posts        게시글 요약 정보 목록
+     * @return 좋아요 여부가 채워진 게시글 요약 정보 목록
+     */
+    public List<PostSummaryDto> fillPostLiked(UUID viewerBlogId, List<PostSummaryDto> posts) {
+        List<UUID> postIds = posts.stream()
+                .map(PostSummaryDto::getPostId)
+                .toList();
+
+        ViewerState viewerState = resolve(viewerBlogId, postIds, List.of());
+        posts.forEach(post -> post.setPostLiked(viewerState.isPostLiked(post.getPostId())));
+
+        return posts;
+    }
+}
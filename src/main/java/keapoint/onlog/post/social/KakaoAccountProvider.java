@@ -0,0 +1,150 @@
+package keapoint.onlog.post.social;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import io.netty.channel.ChannelOption;
+import keapoint.onlog.post.base.AccountType;
+import keapoint.onlog.post.base.BaseErrorCode;
+import keapoint.onlog.post.base.BaseException;
+import keapoint.onlog.post.dto.auth.SocialAccountUserInfo;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.BodyInserters;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * 카카오 계정 제공자
+ * <p>
+ * 커넥션 풀과 연결, 응답 시간 제한을 가진 WebClient 하나를 모든 로그인 요청이 함께 사용한다.
+ * 인가 코드로 카카오 access token을 받은 뒤 이어서 사용자 정보를 조회하며, 두 호출 모두 서블릿 스레드를 붙잡지 않는다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "post.auth.kakao.stub", havingValue = "false", matchIfMissing = true)
+public class KakaoAccountProvider implements SocialAccountProvider {
+
+    private final WebClient webClient;
+    private final String clientId; // Rest Api Key
+    private final String tokenUri; // 카카오 토큰 발급 주소
+    private final String userInfoUri; // 카카오 사용자 정보 조회 주소
+
+    public KakaoAccountProvider(@Value("${spring.security.oauth2.client.registration.kakao.client-id}") String clientId,
+                                @Value("${post.auth.kakao.token-uri:https://kauth.kakao.com/oauth/token}") String tokenUri,
+                                @Value("${post.auth.kakao.user-info-uri:https://kapi.kakao.com/v2/user/me}") String userInfoUri,
+                                @Value("${post.auth.kakao.max-connections:50}") int maxConnections,
+                                @Value("${post.auth.kakao.connect-timeout-ms:2000}") int connectTimeoutMillis,
+                                @Value("${post.auth.kakao.response-timeout-ms:3000}") long responseTimeoutMillis) {
+        this.clientId = clientId;
+        this.tokenUri = tokenUri;
+        this.userInfoUri = userInfoUri;
+
+        ConnectionProvider connectionProvider = ConnectionProvider.builder("kakao")
+                .maxConnections(maxConnections)
+                .pendingAcquireTimeout(Duration.ofMillis(connectTimeoutMillis))
+                .maxIdleTime(Duration.ofSeconds(30))
+                .build();
+
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeoutMillis)
+                .responseTimeout(Duration.ofMillis(responseTimeoutMillis));
+
+        this.webClient = WebClient.builder()
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .defaultHeader(HttpHeaders.CONTENT_TYPE, "application/x-www-form-urlencoded;charset=utf-8")
+                .build();
+    }
+
+    @Override
+    public AccountType getAccountType() {
+        return AccountType.KAKAO;
+    }
+
+    @Override
+    public Mono<SocialAccountUserInfo> getUserInfo(String authCode) {
+        return getAccessToken(authCode)
+                .flatMap(this::getUserInfoByAccessToken)
+                .onErrorMap(exception -> !(exception instanceof BaseException), exception -> {
+                    log.error("Exception in Kakao login : " + exception.getMessage());
+                    return new BaseException(BaseErrorCode.INTERNAL_SERVER_ERROR);
+                });
+    }
+
+    /**
+     * 카카오 인가 코드로 카카오 access token 발급받기
+     */
+    @SuppressWarnings("unchecked")
+    private Mono<String> getAccessToken(String authCode) {
+        return webClient.post()
+                .uri(tokenUri)
+                .body(BodyInserters.fromFormData("grant_type", "authorization_code")
+                        .with("client_id", clientId)
+                        .with("code", authCode))
+                .retrieve()
+                .bodyToMono(Map.class)
+                .map(tokenResponse -> (String) tokenResponse.get("access_token"));
+    }
+
+    /**
+     * 카카오 access token으로 사용자의 정보 발급받기
+     */
+    private Mono<SocialAccountUserInfo> getUserInfoByAccessToken(String accessToken) {
+        return webClient.post()
+                .uri(userInfoUri)
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
+                .accept(MediaType.APPLICATION_JSON)
+                .retrieve()
+                .bodyToMono(String.class)
+                .handle((response, sink) -> {
+                    try {
+                        sink.next(parseUserInfo(response));
+                    } catch (BaseException exception) {
+                        sink.error(exception);
+                    }
+                });
+    }
+
+    private static SocialAccountUserInfo parseUserInfo(String response) throws BaseException {
+        JsonObject kakaoAccount = JsonParser.parseString(response)
+                .getAsJsonObject()
+                .get("kakao_account")
+                .getAsJsonObject();
+
+        // 닉네임 정보 담기
+        String username = kakaoAccount.get("profile")
+                .getAsJsonObject()
+                .get("nickname")
+                .getAsString();
+
+        // 이메일이 사용자의 식별자로 사용되고 있기 때문에 무조건 필요함
+        if (!kakaoAccount.get("has_email").getAsBoolean()) {
+            throw new BaseException(BaseErrorCode.EMAIL_NOT_FOUND_EXCEPTION);
+        }
+        String email = kakaoAccount.get("email").getAsString();
+
+        // 프로필 이미지 권한이 있는 경우 해당 이미지를 사용하고, 권한이 없는 경우 null로 설정한다.
+        String profileImgUrl = null;
+        if (!kakaoAccount.get("profile_image_needs_agreement").getAsBoolean()) {
+            profileImgUrl = kakaoAccount.get("profile")
+                    .getAsJsonObject()
+                    .get("profile_image_url")
+                    .getAsString();
+        }
+
+        return SocialAccountUserInfo.builder()
+                .userName(username)
+                .userEmail(email)
+                .profileImgUrl(profileImgUrl)
+                .build();
+    }
+}
@@ -0,0 +1,27 @@
+package keapoint.onlog.post.social;
+
+import keapoint.onlog.post.base.AccountType;
+import keapoint.onlog.post.dto.auth.SocialAccountUserInfo;
+import reactor.core.publisher.Mono;
+
+/**
+ * 소셜 계정 제공자
+ * <p>
+ * 인가 코드로 제공자가 확인한 사용자 정보를 가져온다. 호출은 블로킹하지 않으며,
+ * 실패하면 BaseException으로 끝나는 Mono를 반환한다.
+ */
+public interface SocialAccountProvider {
+
+    /**
+     * 제공자 계정 종류
+     */
+    AccountType getAccountType();
+
+    /**
+     * 인가 코드로 사용자 정보 조회
+     *
+     * @param authCode 제공자가 콜백으로 전달한 인가 코드
+     * @return 사용자의 이름, 이메일, 프로필 이미지
+     */
+    Mono<SocialAccountUserInfo> getUserInfo(String authCode);
+}
@@ -0,0 +1,33 @@
+package keapoint.onlog.post.social;
+
+import keapoint.onlog.post.base.AccountType;
+import keapoint.onlog.post.dto.auth.SocialAccountUserInfo;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * 테스트, 부하 측정용 소셜 계정 제공자
+ * <p>
+ * 외부 서버를 호출하지 않고 인가 코드로 사용자를 만들어낸다. 같은 인가 코드는 항상 같은 사용자이므로,
+ * 인가 코드를 바꿔가며 호출하면 신규 가입을, 같은 인가 코드로 호출하면 기존 사용자 로그인을 재현할 수 있다.
+ * post.auth.kakao.stub이 true일 때만 카카오 계정 제공자 대신 사용된다.
+ */
+@Component
+@ConditionalOnProperty(name = "post.auth.kakao.stub", havingValue = "true")
+public class StubSocialAccountProvider implements SocialAccountProvider {
+
+    @Override
+    public AccountType getAccountType() {
+        return AccountType.KAKAO;
+    }
+
+    @Override
+    public Mono<SocialAccountUserInfo> getUserInfo(String authCode) {
+        return Mono.just(SocialAccountUserInfo.builder()
+                .userName("stub-" + authCode)
+                .userEmail(authCode + "@stub.onlog.local")
+                .profileImgUrl(null)
+                .build());
+    }
+}
@@ -1,8 +1,11 @@
 package keapoint.onlog.post.specification;
 
+import keapoint.onlog.post.dto.post.PostCursor;
 import keapoint.onlog.post.entity.Post;
 import org.springframework.data.jpa.domain.Specification;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.UUID;
 
 /**
@@ -11,30 +14,16 @@ import java.util.UUID;
 public class PostSpecification {
 
     /**
-     * 주제 이름에 대한 게시글을 검색하는 Specification
+     * 주제 ID에 대한 Specification
+     * 주제 테이블과 조인하지 않고 게시글의 외래 키만 비교한다.
      *
-     * @param topicName 주제 이름
-     * @return 주제 이름에 대한 Specification
+     * @param topicId 주제 ID
+     * @return 주제 ID에 대한 Specification
      */
-    public static Specification<Post> withTopicName(String topicName) {
+    public static Specification<Post> withTopicId(Long topicId) {
         return (root, query, criteriaBuilder) -> {
-            if (topicName != null && !topicName.isEmpty()) {
-                return criteriaBuilder.equal(root.get("topic").get("name"), topicName);
-            }
-            return null;
-        };
-    }
-
-    /**
-     * 해시태그에 대한 게시글을 검색하는 Specification
-     *
-     * @param hashtag 해시태그
-     * @return 해시태그에 따른 게시글 검색 조건
-     */
-    public static Specification<Post> withHashtag(String hashtag) {
-        return (root, query, criteriaBuilder) -> {
-            if (hashtag != null && !hashtag.isEmpty()) {
-                return criteriaBuilder.isMember(hashtag, root.get("hashtagList"));
+            if (topicId != null) {
+                return criteriaBuilder.equal(root.get("topic").get("id"), topicId);
             }
             return null;
         };
@@ -93,4 +82,36 @@ public class PostSpecification {
             return null;
         };
     }
+
+    /**
+     * 커서 이후의 게시글에 대한 Specification
+     * (작성 시간, 게시글 식별자) 내림차순 정렬 기준으로 커서보다 뒤에 있는 게시글만 조회한다.
+     *
+     * @param cursor 마지막으로 조회된 게시글의 커서
+     * @return 커서에 대한 Specification
+     */
+    public static Specification<Post> withCursor(PostCursor cursor) {
+        return (root, query, criteriaBuilder) -> {
+            if (cursor != null) {
+                return criteriaBuilder.or(
+                        criteriaBuilder.lessThan(root.<LocalDateTime>get("createdAt"), cursor.getCreatedAt()),
+                        criteriaBuilder.and(
+                                criteriaBuilder.equal(root.get("createdAt"), cursor.getCreatedAt()),
+                                criteriaBuilder.lessThan(root.<UUID>get("postId"), cursor.getPostId())
+                        )
+                );
+            }
+            return null;
+        };
+    }
+
+    /**
+     * 게시글 식별자 목록에 대한 Specification
+     *
+     * @param postIds 게시글 식별자 목록
+     * @return 게시글 식별자 목록에 대한 Specification
+     */
+    public static Specification<Post> withPostIds(Collection<UUID> postIds) {
+        return (root, query, criteriaBuilder) -> root.get("postId").in(postIds);
+    }
 }
@@ -0,0 +1,35 @@
+package keapoint.onlog.post.utils;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 트랜잭션 커밋 이후 실행
+ * <p>
+ * 캐시 갱신처럼 DB에 반영된 이후에만 일어나야 하는 작업을 트랜잭션이 커밋된 이후로 미룬다.
+ * 롤백되면 실행하지 않으며, 트랜잭션 밖에서 호출하면 바로 실행한다.
+ */
+public final class AfterCommit {
+
+    private AfterCommit() {
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 이후에 작업을 실행한다.
+     *
+     * @param action 실행할 작업
+     */
+    public static void run(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,103 @@
+package keapoint.onlog.post.utils;
+
+/**
+ * 댓글 경로 (materialized path)
+ * <p>
+ * 최상위 댓글의 경로는 그룹 번호, 답글의 경로는 부모 댓글 경로 뒤에 형제 순서를 붙인 값이다.
+ * 각 구간은 고정 길이 36진수(0-9, a-z)이므로 경로를 문자열(바이트) 순서로 정렬하면 곧 스레드 표시 순서가 되고,
+ * 한 댓글의 하위 답글 전체는 [경로, 경로 + '~') 범위 하나로 조회할 수 있다.
+ * <p>
+ * 답글을 작성해도 다른 댓글의 경로는 바뀌지 않으므로, 답글 하나를 쓸 때 새 행 하나만 기록하면 된다.
+ */
+public final class CommentPath {
+
+    public static final int SEGMENT_LENGTH = 5; // 구간 하나의 길이
+    public static final int MAX_DEPTH = 100; // 최대 계층 (comment_path 컬럼 길이 500 / 구간 길이)
+    public static final long MAX_SEGMENT_VALUE = pow36(SEGMENT_LENGTH) - 1; // 구간 하나로 나타낼 수 있는 최댓값
+
+    private static final char UPPER_BOUND = '~'; // 구간에 쓰이는 모든 문자보다 큰 문자
+
+    private CommentPath() {
+    }
+
+    /**
+     * 최상위 댓글 경로
+     *
+     * @param ref 댓글 그룹
+     * @return 경로
+     */
+    public static String root(long ref) {
+        return segment(ref);
+    }
+
+    /**
+     * 답글 경로
+     *
+     * @param parentPath 부모 댓글 경로
+     * @param order      부모 댓글 안에서의 형제 순서 (1부터)
+     * @return 경로
+     * @throws IllegalArgumentException 최대 계층을 넘는 경우
+     */
+    public static String child(String parentPath, long order) {
+        if (depth(parentPath) >= MAX_DEPTH) {
+            throw new IllegalArgumentException("댓글 계층이 최대 계층(" + MAX_DEPTH + ")을 넘습니다.");
+        }
+        return parentPath + segment(order);
+    }
+
+    /**
+     * 경로의 계층 (최상위 댓글은 1)
+     */
+    public static int depth(String path) {
+        return path.length() / SEGMENT_LENGTH;
+    }
+
+    /**
+     * 하위 답글 경로의 상한 (포함하지 않음)
+     *
+     * @param path 댓글 경로
+     * @return 하위 답글 경로보다 항상 큰 가장 작은 문자열
+     */
+    public static String upperBound(String path) {
+        return path + UPPER_BOUND;
+    }
+
+    /**
+     * 경로 형식 확인 (구간 길이의 배수이며 0-9, a-z로만 이루어져 있는지)
+     */
+    public static boolean isValid(String path) {
+        if (path == null || path.isEmpty() || path.length() % SEGMENT_LENGTH != 0 || depth(path) > MAX_DEPTH) {
+            return false;
+        }
+
+        for (int i = 0; i < path.length(); i++) {
+            char c = path.charAt(i);
+            if (!(c >= '0' && c <= '9') && !(c >= 'a' && c <= 'z')) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 고정 길이 36진수 구간
+     *
+     * @throws IllegalArgumentException 구간으로 나타낼 수 없는 값인 경우
+     */
+    private static String segment(long value) {
+        if (value < 0 || value > MAX_SEGMENT_VALUE) {
+            throw new IllegalArgumentException("댓글 경로 구간으로 나타낼 수 없는 값입니다: " + value);
+        }
+
+        String digits = Long.toString(value, 36);
+        return "0".repeat(SEGMENT_LENGTH - digits.length()) + digits;
+    }
+
+    private static long pow36(int exponent) {
+        long result = 1;
+        for (int i = 0; i < exponent; i++) {
+            result *= 36;
+        }
+        return result;
+    }
+}
@@ -0,0 +1,342 @@
+package keapoint.onlog.post.utils;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * 압축 비트맵 (Roaring 방식)
+ * <p>
+ * 32비트 정수를 상위 16비트로 나눈 구간(container)별로 보관한다.
+ * 구간에 들어있는 값이 4,096개 이하면 정렬된 char 배열로, 그보다 많으면 65,536비트 비트맵으로 보관하므로,
+ * 값이 드문드문 있어도 값 하나당 최대 2바이트, 빽빽하게 있으면 구간당 8KB만 사용한다.
+ * <p>
+ * 동기화되어 있지 않으므로 여러 스레드에서 사용할 때는 호출하는 쪽에서 잠금을 관리해야 한다.
+ */
+public class CompressedBitmap {
+
+    private static final int ARRAY_MAX_SIZE = 4096; // 배열로 보관할 최대 값 수
+    private static final int BITMAP_WORDS = 1 << 10; // 65,536비트 = long 1,024개
+
+    private char[] keys = new char[4]; // 구간 번호 (상위 16비트, 정렬됨)
+    private Container[] containers = new Container[4]; // 구간별 하위 16비트 값
+    private int size; // 사용 중인 구간 수
+
+    /**
+     * 값 추가
+     *
+     * @param value 추가할 값 (0 이상)
+     * @return 새로 추가되었다면 true
+     */
+    public boolean add(int value) {
+        char key = highBits(value);
+        int index = indexOf(key);
+
+        if (index < 0) {
+            index = -index - 1;
+            insertContainer(index, key, new ArrayContainer());
+        }
+
+        int before = containers[index].cardinality();
+        containers[index] = containers[index].add(lowBits(value));
+        return containers[index].cardinality() > before;
+    }
+
+    /**
+     * 값 제거
+     *
+     * @param value 제거할 값
+     * @return 제거되었다면 true
+     */
+    public boolean remove(int value) {
+        int index = indexOf(highBits(value));
+        if (index < 0) {
+            return false;
+        }
+
+        int before = containers[index].cardinality();
+        containers[index] = containers[index].remove(lowBits(value));
+        boolean removed = containers[index].cardinality() < before;
+
+        if (containers[index].cardinality() == 0) {
+            removeContainer(index);
+        }
+        return removed;
+    }
+
+    /**
+     * 값 포함 여부
+     */
+    public boolean contains(int value) {
+        int index = indexOf(highBits(value));
+        return index >= 0 && containers[index].contains(lowBits(value));
+    }
+
+    /**
+     * 들어있는 값의 수
+     */
+    public int cardinality() {
+        int cardinality = 0;
+        for (int i = 0; i < size; i++) {
+            cardinality += containers[i].cardinality();
+        }
+        return cardinality;
+    }
+
+    /**
+     * 두 비트맵에 모두 들어있는 값
+     * 구간 번호가 같은 구간끼리만 비교한다.
+     */
+    public static CompressedBitmap and(CompressedBitmap left, CompressedBitmap right) {
+        CompressedBitmap result = new CompressedBitmap();
+
+        int i = 0;
+        int j = 0;
+        while (i < left.size && j < right.size) {
+            if (left.keys[i] < right.keys[j]) {
+                i++;
+            } else if (left.keys[i] > right.keys[j]) {
+                j++;
+            } else {
+                Container container = left.containers[i].and(right.containers[j]);
+                if (container.cardinality() > 0) {
+                    result.insertContainer(result.size, left.keys[i], container);
+                }
+                i++;
+                j++;
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * 모든 값을 오름차순으로 순회
+     */
+    public void forEach(IntConsumer consumer) {
+        for (int i = 0; i < size; i++) {
+            int high = keys[i] << 16;
+            containers[i].forEach(low -> consumer.accept(high | low));
+        }
+    }
+
+    /**
+     * 대략적인 메모리 사용량 (바이트)
+     */
+    public int sizeInBytes() {
+        int bytes = 16 + keys.length * 2 + containers.length * 8;
+        for (int i = 0; i < size; i++) {
+            bytes += containers[i].sizeInBytes();
+        }
+        return bytes;
+    }
+
+    private int indexOf(char key) {
+        return Arrays.binarySearch(keys, 0, size, key);
+    }
+
+    private void insertContainer(int index, char key, Container container) {
+        if (size == keys.length) {
+            keys = Arrays.copyOf(keys, size * 2);
+            containers = Arrays.copyOf(containers, size * 2);
+        }
+
+        System.arraycopy(keys, index, keys, index + 1, size - index);
+        System.arraycopy(containers, index, containers, index + 1, size - index);
+        keys[index] = key;
+        containers[index] = container;
+        size++;
+    }
+
+    private void removeContainer(int index) {
+        System.arraycopy(keys, index + 1, keys, index, size - index - 1);
+        System.arraycopy(containers, index + 1, containers, index, size - index - 1);
+        containers[--size] = null;
+    }
+
+    private static char highBits(int value) {
+        return (char) (value >>> 16);
+    }
+
+    private static char lowBits(int value) {
+        return (char) value;
+    }
+
+    /**
+     * 하나의 구간 (하위 16비트 값 집합)
+     * 값이 바뀌면서 다른 표현으로 바뀌어야 한다면 새 구간을 반환한다.
+     */
+    private interface Container {
+
+        Container add(char value);
+
+        Container remove(char value);
+
+        boolean contains(char value);
+
+        int cardinality();
+
+        Container and(Container other);
+
+        void forEach(IntConsumer consumer);
+
+        int sizeInBytes();
+    }
+
+    /**
+     * 값이 적은 구간: 정렬된 char 배열
+     */
+    private static final class ArrayContainer implements Container {
+
+        private char[] values = new char[4];
+        private int cardinality;
+
+        @Override
+        public Container add(char value) {
+            int index = Arrays.binarySearch(values, 0, cardinality, value);
+            if (index >= 0) {
+                return this;
+            }
+
+            if (cardinality == ARRAY_MAX_SIZE) {
+                return toBitmap().add(value);
+            }
+
+            index = -index - 1;
+            if (cardinality == values.length) {
+                values = Arrays.copyOf(values, Math.min(ARRAY_MAX_SIZE, Math.max(4, cardinality * 2)));
+            }
+            System.arraycopy(values, index, values, index + 1, cardinality - index);
+            values[index] = value;
+            cardinality++;
+            return this;
+        }
+
+        @Override
+        public Container remove(char value) {
+            int index = Arrays.binarySearch(values, 0, cardinality, value);
+            if (index >= 0) {
+                System.arraycopy(values, index + 1, values, index, cardinality - index - 1);
+                cardinality--;
+            }
+            return this;
+        }
+
+        @Override
+        public boolean contains(char value) {
+            return Arrays.binarySearch(values, 0, cardinality, value) >= 0;
+        }
+
+        @Override
+        public int cardinality() {
+            return cardinality;
+        }
+
+        @Override
+        public Container and(Container other) {
+            ArrayContainer result = new ArrayContainer();
+            result.values = new char[cardinality];
+            for (int i = 0; i < cardinality; i++) {
+                if (other.contains(values[i])) {
+                    result.values[result.cardinality++] = values[i];
+                }
+            }
+            return result;
+        }
+
+        @Override
+        public void forEach(IntConsumer consumer) {
+            for (int i = 0; i < cardinality; i++) {
+                consumer.accept(values[i]);
+            }
+        }
+
+        @Override
+        public int sizeInBytes() {
+            return 16 + values.length * 2;
+        }
+
+        private BitmapContainer toBitmap() {
+            BitmapContainer bitmap = new BitmapContainer();
+            for (int i = 0; i < cardinality; i++) {
+                bitmap.add(values[i]);
+            }
+            return bitmap;
+        }
+    }
+
+    /**
+     * 값이 많은 구간: 65,536비트 비트맵
+     */
+    private static final class BitmapContainer implements Container {
+
+        private final long[] words = new long[BITMAP_WORDS];
+        private int cardinality;
+
+        @Override
+        public Container add(char value) {
+            long before = words[value >>> 6];
+            words[value >>> 6] |= 1L << value;
+            if (words[value >>> 6] != before) {
+                cardinality++;
+            }
+            return this;
+        }
+
+        @Override
+        public Container remove(char value) {
+            long before = words[value >>> 6];
+            words[value >>> 6] &= ~(1L << value);
+            if (words[value >>> 6] != before) {
+                cardinality--;
+            }
+            return cardinality <= ARRAY_MAX_SIZE ? toArray() : this;
+        }
+
+        @Override
+        public boolean contains(char value) {
+            return (words[value >>> 6] & (1L << value)) != 0;
+        }
+
+        @Override
+        public int cardinality() {
+            return cardinality;
+        }
+
+        @Override
+        public Container and(Container other) {
+            if (!(other instanceof BitmapContainer bitmap)) {
+                return other.and(this);
+            }
+
+            BitmapContainer result = new BitmapContainer();
+            for (int i = 0; i < BITMAP_WORDS; i++) {
+                result.words[i] = words[i] & bitmap.words[i];
+                result.cardinality += Long.bitCount(result.words[i]);
+            }
+            return result.cardinality <= ARRAY_MAX_SIZE ? result.toArray() : result;
+        }
+
+        @Override
+        public void forEach(IntConsumer consumer) {
+            for (int i = 0; i < BITMAP_WORDS; i++) {
+                long word = words[i];
+                while (word != 0) {
+                    consumer.accept(i * 64 + Long.numberOfTrailingZeros(word));
+                    word &= word - 1;
+                }
+            }
+        }
+
+        @Override
+        public int sizeInBytes() {
+            return 16 + BITMAP_WORDS * 8;
+        }
+
+        private ArrayContainer toArray() {
+            ArrayContainer array = new ArrayContainer();
+            array.values = new char[Math.max(4, cardinality)];
+            forEach(value -> array.values[array.cardinality++] = (char) value);
+            return array;
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package keapoint.onlog.post.utils;
+
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * 고유 방문자 수 추정 스케치 (HyperLogLog)
+ * <p>
+ * 값의 64비트 해시 중 상위 PRECISION비트로 레지스터를 고르고, 나머지 비트의 선행 0 개수 + 1 중 최댓값을 레지스터에 남긴다.
+ * 레지스터 2,048개(2KB)로 방문자 수와 관계없이 표준 오차 약 2.3%로 추정하며,
+ * 두 스케치를 레지스터별 최댓값으로 합치면 두 집합의 합집합을 추정할 수 있어 서버별, 날짜별 스케치를 나중에 합칠 수 있다.
+ * <p>
+ * 동기화되어 있지 않으므로 여러 스레드에서 사용할 때는 호출하는 쪽에서 잠금을 관리해야 한다.
+ */
+public class HyperLogLog {
+
+    private static final int PRECISION = 11; // 레지스터 선택에 사용할 해시 비트 수
+    private static final int REGISTER_COUNT = 1 << PRECISION; // 레지스터 수 (2,048개)
+    private static final double ALPHA = 0.7213 / (1 + 1.079 / REGISTER_COUNT); // 레지스터 수에 따른 보정 상수
+
+    private final byte[] registers;
+
+    public HyperLogLog() {
+        this.registers = new byte[REGISTER_COUNT];
+    }
+
+    private HyperLogLog(byte[] registers) {
+        this.registers = registers;
+    }
+
+    /**
+     * 저장된 스케치 복원
+     *
+     * @param bytes toBytes()로 변환한 바이트 배열 (null이라면 빈 스케치)
+     * @return 복원된 스케치
+     * @throws IllegalArgumentException 레지스터 수가 다른 경우
+     */
+    public static HyperLogLog fromBytes(byte[] bytes) {
+        if (bytes == null) {
+            return new HyperLogLog();
+        }
+        if (bytes.length != REGISTER_COUNT) {
+            throw new IllegalArgumentException("레지스터 수가 다른 스케치입니다: " + bytes.length);
+        }
+        return new HyperLogLog(bytes.clone());
+    }
+
+    /**
+     * 방문자 추가
+     *
+     * @param visitorId 방문자 식별자
+     */
+    public void add(UUID visitorId) {
+        long hash = mix(visitorId.getMostSignificantBits() ^ mix(visitorId.getLeastSignificantBits()));
+
+        int index = (int) (hash >>> (Long.SIZE - PRECISION));
+        // 레지스터 선택에 쓴 비트를 제외한 나머지 비트의 선행 0 개수 + 1 (나머지가 모두 0이어도 최댓값을 넘지 않는다.)
+        int rank = Long.numberOfLeadingZeros((hash << PRECISION) | (1L << (PRECISION - 1))) + 1;
+
+        if (rank > registers[index]) {
+            registers[index] = (byte) rank;
+        }
+    }
+
+    /**
+     * 다른 스케치를 합친다. (합집합)
+     *
+     * @param other 합칠 스케치
+     */
+    public void merge(HyperLogLog other) {
+        for (int i = 0; i < REGISTER_COUNT; i++) {
+            if (other.registers[i] > registers[i]) {
+                registers[i] = other.registers[i];
+            }
+        }
+    }
+
+    /**
+     * 추정 고유 방문자 수
+     */
+    public long cardinality() {
+        double sum = 0;
+        int zeros = 0;
+        for (byte register : registers) {
+            sum += 1.0 / (1L << register);
+            if (register == 0) {
+                zeros++;
+            }
+        }
+
+        double estimate = ALPHA * REGISTER_COUNT * REGISTER_COUNT / sum;
+
+        // 방문자가 적어 비어있는 레지스터가 많으면 선형 계수(linear counting)가 더 정확하다.
+        if (estimate <= 2.5 * REGISTER_COUNT && zeros > 0) {
+            estimate = REGISTER_COUNT * Math.log((double) REGISTER_COUNT / zeros);
+        }
+
+        return Math.round(estimate);
+    }
+
+    /**
+     * 저장용 바이트 배열로 변환
+     */
+    public byte[] toBytes() {
+        return registers.clone();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof HyperLogLog other && Arrays.equals(registers, other.registers);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(registers);
+    }
+
+    /**
+     * 64비트 해시 마무리 함수 (MurmurHash3 fmix64)
+     */
+    private static long mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xff51afd7ed558ccdL;
+        value ^= value >>> 33;
+        value *= 0xc4ceb9fe1a85ec53L;
+        value ^= value >>> 33;
+        return value;
+    }
+}
@@ -1,14 +1,22 @@
 package keapoint.onlog.post.utils;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jws;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
 import jakarta.servlet.http.HttpServletRequest;
 import keapoint.onlog.post.base.BaseErrorCode;
 import keapoint.onlog.post.base.BaseException;
+import keapoint.onlog.post.config.security.JwtPrincipal;
 import keapoint.onlog.post.dto.auth.TokensDto;
+import keapoint.onlog.post.service.TokenRevocationService;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
@@ -16,15 +24,14 @@ import org.springframework.security.authentication.UsernamePasswordAuthenticatio
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
-import org.springframework.security.core.userdetails.User;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
-import java.util.Arrays;
-import java.util.Collection;
-import java.util.Date;
-import java.util.UUID;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 @Component
@@ -33,11 +40,42 @@ public class JwtTokenProvider {
     @Value("${jwt.secret-key}")
     private String jwtKey;
 
+    @Value("${post.auth.token-cache.maximum-size:100000}")
+    private long tokenCacheMaximumSize; // 검증 결과를 보관할 최대 토큰 수
+
+    @Value("${post.auth.token-cache.ttl-seconds:600}")
+    private long tokenCacheTtlSeconds; // 검증 결과 최대 유지 시간 (토큰 만료 시각이 더 이르면 만료 시각까지)
+
     private final AES256 aes256;
+    private final MeterRegistry meterRegistry;
+    private final TokenRevocationService tokenRevocationService;
+
+    private volatile Key signingKey; // 서명 키 (처음 토큰을 만들 때 한 번 만든다.)
+    private JwtParser parser; // 서명 검증기 (스레드 안전)
+    private Cache<String, JwtPrincipal> verifiedTokens; // 토큰 SHA-256 → 검증된 사용자 정보
 
     @Autowired
-    public JwtTokenProvider(AES256 aes256) {
+    public JwtTokenProvider(AES256 aes256, MeterRegistry meterRegistry, TokenRevocationService tokenRevocationService) {
         this.aes256 = aes256;
+        this.meterRegistry = meterRegistry;
+        this.tokenRevocationService = tokenRevocationService;
+    }
+
+    @PostConstruct
+    public void init() {
+        parser = Jwts.parserBuilder()
+                .setSigningKey(jwtKey.getBytes())
+                .build();
+
+        verifiedTokens = CacheBuilder.newBuilder()
+                .maximumSize(tokenCacheMaximumSize)
+                .expireAfterWrite(tokenCacheTtlSeconds, TimeUnit.SECONDS)
+                .recordStats()
+                .build();
+
+        Gauge.builder("post.auth.token.cache.hit.ratio", verifiedTokens, cache -> cache.stats().hitRate())
+                .description("검증된 access token 캐시 적중률")
+                .register(meterRegistry);
     }
 
     /**
@@ -47,7 +85,7 @@ public class JwtTokenProvider {
      * @return TokensDto
      */
     public TokensDto createTokens(Authentication authentication, UUID memberIdx, String password) throws Exception {
-        Key key = Keys.hmacShaKeyFor(jwtKey.getBytes());
+        Key key = signingKey();
 
         String authorities = authentication.getAuthorities().stream()
                 .map(GrantedAuthority::getAuthority)
@@ -59,6 +97,7 @@ public class JwtTokenProvider {
         String accessToken = Jwts.builder()
                 .setHeaderParam("type", "jwt")
                 .setSubject(authentication.getName())
+                .setId(UUID.randomUUID().toString())
                 .claim("auth", authorities)
                 .claim("memberIdx", memberIdx.toString())
                 .setIssuedAt(now)
@@ -76,36 +115,6 @@ public class JwtTokenProvider {
         return new TokensDto("Bearer", accessToken, refreshToken);
     }
 
-    /**
-     * 사용자의 식별자를 추출하는 method
-     *
-     * @param bearerToken 사용자 token
-     * @return 사용자 식별자
-     */
-    public String extractIdx(String bearerToken) throws BaseException {
-        try {
-            String token = getTokenFromBearer(bearerToken);
-
-            Jws<Claims> claimsJws = Jwts.parserBuilder()
-                    .setSigningKey(jwtKey.getBytes())
-                    .build()
-                    .parseClaimsJws(token);
-
-            return claimsJws.getBody().get("memberIdx", String.class);
-
-        } catch (Exception e) {
-            log.error(e.getMessage());
-            throw new BaseException(BaseErrorCode.INVALID_TOKEN_EXCEPTION);
-        }
-    }
-
-    private static String getTokenFromBearer(String bearerToken) {
-        if (bearerToken != null && bearerToken.startsWith("Bearer ")) {
-            return bearerToken.substring("Bearer ".length());
-        }
-        return bearerToken;
-    }
-
     public String resolveToken(HttpServletRequest req) {
         String bearerToken = req.getHeader("Authorization");
         if (bearerToken != null && bearerToken.startsWith("Bearer ")) {
@@ -115,52 +124,66 @@ public class JwtTokenProvider {
     }
 
     /**
-     * access token에서 사용자의 정보 추출
+     * access token 검증
+     * 검증한 토큰은 SHA-256 값을 키로 만료 시각까지 캐시하므로, 같은 토큰은 서명을 한 번만 검증한다.
+     * 캐시에 있는 토큰도 요청마다 폐기 여부를 확인한다. (폐기되지 않은 토큰은 Bloom filter 확인 한 번)
      *
      * @param token access token
-     * @return UsernamePasswordAuthenticationToken
+     * @return 검증된 사용자 정보. 유효하지 않거나 만료된 토큰이라면 빈 값
      */
-    public Authentication getAuthentication(String token) {
-        Jws<Claims> claimsJws;
+    public Optional<JwtPrincipal> verify(String token) {
+        if (token == null || token.isEmpty()) {
+            return Optional.empty();
+        }
 
-        try {
-            claimsJws = Jwts.parserBuilder()
-                    .setSigningKey(jwtKey.getBytes()).build()
-                    .parseClaimsJws(token);
+        String digest = digest(token);
+        long now = System.currentTimeMillis();
 
-        } catch (Exception exception) {
-            exception.printStackTrace();
-            log.error("An error occurred: " + exception.getMessage());
-            throw exception;
+        JwtPrincipal cached = verifiedTokens.getIfPresent(digest);
+        if (cached != null) {
+            if (!cached.isExpired(now)) {
+                return tokenRevocationService.isRevoked(cached.getTokenId()) ? Optional.empty() : Optional.of(cached);
+            }
+            verifiedTokens.invalidate(digest);
+            return Optional.empty();
         }
 
-        // 인증 정보 받아오기
-        Collection<? extends GrantedAuthority> authorities =
-                // Jwt token 에서 auth 필드에대한 스트림을 열어서 ,로 split 한다음에 SimpleGrantedAuthority 로 매핑해서 리스트로 반환
-                Arrays.stream(claimsJws.getBody().get("auth").toString().split(","))
-                        .map(SimpleGrantedAuthority::new).toList();
+        try {
+            Claims claims = parser.parseClaimsJws(token).getBody();
 
-        UserDetails principal = new User(claimsJws.getBody().getSubject(), "", authorities);
-        return new UsernamePasswordAuthenticationToken(principal, "", authorities);
-    }
+            // refresh token처럼 사용자 정보가 없는 토큰은 access token으로 사용할 수 없다.
+            String memberIdx = claims.get("memberIdx", String.class);
+            Object auth = claims.get("auth");
+            if (memberIdx == null || auth == null || claims.getExpiration() == null) {
+                return Optional.empty();
+            }
 
-    /**
-     * access token 유효성 검사
-     *
-     * @param token access token
-     * @return boolean (true: valid, false: invalid)
-     */
-    public boolean validateToken(String token) {
-        Key key = Keys.hmacShaKeyFor(jwtKey.getBytes());
+            List<GrantedAuthority> authorities = Arrays.stream(auth.toString().split(","))
+                    .map(SimpleGrantedAuthority::new)
+                    .collect(Collectors.toUnmodifiableList());
+
+            // jti가 없는 토큰(jti 도입 전에 발급된 토큰)은 폐기할 수 없으며 만료 시각까지 유효하다.
+            UUID tokenId = claims.getId() == null ? null : UUID.fromString(claims.getId());
+
+            JwtPrincipal principal = new JwtPrincipal(UUID.fromString(memberIdx), tokenId, claims.getSubject(), authorities,
+                    claims.getExpiration().getTime());
+            verifiedTokens.put(digest, principal);
+            return tokenRevocationService.isRevoked(tokenId) ? Optional.empty() : Optional.of(principal);
 
-        try {
-            Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
-            return true;
         } catch (Exception exception) {
             log.info("invalid JWT Token" + exception.getMessage());
+            return Optional.empty();
         }
+    }
 
-        return false;
+    /**
+     * 검증된 사용자 정보로 인증 객체 생성
+     *
+     * @param principal 검증된 사용자 정보
+     * @return UsernamePasswordAuthenticationToken
+     */
+    public Authentication getAuthentication(JwtPrincipal principal) {
+        return new UsernamePasswordAuthenticationToken(principal, "", principal.getAuthorities());
     }
 
     /**
@@ -174,10 +197,7 @@ public class JwtTokenProvider {
 
         try {
             log.info(String.valueOf(refreshToken));
-            claims = Jwts.parserBuilder()
-                    .setSigningKey(jwtKey.getBytes())
-                    .build()
-                    .parseClaimsJws(refreshToken);
+            claims = parser.parseClaimsJws(refreshToken);
 
             Date expired = claims.getBody().getExpiration();
             Date now = new Date();
@@ -192,4 +212,23 @@ public class JwtTokenProvider {
         }
     }
 
+    private Key signingKey() {
+        if (signingKey == null) {
+            signingKey = Keys.hmacShaKeyFor(jwtKey.getBytes());
+        }
+        return signingKey;
+    }
+
+    /**
+     * 캐시 키로 사용할 토큰의 SHA-256 값 (토큰 원문을 메모리에 남기지 않는다.)
+     */
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
 }
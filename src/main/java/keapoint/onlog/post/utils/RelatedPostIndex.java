@@ -0,0 +1,318 @@
+package keapoint.onlog.post.utils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 연관 게시글 인덱스
+ * <p>
+ * 게시글마다 카테고리, 주제, 해시태그, 작성 시간을 보관하고, 점수가 높은 상위 N개의 연관 게시글 목록을 미리 계산해 둔다.
+ * 게시글이 작성, 수정, 삭제될 때 영향을 받는 목록만 다시 계산하므로 조회는 상수 시간에 끝난다.
+ * <p>
+ * 점수 = (같은 카테고리 + 같은 주제 + 겹치는 해시태그 수) 가중치 합 × 최신성 가중치
+ * <p>
+ * 공개된 게시글만 다른 게시글의 연관 게시글 후보가 되며, 후보를 찾을 때는 카테고리, 주제, 해시태그별로
+ * 최신 게시글부터 최대 candidateLimit개까지만 살펴본다.
+ */
+public class RelatedPostIndex {
+
+    private static final double CATEGORY_WEIGHT = 3.0; // 같은 카테고리 가중치
+    private static final double TOPIC_WEIGHT = 1.0; // 같은 주제 가중치
+    private static final double HASHTAG_WEIGHT = 2.0; // 겹치는 해시태그 하나당 가중치
+
+    private static final Comparator<Feature> NEWEST_FIRST = Comparator
+            .comparing(Feature::createdAt, Comparator.reverseOrder())
+            .thenComparing(Feature::postId);
+
+    private final int size; // 게시글마다 보관할 연관 게시글 수
+    private final int candidateLimit; // 버킷마다 살펴볼 최대 후보 수
+    private final double halfLifeHours; // 최신성 가중치가 절반이 되는 시간
+
+    private final Map<UUID, Feature> features = new HashMap<>(); // 게시글별 특징
+    private final Map<String, NavigableSet<Feature>> buckets = new HashMap<>(); // 카테고리, 주제, 해시태그별 후보 게시글
+    private final Map<UUID, List<Neighbor>> neighbors = new ConcurrentHashMap<>(); // 게시글별 연관 게시글 (점수 내림차순)
+    private final Map<UUID, Set<UUID>> referencedBy = new HashMap<>(); // 해당 게시글을 연관 게시글로 가지고 있는 게시글
+
+    /**
+     * 게시글 특징
+     *
+     * @param postId     게시글 식별자
+     * @param categoryId 카테고리 식별자
+     * @param topicId    주제 식별자
+     * @param hashtagIds 해시태그 식별자 목록
+     * @param createdAt  작성 시간
+     * @param isPublic   공개 여부. 공개된 게시글만 다른 게시글의 연관 게시글이 될 수 있다.
+     */
+    public record Feature(UUID postId, Long categoryId, Long topicId, Set<Long> hashtagIds, LocalDateTime createdAt, boolean isPublic) {
+    }
+
+    /**
+     * 연관 게시글
+     *
+     * @param postId 게시글 식별자
+     * @param score  연관 점수
+     */
+    public record Neighbor(UUID postId, double score) {
+    }
+
+    public RelatedPostIndex(int size, int candidateLimit, Duration halfLife) {
+        this.size = size;
+        this.candidateLimit = candidateLimit;
+        this.halfLifeHours = Math.max(1, halfLife.toHours());
+    }
+
+    /**
+     * 연관 게시글 식별자 조회
+     *
+     * @param postId 게시글 식별자
+     * @return 점수가 높은 순서의 연관 게시글 식별자 목록
+     */
+    public List<UUID> get(UUID postId) {
+        List<Neighbor> list = neighbors.get(postId);
+        if (list == null) {
+            return List.of();
+        }
+        return list.stream().map(Neighbor::postId).toList();
+    }
+
+    /**
+     * 인덱스에 보관 중인 게시글 수
+     */
+    public synchronized int size() {
+        return features.size();
+    }
+
+    /**
+     * 여러 게시글을 한 번에 추가한 뒤 모든 게시글의 연관 게시글을 계산한다. (초기 적재용)
+     *
+     * @param loaded 추가할 게시글 특징 목록
+     */
+    public synchronized void load(Collection<Feature> loaded) {
+        for (Feature feature : loaded) {
+            Feature old = features.put(feature.postId(), feature);
+            if (old != null) {
+                removeFromBuckets(old);
+            }
+            addToBuckets(feature);
+        }
+
+        for (UUID postId : features.keySet()) {
+            recompute(postId);
+        }
+    }
+
+    /**
+     * 게시글 추가 또는 갱신
+     *
+     * @param feature 게시글 특징
+     */
+    public synchronized void put(Feature feature) {
+        Feature old = features.put(feature.postId(), feature);
+        if (old != null) {
+            removeFromBuckets(old);
+        }
+        addToBuckets(feature);
+
+        // 1. 추가된 게시글의 연관 게시글을 계산한다.
+        Set<UUID> candidates = recompute(feature.postId());
+
+        // 2. 이 게시글을 이미 연관 게시글로 가지고 있던 게시글은 점수가 바뀌었을 수 있으므로 다시 계산한다.
+        for (UUID postId : new ArrayList<>(referencedBy.getOrDefault(feature.postId(), Set.of()))) {
+            recompute(postId);
+        }
+
+        // 3. 후보 게시글의 목록에 이 게시글이 들어갈 수 있는지 확인한다.
+        if (feature.isPublic()) {
+            for (UUID candidateId : candidates) {
+                offer(features.get(candidateId), feature);
+            }
+        }
+    }
+
+    /**
+     * 게시글 제거
+     *
+     * @param postId 게시글 식별자
+     */
+    public synchronized void remove(UUID postId) {
+        Feature old = features.remove(postId);
+        if (old == null) {
+            return;
+        }
+        removeFromBuckets(old);
+
+        List<Neighbor> list = neighbors.remove(postId);
+        if (list != null) {
+            list.forEach(neighbor -> unreference(neighbor.postId(), postId));
+        }
+
+        // 이 게시글을 연관 게시글로 가지고 있던 게시글은 빈자리를 채우기 위해 다시 계산한다.
+        Set<UUID> referrers = referencedBy.remove(postId);
+        if (referrers != null) {
+            referrers.forEach(this::recompute);
+        }
+    }
+
+    /**
+     * 게시글의 연관 게시글을 다시 계산한다.
+     *
+     * @return 살펴본 후보 게시글 식별자
+     */
+    private Set<UUID> recompute(UUID postId) {
+        Feature source = features.get(postId);
+        Set<UUID> candidates = candidatesOf(source);
+
+        PriorityQueue<Neighbor> top = new PriorityQueue<>(Comparator.comparingDouble(Neighbor::score));
+        LocalDateTime now = LocalDateTime.now();
+
+        for (UUID candidateId : candidates) {
+            Feature candidate = features.get(candidateId);
+            if (!candidate.isPublic()) {
+                continue;
+            }
+
+            double score = score(source, candidate, now);
+            if (score <= 0) {
+                continue;
+            }
+
+            top.offer(new Neighbor(candidateId, score));
+            if (top.size() > size) {
+                top.poll();
+            }
+        }
+
+        List<Neighbor> result = new ArrayList<>(top);
+        result.sort(Comparator.comparingDouble(Neighbor::score).reversed());
+        replaceNeighbors(postId, result);
+
+        return candidates;
+    }
+
+    /**
+     * 대상 게시글의 연관 게시글 목록에 새 게시글이 들어갈 수 있으면 추가한다.
+     */
+    private void offer(Feature target, Feature feature) {
+        double score = score(target, feature, LocalDateTime.now());
+        if (score <= 0) {
+            return;
+        }
+
+        List<Neighbor> current = neighbors.getOrDefault(target.postId(), List.of());
+        if (current.size() >= size && current.get(current.size() - 1).score() >= score) {
+            return;
+        }
+
+        List<Neighbor> result = new ArrayList<>(current);
+        result.removeIf(neighbor -> neighbor.postId().equals(feature.postId()));
+        result.add(new Neighbor(feature.postId(), score));
+        result.sort(Comparator.comparingDouble(Neighbor::score).reversed());
+        if (result.size() > size) {
+            result = result.subList(0, size);
+        }
+        replaceNeighbors(target.postId(), result);
+    }
+
+    /**
+     * 연관 게시글 목록을 교체하고 역참조 정보를 갱신한다.
+     * 조회 중인 스레드가 있을 수 있으므로 목록은 새로 만들어 교체한다.
+     */
+    private void replaceNeighbors(UUID postId, List<Neighbor> result) {
+        List<Neighbor> previous = neighbors.put(postId, List.copyOf(result));
+        if (previous != null) {
+            previous.forEach(neighbor -> unreference(neighbor.postId(), postId));
+        }
+        result.forEach(neighbor -> referencedBy.computeIfAbsent(neighbor.postId(), id -> new HashSet<>()).add(postId));
+    }
+
+    private void unreference(UUID neighborId, UUID postId) {
+        Set<UUID> referrers = referencedBy.get(neighborId);
+        if (referrers != null) {
+            referrers.remove(postId);
+            if (referrers.isEmpty()) {
+                referencedBy.remove(neighborId);
+            }
+        }
+    }
+
+    /**
+     * 카테고리, 주제, 해시태그가 하나라도 같은 게시글을 버킷마다 최신순으로 최대 candidateLimit개씩 찾는다.
+     */
+    private Set<UUID> candidatesOf(Feature source) {
+        Set<UUID> candidates = new HashSet<>();
+
+        for (String key : keysOf(source)) {
+            NavigableSet<Feature> bucket = buckets.get(key);
+            if (bucket == null) {
+                continue;
+            }
+
+            int scanned = 0;
+            for (Feature candidate : bucket) {
+                if (scanned++ >= candidateLimit) {
+                    break;
+                }
+                candidates.add(candidate.postId());
+            }
+        }
+
+        candidates.remove(source.postId());
+        return candidates;
+    }
+
+    private double score(Feature source, Feature candidate, LocalDateTime now) {
+        double overlap = 0;
+
+        if (source.categoryId() != null && source.categoryId().equals(candidate.categoryId())) {
+            overlap += CATEGORY_WEIGHT;
+        }
+        if (source.topicId() != null && source.topicId().equals(candidate.topicId())) {
+            overlap += TOPIC_WEIGHT;
+        }
+        for (Long hashtagId : source.hashtagIds()) {
+            if (candidate.hashtagIds().contains(hashtagId)) {
+                overlap += HASHTAG_WEIGHT;
+            }
+        }
+
+        if (overlap == 0) {
+            return 0;
+        }
+
+        // 최신 게시글일수록 최대 2배까지 가중치를 준다.
+        double ageHours = Math.max(0, Duration.between(candidate.createdAt(), now).toHours());
+        return overlap * (1 + Math.pow(0.5, ageHours / halfLifeHours));
+    }
+
+    private void addToBuckets(Feature feature) {
+        if (!feature.isPublic()) {
+            return; // 비공개 게시글은 후보가 될 수 없다.
+        }
+        for (String key : keysOf(feature)) {
+            buckets.computeIfAbsent(key, k -> new TreeSet<>(NEWEST_FIRST)).add(feature);
+        }
+    }
+
+    private void removeFromBuckets(Feature feature) {
+        for (String key : keysOf(feature)) {
+            NavigableSet<Feature> bucket = buckets.get(key);
+            if (bucket != null && bucket.remove(feature) && bucket.isEmpty()) {
+                buckets.remove(key);
+            }
+        }
+    }
+
+    private static List<String> keysOf(Feature feature) {
+        List<String> keys = new ArrayList<>();
+        if (feature.categoryId() != null) {
+            keys.add("c:" + feature.categoryId());
+        }
+        if (feature.topicId() != null) {
+            keys.add("t:" + feature.topicId());
+        }
+        feature.hashtagIds().forEach(hashtagId -> keys.add("h:" + hashtagId));
+        return keys;
+    }
+}
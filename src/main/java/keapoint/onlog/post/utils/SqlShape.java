@@ -0,0 +1,88 @@
+package keapoint.onlog.post.utils;
+
+import java.util.regex.Pattern;
+
+/**
+ * SQL 문장의 형태
+ * <p>
+ * 문자열, 숫자 리터럴을 ?로 바꾸고 공백을 하나로 줄이며, 길이가 다른 IN 목록과 여러 행 VALUES를 하나로 합친다.
+ * 값만 다른 문장은 같은 형태가 되므로, 한 요청에서 같은 형태의 문장이 반복되면 N+1 조회를 의심할 수 있다.
+ */
+public final class SqlShape {
+
+    public static final int MAX_LENGTH = 1000; // 형태의 최대 길이 (넘는 부분은 자른다.)
+
+    private static final Pattern IN_LIST = Pattern.compile("\\bin ?\\(\\?(?:, ?\\?)*\\)");
+    private static final Pattern VALUES_ROWS = Pattern.compile("(\\(\\?(?:, ?\\?)*\\))(?:, ?\\(\\?(?:, ?\\?)*\\))+");
+
+    private SqlShape() {
+    }
+
+    /**
+     * SQL 문장의 형태
+     *
+     * @param sql SQL 문장
+     * @return 소문자로 바꾸고 값을 ?로 바꾼 문장
+     */
+    public static String of(String sql) {
+        if (sql == null) {
+            return "";
+        }
+
+        StringBuilder shape = new StringBuilder(Math.min(sql.length(), MAX_LENGTH));
+        int length = sql.length();
+        int i = 0;
+
+        while (i < length && shape.length() < MAX_LENGTH) {
+            char c = sql.charAt(i);
+
+            if (Character.isWhitespace(c)) {
+                while (i < length && Character.isWhitespace(sql.charAt(i))) {
+                    i++;
+                }
+                if (!shape.isEmpty()) {
+                    shape.append(' ');
+                }
+
+            } else if (c == '\'') {
+                // 문자열 리터럴 ('' 는 따옴표 문자)
+                i++;
+                while (i < length) {
+                    if (sql.charAt(i) == '\'') {
+                        if (i + 1 < length && sql.charAt(i + 1) == '\'') {
+                            i += 2;
+                            continue;
+                        }
+                        break;
+                    }
+                    i++;
+                }
+                i++;
+                shape.append('?');
+
+            } else if (Character.isDigit(c) && !isIdentifierPart(shape)) {
+                // 숫자 리터럴 (별칭 p1_0처럼 식별자에 포함된 숫자는 그대로 둔다.)
+                while (i < length && (Character.isLetterOrDigit(sql.charAt(i)) || sql.charAt(i) == '.')) {
+                    i++;
+                }
+                shape.append('?');
+
+            } else {
+                shape.append(Character.toLowerCase(c));
+                i++;
+            }
+        }
+
+        String normalized = shape.toString().trim();
+        normalized = IN_LIST.matcher(normalized).replaceAll("in (?)");
+        return VALUES_ROWS.matcher(normalized).replaceAll("$1");
+    }
+
+    private static boolean isIdentifierPart(StringBuilder shape) {
+        if (shape.isEmpty()) {
+            return false;
+        }
+        char previous = shape.charAt(shape.length() - 1);
+        return Character.isLetterOrDigit(previous) || previous == '_' || previous == '$';
+    }
+}
@@ -0,0 +1,232 @@
+package keapoint.onlog.post.utils;
+
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * 인기 게시글 인덱스 (시간에 따라 감쇠하는 점수의 상위 K개)
+ * <p>
+ * 게시글 점수 = Σ 활동 가중치 × 2^(-(현재 시각 - 활동 시각) / 반감기)
+ * <p>
+ * 모든 점수를 매번 감쇠시키지 않고, 기준 시각(landmark)에서 활동 시각까지 지수적으로 커지는 값으로 더해 둔다.(forward decay)
+ * 모든 게시글의 점수에 같은 비율이 곱해지는 것이므로 보관한 값의 순서가 곧 현재 점수의 순서이며,
+ * 값이 너무 커지기 전에 기준 시각을 옮겨 전체를 한 번에 다시 맞춘다.
+ * <p>
+ * 최대 capacity개의 게시글만 보관하고, 가득 찼을 때 새 게시글의 점수가 가장 낮은 게시글보다 높으면 가장 낮은 게시글을 내보낸다.
+ * 오래된 활동은 최근 활동보다 작은 값으로 더해지므로, 최근 활동이 없는 게시글부터 자연스럽게 밀려난다.
+ * 점수 순서는 전체와 주제별로 정렬된 집합에 함께 보관하여 상위 K개를 O(K)에 읽는다.
+ * <p>
+ * 모든 메서드는 인덱스 단위로 동기화되어 있다.
+ */
+public class TrendingIndex {
+
+    private static final double RESCALE_EXPONENT = 40.0; // 기준 시각 이후 지수가 이 값을 넘으면 기준 시각을 옮긴다. (e^40 ≈ 2.4 × 10^17)
+
+    private static final Comparator<Entry> HIGHEST_FIRST = Comparator
+            .comparingDouble((Entry entry) -> entry.score).reversed()
+            .thenComparing(entry -> entry.postId);
+
+    private final int capacity; // 보관할 최대 게시글 수
+    private final double decayPerMillis; // 1밀리초당 감쇠 지수 (ln 2 / 반감기)
+    private long landmark; // 기준 시각 (epoch 밀리초)
+
+    private final Map<UUID, Entry> entries = new HashMap<>(); // 게시글별 점수
+    private final NavigableSet<Entry> ranking = new TreeSet<>(HIGHEST_FIRST); // 전체 점수 순서
+    private final Map<Long, NavigableSet<Entry>> rankingByTopic = new HashMap<>(); // 주제별 점수 순서
+
+    /**
+     * 게시글 점수 (정렬된 집합에 들어있는 동안에는 값을 바꾸지 않는다.)
+     */
+    private static final class Entry {
+
+        private final UUID postId; // 게시글 식별자
+        private Long topicId; // 게시글 주제 식별자
+        private double score; // 기준 시각 기준 점수
+
+        private Entry(UUID postId, Long topicId, double score) {
+            this.postId = postId;
+            this.topicId = topicId;
+            this.score = score;
+        }
+    }
+
+    /**
+     * @param capacity 보관할 최대 게시글 수
+     * @param halfLife 점수가 절반이 되는 시간
+     * @param now      기준 시각 (epoch 밀리초)
+     */
+    public TrendingIndex(int capacity, Duration halfLife, long now) {
+        this.capacity = capacity;
+        this.decayPerMillis = Math.log(2) / Math.max(1, halfLife.toMillis());
+        this.landmark = now;
+    }
+
+    /**
+     * 게시글 활동 반영
+     *
+     * @param postId     게시글 식별자
+     * @param topicId    게시글 주제 식별자 (알 수 없다면 null. 이미 보관 중이라면 보관된 주제를 사용한다.)
+     * @param weight     활동 가중치 (좋아요 취소처럼 음수일 수 있다.)
+     * @param occurredAt 활동 시각 (epoch 밀리초)
+     */
+    public synchronized void add(UUID postId, Long topicId, double weight, long occurredAt) {
+        if (decayPerMillis * (occurredAt - landmark) > RESCALE_EXPONENT) {
+            rescale(occurredAt);
+        }
+
+        double value = weight * Math.exp(decayPerMillis * (occurredAt - landmark));
+        Entry entry = entries.get(postId);
+
+        if (entry != null) {
+            detach(entry);
+            entry.score += value;
+            if (topicId != null) {
+                entry.topicId = topicId;
+            }
+
+            if (entry.score > 0) {
+                attach(entry);
+            } else {
+                entries.remove(postId); // 점수가 남지 않은 게시글은 보관하지 않는다.
+            }
+            return;
+        }
+
+        if (value <= 0) {
+            return;
+        }
+
+        if (entries.size() >= capacity) {
+            Entry lowest = ranking.last();
+            if (lowest.score >= value) {
+                return; // 가장 낮은 게시글보다 점수가 낮다면 보관하지 않는다.
+            }
+            detach(lowest);
+            entries.remove(lowest.postId);
+        }
+
+        Entry added = new Entry(postId, topicId, value);
+        entries.put(postId, added);
+        attach(added);
+    }
+
+    /**
+     * 게시글 주제 변경
+     *
+     * @param postId  게시글 식별자
+     * @param topicId 새 주제 식별자
+     */
+    public synchronized void updateTopic(UUID postId, Long topicId) {
+        Entry entry = entries.get(postId);
+        if (entry == null || Objects.equals(entry.topicId, topicId)) {
+            return;
+        }
+
+        detach(entry);
+        entry.topicId = topicId;
+        attach(entry);
+    }
+
+    /**
+     * 게시글 제거 (삭제되거나 비공개로 바뀐 게시글)
+     *
+     * @param postId 게시글 식별자
+     */
+    public synchronized void remove(UUID postId) {
+        Entry entry = entries.remove(postId);
+        if (entry != null) {
+            detach(entry);
+        }
+    }
+
+    /**
+     * 점수가 높은 게시글 조회
+     *
+     * @param limit   조회할 최대 게시글 수
+     * @param topicId 주제 식별자 (전체라면 null)
+     * @return 점수 내림차순 게시글 식별자 목록
+     */
+    public synchronized List<UUID> top(int limit, Long topicId) {
+        NavigableSet<Entry> source = topicId == null ? ranking : rankingByTopic.getOrDefault(topicId, Collections.emptyNavigableSet());
+
+        List<UUID> result = new ArrayList<>(Math.min(limit, source.size()));
+        for (Entry entry : source) {
+            if (result.size() >= limit) {
+                break;
+            }
+            result.add(entry.postId);
+        }
+        return result;
+    }
+
+    /**
+     * 게시글의 현재 점수 (기준 시각의 영향을 뺀 값)
+     *
+     * @param postId 게시글 식별자
+     * @param now    현재 시각 (epoch 밀리초)
+     * @return 점수. 보관하지 않은 게시글이라면 0
+     */
+    public synchronized double score(UUID postId, long now) {
+        Entry entry = entries.get(postId);
+        return entry == null ? 0 : entry.score * Math.exp(-decayPerMillis * (now - landmark));
+    }
+
+    /**
+     * 보관 중인 게시글 여부
+     */
+    public synchronized boolean contains(UUID postId) {
+        return entries.containsKey(postId);
+    }
+
+    /**
+     * 보관 중인 게시글 수
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * 보관 중인 게시글을 모두 제거한다.
+     */
+    public synchronized void clear() {
+        entries.clear();
+        ranking.clear();
+        rankingByTopic.clear();
+    }
+
+    /**
+     * 기준 시각을 옮기고 모든 점수를 다시 맞춘다.
+     * 같은 비율을 곱해도 부동소수점 오차로 순서가 바뀔 수 있으므로 정렬된 집합을 다시 만든다.
+     */
+    private void rescale(long newLandmark) {
+        double factor = Math.exp(-decayPerMillis * (newLandmark - landmark));
+        landmark = newLandmark;
+
+        ranking.clear();
+        rankingByTopic.clear();
+        for (Entry entry : entries.values()) {
+            entry.score *= factor;
+            attach(entry);
+        }
+    }
+
+    private void attach(Entry entry) {
+        ranking.add(entry);
+        if (entry.topicId != null) {
+            rankingByTopic.computeIfAbsent(entry.topicId, id -> new TreeSet<>(HIGHEST_FIRST)).add(entry);
+        }
+    }
+
+    private void detach(Entry entry) {
+        ranking.remove(entry);
+        if (entry.topicId != null) {
+            NavigableSet<Entry> topicRanking = rankingByTopic.get(entry.topicId);
+            if (topicRanking != null) {
+                topicRanking.remove(entry);
+                if (topicRanking.isEmpty()) {
+                    rankingByTopic.remove(entry.topicId);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package keapoint.onlog.post.utils;
+
+import java.nio.ByteBuffer;
+import java.util.UUID;
+
+/**
+ * UUID ↔ BINARY(16) 변환
+ * <p>
+ * JPA를 거치지 않고 JdbcTemplate으로 식별자 컬럼(BINARY(16))에 값을 넣거나 읽을 때 사용한다.
+ */
+public final class UuidBytes {
+
+    private UuidBytes() {
+    }
+
+    /**
+     * UUID를 BINARY(16) 컬럼 값으로 변환
+     *
+     * @param uuid 변환할 UUID
+     * @return 16바이트 배열
+     */
+    public static byte[] toBytes(UUID uuid) {
+        return ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+    }
+
+    /**
+     * BINARY(16) 컬럼 값을 UUID로 변환
+     *
+     * @param bytes 16바이트 배열
+     * @return UUID
+     */
+    public static UUID toUuid(byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+}
@@ -0,0 +1,166 @@
+package keapoint.onlog.post.benchmark;
+
+import keapoint.onlog.post.base.BaseException;
+import keapoint.onlog.post.config.TestSecurityConfig;
+import keapoint.onlog.post.dto.CursorSliceDto;
+import keapoint.onlog.post.dto.blog.PostCreateBlogReqDto;
+import keapoint.onlog.post.dto.category.PostCreateCategoryReqDto;
+import keapoint.onlog.post.dto.comment.CommentDto;
+import keapoint.onlog.post.dto.post.PostWritePostReqDto;
+import keapoint.onlog.post.repository.BlogRepository;
+import keapoint.onlog.post.service.BlogService;
+import keapoint.onlog.post.service.CategoryService;
+import keapoint.onlog.post.service.CommentService;
+import keapoint.onlog.post.service.PostService;
+import keapoint.onlog.post.utils.CommentPath;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.nio.ByteBuffer;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 댓글이 많은 게시글의 조회 성능 측정
+ * <p>
+ * 최상위 댓글 2,500개에 답글이 4개씩 달린 (총 12,500개) 게시글을 준비한 뒤,
+ * 게시글 조회(댓글 첫 페이지 포함), 댓글 페이지 조회, 답글 펼치기에 걸리는 시간을 측정한다.
+ * 데이터 준비에 시간이 오래 걸리므로 기본 테스트에서는 제외되며 "./gradlew benchmark"로 실행한다.
+ */
+@Tag("benchmark")
+@SpringBootTest
+@Import(TestSecurityConfig.class)
+@ActiveProfiles("test")
+class CommentThreadBenchmarkTest {
+
+    private static final int ROOT_COMMENT_COUNT = 2_500; // 최상위 댓글 수
+    private static final int REPLY_COUNT = 4; // 최상위 댓글마다 달린 답글 수
+    private static final int PAGE_SIZE = 20;
+    private static final int REPEAT = 20; // 측정 반복 횟수
+
+    private final UUID blogId = UUID.fromString("48f99c85-ed6b-46c2-8f47-66f9f67040bc");
+
+    @Autowired
+    private BlogService blogService;
+
+    @Autowired
+    private BlogRepository blogRepository;
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private UUID postId;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        if (blogRepository.findById(blogId).isEmpty()) {
+            blogService.createBlog(PostCreateBlogReqDto.builder()
+                    .blogId(blogId)
+                    .blogName("Benchmark")
+                    .blogNickname("benchmark")
+                    .blogIntro("성능 측정용 블로그")
+                    .build());
+        }
+
+        Long categoryId = categoryService.createCategory(blogId, new PostCreateCategoryReqDto("comment-benchmark")).getId();
+
+        postId = postService.writePost(blogId, PostWritePostReqDto.builder()
+                .title("댓글 성능 측정")
+                .content("댓글이 많은 게시글")
+                .summary("댓글 성능 측정")
+                .thumbnailLink("")
+                .isPublic(true)
+                .categoryId(categoryId)
+                .hashtagList(List.of("benchmark"))
+                .topicId(1L)
+                .build()).getPostId();
+
+        seedComments();
+    }
+
+    @Test
+    @DisplayName("댓글이 많은 게시글의 조회 시간 측정")
+    void measureCommentThread() throws BaseException {
+        long postNanos = 0;
+        long pageNanos = 0;
+        long replyNanos = 0;
+        long threadNanos = 0;
+
+        // 커서가 중간 이후를 가리키도록 앞쪽 페이지를 넘겨둔다.
+        String cursor = null;
+        for (int i = 0; i < ROOT_COMMENT_COUNT / PAGE_SIZE / 2; i++) {
+            cursor = commentService.getComments(blogId, postId, cursor, PAGE_SIZE).getNextCursor();
+        }
+
+        for (int i = 0; i < REPEAT; i++) {
+            long start = System.nanoTime();
+            postService.getPost(blogId, postId);
+            postNanos += System.nanoTime() - start;
+
+            start = System.nanoTime();
+            CursorSliceDto<CommentDto> page = commentService.getComments(blogId, postId, cursor, PAGE_SIZE);
+            pageNanos += System.nanoTime() - start;
+
+            start = System.nanoTime();
+            commentService.getReplies(blogId, page.getContent().get(0).getCommentId(), null, PAGE_SIZE);
+            replyNanos += System.nanoTime() - start;
+
+            start = System.nanoTime();
+            commentService.getThread(blogId, page.getContent().get(0).getCommentId(), null, PAGE_SIZE);
+            threadNanos += System.nanoTime() - start;
+        }
+
+        System.out.printf("comments=%d getPost=%.2fms getComments=%.2fms getReplies=%.2fms getThread=%.2fms%n",
+                ROOT_COMMENT_COUNT * (REPLY_COUNT + 1),
+                postNanos / 1e6 / REPEAT, pageNanos / 1e6 / REPEAT, replyNanos / 1e6 / REPEAT, threadNanos / 1e6 / REPEAT);
+    }
+
+    private void seedComments() {
+        String sql = "INSERT INTO comment (comment_id, comment_content, comment_modified, comment_ref, comment_ref_order, " +
+                "comment_step, comment_parent_num, comment_answer_num, comment_path, comment_likes_count, post_id, blog_id, " +
+                "created_at, updated_at, status) VALUES (?, ?, false, ?, ?, ?, ?, ?, ?, 0, ?, ?, ?, ?, true)";
+
+        LocalDateTime base = LocalDateTime.now().minusDays(1);
+        List<Object[]> rows = new ArrayList<>();
+
+        for (int ref = 1; ref <= ROOT_COMMENT_COUNT; ref++) {
+            UUID rootId = UUID.randomUUID();
+            Timestamp createdAt = Timestamp.valueOf(base.plusSeconds(ref));
+            rows.add(new Object[]{toBytes(rootId), "댓글 " + ref, ref, 1, 1, null, REPLY_COUNT, CommentPath.root(ref), toBytes(postId), toBytes(blogId), createdAt, createdAt});
+
+            for (int order = 1; order <= REPLY_COUNT; order++) {
+                rows.add(new Object[]{toBytes(UUID.randomUUID()), "답글 " + ref + "-" + order, ref, order, 2, toBytes(rootId), 0,
+                        CommentPath.child(CommentPath.root(ref), order), toBytes(postId), toBytes(blogId), createdAt, createdAt});
+            }
+        }
+
+        jdbcTemplate.batchUpdate(sql, rows);
+        jdbcTemplate.update("UPDATE post SET post_comments_count = ? WHERE post_id = ?", rows.size(), toBytes(postId));
+    }
+
+    private static byte[] toBytes(UUID uuid) {
+        return ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+    }
+}
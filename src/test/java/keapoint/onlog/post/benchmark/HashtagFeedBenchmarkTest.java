@@ -0,0 +1,189 @@
+package keapoint.onlog.post.benchmark;
+
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import keapoint.onlog.post.config.TestSecurityConfig;
+import keapoint.onlog.post.dto.blog.PostCreateBlogReqDto;
+import keapoint.onlog.post.dto.category.PostCreateCategoryReqDto;
+import keapoint.onlog.post.dto.post.PostFieldSet;
+import keapoint.onlog.post.entity.Hashtag;
+import keapoint.onlog.post.entity.Post;
+import keapoint.onlog.post.entity.Topic;
+import keapoint.onlog.post.repository.BlogRepository;
+import keapoint.onlog.post.repository.PostRepository;
+import keapoint.onlog.post.repository.TopicRepository;
+import keapoint.onlog.post.service.BlogService;
+import keapoint.onlog.post.service.CategoryService;
+import keapoint.onlog.post.service.HashtagService;
+import keapoint.onlog.post.specification.PostSpecification;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.nio.ByteBuffer;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 해시태그 게시글 조회 성능 비교 (isMember 상관 서브쿼리 vs 해시태그 역색인)
+ * <p>
+ * 게시글마다 해시태그 하나를 달아 준비한 뒤, 자주 쓰인 해시태그와 드물게 쓰인 해시태그의 최신 게시글을
+ * 두 방식으로 조회하는 데 걸리는 시간을 비교한다.
+ * 데이터 준비에 시간이 오래 걸리므로 기본 테스트에서는 제외되며 "./gradlew benchmark"로 실행한다.
+ */
+@Tag("benchmark")
+@SpringBootTest
+@Import(TestSecurityConfig.class)
+@ActiveProfiles("test")
+class HashtagFeedBenchmarkTest {
+
+    private static final int TARGET_POST_COUNT = 500_000; // 준비할 게시글 수
+    private static final int INSERT_BATCH_SIZE = 5_000; // 한 번에 삽입할 게시글 수
+    private static final int PAGE_SIZE = 20;
+    private static final int REPEAT = 20; // 측정 반복 횟수
+    private static final String COMMON_HASHTAG = "benchmark-common"; // 게시글 대부분에 달린 해시태그
+    private static final String RARE_HASHTAG = "benchmark-rare"; // 게시글 1%에 달린 해시태그
+
+    private final UUID blogId = UUID.fromString("9d3b2c1e-6f4a-4b8e-9c7d-2a1e5f6b7c8d");
+
+    @Autowired
+    private BlogService blogService;
+
+    @Autowired
+    private BlogRepository blogRepository;
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private TopicRepository topicRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private HashtagService hashtagService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        jdbcTemplate.update("INSERT IGNORE INTO hashtag (hashtag_name) VALUES (?), (?)", COMMON_HASHTAG, RARE_HASHTAG);
+
+        long existing = postRepository.count(Specification.where(PostSpecification.withBlogId(blogId)));
+        if (existing >= TARGET_POST_COUNT) {
+            return;
+        }
+
+        if (blogRepository.findById(blogId).isEmpty()) {
+            blogService.createBlog(PostCreateBlogReqDto.builder()
+                    .blogId(blogId)
+                    .blogName("Hashtag Benchmark")
+                    .blogNickname("hashtag-benchmark")
+                    .blogIntro("성능 측정용 블로그")
+                    .build());
+        }
+
+        Long categoryId = categoryService.createCategory(blogId, new PostCreateCategoryReqDto("hashtag-benchmark")).getId();
+        Topic topic = topicRepository.findByName("benchmark")
+                .orElseGet(() -> topicRepository.save(new Topic("benchmark")));
+
+        seedPosts((int) existing, TARGET_POST_COUNT, categoryId, topic.getId());
+    }
+
+    @Test
+    @DisplayName("isMember 조건과 해시태그 역색인 조회 성능 비교")
+    void compareCriteriaAndPostingList() {
+        for (String hashtag : List.of(COMMON_HASHTAG, RARE_HASHTAG)) {
+            Long hashtagId = hashtagService.findId(hashtag).orElseThrow();
+            Specification<Post> specification = Specification.where(PostSpecification.withStatusTrue())
+                    .and(PostSpecification.withIsPublic(true));
+            Specification<Post> criteria = specification.and(withHashtag(hashtag));
+            Sort sort = Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("postId"));
+
+            long criteriaNanos = 0;
+            long postingNanos = 0;
+
+            for (int i = 0; i < REPEAT; i++) {
+                long start = System.nanoTime();
+                postRepository.findSummaries(criteria, sort, 0, PAGE_SIZE, PostFieldSet.WITHOUT_CONTENT);
+                criteriaNanos += System.nanoTime() - start;
+
+                start = System.nanoTime();
+                postRepository.findSummariesByHashtag(hashtagId, specification, null, 0, PAGE_SIZE, PostFieldSet.WITHOUT_CONTENT);
+                postingNanos += System.nanoTime() - start;
+            }
+
+            System.out.printf("hashtag=%s criteria=%.2fms posting=%.2fms%n",
+                    hashtag, criteriaNanos / 1e6 / REPEAT, postingNanos / 1e6 / REPEAT);
+        }
+    }
+
+    /**
+     * 역색인 이전의 해시태그 조건 (비교 대상)
+     * 게시글마다 해시태그 연결 테이블을 조회하는 상관 서브쿼리가 만들어지므로, 게시글이 많으면 느려진다.
+     */
+    private static Specification<Post> withHashtag(String hashtag) {
+        return (root, query, criteriaBuilder) -> {
+            Subquery<Long> subquery = query.subquery(Long.class);
+            Root<Post> correlated = subquery.correlate(root);
+            Join<Post, Hashtag> hashtags = correlated.join("hashtagList");
+            subquery.select(hashtags.get("id"))
+                    .where(criteriaBuilder.equal(hashtags.get("name"), hashtag));
+            return criteriaBuilder.exists(subquery);
+        };
+    }
+
+    private void seedPosts(int from, int to, Long categoryId, Long topicId) {
+        String postSql = "INSERT INTO post (post_id, post_hits, post_title, post_content, post_summary, post_thumbnail_link, " +
+                "post_public, post_modified, post_likes_count, post_comments_count, category_id, topic_id, blog_id, " +
+                "created_at, updated_at, status) VALUES (?, 0, ?, ?, ?, '', true, false, 0, 0, ?, ?, ?, ?, ?, true)";
+        String joinSql = "INSERT INTO Post_HashTag_Table (post_id, hashtag_id) VALUES (?, ?)";
+        String postingSql = "INSERT INTO hashtag_post (hashtag_id, post_id, created_at) VALUES (?, ?, ?)";
+
+        Long commonId = hashtagService.findId(COMMON_HASHTAG).orElseThrow();
+        Long rareId = hashtagService.findId(RARE_HASHTAG).orElseThrow();
+        LocalDateTime base = LocalDateTime.now().minusYears(1);
+
+        for (int start = from; start < to; start += INSERT_BATCH_SIZE) {
+            List<Object[]> posts = new ArrayList<>();
+            List<Object[]> hashtags = new ArrayList<>();
+            List<Object[]> postings = new ArrayList<>();
+
+            for (int i = start; i < Math.min(start + INSERT_BATCH_SIZE, to); i++) {
+                byte[] postId = toBytes(UUID.randomUUID());
+                Long hashtagId = i % 100 == 0 ? rareId : commonId;
+                Timestamp createdAt = Timestamp.valueOf(base.plusSeconds(i));
+
+                posts.add(new Object[]{postId, "hashtag benchmark " + i, "hashtag benchmark content " + i, "hashtag benchmark summary " + i,
+                        categoryId, topicId, toBytes(blogId), createdAt, createdAt});
+                hashtags.add(new Object[]{postId, hashtagId});
+                postings.add(new Object[]{hashtagId, postId, createdAt});
+            }
+
+            jdbcTemplate.batchUpdate(postSql, posts);
+            jdbcTemplate.batchUpdate(joinSql, hashtags);
+            jdbcTemplate.batchUpdate(postingSql, postings);
+        }
+    }
+
+    private static byte[] toBytes(UUID uuid) {
+        return ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+    }
+}
@@ -0,0 +1,138 @@
+package keapoint.onlog.post.benchmark;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import keapoint.onlog.post.service.TokenRevocationService;
+import keapoint.onlog.post.utils.AES256;
+import keapoint.onlog.post.utils.JwtTokenProvider;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.security.Key;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 요청마다 access token 인증에 드는 시간 측정
+ * <p>
+ * 기존 방식(필터의 validateToken, getAuthentication, 컨트롤러의 extractIdx가 각각 키와 파서를 만들어 세 번 검증)과
+ * 필터에서 한 번 검증한 결과를 캐시하는 방식을 같은 토큰으로 비교한다.
+ * 캐시 적중과 별개로, 처음 보는 토큰을 검증하는 비용(캐시 미스)과 그중 폐기 여부 확인(Bloom filter)에 드는 비용도 함께 측정한다.
+ * 스프링 컨텍스트 없이 실행되며 "./gradlew benchmark"로 실행한다.
+ */
+@Tag("benchmark")
+class JwtAuthenticationBenchmarkTest {
+
+    private static final String SECRET_KEY = "benchmark-jwt-secret-key-that-is-long-enough-for-hs512-signatures-0123456789";
+    private static final int WARMUP = 20_000; // JIT 준비 반복 횟수
+    private static final int ITERATIONS = 100_000; // 측정 반복 횟수
+    private static final int DISTINCT_TOKENS = 2_000; // 캐시 미스 측정에 사용할 토큰 수
+
+    private JwtTokenProvider jwtTokenProvider;
+    private TokenRevocationService tokenRevocationService;
+    private final UUID memberIdx = UUID.randomUUID();
+    private String token;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        AES256 aes256 = new AES256();
+        aes256.rawKey = SECRET_KEY;
+
+        // 폐기 목록은 DB 없이 메모리(Bloom filter)만 사용한다.
+        tokenRevocationService = new TokenRevocationService(null, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(tokenRevocationService, "expectedInsertions", 100_000L);
+        ReflectionTestUtils.setField(tokenRevocationService, "falsePositiveRate", 0.01);
+        tokenRevocationService.init();
+
+        jwtTokenProvider = new JwtTokenProvider(aes256, new SimpleMeterRegistry(), tokenRevocationService);
+        ReflectionTestUtils.setField(jwtTokenProvider, "jwtKey", SECRET_KEY);
+        ReflectionTestUtils.setField(jwtTokenProvider, "tokenCacheMaximumSize", 100_000L);
+        ReflectionTestUtils.setField(jwtTokenProvider, "tokenCacheTtlSeconds", 600L);
+        jwtTokenProvider.init();
+
+        token = createToken(memberIdx);
+    }
+
+    @Test
+    @DisplayName("요청당 access token 인증 시간 측정 (기존 3회 검증 vs 1회 검증 + 캐시)")
+    void measureAuthentication() throws Exception {
+        for (int i = 0; i < WARMUP; i++) {
+            legacyAuthenticate(token);
+            cachedAuthenticate(token);
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            legacyAuthenticate(token);
+        }
+        long legacyNanos = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            cachedAuthenticate(token);
+        }
+        long cachedNanos = System.nanoTime() - start;
+
+        // 처음 보는 토큰은 서명을 한 번 검증한다.
+        List<String> tokens = new ArrayList<>(DISTINCT_TOKENS);
+        for (int i = 0; i < DISTINCT_TOKENS; i++) {
+            tokens.add(createToken(UUID.randomUUID()));
+        }
+        start = System.nanoTime();
+        for (String distinct : tokens) {
+            jwtTokenProvider.verify(distinct).orElseThrow();
+        }
+        long missNanos = System.nanoTime() - start;
+
+        // 폐기되지 않은 토큰의 폐기 여부 확인
+        UUID jti = jwtTokenProvider.verify(token).orElseThrow().getTokenId();
+        int revoked = 0;
+        start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            revoked += tokenRevocationService.isRevoked(jti) ? 1 : 0;
+        }
+        long revocationNanos = System.nanoTime() - start;
+
+        assertEquals(memberIdx, cachedAuthenticate(token));
+        assertEquals(0, revoked);
+        System.out.printf("legacy(3 parses)=%.2fus/op cached(hit)=%.2fus/op verify(miss)=%.2fus/op revocation check=%.0fns/op%n",
+                legacyNanos / 1e3 / ITERATIONS, cachedNanos / 1e3 / ITERATIONS, missNanos / 1e3 / DISTINCT_TOKENS,
+                (double) revocationNanos / ITERATIONS);
+    }
+
+    /**
+     * 기존 방식: 필터의 validateToken, getAuthentication과 컨트롤러의 extractIdx가 각각 파서를 만들어 검증한다.
+     */
+    private UUID legacyAuthenticate(String token) {
+        Key key = Keys.hmacShaKeyFor(SECRET_KEY.getBytes());
+        Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
+
+        Jwts.parserBuilder().setSigningKey(SECRET_KEY.getBytes()).build().parseClaimsJws(token).getBody().get("auth");
+
+        String memberIdx = Jwts.parserBuilder().setSigningKey(SECRET_KEY.getBytes()).build()
+                .parseClaimsJws(token).getBody().get("memberIdx", String.class);
+        return UUID.fromString(memberIdx);
+    }
+
+    /**
+     * 변경된 방식: 필터가 한 번 검증(캐시 적중)하고, 컨트롤러는 검증된 사용자 정보를 받는다.
+     */
+    private UUID cachedAuthenticate(String token) {
+        return jwtTokenProvider.verify(token).orElseThrow().getMemberIdx();
+    }
+
+    private String createToken(UUID memberIdx) throws Exception {
+        UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
+                "benchmark@onlog.com", "", List.of(new SimpleGrantedAuthority("ROLE_USER")));
+        return jwtTokenProvider.createTokens(authentication, memberIdx, "password").getAccessToken();
+    }
+}
@@ -0,0 +1,163 @@
+package keapoint.onlog.post.benchmark;
+
+import keapoint.onlog.post.base.BaseException;
+import keapoint.onlog.post.config.TestSecurityConfig;
+import keapoint.onlog.post.dto.blog.PostCreateBlogReqDto;
+import keapoint.onlog.post.dto.category.PostCreateCategoryReqDto;
+import keapoint.onlog.post.dto.post.PostCursor;
+import keapoint.onlog.post.dto.post.PostFieldSet;
+import keapoint.onlog.post.dto.post.PostSummaryDto;
+import keapoint.onlog.post.entity.Topic;
+import keapoint.onlog.post.repository.BlogRepository;
+import keapoint.onlog.post.repository.PostRepository;
+import keapoint.onlog.post.repository.TopicRepository;
+import keapoint.onlog.post.service.BlogService;
+import keapoint.onlog.post.service.CategoryService;
+import keapoint.onlog.post.service.PostService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.nio.ByteBuffer;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 최신 게시글 조회 성능 비교 (페이지 번호 기반 vs 커서 기반)
+ * <p>
+ * 100만 건 이상의 게시글을 준비한 뒤, 같은 위치의 페이지를 두 방식으로 조회하는 데 걸리는 시간을 비교한다.
+ * 데이터 준비에 시간이 오래 걸리므로 기본 테스트에서는 제외되며 "./gradlew benchmark"로 실행한다.
+ */
+@Tag("benchmark")
+@SpringBootTest
+@Import(TestSecurityConfig.class)
+@ActiveProfiles("test")
+class PostFeedBenchmarkTest {
+
+    private static final int TARGET_POST_COUNT = 1_000_000; // 준비할 게시글 수
+    private static final int INSERT_BATCH_SIZE = 5_000; // 한 번에 삽입할 게시글 수
+    private static final int PAGE_SIZE = 20;
+    private static final int REPEAT = 20; // 측정 반복 횟수
+    private static final int[] PAGE_NUMBERS = {0, 100, 1_000, 10_000, 40_000};
+
+    private final UUID blogId = UUID.fromString("48f99c85-ed6b-46c2-8f47-66f9f67040bc");
+
+    @Autowired
+    private BlogService blogService;
+
+    @Autowired
+    private BlogRepository blogRepository;
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private TopicRepository topicRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        long existing = postRepository.count();
+        if (existing >= TARGET_POST_COUNT) {
+            return;
+        }
+
+        if (blogRepository.findById(blogId).isEmpty()) {
+            blogService.createBlog(PostCreateBlogReqDto.builder()
+                    .blogId(blogId)
+                    .blogName("Benchmark")
+                    .blogNickname("benchmark")
+                    .blogIntro("성능 측정용 블로그")
+                    .build());
+        }
+
+        Long categoryId = categoryService.createCategory(blogId, new PostCreateCategoryReqDto("benchmark")).getId();
+        Topic topic = topicRepository.findByName("benchmark")
+                .orElseGet(() -> topicRepository.save(new Topic("benchmark")));
+
+        seedPosts((int) (TARGET_POST_COUNT - existing), categoryId, topic.getId());
+    }
+
+    @Test
+    @DisplayName("페이지 번호 기반 조회와 커서 기반 조회 성능 비교")
+    void compareOffsetAndCursor() throws BaseException {
+        for (int pageNumber : PAGE_NUMBERS) {
+            // 커서 기반 조회의 시작 위치를 페이지 번호 기반 조회와 맞추기 위해 직전 페이지의 마지막 게시글을 커서로 사용한다.
+            String cursor = "";
+            if (pageNumber > 0) {
+                Page<PostSummaryDto> previous = postService.getRecentPosts(blogId, null, null, null, null, null, PageRequest.of(pageNumber - 1, PAGE_SIZE), PostFieldSet.ALL);
+                PostSummaryDto last = previous.getContent().get(previous.getContent().size() - 1);
+                cursor = new PostCursor(last.getCreatedAt(), last.getPostId()).encode();
+            }
+
+            long offsetNanos = 0;
+            long cursorNanos = 0;
+
+            for (int i = 0; i < REPEAT; i++) {
+                long start = System.nanoTime();
+                postService.getRecentPosts(blogId, null, null, null, null, null, PageRequest.of(pageNumber, PAGE_SIZE), PostFieldSet.ALL);
+                offsetNanos += System.nanoTime() - start;
+
+                start = System.nanoTime();
+                postService.getRecentPostsByCursor(blogId, null, null, null, null, null, cursor, PAGE_SIZE, PostFieldSet.ALL);
+                cursorNanos += System.nanoTime() - start;
+            }
+
+            System.out.printf("page=%d offset=%.2fms cursor=%.2fms%n",
+                    pageNumber, offsetNanos / 1e6 / REPEAT, cursorNanos / 1e6 / REPEAT);
+        }
+    }
+
+    private void seedPosts(int count, Long categoryId, Long topicId) {
+        String sql = "INSERT INTO post (post_id, post_hits, post_title, post_content, post_summary, post_thumbnail_link, " +
+                "post_public, post_modified, post_likes_count, post_comments_count, category_id, topic_id, blog_id, " +
+                "created_at, updated_at, status) VALUES (?, 0, ?, ?, ?, '', true, false, 0, 0, ?, ?, ?, ?, ?, true)";
+
+        LocalDateTime base = LocalDateTime.now().minusYears(1);
+
+        for (int from = 0; from < count; from += INSERT_BATCH_SIZE) {
+            List<Object[]> rows = new ArrayList<>();
+            for (int i = from; i < Math.min(from + INSERT_BATCH_SIZE, count); i++) {
+                Timestamp createdAt = Timestamp.valueOf(base.plusSeconds(i));
+                rows.add(new Object[]{
+                        toBytes(UUID.randomUUID()),
+                        "benchmark " + i,
+                        "benchmark content " + i,
+                        "benchmark summary " + i,
+                        categoryId,
+                        topicId,
+                        toBytes(blogId),
+                        createdAt,
+                        createdAt
+                });
+            }
+            jdbcTemplate.batchUpdate(sql, rows);
+        }
+    }
+
+    private static byte[] toBytes(UUID uuid) {
+        return ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+    }
+}
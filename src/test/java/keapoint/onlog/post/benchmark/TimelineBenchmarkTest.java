@@ -0,0 +1,230 @@
+package keapoint.onlog.post.benchmark;
+
+import keapoint.onlog.post.base.BaseException;
+import keapoint.onlog.post.config.TestSecurityConfig;
+import keapoint.onlog.post.dto.category.PostCreateCategoryReqDto;
+import keapoint.onlog.post.dto.post.PostFieldSet;
+import keapoint.onlog.post.entity.Post;
+import keapoint.onlog.post.entity.Topic;
+import keapoint.onlog.post.repository.BlogRepository;
+import keapoint.onlog.post.repository.FollowRepository;
+import keapoint.onlog.post.repository.PostRepository;
+import keapoint.onlog.post.repository.TopicRepository;
+import keapoint.onlog.post.service.BlogStatsService;
+import keapoint.onlog.post.service.CategoryService;
+import keapoint.onlog.post.service.TimelineService;
+import keapoint.onlog.post.specification.PostSpecification;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.nio.ByteBuffer;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * 홈 타임라인 조회 성능 비교 (팔로우 하는 블로그 IN 조건 조회 vs 받은 편지함과 인기 블로그 병합)
+ * <p>
+ * 블로그 100,000개가 각각 Zipf 분포(순위가 높을수록 팔로워가 많은)로 고른 블로그 20개를 팔로우 하도록 준비한 뒤,
+ * 인기 블로그를 많이 팔로우 하는 블로그와 그렇지 않은 블로그의 첫 페이지를 두 방식으로 조회하는 데 걸리는 시간을 비교한다.
+ * 데이터 준비에 시간이 오래 걸리므로 기본 테스트에서는 제외되며 "./gradlew benchmark"로 실행한다.
+ */
+@Tag("benchmark")
+@SpringBootTest
+@Import(TestSecurityConfig.class)
+@ActiveProfiles("test")
+class TimelineBenchmarkTest {
+
+    private static final int BLOG_COUNT = 100_000; // 준비할 블로그 수
+    private static final int FOLLOWING_PER_BLOG = 20; // 블로그마다 팔로우 하는 블로그 수
+    private static final int POSTS_PER_AUTHOR = 5; // 블로그마다 작성한 게시글 수
+    private static final double ZIPF_EXPONENT = 1.0; // 팔로워 수 분포의 기울기
+    private static final int INSERT_BATCH_SIZE = 5_000; // 한 번에 삽입할 행 수
+    private static final int PAGE_SIZE = 20;
+    private static final int REPEAT = 20; // 측정 반복 횟수
+    private static final long BLOG_ID_PREFIX = 0x7100_0000_0000_0000L; // 성능 측정용 블로그 식별자 앞부분
+
+    @Autowired
+    private BlogRepository blogRepository;
+
+    @Autowired
+    private FollowRepository followRepository;
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private TopicRepository topicRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private BlogStatsService blogStatsService;
+
+    @Autowired
+    private TimelineService timelineService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${post.timeline.fanout-threshold}")
+    private long fanoutThreshold;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        if (blogRepository.findById(blogId(BLOG_COUNT - 1)).isEmpty()) {
+            seedBlogs();
+            seedFollows();
+
+            Long categoryId = categoryService.createCategory(blogId(0), new PostCreateCategoryReqDto("timeline-benchmark")).getId();
+            Topic topic = topicRepository.findByName("benchmark")
+                    .orElseGet(() -> topicRepository.save(new Topic("benchmark")));
+            seedPosts(categoryId, topic.getId());
+
+            blogStatsService.reconcile(); // 팔로워 수를 계산하여 인기 블로그를 고를 수 있게 한다.
+        }
+
+        timelineService.refreshCelebrities();
+        seedInboxes();
+    }
+
+    @Test
+    @DisplayName("IN 조건 조회와 받은 편지함 병합 조회 성능 비교")
+    void compareInListAndHybridFanOut() throws BaseException {
+        Sort sort = Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("postId"));
+
+        // 팔로우 하는 인기 블로그 수가 서로 다른 블로그 세 개로 측정한다.
+        for (int reader : List.of(BLOG_COUNT - 1, BLOG_COUNT / 2, 0)) {
+            UUID readerBlogId = blogId(reader);
+            List<UUID> following = followRepository.findFollowingBlogIds(readerBlogId);
+
+            Specification<Post> inList = Specification.where(PostSpecification.withStatusTrue())
+                    .and(PostSpecification.withIsPublic(true))
+                    .and((root, query, criteriaBuilder) -> root.get("writer").get("blogId").in(following));
+
+            long inListNanos = 0;
+            long hybridNanos = 0;
+
+            for (int i = 0; i < REPEAT; i++) {
+                long start = System.nanoTime();
+                postRepository.findSummaries(inList, sort, 0, PAGE_SIZE, PostFieldSet.WITHOUT_CONTENT);
+                inListNanos += System.nanoTime() - start;
+
+                start = System.nanoTime();
+                timelineService.getTimeline(readerBlogId, null, PAGE_SIZE, PostFieldSet.WITHOUT_CONTENT);
+                hybridNanos += System.nanoTime() - start;
+            }
+
+            System.out.printf("reader=%d following=%d in-list=%.2fms hybrid=%.2fms%n",
+                    reader, following.size(), inListNanos / 1e6 / REPEAT, hybridNanos / 1e6 / REPEAT);
+        }
+    }
+
+    private void seedBlogs() {
+        String sql = "INSERT INTO blog (blog_id, blog_name, blog_nickname, blog_intro, created_at, updated_at, status) " +
+                "VALUES (?, ?, ?, '성능 측정용 블로그', ?, ?, true)";
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        for (int start = 0; start < BLOG_COUNT; start += INSERT_BATCH_SIZE) {
+            List<Object[]> blogs = new ArrayList<>();
+            for (int i = start; i < Math.min(start + INSERT_BATCH_SIZE, BLOG_COUNT); i++) {
+                blogs.add(new Object[]{toBytes(blogId(i)), "timeline " + i, "timeline-benchmark-" + i, now, now});
+            }
+            jdbcTemplate.batchUpdate(sql, blogs);
+        }
+    }
+
+    /**
+     * 블로그마다 서로 다른 블로그 FOLLOWING_PER_BLOG개를 Zipf 분포로 골라 팔로우 한다.
+     */
+    private void seedFollows() {
+        String sql = "INSERT INTO follow (blog_id, follow_id, is_following) VALUES (?, ?, true)";
+
+        double[] cumulative = new double[BLOG_COUNT];
+        double sum = 0;
+        for (int rank = 0; rank < BLOG_COUNT; rank++) {
+            sum += 1 / Math.pow(rank + 1, ZIPF_EXPONENT);
+            cumulative[rank] = sum;
+        }
+
+        Random random = new Random(42);
+        List<Object[]> follows = new ArrayList<>();
+
+        for (int reader = 0; reader < BLOG_COUNT; reader++) {
+            Set<Integer> targets = new HashSet<>();
+            while (targets.size() < FOLLOWING_PER_BLOG) {
+                int index = Arrays.binarySearch(cumulative, random.nextDouble() * sum);
+                int target = Math.min(index >= 0 ? index : -index - 1, BLOG_COUNT - 1);
+                if (target != reader) {
+                    targets.add(target);
+                }
+            }
+
+            for (int target : targets) {
+                follows.add(new Object[]{toBytes(blogId(reader)), toBytes(blogId(target))});
+            }
+            if (follows.size() >= INSERT_BATCH_SIZE) {
+                jdbcTemplate.batchUpdate(sql, follows);
+                follows.clear();
+            }
+        }
+        jdbcTemplate.batchUpdate(sql, follows);
+    }
+
+    private void seedPosts(Long categoryId, Long topicId) {
+        String sql = "INSERT INTO post (post_id, post_hits, post_title, post_content, post_summary, post_thumbnail_link, " +
+                "post_public, post_modified, post_likes_count, post_comments_count, category_id, topic_id, blog_id, " +
+                "created_at, updated_at, status) VALUES (?, 0, ?, ?, ?, '', true, false, 0, 0, ?, ?, ?, ?, ?, true)";
+        LocalDateTime base = LocalDateTime.now().minusYears(1);
+        Random random = new Random(7);
+
+        List<Object[]> posts = new ArrayList<>();
+        for (int author = 0; author < BLOG_COUNT; author++) {
+            for (int i = 0; i < POSTS_PER_AUTHOR; i++) {
+                Timestamp createdAt = Timestamp.valueOf(base.plusSeconds(random.nextInt(365 * 24 * 60 * 60)));
+                posts.add(new Object[]{toBytes(UUID.randomUUID()), "timeline benchmark " + author, "timeline benchmark content",
+                        "timeline benchmark summary", categoryId, topicId, toBytes(blogId(author)), createdAt, createdAt});
+            }
+
+            if (posts.size() >= INSERT_BATCH_SIZE) {
+                jdbcTemplate.batchUpdate(sql, posts);
+                posts.clear();
+            }
+        }
+        jdbcTemplate.batchUpdate(sql, posts);
+    }
+
+    /**
+     * 작성 시 팔로워에게 넣었을 받은 편지함 행을 한 번에 만든다. (인기 블로그의 게시글은 제외)
+     */
+    private void seedInboxes() {
+        jdbcTemplate.update("DELETE FROM timeline_inbox");
+        jdbcTemplate.update("INSERT INTO timeline_inbox (reader_blog_id, post_id, author_blog_id, created_at) " +
+                "SELECT f.blog_id, p.post_id, p.blog_id, p.created_at FROM follow f " +
+                "JOIN post p ON p.blog_id = f.follow_id AND p.status = true AND p.post_public = true " +
+                "JOIN blog_stats s ON s.blog_id = p.blog_id " +
+                "WHERE f.is_following = true AND s.follower_count < ?", fanoutThreshold);
+    }
+
+    private static UUID blogId(int index) {
+        return new UUID(BLOG_ID_PREFIX, index);
+    }
+
+    private static byte[] toBytes(UUID uuid) {
+        return ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+    }
+}
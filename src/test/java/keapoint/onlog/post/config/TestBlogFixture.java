@@ -0,0 +1,36 @@
+package keapoint.onlog.post.config;
+
+import keapoint.onlog.post.base.BaseException;
+import keapoint.onlog.post.dto.blog.PostCreateBlogReqDto;
+import keapoint.onlog.post.service.BlogService;
+import org.springframework.boot.test.context.TestComponent;
+
+import java.util.UUID;
+
+/**
+ * 통합 테스트에서 사용할 블로그를 만든다.
+ */
+@TestComponent
+public class TestBlogFixture {
+
+    private final BlogService blogService;
+
+    public TestBlogFixture(BlogService blogService) {
+        this.blogService = blogService;
+    }
+
+    /**
+     * 이름과 닉네임이 같은 블로그 생성
+     *
+     * @param blogId   블로그 식별자
+     * @param nickname 블로그 이름, 닉네임
+     */
+    public void createBlog(UUID blogId, String nickname) throws BaseException {
+        blogService.createBlog(PostCreateBlogReqDto.builder()
+                .blogId(blogId)
+                .blogName(nickname)
+                .blogNickname(nickname)
+                .blogIntro("테스트용 블로그입니다.")
+                .build());
+    }
+}
@@ -0,0 +1,211 @@
+package keapoint.onlog.post.config.database;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 복제본 라우팅
+ * writer와 복제본을 각각 별도의 내장 DB(H2)로 대신하며, 복제는 writer의 heartbeat 행을 복제본에 복사하는 것으로 흉내낸다.
+ */
+class ReplicaRoutingTest {
+
+    private final List<EmbeddedDatabase> databases = new ArrayList<>();
+
+    private EmbeddedDatabase writer;
+    private ReplicaDataSource replica1;
+    private ReplicaDataSource replica2;
+    private ReadConsistency readConsistency;
+    private ReplicationMonitor monitor;
+    private RoutingDataSource routingDataSource;
+
+    @BeforeEach
+    void setUp() {
+        writer = database();
+        replica1 = new ReplicaDataSource("replica-1", 1, database());
+        replica2 = new ReplicaDataSource("replica-2", 1, database());
+        routingDataSource = routing(List.of(replica1, replica2));
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        readConsistency.clear();
+        databases.forEach(EmbeddedDatabase::shutdown);
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션은 정상인 복제본에 고르게 나누어지고, 쓰기는 writer로 간다")
+    void test1() throws Exception {
+        // given: 두 복제본이 writer의 heartbeat를 따라잡았을 때
+        replicateAll();
+
+        // when: 읽기 전용 커넥션 네 개를 동시에 사용하면
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        List<Connection> connections = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            connections.add(routingDataSource.getConnection());
+        }
+
+        // then: 사용 중인 커넥션이 적은 복제본을 골라 두 복제본이 두 개씩 나누어 가져야 한다
+        assertEquals(2, replica1.getInFlight());
+        assertEquals(2, replica2.getInFlight());
+        for (Connection connection : connections) {
+            connection.close();
+        }
+        assertEquals(0, replica1.getInFlight() + replica2.getInFlight());
+
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        assertEquals(RoutingDataSource.WRITER, routingDataSource.determineCurrentLookupKey());
+    }
+
+    @Test
+    @DisplayName("복제 지연이 기준을 넘은 복제본은 제외하고, 모두 제외되면 writer에서 읽는다")
+    void test2() {
+        // given: replica-2의 마지막 heartbeat가 10초 전일 때
+        replicateAll();
+        new JdbcTemplate(replica2.getTargetDataSource())
+                .update("UPDATE replication_heartbeat SET beat_at = ?", System.currentTimeMillis() - 10_000);
+
+        // when: 상태를 확인하면
+        monitor.check();
+
+        // then: replica-2는 제외되어 replica-1만 읽기 요청을 받아야 한다
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        assertFalse(replica2.isHealthy());
+        for (int i = 0; i < 10; i++) {
+            assertEquals("replica-1", routingDataSource.determineCurrentLookupKey());
+        }
+
+        // when: replica-1도 지연되면
+        new JdbcTemplate(replica1.getTargetDataSource())
+                .update("UPDATE replication_heartbeat SET beat_at = ?", System.currentTimeMillis() - 10_000);
+        monitor.check();
+
+        // then: writer에서 읽어야 한다
+        assertEquals(RoutingDataSource.WRITER, routingDataSource.determineCurrentLookupKey());
+    }
+
+    @Test
+    @DisplayName("쓰기 직후의 읽기는 그 쓰기가 반영된 복제본에서만 처리")
+    void test3() {
+        // given: 두 복제본이 따라잡은 상태에서 사용자가 쓰기를 커밋했을 때
+        replicateAll();
+        UUID client = UUID.randomUUID();
+        readConsistency.bind(client);
+        readConsistency.recordWrite(client);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // then: 쓰기 이후의 heartbeat가 반영된 복제본이 없으므로 writer에서 읽어야 한다
+        assertEquals(RoutingDataSource.WRITER, routingDataSource.determineCurrentLookupKey());
+
+        // when: 다음 heartbeat가 replica-1에만 반영되면
+        monitor.check();
+        replicate(replica1);
+        monitor.check();
+
+        // then: 이 사용자는 replica-1에서, 다른 사용자는 두 복제본 모두에서 읽어야 한다
+        for (int i = 0; i < 10; i++) {
+            assertEquals("replica-1", routingDataSource.determineCurrentLookupKey());
+        }
+        readConsistency.bind(UUID.randomUUID());
+        assertTrue(replica2.isAvailable(readConsistency.requiredPosition()));
+    }
+
+    @Test
+    @DisplayName("연결할 수 없는 복제본은 제외하고 writer에서 읽는다")
+    void test4() throws Exception {
+        // given: 정상으로 표시되었지만 연결할 수 없는 복제본만 있을 때
+        ReplicaDataSource broken = new ReplicaDataSource("broken", 1, new DriverManagerDataSource("jdbc:unknown:replica"));
+        broken.update(Long.MAX_VALUE, 0, true);
+        RoutingDataSource routing = routing(List.of(broken));
+
+        // when: 읽기 전용 커넥션을 받으면
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        try (Connection connection = routing.getConnection()) {
+
+            // then: writer 커넥션을 받고, 복제본은 제외되어야 한다
+            assertTrue(connection.getMetaData().getURL().contains(writerName()));
+        }
+        assertFalse(broken.isHealthy());
+        assertEquals(0, broken.getInFlight());
+    }
+
+    private RoutingDataSource routing(List<ReplicaDataSource> readers) {
+        Replicas replicas = new Replicas(readers, Replicas.Balancing.LEAST_IN_FLIGHT);
+
+        readConsistency = new ReadConsistency(writer);
+        ReflectionTestUtils.setField(readConsistency, "ttlSeconds", 30L);
+        readConsistency.init();
+
+        monitor = new ReplicationMonitor(writer, replicas, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(monitor, "maxLagMillis", 3000L);
+        monitor.init();
+
+        RoutingDataSource routing = new RoutingDataSource(writer, replicas, readConsistency,
+                new SqlInstrumentation(new SimpleMeterRegistry()));
+        routing.afterPropertiesSet();
+        return routing;
+    }
+
+    /**
+     * heartbeat 테이블이 있는 새 내장 DB
+     */
+    private EmbeddedDatabase database() {
+        EmbeddedDatabase database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .build();
+        new JdbcTemplate(database).execute("CREATE TABLE replication_heartbeat (" +
+                "heartbeat_id INT PRIMARY KEY, beat_position BIGINT NOT NULL, beat_at BIGINT NOT NULL)");
+        databases.add(database);
+        return database;
+    }
+
+    /**
+     * heartbeat를 기록하고 두 복제본에 반영한 뒤 상태를 확인한다.
+     */
+    private void replicateAll() {
+        monitor.check();
+        replicate(replica1);
+        replicate(replica2);
+        monitor.check();
+        assertTrue(replica1.isHealthy() && replica2.isHealthy());
+    }
+
+    /**
+     * writer의 heartbeat 행을 복제본에 복사한다.
+     */
+    private void replicate(ReplicaDataSource replica) {
+        Map<String, Object> row = new JdbcTemplate(writer)
+                .queryForMap("SELECT beat_position, beat_at FROM replication_heartbeat WHERE heartbeat_id = 1");
+
+        JdbcTemplate target = new JdbcTemplate(replica.getTargetDataSource());
+        target.update("DELETE FROM replication_heartbeat");
+        target.update("INSERT INTO replication_heartbeat (heartbeat_id, beat_position, beat_at) VALUES (1, ?, ?)",
+                row.get("beat_position"), row.get("beat_at"));
+    }
+
+    private String writerName() throws Exception {
+        try (Connection connection = writer.getConnection()) {
+            return connection.getMetaData().getURL();
+        }
+    }
+}
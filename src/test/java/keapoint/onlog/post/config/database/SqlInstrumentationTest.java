@@ -0,0 +1,111 @@
+package keapoint.onlog.post.config.database;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.sql.Connection;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * SQL 문장 계측
+ * 내장 DB(H2) 커넥션을 감싸서 요청마다 실행한 문장이 엔드포인트와 데이터 소스별로 기록되는지 확인한다.
+ */
+class SqlInstrumentationTest {
+
+    private static final String ENDPOINT = "GET /posts/{postId}";
+
+    private EmbeddedDatabase database;
+    private SimpleMeterRegistry meterRegistry;
+    private SqlInstrumentation sqlInstrumentation;
+
+    @BeforeEach
+    void setUp() {
+        database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .build();
+        new JdbcTemplate(database).execute("CREATE TABLE category (category_id BIGINT PRIMARY KEY, category_name VARCHAR(20))");
+        for (int i = 1; i <= 10; i++) {
+            new JdbcTemplate(database).update("INSERT INTO category VALUES (?, ?)", i, "category" + i);
+        }
+
+        meterRegistry = new SimpleMeterRegistry();
+        sqlInstrumentation = new SqlInstrumentation(meterRegistry);
+        ReflectionTestUtils.setField(sqlInstrumentation, "enabled", true);
+        ReflectionTestUtils.setField(sqlInstrumentation, "nPlusOneThreshold", 5);
+        ReflectionTestUtils.setField(sqlInstrumentation, "slowQueryMillis", 10_000L);
+        ReflectionTestUtils.setField(sqlInstrumentation, "slowQuerySampleRate", 1.0);
+        sqlInstrumentation.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        sqlInstrumentation.end();
+        database.shutdown();
+    }
+
+    @Test
+    @DisplayName("요청에서 실행한 문장 수와 데이터 소스를 엔드포인트에 기록하고, 반복된 문장을 N+1로 의심")
+    void test1() throws Exception {
+        // given: 게시글 조회 요청에서
+        sqlInstrumentation.begin(ENDPOINT);
+
+        // when: 카테고리를 하나씩 여섯 번 조회하고, 목록을 한 번 조회하면
+        try (Connection connection = sqlInstrumentation.wrap(database.getConnection(), "reader-1")) {
+            JdbcTemplate jdbcTemplate = new JdbcTemplate(new SingleConnectionDataSource(connection, true));
+            for (int i = 1; i <= 6; i++) {
+                jdbcTemplate.queryForObject("SELECT category_name FROM category WHERE category_id = ?", String.class, i);
+            }
+            jdbcTemplate.queryForList("SELECT category_name FROM category WHERE category_id IN (1, 2, 3)", String.class);
+        }
+        sqlInstrumentation.end();
+
+        // then: 일곱 문장이 reader-1에서 실행되었고, 반복된 조회만 N+1로 의심되어야 한다
+        List<SqlInstrumentation.EndpointSnapshot> snapshot = sqlInstrumentation.snapshot();
+        assertEquals(1, snapshot.size());
+
+        SqlInstrumentation.EndpointSnapshot stats = snapshot.get(0);
+        assertEquals(ENDPOINT, stats.endpoint());
+        assertEquals(1, stats.requests());
+        assertEquals(7, stats.statements());
+        assertEquals(7L, stats.statementsByDataSource().get("reader-1"));
+        assertEquals(1, stats.nPlusOneRequests());
+        assertEquals(List.of(new SqlInstrumentation.RepeatedStatement(
+                "select category_name from category where category_id = ?", 6)), stats.repeatedStatements());
+
+        assertEquals(7, meterRegistry.get("post.sql.statement").tag("endpoint", ENDPOINT).tag("datasource", "reader-1").timer().count());
+        assertEquals(1.0, meterRegistry.get("post.sql.n.plus.one").tag("endpoint", ENDPOINT).counter().count());
+    }
+
+    @Test
+    @DisplayName("기준 시간을 넘은 문장은 느린 쿼리로 값 없이 기록")
+    void test2() throws Exception {
+        // given: 모든 문장을 느린 쿼리로 보는 설정에서
+        ReflectionTestUtils.setField(sqlInstrumentation, "slowQueryMillis", 0L);
+        sqlInstrumentation.begin(ENDPOINT);
+
+        // when: 문장을 실행하면
+        try (Connection connection = sqlInstrumentation.wrap(database.getConnection(), "writer")) {
+            new JdbcTemplate(new SingleConnectionDataSource(connection, true))
+                    .update("UPDATE category SET category_name = 'secret' WHERE category_id = 1");
+        }
+        sqlInstrumentation.end();
+
+        // then: 느린 쿼리에 값을 뺀 문장 형태가 남아야 한다
+        List<SqlInstrumentation.SlowQuery> slowQueries = sqlInstrumentation.snapshot().get(0).slowQueries();
+        assertEquals(1, slowQueries.size());
+        assertEquals("writer", slowQueries.get(0).dataSource());
+        assertEquals("update category set category_name = ? where category_id = ?", slowQueries.get(0).shape());
+    }
+}
@@ -0,0 +1,89 @@
+package keapoint.onlog.post.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SearchIndexTest {
+
+    private SearchIndex index;
+
+    private final UUID springTitle = UUID.randomUUID();
+    private final UUID springContent = UUID.randomUUID();
+    private final UUID other = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        index = new SearchIndex();
+        index.put(SearchIndex.Document.of(springTitle, "스프링부트 입문", "JPA와 함께 시작하기", "설정부터 배포까지 다룹니다."));
+        index.put(SearchIndex.Document.of(springContent, "백엔드 회고", "일 년을 돌아보며", "올해는 스프링으로 서버를 만들었습니다."));
+        index.put(SearchIndex.Document.of(other, "리액트 입문", "컴포넌트 기초", "상태 관리를 다룹니다."));
+    }
+
+    @Test
+    @DisplayName("한글 바이그램, 영문 단어 단위 토큰화")
+    void test1() {
+        // when: 한글과 영문이 섞인 문자열을 토큰화하면
+        List<String> tokens = BigramTokenizer.tokenize("스프링부트 JPA!");
+
+        // then: 한글은 두 글자씩, 영문은 소문자 단어로 나뉘어야 한다
+        assertEquals(List.of("스프", "프링", "링부", "부트", "jpa"), tokens);
+    }
+
+    @Test
+    @DisplayName("조사가 붙은 단어도 검색되고, 제목에 등장한 게시글이 먼저 조회")
+    void test2() {
+        // when: 조사 없이 검색하면
+        SearchIndex.Result result = index.search("스프링", 0, 10);
+
+        // then: "스프링으로"가 포함된 게시글도 조회되고, 제목에 등장한 게시글이 먼저 조회되어야 한다
+        assertEquals(2, result.total());
+        assertEquals(List.of(springTitle, springContent), result.hits().stream().map(SearchIndex.Hit::postId).toList());
+    }
+
+    @Test
+    @DisplayName("수정, 삭제된 게시글 반영")
+    void test3() {
+        // when: 게시글을 수정하고 삭제하면
+        index.put(SearchIndex.Document.of(other, "스프링 시큐리티", "인증 기초", "필터 체인을 다룹니다."));
+        index.remove(springContent);
+
+        // then: 수정된 내용으로 검색되고, 삭제된 게시글은 검색되지 않아야 한다
+        assertEquals(Set.of(springTitle, other), index.search("스프링", 0, 10).hits().stream().map(SearchIndex.Hit::postId).collect(Collectors.toSet()));
+        assertEquals(0, index.search("리액트", 0, 10).total());
+    }
+
+    @Test
+    @DisplayName("세그먼트와 저널로 색인 복구")
+    void test4(@TempDir Path directory) throws Exception {
+        // given: 세그먼트를 기록한 뒤 변경 사항을 저널에 기록했을 때
+        LocalDateTime indexedUntil = LocalDateTime.now();
+        try (SearchSegmentStore store = new SearchSegmentStore(directory)) {
+            store.compact(index, indexedUntil);
+            store.appendRemove(springContent);
+            store.appendPut(SearchIndex.Document.of(other, "스프링 시큐리티", "인증 기초", "필터 체인을 다룹니다."));
+        }
+
+        // when: 새 색인으로 복구하면
+        SearchIndex restored = new SearchIndex();
+        LocalDateTime restoredUntil;
+        try (SearchSegmentStore store = new SearchSegmentStore(directory)) {
+            restoredUntil = store.load(restored);
+        }
+
+        // then: 저널의 변경 사항까지 반영되어야 한다
+        assertEquals(indexedUntil, restoredUntil);
+        assertEquals(2, restored.size());
+        assertEquals(Set.of(springTitle, other), restored.search("스프링", 0, 10).hits().stream().map(SearchIndex.Hit::postId).collect(Collectors.toSet()));
+    }
+}
@@ -0,0 +1,124 @@
+package keapoint.onlog.post.service;
+
+import keapoint.onlog.post.base.BaseException;
+import keapoint.onlog.post.config.TestSecurityConfig;
+import keapoint.onlog.post.dto.auth.PostLoginRes;
+import keapoint.onlog.post.dto.auth.SocialAccountUserInfo;
+import keapoint.onlog.post.repository.BlogRepository;
+import keapoint.onlog.post.repository.MemberRepository;
+import keapoint.onlog.post.social.SocialAccountProvider;
+import keapoint.onlog.post.social.StubSocialAccountProvider;
+import keapoint.onlog.post.utils.JwtTokenProvider;
+import keapoint.onlog.post.utils.UuidBytes;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@Import(TestSecurityConfig.class)
+@ActiveProfiles("test")
+class AuthServiceIntegrationTest {
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private SocialAccountProvider socialAccountProvider;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private BlogRepository blogRepository;
+
+    @Autowired
+    private TokenRevocationService tokenRevocationService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void removeData() {
+        blogRepository.deleteAll();
+        memberRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("테스트에서는 외부 호출 없이 인가 코드로 사용자를 만드는 제공자를 사용")
+    void test1() {
+        // when: 인가 코드로 사용자 정보를 조회하면
+        SocialAccountUserInfo data = socialAccountProvider.getUserInfo("hani").block(Duration.ofSeconds(1));
+
+        // then: 카카오 대신 테스트용 제공자가 같은 인가 코드에 항상 같은 사용자를 돌려주어야 한다
+        assertInstanceOf(StubSocialAccountProvider.class, socialAccountProvider);
+        assertEquals("hani@stub.onlog.local", data.getUserEmail());
+    }
+
+    @Test
+    @DisplayName("소셜 로그인 시 처음에는 가입하고, 이후에는 같은 사용자로 토큰을 발급")
+    void test2() throws BaseException {
+        // given: 소셜 계정 제공자가 확인한 사용자가 주어졌을 때
+        SocialAccountUserInfo data = socialAccountProvider.getUserInfo("wooseok").block(Duration.ofSeconds(1));
+
+        // when: 두 번 로그인하면
+        PostLoginRes first = authService.loginWithSocialAccount(data, socialAccountProvider.getAccountType());
+        PostLoginRes second = authService.loginWithSocialAccount(data, socialAccountProvider.getAccountType());
+
+        // then: 사용자와 블로그는 한 번만 만들어지고, 발급된 access token으로 사용자 식별자를 확인할 수 있어야 한다
+        assertEquals(first.getMemberIdx(), second.getMemberIdx());
+        assertEquals(1, memberRepository.count());
+        assertTrue(blogRepository.findById(first.getMemberIdx()).isPresent());
+        assertEquals(first.getMemberIdx(), jwtTokenProvider.verify(second.getTokenInfo().getAccessToken()).orElseThrow().getMemberIdx());
+        assertEquals(second.getTokenInfo().getRefreshToken(), memberRepository.findById(first.getMemberIdx()).orElseThrow().getRefreshToken());
+    }
+
+    @Test
+    @DisplayName("로그아웃한 access token은 더 이상 검증을 통과하지 못한다")
+    void test3() throws BaseException {
+        // given: 로그인하여 검증까지 마친(캐시된) access token이 주어졌을 때
+        SocialAccountUserInfo data = socialAccountProvider.getUserInfo("jiwoo").block(Duration.ofSeconds(1));
+        PostLoginRes login = authService.loginWithSocialAccount(data, socialAccountProvider.getAccountType());
+        String accessToken = login.getTokenInfo().getAccessToken();
+        assertTrue(jwtTokenProvider.verify(accessToken).isPresent());
+
+        // when: 로그아웃하면
+        authService.logout(accessToken);
+
+        // then: 같은 토큰은 거부되고, 같은 사용자가 다시 로그인해 받은 토큰은 통과해야 한다
+        assertTrue(jwtTokenProvider.verify(accessToken).isEmpty());
+        PostLoginRes again = authService.loginWithSocialAccount(data, socialAccountProvider.getAccountType());
+        assertTrue(jwtTokenProvider.verify(again.getTokenInfo().getAccessToken()).isPresent());
+    }
+
+    @Test
+    @DisplayName("다른 서버에서 폐기한 access token은 동기화 후 거부")
+    void test4() throws BaseException {
+        // given: 검증을 마친 access token이 주어졌을 때
+        SocialAccountUserInfo data = socialAccountProvider.getUserInfo("minji").block(Duration.ofSeconds(1));
+        String accessToken = authService.loginWithSocialAccount(data, socialAccountProvider.getAccountType())
+                .getTokenInfo().getAccessToken();
+        UUID jti = jwtTokenProvider.verify(accessToken).orElseThrow().getTokenId();
+
+        // when: 다른 서버가 이 토큰을 폐기 테이블에 기록하면
+        jdbcTemplate.update("INSERT INTO revoked_token (jti, expires_at, revoked_at) VALUES (?, ?, NOW(6))",
+                UuidBytes.toBytes(jti), new Timestamp(System.currentTimeMillis() + 60_000));
+
+        // then: 동기화 후에는 이 서버에서도 거부되어야 한다
+        tokenRevocationService.sync();
+        assertTrue(jwtTokenProvider.verify(accessToken).isEmpty());
+    }
+}
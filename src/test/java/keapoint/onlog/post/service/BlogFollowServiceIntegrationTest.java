@@ -0,0 +1,224 @@
+package keapoint.onlog.post.service;
+
+import keapoint.onlog.post.base.BaseErrorCode;
+import keapoint.onlog.post.base.BaseException;
+import keapoint.onlog.post.config.TestBlogFixture;
+import keapoint.onlog.post.config.TestSecurityConfig;
+import keapoint.onlog.post.dto.CursorSliceDto;
+import keapoint.onlog.post.dto.blog.BlogDto;
+import keapoint.onlog.post.repository.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@Import({TestSecurityConfig.class, TestBlogFixture.class})
+@ActiveProfiles("test")
+class BlogFollowServiceIntegrationTest {
+
+    @Autowired
+    private BlogService blogService;
+
+    @Autowired
+    private TestBlogFixture blogFixture;
+
+    @Autowired
+    private BlogFollowService blogFollowService;
+
+    @Autowired
+    private BlogRepository blogRepository;
+
+    @Autowired
+    private BlogStatsRepository blogStatsRepository;
+
+    @Autowired
+    private FollowRepository followRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private UserPostLikeRepository userPostLikeRepository;
+
+    private final UUID haniBlogId = UUID.randomUUID();
+    private final UUID wooseokBlogId = UUID.randomUUID();
+    private final UUID heeminBlogId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        userPostLikeRepository.deleteAll();
+        commentRepository.deleteAll();
+        followRepository.deleteAll();
+        categoryRepository.deleteAll();
+        postRepository.deleteAll();
+        blogRepository.deleteAll();
+        blogStatsRepository.deleteAll();
+
+        blogFixture.createBlog(haniBlogId, "hanitech");
+        blogFixture.createBlog(wooseokBlogId, "wooseoktech");
+        blogFixture.createBlog(heeminBlogId, "heemintech");
+    }
+
+    @Test
+    @DisplayName("팔로우 후 팔로워, 팔로잉 수 조회")
+    void test1() throws BaseException {
+        // given: hani가 wooseok, heemin을 팔로우 하고, wooseok이 hani를 팔로우 하면
+        blogFollowService.toggleFollow(haniBlogId, wooseokBlogId, true);
+        blogFollowService.toggleFollow(haniBlogId, heeminBlogId, true);
+        blogFollowService.toggleFollow(wooseokBlogId, haniBlogId, true);
+
+        // then: 방향별로 수가 맞아야 한다
+        assertEquals(1, blogFollowService.getFollowCount(haniBlogId).getFollowerCount());
+        assertEquals(2, blogFollowService.getFollowCount(haniBlogId).getFollowingCount());
+        assertEquals(1, blogFollowService.getFollowCount(heeminBlogId).getFollowerCount());
+        assertEquals(1, blogService.getProfile(haniBlogId).getSubscriberCount());
+
+        // when: hani가 heemin을 언팔로우 하면
+        blogFollowService.toggleFollow(haniBlogId, heeminBlogId, false);
+
+        // then: 캐시된 그래프에도 바로 반영되어야 한다
+        assertEquals(1, blogFollowService.getFollowCount(haniBlogId).getFollowingCount());
+        assertEquals(0, blogFollowService.getFollowCount(heeminBlogId).getFollowerCount());
+    }
+
+    @Test
+    @DisplayName("팔로우 목록 커서 기반 조회")
+    void test2() throws BaseException {
+        // given: hani가 두 블로그를 팔로우 하고
+        blogFollowService.toggleFollow(haniBlogId, wooseokBlogId, true);
+        blogFollowService.toggleFollow(haniBlogId, heeminBlogId, true);
+
+        // when: 한 개씩 끝까지 조회하면
+        List<UUID> following = new ArrayList<>();
+        String cursor = null;
+        do {
+            CursorSliceDto<BlogDto> slice = blogFollowService.getFollowList(haniBlogId, FollowGraph.Direction.FOLLOWING, cursor, 1);
+            slice.getContent().forEach(blog -> following.add(blog.getBlogId()));
+            cursor = slice.getNextCursor();
+        } while (cursor != null);
+
+        // then: 중복이나 누락 없이 모두 조회되어야 한다
+        assertEquals(2, following.size());
+        assertTrue(following.containsAll(List.of(wooseokBlogId, heeminBlogId)));
+
+        // then: 팔로워 방향으로도 조회되어야 한다
+        List<BlogDto> followers = blogFollowService.getFollowList(wooseokBlogId, FollowGraph.Direction.FOLLOWER, null, 20).getContent();
+        assertEquals(List.of(haniBlogId), followers.stream().map(BlogDto::getBlogId).toList());
+    }
+
+    @Test
+    @DisplayName("여러 블로그 팔로우 여부 조회")
+    void test3() throws BaseException {
+        // given: hani가 wooseok만 팔로우 할 때
+        blogFollowService.toggleFollow(haniBlogId, wooseokBlogId, true);
+
+        // when: 두 블로그의 팔로우 여부를 조회하면
+        Map<UUID, Boolean> status = blogFollowService.getFollowingStatus(haniBlogId, List.of(wooseokBlogId, heeminBlogId));
+
+        // then: 팔로우 하는 블로그만 true여야 한다
+        assertTrue(status.get(wooseokBlogId));
+        assertFalse(status.get(heeminBlogId));
+    }
+
+    @Test
+    @DisplayName("잘못된 커서로 팔로우 목록 조회")
+    void test4() {
+        // when: 블로그 식별자가 아닌 커서로 조회하면
+        BaseException thrownException = assertThrows(BaseException.class,
+                () -> blogFollowService.getFollowList(haniBlogId, FollowGraph.Direction.FOLLOWING, "not-a-cursor", 20));
+
+        // then: 유효하지 않은 커서 예외가 발생해야 한다
+        assertEquals(BaseErrorCode.INVALID_CURSOR_EXCEPTION, thrownException.getErrorCode());
+    }
+
+    @Test
+    @DisplayName("처음 팔로우 하는 블로그를 동시에 팔로우 해도 팔로우 수는 한 번만 늘어난다")
+    void test5() throws Exception {
+        // when: 팔로우 한 기록이 없는 hani가 여러 스레드에서 동시에 wooseok을 팔로우 하면
+        List<BaseErrorCode> results = followConcurrently(haniBlogId, wooseokBlogId, 8);
+
+        // then: 한 요청만 성공하고, 나머지는 교착 상태 없이 이미 팔로우 중이라는 예외로 실패해야 한다
+        assertEquals(1, results.stream().filter(Objects::isNull).count());
+        assertTrue(results.stream()
+                .filter(Objects::nonNull)
+                .allMatch(BaseErrorCode.EXPECTED_FOLLOWING_STATE_EXCEPTION::equals));
+
+        // then: 팔로우 정보는 하나, 팔로우 수는 1이어야 한다
+        assertEquals(1, followRepository.count());
+        assertEquals(1, blogFollowService.getFollowCount(haniBlogId).getFollowingCount());
+        assertEquals(1, blogFollowService.getFollowCount(wooseokBlogId).getFollowerCount());
+    }
+
+    @Test
+    @DisplayName("언팔로우 한 블로그를 동시에 다시 팔로우 해도 팔로우 수는 한 번만 늘어난다")
+    void test6() throws Exception {
+        // given: hani가 wooseok을 팔로우 했다가 언팔로우 하고
+        blogFollowService.toggleFollow(haniBlogId, wooseokBlogId, true);
+        blogFollowService.toggleFollow(haniBlogId, wooseokBlogId, false);
+
+        // when: 여러 스레드에서 동시에 다시 팔로우 하면
+        List<BaseErrorCode> results = followConcurrently(haniBlogId, wooseokBlogId, 8);
+
+        // then: 한 요청만 성공하고, 나머지는 이미 팔로우 중이라는 예외로 실패해야 한다
+        assertEquals(1, results.stream().filter(Objects::isNull).count());
+        assertTrue(results.stream()
+                .filter(Objects::nonNull)
+                .allMatch(BaseErrorCode.EXPECTED_FOLLOWING_STATE_EXCEPTION::equals));
+
+        // then: 팔로우 정보는 그대로 하나, 팔로우 수는 1이어야 한다
+        assertEquals(1, followRepository.count());
+        assertEquals(1, blogFollowService.getFollowCount(haniBlogId).getFollowingCount());
+        assertEquals(1, blogFollowService.getFollowCount(wooseokBlogId).getFollowerCount());
+    }
+
+    /**
+     * 여러 스레드에서 동시에 팔로우 한다.
+     *
+     * @return 요청마다 실패한 예외 코드 (성공했다면 null)
+     */
+    private List<BaseErrorCode> followConcurrently(UUID blogId, UUID targetBlogId, int count) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(count);
+        try {
+            List<Future<BaseErrorCode>> futures = new ArrayList<>();
+            for (int i = 0; i < count; i++) {
+                futures.add(executor.submit(() -> {
+                    try {
+                        blogFollowService.toggleFollow(blogId, targetBlogId, true);
+                        return null;
+                    } catch (BaseException e) {
+                        return e.getErrorCode();
+                    }
+                }));
+            }
+
+            List<BaseErrorCode> results = new ArrayList<>();
+            for (Future<BaseErrorCode> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package keapoint.onlog.post.service;
+
+import keapoint.onlog.post.config.TestBlogFixture;
+import keapoint.onlog.post.config.TestSecurityConfig;
+import keapoint.onlog.post.dto.blog.BlogProfileDto;
+import keapoint.onlog.post.dto.category.PostCreateCategoryReqDto;
+import keapoint.onlog.post.dto.comment.PostCreateCommentReqDto;
+import keapoint.onlog.post.dto.post.DeletePostReqDto;
+import keapoint.onlog.post.dto.post.PostWritePostReqDto;
+import keapoint.onlog.post.entity.BlogStats;
+import keapoint.onlog.post.repository.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 블로그 통계 테스트
+ * <p>
+ * 게시글, 좋아요, 댓글, 팔로우 변경이 블로그 통계에 반영되고, 어긋난 통계가 원본 테이블에서 다시 계산되는지 확인한다.
+ */
+@SpringBootTest
+@Import({TestSecurityConfig.class, TestBlogFixture.class})
+@ActiveProfiles("test")
+class BlogStatsServiceIntegrationTest {
+
+    @Autowired
+    private BlogService blogService;
+
+    @Autowired
+    private TestBlogFixture blogFixture;
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private PostLikeService postLikeService;
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private BlogFollowService blogFollowService;
+
+    @Autowired
+    private LikeCounterService likeCounterService;
+
+    @Autowired
+    private BlogStatsService blogStatsService;
+
+    @Autowired
+    private BlogStatsRepository blogStatsRepository;
+
+    @Autowired
+    private BlogRepository blogRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private FollowRepository followRepository;
+
+    @Autowired
+    private UserPostLikeRepository userPostLikeRepository;
+
+    @Autowired
+    private LikeCounterShardRepository likeCounterShardRepository;
+
+    private final UUID haniBlogId = UUID.fromString("48f99c85-ed6b-46c2-8f47-66f9f67040bc");
+    private final UUID wooseokBlogId = UUID.fromString("a8c4b2e1-1f0b-4f2a-9d6e-2b7c3d4e5f60");
+
+    private Long categoryId;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        userPostLikeRepository.deleteAll();
+        likeCounterShardRepository.deleteAll();
+        commentRepository.deleteAll();
+        followRepository.deleteAll();
+        categoryRepository.deleteAll();
+        postRepository.deleteAll();
+        blogRepository.deleteAll();
+        blogStatsRepository.deleteAll();
+
+        blogFixture.createBlog(haniBlogId, "hanitech");
+        blogFixture.createBlog(wooseokBlogId, "wooseoktech");
+        categoryId = categoryService.createCategory(haniBlogId, new PostCreateCategoryReqDto("test")).getId();
+    }
+
+    @Test
+    @DisplayName("게시글, 좋아요, 댓글, 팔로우가 프로필에 반영")
+    void test1() throws Exception {
+        // given: 공개 게시글과 비공개 게시글을 작성하고
+        UUID publicPostId = writePost("공개 게시글", true);
+        UUID privatePostId = writePost("비공개 게시글", false);
+
+        // when: 다른 블로그가 좋아요, 댓글, 팔로우를 하면
+        postLikeService.like(wooseokBlogId, publicPostId);
+        likeCounterService.fold();
+        commentService.createComment(wooseokBlogId, new PostCreateCommentReqDto(publicPostId, "좋은 글이네요", null));
+        commentService.createComment(wooseokBlogId, new PostCreateCommentReqDto(privatePostId, "비공개 글", null));
+        blogFollowService.toggleFollow(wooseokBlogId, haniBlogId, true);
+
+        // then: 프로필에 모든 개수가 반영되어야 한다
+        BlogProfileDto profile = blogService.getProfile(haniBlogId);
+        assertEquals(2, profile.getPostCount());
+        assertEquals(1, profile.getPublicPostCount());
+        assertEquals(1, profile.getLikeCount());
+        assertEquals(2, profile.getCommentCount());
+        assertEquals(1, profile.getSubscriberCount());
+        assertEquals(0, profile.getFollowingCount());
+        assertEquals(1, blogService.getProfile(wooseokBlogId).getFollowingCount());
+
+        // when: 게시글을 삭제하면
+        postService.deletePost(haniBlogId, new DeletePostReqDto(publicPostId));
+
+        // then: 삭제된 게시글의 좋아요와 댓글도 함께 빠져야 한다
+        profile = blogService.getProfile(haniBlogId);
+        assertEquals(1, profile.getPostCount());
+        assertEquals(0, profile.getPublicPostCount());
+        assertEquals(0, profile.getLikeCount());
+        assertEquals(1, profile.getCommentCount());
+    }
+
+    @Test
+    @DisplayName("어긋난 통계를 원본 테이블에서 다시 계산")
+    void test2() throws Exception {
+        // given: 게시글과 팔로우가 있는 상태에서 통계가 어긋나고
+        writePost("공개 게시글", true);
+        blogFollowService.toggleFollow(wooseokBlogId, haniBlogId, true);
+        blogStatsService.increment(haniBlogId, BlogStats.Counter.POST, 10);
+        blogStatsService.increment(haniBlogId, BlogStats.Counter.FOLLOWER, -5);
+
+        // when: 통계를 다시 계산하면
+        blogStatsService.reconcile();
+
+        // then: 원본 테이블과 같은 값이어야 한다
+        BlogProfileDto profile = blogService.getProfile(haniBlogId);
+        assertEquals(1, profile.getPostCount());
+        assertEquals(1, profile.getSubscriberCount());
+    }
+
+    @Test
+    @DisplayName("통계가 없는 블로그의 프로필 조회")
+    void test3() throws Exception {
+        // given: 게시글을 작성한 뒤 통계 행이 없어지면
+        writePost("공개 게시글", true);
+        blogStatsRepository.deleteAll();
+
+        // when: 프로필을 조회하면
+        BlogProfileDto profile = blogService.getProfile(haniBlogId);
+
+        // then: 원본 테이블에서 계산된 통계가 보여야 한다
+        assertEquals(1, profile.getPostCount());
+        assertEquals(List.of(haniBlogId), blogStatsRepository.findAllById(List.of(haniBlogId)).stream()
+                .map(BlogStats::getBlogId)
+                .toList());
+    }
+
+    private UUID writePost(String title, boolean isPublic) throws Exception {
+        return postService.writePost(haniBlogId, PostWritePostReqDto.builder()
+                .title(title)
+                .content("블로그 통계 테스트용 게시글입니다.")
+                .summary("테스트")
+                .thumbnailLink("")
+                .isPublic(isPublic)
+                .categoryId(categoryId)
+                .hashtagList(List.of("테스트"))
+                .topicId(1L)
+                .build()).getPostId();
+    }
+}
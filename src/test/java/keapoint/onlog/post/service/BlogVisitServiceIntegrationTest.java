@@ -0,0 +1,102 @@
+package keapoint.onlog.post.service;
+
+import keapoint.onlog.post.base.BaseErrorCode;
+import keapoint.onlog.post.base.BaseException;
+import keapoint.onlog.post.config.TestSecurityConfig;
+import keapoint.onlog.post.dto.blog.BlogDailyVisitDto;
+import keapoint.onlog.post.dto.blog.BlogVisitStatsDto;
+import keapoint.onlog.post.repository.BlogHitsRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@Import(TestSecurityConfig.class)
+@ActiveProfiles("test")
+class BlogVisitServiceIntegrationTest {
+
+    @Autowired
+    private BlogVisitService blogVisitService;
+
+    @Autowired
+    private BlogHitsRepository blogHitsRepository;
+
+    private final UUID haniBlogId = UUID.randomUUID();
+    private final UUID wooseokBlogId = UUID.randomUUID();
+    private final UUID heeminBlogId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        blogVisitService.flush();
+        blogHitsRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("방문 기록 후 일별 통계 조회")
+    void test1() throws BaseException {
+        // given: 두 방문자가 hani의 블로그를 세 번 조회하고, hani가 자신의 블로그를 조회하면
+        blogVisitService.recordView(haniBlogId, wooseokBlogId);
+        blogVisitService.recordView(haniBlogId, wooseokBlogId);
+        blogVisitService.recordView(haniBlogId, heeminBlogId);
+        blogVisitService.recordView(haniBlogId, haniBlogId);
+
+        // when: 모은 통계를 기록하면
+        blogVisitService.flush();
+
+        // then: 블로그 주인의 조회를 제외한 조회 수와 고유 방문자 수가 기록되어야 한다
+        LocalDate today = LocalDate.now();
+        BlogVisitStatsDto stats = blogVisitService.getVisitStats(haniBlogId, today.minusDays(6), today);
+        assertEquals(3, stats.getViewCount());
+        assertEquals(2, stats.getVisitorCount());
+
+        // then: 방문이 없던 날짜도 0으로 포함되어야 한다
+        assertEquals(7, stats.getDaily().size());
+        BlogDailyVisitDto last = stats.getDaily().get(6);
+        assertEquals(today, last.getDate());
+        assertEquals(3, last.getViewCount());
+        assertEquals(0, stats.getDaily().get(0).getViewCount());
+    }
+
+    @Test
+    @DisplayName("여러 번 기록해도 같은 방문자는 한 번만 세기")
+    void test2() throws BaseException {
+        // given: 같은 방문자가 기록 주기를 넘어 다시 방문하면
+        blogVisitService.recordView(haniBlogId, wooseokBlogId);
+        blogVisitService.flush();
+        blogVisitService.recordView(haniBlogId, wooseokBlogId);
+        blogVisitService.recordView(haniBlogId, null); // 로그인하지 않은 방문자
+        blogVisitService.flush();
+
+        // then: 조회 수는 더해지고, 고유 방문자는 저장된 스케치와 합쳐서 한 번만 세어야 한다
+        LocalDate today = LocalDate.now();
+        BlogVisitStatsDto stats = blogVisitService.getVisitStats(haniBlogId, today, today);
+        assertEquals(3, stats.getViewCount());
+        assertEquals(1, stats.getVisitorCount());
+        assertEquals(1, blogHitsRepository.count());
+    }
+
+    @Test
+    @DisplayName("잘못된 기간으로 통계 조회")
+    void test3() {
+        LocalDate today = LocalDate.now();
+
+        // when: 시작 날짜가 끝 날짜보다 늦거나, 기간이 너무 길면
+        BaseException reversed = assertThrows(BaseException.class,
+                () -> blogVisitService.getVisitStats(haniBlogId, today, today.minusDays(1)));
+        BaseException tooLong = assertThrows(BaseException.class,
+                () -> blogVisitService.getVisitStats(haniBlogId, today.minusYears(2), today));
+
+        // then: 유효하지 않은 기간 예외가 발생해야 한다
+        assertEquals(BaseErrorCode.INVALID_DATE_RANGE_EXCEPTION, reversed.getErrorCode());
+        assertEquals(BaseErrorCode.INVALID_DATE_RANGE_EXCEPTION, tooLong.getErrorCode());
+    }
+}
@@ -67,4 +67,31 @@ class CategoryServiceIntegrationTest {
         assertEquals (List.of(), categoryService.getCategories(blogId));
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("카테고리 목록 버전")
+    void test2() throws BaseException {
+        // given: 카테고리가 하나 있는 블로그의 목록을 조회한 뒤
+        UUID blogId = UUID.fromString("5a0f7c2e-3b8d-4e61-9c47-2d8e1f6a0b93");
+        PostCreateBlogReqDto postCreateBlogReqDto = PostCreateBlogReqDto.builder()
+                .blogId(blogId)
+                .blogName("Version Test Blog")
+                .blogNickname("versiontest")
+                .blogIntro("카테고리 목록 버전 테스트용 블로그입니다.")
+                .blogProfileImg("http://k.kakaocdn.net/dn/dpk9l1/btqmGhA2lKL/Oz0wDuJn1YV2DIn92f6DVK/img_640x640.jpg")
+                .build();
+        blogService.createBlog(postCreateBlogReqDto);
+        categoryService.createCategory(blogId, new PostCreateCategoryReqDto("First"));
+
+        String before = categoryService.getVersionedCategories(blogId).etag();
+
+        // when: 다시 조회하면 같은 버전이고, 카테고리를 추가하면
+        assertEquals(before, categoryService.getVersionedCategories(blogId).etag());
+        categoryService.createCategory(blogId, new PostCreateCategoryReqDto("Second"));
+
+        // then: 새 카테고리가 포함된 목록과 새 버전이 조회되어야 한다
+        List<CategoryDto> categories = categoryService.getCategories(blogId);
+        assertEquals(List.of("First", "Second"), categories.stream().map(CategoryDto::getName).toList());
+        assertNotEquals(before, categoryService.getVersionedCategories(blogId).etag());
+    }
+
+}
@@ -3,6 +3,7 @@ package keapoint.onlog.post.service;
 import keapoint.onlog.post.base.BaseErrorCode;
 import keapoint.onlog.post.base.BaseException;
 import keapoint.onlog.post.config.TestSecurityConfig;
+import keapoint.onlog.post.dto.CursorSliceDto;
 import keapoint.onlog.post.dto.blog.PostCreateBlogReqDto;
 import keapoint.onlog.post.dto.category.CategoryDto;
 import keapoint.onlog.post.dto.category.PostCreateCategoryReqDto;
@@ -10,7 +11,11 @@ import keapoint.onlog.post.dto.comment.*;
 import keapoint.onlog.post.dto.post.PostSummaryDto;
 import keapoint.onlog.post.dto.post.PostWithRelatedPostsDto;
 import keapoint.onlog.post.dto.post.PostWritePostReqDto;
+import keapoint.onlog.post.entity.Blog;
+import keapoint.onlog.post.entity.Comment;
+import keapoint.onlog.post.entity.Post;
 import keapoint.onlog.post.repository.*;
+import keapoint.onlog.post.utils.CommentPath;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -21,8 +26,14 @@ import org.springframework.test.annotation.Rollback;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.UUID;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.LongStream;
 
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -298,7 +309,7 @@ class CommentServiceIntegrationTest {
         UUID commentId = commentDto.getCommentId();
 
         // 댓글 좋아요
-        commentLikeService.toggleLike(wooseokBlogId, commentId);
+        commentLikeService.like(wooseokBlogId, commentId);
 
         // when: 댓글을 삭제하면
         DeleteCommentReqDto deleteReqDto = new DeleteCommentReqDto(commentId);
@@ -320,5 +331,267 @@ class CommentServiceIntegrationTest {
         }
     }
 
+    @Test
+    @Transactional // @Transactional을 사용하여 Hibernate 세션이 메소드 호출 동안 열려 있도록 설정
+    @DisplayName("댓글 페이지 조회 및 답글 펼치기")
+    void test5() throws BaseException {
+        // given: 최상위 댓글 3개와 첫 번째 댓글의 답글 1개가 주어졌을 때
+        UUID blogId = UUID.fromString("48f99c85-ed6b-46c2-8f47-66f9f67040bc");
+        blogService.createBlog(PostCreateBlogReqDto.builder()
+                .blogId(blogId)
+                .blogName("Hani Tech World")
+                .blogNickname("hanitech")
+                .blogIntro("Hani Tech World는 최신 기술 정보와 실용적인 IT 팁을 제공하는 블로그입니다.")
+                .build());
+        Long categoryId = categoryService.createCategory(blogId, new PostCreateCategoryReqDto("TestCategory")).getId();
+
+        UUID postId = postService.writePost(blogId, PostWritePostReqDto.builder()
+                .title("테스트 제목")
+                .content("이것은 테스트 게시글입니다.")
+                .summary("테스트")
+                .thumbnailLink("https://cdn-lostark.game.onstove.com/uploadfiles/user/2021/04/01/637528990397262868.png")
+                .isPublic(true)
+                .categoryId(categoryId)
+                .hashtagList(List.of("테스트"))
+                .topicId(1L)
+                .build()).getPostId();
+
+        UUID firstCommentId = null;
+        for (int i = 0; i < 3; i++) {
+            UUID commentId = commentService.createComment(blogId, PostCreateCommentReqDto.builder()
+                    .postId(postId)
+                    .content("댓글 " + i)
+                    .parentCommentId(null)
+                    .build()).getCommentId();
+            if (i == 0) {
+                firstCommentId = commentId;
+            }
+        }
+        UUID replyId = commentService.createComment(blogId, PostCreateCommentReqDto.builder()
+                .postId(postId)
+                .content("답글")
+                .parentCommentId(firstCommentId)
+                .build()).getCommentId();
+
+        // when: 최상위 댓글을 2개씩 조회하면
+        CursorSliceDto<CommentDto> firstPage = commentService.getComments(blogId, postId, null, 2);
+        CursorSliceDto<CommentDto> secondPage = commentService.getComments(blogId, postId, firstPage.getNextCursor(), 2);
+        CursorSliceDto<CommentDto> replies = commentService.getReplies(blogId, firstCommentId, null, 20);
+
+        // then: 최상위 댓글만 순서대로 나뉘어 조회되고, 답글은 따로 조회되어야 한다
+        assertEquals(2, firstPage.getContent().size());
+        assertTrue(firstPage.isHasNext());
+        assertEquals(firstCommentId, firstPage.getContent().get(0).getCommentId());
+        assertEquals(1, secondPage.getContent().size());
+        assertFalse(secondPage.isHasNext());
+        assertEquals(List.of(replyId), replies.getContent().stream().map(CommentDto::getCommentId).toList());
+    }
+
+    @Test
+    @Transactional
+    @DisplayName("댓글 스레드를 표시 순서대로 펼쳐서 조회")
+    void test6() throws BaseException {
+        // given: 댓글 A에 답글 B, C가 차례로 달리고, B에 답글 D가 나중에 달렸을 때
+        UUID blogId = UUID.fromString("48f99c85-ed6b-46c2-8f47-66f9f67040bc");
+        UUID postId = createBlogAndPost(blogId);
+
+        UUID a = writeComment(blogId, postId, null, "A");
+        UUID b = writeComment(blogId, postId, a, "B");
+        UUID c = writeComment(blogId, postId, a, "C");
+        UUID d = writeComment(blogId, postId, b, "D");
+
+        // when: A의 스레드를 2개씩 조회하면
+        CursorSliceDto<CommentDto> firstPage = commentService.getThread(blogId, a, null, 2);
+        CursorSliceDto<CommentDto> secondPage = commentService.getThread(blogId, a, firstPage.getNextCursor(), 2);
+
+        // then: 답글은 부모 바로 아래에 오도록 B, D, C 순서로 조회되고, 바로 아래 답글 조회는 작성 순서를 유지해야 한다
+        assertEquals(List.of(b, d), firstPage.getContent().stream().map(CommentDto::getCommentId).toList());
+        assertTrue(firstPage.isHasNext());
+        assertEquals(List.of(c), secondPage.getContent().stream().map(CommentDto::getCommentId).toList());
+        assertFalse(secondPage.isHasNext());
+        assertEquals(List.of(b, c), commentService.getReplies(blogId, a, null, 20).getContent().stream().map(CommentDto::getCommentId).toList());
+        assertThrows(BaseException.class, () -> commentService.getThread(blogId, b, firstPage.getNextCursor() + "zz", 2));
+    }
+
+    @Test
+    @Transactional
+    @DisplayName("경로가 없는 기존 댓글에 답글을 작성하면 게시글 댓글 경로를 먼저 이전")
+    void test7() throws BaseException {
+        // given: 그룹 순서로만 정렬되던 기존 댓글 (루트 → Y → Z(Y의 답글) → X) 이 주어졌을 때
+        UUID blogId = UUID.fromString("48f99c85-ed6b-46c2-8f47-66f9f67040bc");
+        UUID postId = createBlogAndPost(blogId);
+        Post post = postRepository.findById(postId).orElseThrow();
+        Blog writer = blogRepository.findById(blogId).orElseThrow();
+
+        Comment root = commentRepository.save(legacyComment(post, writer, 1L, 1L, null, 2L));
+        Comment y = commentRepository.save(legacyComment(post, writer, 2L, 2L, root.getCommentId(), 1L));
+        Comment z = commentRepository.save(legacyComment(post, writer, 3L, 3L, y.getCommentId(), 0L));
+        Comment x = commentRepository.save(legacyComment(post, writer, 4L, 2L, root.getCommentId(), 0L));
+
+        // when: 루트에 새 답글을 작성하면
+        UUID added = writeComment(blogId, postId, root.getCommentId(), "새 답글");
+
+        // then: 기존 표시 순서를 유지한 경로가 지정되고, 새 답글은 마지막 형제가 되어야 한다
+        assertEquals(CommentPath.root(1L), root.getPath());
+        assertEquals(CommentPath.child(root.getPath(), 1L), y.getPath());
+        assertEquals(CommentPath.child(y.getPath(), 1L), z.getPath());
+        assertEquals(2L, x.getRefOrder());
+        assertEquals(3L, root.getAnswerNum());
+        assertEquals(List.of(y.getCommentId(), z.getCommentId(), x.getCommentId(), added),
+                commentService.getThread(blogId, root.getCommentId(), null, 20).getContent().stream().map(CommentDto::getCommentId).toList());
+    }
+
+    @Test
+    @DisplayName("동시에 작성된 최상위 댓글은 서로 다른 그룹을 받는다")
+    void test8() throws Exception {
+        // given: 게시글이 주어졌을 때
+        UUID blogId = UUID.fromString("48f99c85-ed6b-46c2-8f47-66f9f67040bc");
+        UUID postId = createBlogAndPost(blogId);
+
+        // when: 여러 스레드에서 동시에 최상위 댓글을 작성하면
+        int count = 20;
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<UUID>> futures = new ArrayList<>();
+            for (int i = 0; i < count; i++) {
+                int index = i;
+                futures.add(executor.submit(() -> writeComment(blogId, postId, null, "동시 댓글 " + index)));
+            }
+            for (Future<UUID> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        // then: 그룹이 겹치지 않고 1부터 빠짐없이 발급되어야 한다
+        List<Long> refs = commentRepository.findAll().stream()
+                .filter(comment -> comment.getPost().getPostId().equals(postId))
+                .map(Comment::getRef)
+                .sorted()
+                .toList();
+        assertEquals(LongStream.rangeClosed(1, count).boxed().toList(), refs);
+    }
+
+    @Test
+    @Transactional
+    @DisplayName("답글이 남아 있는 삭제된 댓글은 내용 없이 자리를 지켜 답글을 펼칠 수 있다")
+    void test9() throws BaseException {
+        // given: 댓글 A에 답글 B가 달리고, 답글이 없는 댓글 C가 있을 때
+        UUID blogId = UUID.fromString("48f99c85-ed6b-46c2-8f47-66f9f67040bc");
+        UUID postId = createBlogAndPost(blogId);
+
+        UUID a = writeComment(blogId, postId, null, "A");
+        UUID b = writeComment(blogId, postId, a, "B");
+        UUID c = writeComment(blogId, postId, null, "C");
+
+        // when: A와 C를 삭제하면
+        commentService.deleteComment(blogId, new DeleteCommentReqDto(a));
+        commentService.deleteComment(blogId, new DeleteCommentReqDto(c));
+
+        // then: A는 내용과 작성자 없이 조회되고 C는 조회되지 않아야 한다
+        List<CommentDto> comments = commentService.getComments(blogId, postId, null, 20).getContent();
+        assertEquals(List.of(a), comments.stream().map(CommentDto::getCommentId).toList());
+        assertTrue(comments.get(0).getDeleted());
+        assertNull(comments.get(0).getContent());
+        assertNull(comments.get(0).getWriter());
+
+        // then: 삭제된 A의 답글은 계속 펼칠 수 있어야 한다
+        assertEquals(List.of(b), commentService.getReplies(blogId, a, null, 20).getContent().stream().map(CommentDto::getCommentId).toList());
+        assertEquals(List.of(b), commentService.getThread(blogId, a, null, 20).getContent().stream().map(CommentDto::getCommentId).toList());
+    }
+
+    @Test
+    @Transactional
+    @DisplayName("그룹 번호가 겹친 기존 최상위 댓글은 경로를 이전할 때 새 그룹을 받는다")
+    void test10() throws BaseException {
+        // given: 동시에 작성되어 같은 그룹(1)을 가진 기존 최상위 댓글 A, B와 각각의 답글이 주어졌을 때
+        UUID blogId = UUID.fromString("48f99c85-ed6b-46c2-8f47-66f9f67040bc");
+        UUID postId = createBlogAndPost(blogId);
+        Post post = postRepository.findById(postId).orElseThrow();
+        Blog writer = blogRepository.findById(blogId).orElseThrow();
+
+        Comment a = commentRepository.save(legacyComment(post, writer, 1L, 1L, null, 1L));
+        Comment b = commentRepository.save(legacyComment(post, writer, 1L, 1L, null, 1L));
+        Comment aReply = commentRepository.save(legacyComment(post, writer, 2L, 2L, a.getCommentId(), 0L));
+        Comment bReply = commentRepository.save(legacyComment(post, writer, 2L, 2L, b.getCommentId(), 0L));
+
+        // when: A에 답글을 작성하여 경로를 이전하고, 새 최상위 댓글을 작성하면
+        writeComment(blogId, postId, a.getCommentId(), "새 답글");
+        UUID added = writeComment(blogId, postId, null, "새 댓글");
+
+        // then: 두 최상위 댓글은 서로 다른 그룹과 경로를 가지고, 답글은 자기 최상위 댓글의 그룹과 경로를 따라야 한다
+        assertEquals(Set.of(1L, 2L), Set.of(a.getRef(), b.getRef()));
+        assertNotEquals(a.getPath(), b.getPath());
+        assertEquals(a.getRef(), aReply.getRef());
+        assertEquals(b.getRef(), bReply.getRef());
+        assertEquals(CommentPath.child(a.getPath(), 1L), aReply.getPath());
+        assertEquals(CommentPath.child(b.getPath(), 1L), bReply.getPath());
+
+        // then: 새 최상위 댓글은 다시 정한 그룹 다음 번호를 받아야 한다
+        assertEquals(3L, commentRepository.findById(added).orElseThrow().getRef());
+        assertEquals(3, commentService.getComments(blogId, postId, null, 20).getContent().size());
+    }
+
+    @Test
+    @DisplayName("새 게시글의 첫 최상위 댓글은 카운터를 만들며 그룹 1을 받는다")
+    void test11() throws BaseException {
+        // given: 댓글이 없는 새 게시글이 주어졌을 때
+        UUID blogId = UUID.fromString("48f99c85-ed6b-46c2-8f47-66f9f67040bc");
+        UUID postId = createBlogAndPost(blogId);
+
+        // when: 각자의 트랜잭션에서 최상위 댓글 두 개를 작성하면
+        UUID first = writeComment(blogId, postId, null, "첫 댓글");
+        UUID second = writeComment(blogId, postId, null, "두 번째 댓글");
+
+        // then: 잠금을 기다리지 않고 작성되어 차례로 그룹 1, 2를 받아야 한다
+        assertEquals(1L, commentRepository.findById(first).orElseThrow().getRef());
+        assertEquals(2L, commentRepository.findById(second).orElseThrow().getRef());
+    }
+
+    private UUID createBlogAndPost(UUID blogId) throws BaseException {
+        blogService.createBlog(PostCreateBlogReqDto.builder()
+                .blogId(blogId)
+                .blogName("Hani Tech World")
+                .blogNickname("hanitech")
+                .blogIntro("Hani Tech World는 최신 기술 정보와 실용적인 IT 팁을 제공하는 블로그입니다.")
+                .build());
+        Long categoryId = categoryService.createCategory(blogId, new PostCreateCategoryReqDto("TestCategory")).getId();
+
+        return postService.writePost(blogId, PostWritePostReqDto.builder()
+                .title("테스트 제목")
+                .content("이것은 테스트 게시글입니다.")
+                .summary("테스트")
+                .thumbnailLink("https://cdn-lostark.game.onstove.com/uploadfiles/user/2021/04/01/637528990397262868.png")
+                .isPublic(true)
+                .categoryId(categoryId)
+                .hashtagList(List.of("테스트"))
+                .topicId(1L)
+                .build()).getPostId();
+    }
+
+    private UUID writeComment(UUID blogId, UUID postId, UUID parentCommentId, String content) throws BaseException {
+        return commentService.createComment(blogId, PostCreateCommentReqDto.builder()
+                .postId(postId)
+                .content(content)
+                .parentCommentId(parentCommentId)
+                .build()).getCommentId();
+    }
+
+    private static Comment legacyComment(Post post, Blog writer, long refOrder, long step, UUID parentNum, long answerNum) {
+        return Comment.builder()
+                .content("기존 댓글 " + refOrder)
+                .modified(false)
+                .ref(1L)
+                .refOrder(refOrder)
+                .step(step)
+                .parentNum(parentNum)
+                .answerNum(answerNum)
+                .path("")
+                .likesCount(0L)
+                .post(post)
+                .writer(writer)
+                .build();
+    }
 
 }
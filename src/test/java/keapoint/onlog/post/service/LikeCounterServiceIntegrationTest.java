@@ -0,0 +1,224 @@
+package keapoint.onlog.post.service;
+
+import keapoint.onlog.post.config.TestBlogFixture;
+import keapoint.onlog.post.config.TestSecurityConfig;
+import keapoint.onlog.post.dto.category.PostCreateCategoryReqDto;
+import keapoint.onlog.post.dto.post.PostWritePostReqDto;
+import keapoint.onlog.post.entity.LikeCounterShard;
+import keapoint.onlog.post.repository.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 좋아요 분산 카운터 동시성 테스트
+ * <p>
+ * 여러 스레드가 동시에 같은 게시글에 좋아요를 눌러도 좋아요 개수가 정확히 유지되는지 확인한다.
+ */
+@SpringBootTest
+@Import({TestSecurityConfig.class, TestBlogFixture.class})
+@ActiveProfiles("test")
+class LikeCounterServiceIntegrationTest {
+
+    private static final int THREADS = 32; // 동시에 좋아요를 누르는 스레드 수
+
+    @Autowired
+    private TestBlogFixture blogFixture;
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private PostLikeService postLikeService;
+
+    @Autowired
+    private LikeCounterService likeCounterService;
+
+    @Autowired
+    private BlogRepository blogRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private UserPostLikeRepository userPostLikeRepository;
+
+    @Autowired
+    private LikeCounterShardRepository likeCounterShardRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final UUID haniBlogId = UUID.fromString("48f99c85-ed6b-46c2-8f47-66f9f67040bc");
+
+    private UUID postId;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        userPostLikeRepository.deleteAll();
+        likeCounterShardRepository.deleteAll();
+        categoryRepository.deleteAll();
+        postRepository.deleteAll();
+        blogRepository.deleteAll();
+
+        blogFixture.createBlog(haniBlogId, "hanitech");
+        Long categoryId = categoryService.createCategory(haniBlogId, new PostCreateCategoryReqDto("test")).getId();
+
+        postId = postService.writePost(haniBlogId, PostWritePostReqDto.builder()
+                .title("인기 게시글")
+                .content("좋아요가 몰리는 게시글입니다.")
+                .summary("테스트")
+                .thumbnailLink("")
+                .isPublic(true)
+                .categoryId(categoryId)
+                .hashtagList(List.of("테스트"))
+                .topicId(1L)
+                .build()).getPostId();
+    }
+
+    @Test
+    @DisplayName("동시에 증가시킨 좋아요 개수")
+    void test1() throws Exception {
+        // given: 32개의 스레드가 각각 250번씩 좋아요 개수를 증가시키고
+        int perThread = 250;
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        // when: 모든 스레드가 끝난 뒤 조회하면
+        runConcurrently(THREADS, i -> {
+            for (int n = 0; n < perThread; n++) {
+                transactionTemplate.executeWithoutResult(status -> likeCounterService.increment(LikeCounterShard.TargetType.POST, postId, 1));
+            }
+        });
+
+        // then: 합치기 전과 후 모두 정확한 개수가 나와야 한다
+        long expected = (long) THREADS * perThread;
+        assertEquals(expected, likeCounterService.getCount(LikeCounterShard.TargetType.POST, postId));
+
+        likeCounterService.fold();
+        assertEquals(expected, postRepository.findById(postId).get().getLikesCount());
+        assertEquals(expected, likeCounterService.getCount(LikeCounterShard.TargetType.POST, postId));
+    }
+
+    @Test
+    @DisplayName("좋아요 증가 도중에 합치기")
+    void test2() throws Exception {
+        // given: 좋아요 개수를 증가시키는 동안 다른 스레드가 계속 합치고
+        int perThread = 100;
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        AtomicBoolean running = new AtomicBoolean(true);
+
+        ExecutorService folder = Executors.newSingleThreadExecutor();
+        Future<?> folding = folder.submit(() -> {
+            while (running.get()) {
+                likeCounterService.fold();
+            }
+        });
+
+        // when: 모든 스레드가 끝난 뒤 마지막으로 합치면
+        runConcurrently(THREADS, i -> {
+            for (int n = 0; n < perThread; n++) {
+                transactionTemplate.executeWithoutResult(status -> likeCounterService.increment(LikeCounterShard.TargetType.POST, postId, 1));
+            }
+        });
+        running.set(false);
+        folding.get();
+        folder.shutdown();
+        likeCounterService.fold();
+
+        // then: 증감량이 유실되거나 두 번 더해지지 않아야 한다
+        assertEquals((long) THREADS * perThread, postRepository.findById(postId).get().getLikesCount());
+    }
+
+    @Test
+    @DisplayName("여러 사용자가 동시에 누른 좋아요")
+    void test3() throws Exception {
+        // given: 64명의 사용자가
+        int users = 64;
+        List<UUID> blogIds = new ArrayList<>();
+        for (int i = 0; i < users; i++) {
+            UUID blogId = UUID.randomUUID();
+            blogFixture.createBlog(blogId, "user" + i);
+            blogIds.add(blogId);
+        }
+
+        // when: 동시에 같은 게시글에 좋아요를 누르고, 절반은 다시 취소하면
+        runConcurrently(users, i -> postLikeService.like(blogIds.get(i), postId));
+        runConcurrently(users / 2, i -> postLikeService.unlike(blogIds.get(i), postId));
+
+        // then: 좋아요 정보와 좋아요 개수가 일치해야 한다
+        long expected = users - users / 2;
+        assertEquals(expected, userPostLikeRepository.count());
+        assertEquals(expected, likeCounterService.getCount(LikeCounterShard.TargetType.POST, postId));
+    }
+
+    @Test
+    @DisplayName("같은 사용자가 동시에 여러 번 누른 좋아요")
+    void test4() throws Exception {
+        // given: 한 사용자가
+        UUID blogId = UUID.randomUUID();
+        blogFixture.createBlog(blogId, "doubletap");
+
+        // when: 같은 게시글에 동시에 여러 번 좋아요를 누르면
+        runConcurrently(THREADS, i -> postLikeService.like(blogId, postId));
+
+        // then: 좋아요 정보와 좋아요 개수는 하나여야 한다
+        assertEquals(1, userPostLikeRepository.count());
+        assertEquals(1, likeCounterService.getCount(LikeCounterShard.TargetType.POST, postId));
+
+        // when: 좋아요 취소를 여러 번 보내면
+        runConcurrently(THREADS, i -> postLikeService.unlike(blogId, postId));
+
+        // then: 좋아요 정보와 좋아요 개수는 0이어야 한다
+        assertEquals(0, userPostLikeRepository.count());
+        assertEquals(0, likeCounterService.getCount(LikeCounterShard.TargetType.POST, postId));
+    }
+
+    /**
+     * 작업을 여러 스레드에서 동시에 시작하고, 모두 끝날 때까지 기다린다.
+     */
+    private void runConcurrently(int threads, ThrowingTask task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int i = 0; i < threads; i++) {
+            int index = i;
+            futures.add(executor.submit(() -> {
+                start.await();
+                task.run(index);
+                return null;
+            }));
+        }
+
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+    }
+
+    @FunctionalInterface
+    private interface ThrowingTask {
+        void run(int index) throws Exception;
+    }
+}
@@ -10,6 +10,7 @@ import keapoint.onlog.post.dto.category.PostCreateCategoryReqDto;
 import keapoint.onlog.post.dto.comment.DeleteCommentReqDto;
 import keapoint.onlog.post.dto.comment.PostCreateCommentReqDto;
 import keapoint.onlog.post.dto.post.*;
+import keapoint.onlog.post.entity.Hashtag;
 import keapoint.onlog.post.entity.Post;
 import keapoint.onlog.post.entity.UserPostLike;
 import keapoint.onlog.post.repository.BlogRepository;
@@ -22,12 +23,14 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.test.annotation.Rollback;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 import java.util.Random;
 import java.util.UUID;
 
@@ -176,7 +179,7 @@ class PostServiceIntegrationTest {
         UUID postId = postService.writePost(haniBlogId, postWritePostReqDto).getPostId();
 
         // 게시글 좋아요 설정
-        postLikeService.toggleLike(wooseokBlogId, postId);
+        postLikeService.like(wooseokBlogId, postId);
 
         // 게시글 삭제
         postService.deletePost(haniBlogId, new DeletePostReqDto(postId));
@@ -312,7 +315,7 @@ class PostServiceIntegrationTest {
 
         // when: 게시글을 좋아요 했을 때
         // then: POST_NOT_FOUND_EXCEPTION이 발생해야 한다.
-        BaseException thrownException = assertThrows(BaseException.class, () -> postLikeService.toggleLike(haniBlogId, postId));
+        BaseException thrownException = assertThrows(BaseException.class, () -> postLikeService.like(haniBlogId, postId));
 
         assertEquals(BaseErrorCode.POST_NOT_FOUND_EXCEPTION, thrownException.getErrorCode());
     }
@@ -450,4 +453,160 @@ class PostServiceIntegrationTest {
         assertEquals(0, post.getData().getCommentsCounts());
     }
 
-}
\ No newline at end of file
+    @Test
+    @Transactional // @Transactional을 사용하여 Hibernate 세션이 메소드 호출 동안 열려 있도록 설정
+    @DisplayName("요청한 필드만 포함된 게시글 목록 조회")
+    void test12() throws BaseException {
+        // given: 본문이 긴 비공개 게시글을 작성했을 때
+        PostWritePostReqDto postWritePostReqDto = PostWritePostReqDto.builder()
+                .title("테스트 제목")
+                .content("가".repeat(PostFieldSet.EXCERPT_LENGTH * 2))
+                .summary("테스트")
+                .thumbnailLink("https://cdn-lostark.game.onstove.com/uploadfiles/user/2021/04/01/637528990397262868.png")
+                .isPublic(false)
+                .categoryId(haniCategoryList.get(0))
+                .hashtagList(List.of("테스트"))
+                .topicId(1L)
+                .build();
+        UUID postId = postService.writePost(haniBlogId, postWritePostReqDto).getPostId();
+
+        // when: 제목과 잘린 본문만 요청하면
+        PostSummaryDto post = postService.getPrivatePosts(haniBlogId, PageRequest.of(0, 10), PostFieldSet.parse("title,excerpt"))
+                .getContent()
+                .get(0);
+
+        // then: 요청한 필드만 포함되고, 본문은 잘린 길이로 조회되어야 한다
+        assertEquals(postId, post.getPostId());
+        assertEquals("테스트 제목", post.getTitle());
+        assertEquals(PostFieldSet.EXCERPT_LENGTH, post.getContent().length());
+        assertNull(post.getSummary());
+        assertNull(post.getWriter());
+        assertNull(post.getCategory());
+    }
+
+    @Test
+    @DisplayName("지원하지 않는 필드 요청")
+    void test13() {
+        // when: 지원하지 않는 필드를 요청하면
+        BaseException exception = assertThrows(BaseException.class, () -> PostFieldSet.parse("title,password"));
+
+        // then: INVALID_FIELDS_EXCEPTION이 발생해야 한다
+        assertEquals(BaseErrorCode.INVALID_FIELDS_EXCEPTION, exception.getErrorCode());
+    }
+
+    @Test
+    @Transactional // @Transactional을 사용하여 Hibernate 세션이 메소드 호출 동안 열려 있도록 설정
+    @DisplayName("게시글 목록의 좋아요 여부 확인")
+    void test14() throws BaseException {
+        // given: 우석이 하니의 공개 게시글을 좋아요 했을 때
+        PostWritePostReqDto postWritePostReqDto = PostWritePostReqDto.builder()
+                .title("테스트 제목")
+                .content("이것은 테스트 게시글입니다.")
+                .summary("테스트")
+                .thumbnailLink("https://cdn-lostark.game.onstove.com/uploadfiles/user/2021/04/01/637528990397262868.png")
+                .isPublic(true)
+                .categoryId(haniCategoryList.get(0))
+                .hashtagList(List.of("테스트"))
+                .topicId(1L)
+                .build();
+        UUID postId = postService.writePost(haniBlogId, postWritePostReqDto).getPostId();
+        postLikeService.like(wooseokBlogId, postId);
+
+        // when: 각자 하니의 게시글 목록을 조회하면
+        PostSummaryDto wooseokView = postService.getRecentPosts(wooseokBlogId, null, null, haniBlogId, null, null, PageRequest.of(0, 10), PostFieldSet.ALL)
+                .getContent()
+                .get(0);
+        PostSummaryDto haniView = postService.getRecentPosts(haniBlogId, null, null, haniBlogId, null, null, PageRequest.of(0, 10), PostFieldSet.ALL)
+                .getContent()
+                .get(0);
+
+        // then: 좋아요 한 사용자에게만 좋아요 여부가 true로 나와야 한다
+        assertTrue(wooseokView.getPostLiked());
+        assertFalse(haniView.getPostLiked());
+    }
+
+    @Test
+    @Transactional // @Transactional을 사용하여 Hibernate 세션이 메소드 호출 동안 열려 있도록 설정
+    @DisplayName("해시태그 정규화 및 재사용")
+    void test15() throws BaseException {
+        // given: 표기만 다른 해시태그로 게시글을 작성했을 때
+        PostWritePostReqDto first = PostWritePostReqDto.builder()
+                .title("테스트 제목")
+                .content("이것은 테스트 게시글입니다.")
+                .summary("테스트")
+                .thumbnailLink("https://cdn-lostark.game.onstove.com/uploadfiles/user/2021/04/01/637528990397262868.png")
+                .isPublic(true)
+                .categoryId(haniCategoryList.get(0))
+                .hashtagList(List.of("#Spring", " spring ", "JPA"))
+                .topicId(1L)
+                .build();
+        UUID firstPostId = postService.writePost(haniBlogId, first).getPostId();
+
+        PostWritePostReqDto second = PostWritePostReqDto.builder()
+                .title("테스트 제목")
+                .content("이것은 테스트 게시글입니다.")
+                .summary("테스트")
+                .thumbnailLink("https://cdn-lostark.game.onstove.com/uploadfiles/user/2021/04/01/637528990397262868.png")
+                .isPublic(true)
+                .categoryId(haniCategoryList.get(0))
+                .hashtagList(List.of("spring"))
+                .topicId(1L)
+                .build();
+        UUID secondPostId = postService.writePost(haniBlogId, second).getPostId();
+
+        // when: 각 게시글의 해시태그를 조회하면
+        Set<Hashtag> firstHashtags = postRepository.findById(firstPostId).get().getHashtagList();
+        Set<Hashtag> secondHashtags = postRepository.findById(secondPostId).get().getHashtagList();
+
+        // then: 같은 해시태그는 하나로 합쳐지고, 다른 게시글에서도 같은 해시태그를 사용해야 한다
+        assertEquals(2, firstHashtags.size());
+        assertEquals(1, secondHashtags.size());
+        assertTrue(firstHashtags.containsAll(secondHashtags));
+    }
+
+    @Test
+    @Transactional // @Transactional을 사용하여 Hibernate 세션이 메소드 호출 동안 열려 있도록 설정
+    @DisplayName("해시태그로 게시글 조회 (역색인)")
+    void test16() throws BaseException {
+        // given: 해시태그가 달린 게시글을 작성했을 때
+        PostWritePostReqDto postWritePostReqDto = PostWritePostReqDto.builder()
+                .title("테스트 제목")
+                .content("이것은 테스트 게시글입니다.")
+                .summary("테스트")
+                .thumbnailLink("https://cdn-lostark.game.onstove.com/uploadfiles/user/2021/04/01/637528990397262868.png")
+                .isPublic(true)
+                .categoryId(haniCategoryList.get(0))
+                .hashtagList(List.of("spring", "jpa"))
+                .topicId(1L)
+                .build();
+        UUID postId = postService.writePost(haniBlogId, postWritePostReqDto).getPostId();
+
+        // then: 해시태그로 게시글을 조회할 수 있어야 한다
+        assertEquals(postId, postService.getRecentPosts(haniBlogId, null, "#Spring", null, null, null, PageRequest.of(0, 10), PostFieldSet.ALL)
+                .getContent().get(0).getPostId());
+
+        // when: 해시태그를 수정하면
+        PutModifyPostReqDto data = PutModifyPostReqDto.builder()
+                .postId(postId)
+                .title("수정된 제목")
+                .content("이것은 수정된 테스트 게시글입니다.")
+                .summary("테스트")
+                .thumbnailLink("https://cdn-lostark.game.onstove.com/uploadfiles/user/2021/04/01/637528990397262868.png")
+                .isPublic(true)
+                .categoryId(haniCategoryList.get(0))
+                .hashtagList(List.of("jpa", "hibernate"))
+                .topicId(1L)
+                .build();
+        postService.modifyPost(haniBlogId, data);
+
+        // then: 제거된 해시태그로는 조회되지 않고, 추가된 해시태그로는 조회되어야 한다
+        assertTrue(postService.getRecentPosts(haniBlogId, null, "spring", null, null, null, PageRequest.of(0, 10), PostFieldSet.ALL).isEmpty());
+        assertEquals(1, postService.getRecentPostsByCursor(haniBlogId, null, "hibernate", null, null, null, null, 10, PostFieldSet.ALL).getContent().size());
+
+        // when: 게시글을 삭제하면
+        postService.deletePost(haniBlogId, new DeletePostReqDto(postId));
+
+        // then: 어떤 해시태그로도 조회되지 않아야 한다
+        assertTrue(postService.getRecentPostsByCursor(haniBlogId, null, "jpa", null, null, null, null, 10, PostFieldSet.ALL).getContent().isEmpty());
+    }
+}
@@ -0,0 +1,211 @@
+package keapoint.onlog.post.service;
+
+import keapoint.onlog.post.base.BaseException;
+import keapoint.onlog.post.config.TestBlogFixture;
+import keapoint.onlog.post.config.TestSecurityConfig;
+import keapoint.onlog.post.dto.CursorSliceDto;
+import keapoint.onlog.post.dto.category.PostCreateCategoryReqDto;
+import keapoint.onlog.post.dto.post.DeletePostReqDto;
+import keapoint.onlog.post.dto.post.PostFieldSet;
+import keapoint.onlog.post.dto.post.PostSummaryDto;
+import keapoint.onlog.post.dto.post.PostWritePostReqDto;
+import keapoint.onlog.post.repository.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "post.timeline.fanout-threshold=2")
+@Import({TestSecurityConfig.class, TestBlogFixture.class})
+@ActiveProfiles("test")
+class TimelineServiceIntegrationTest {
+
+    @Autowired
+    private TestBlogFixture blogFixture;
+
+    @Autowired
+    private BlogFollowService blogFollowService;
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private TimelineService timelineService;
+
+    @Autowired
+    private BlogRepository blogRepository;
+
+    @Autowired
+    private BlogStatsRepository blogStatsRepository;
+
+    @Autowired
+    private FollowRepository followRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private UserPostLikeRepository userPostLikeRepository;
+
+    @Autowired
+    private TimelineInboxRepository timelineInboxRepository;
+
+    private final UUID haniBlogId = UUID.randomUUID(); // 타임라인을 읽는 블로그
+    private final UUID wooseokBlogId = UUID.randomUUID(); // 팔로워가 적은 블로그 (작성 시 받은 편지함에 넣는다)
+    private final UUID heeminBlogId = UUID.randomUUID(); // 팔로워가 많은 블로그 (읽을 때 가져온다)
+    private final UUID jiwooBlogId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        timelineInboxRepository.deleteAll();
+        userPostLikeRepository.deleteAll();
+        commentRepository.deleteAll();
+        followRepository.deleteAll();
+        categoryRepository.deleteAll();
+        postRepository.deleteAll();
+        blogRepository.deleteAll();
+        blogStatsRepository.deleteAll();
+
+        blogFixture.createBlog(haniBlogId, "hanitech");
+        blogFixture.createBlog(wooseokBlogId, "wooseoktech");
+        blogFixture.createBlog(heeminBlogId, "heemintech");
+        blogFixture.createBlog(jiwooBlogId, "jiwootech");
+
+        // heemin은 팔로워가 기준(2명) 이상이므로 인기 블로그가 된다.
+        blogFollowService.toggleFollow(haniBlogId, wooseokBlogId, true);
+        blogFollowService.toggleFollow(haniBlogId, heeminBlogId, true);
+        blogFollowService.toggleFollow(jiwooBlogId, heeminBlogId, true);
+        timelineService.refreshCelebrities();
+    }
+
+    @Test
+    @DisplayName("받은 편지함과 인기 블로그 게시글을 최신순으로 병합")
+    void test1() throws BaseException {
+        // given: 두 블로그가 번갈아 게시글을 작성하면
+        UUID first = writePost(wooseokBlogId, "첫 번째 글");
+        UUID second = writePost(heeminBlogId, "두 번째 글");
+        UUID third = writePost(wooseokBlogId, "세 번째 글");
+
+        // when: hani가 타임라인을 조회하면
+        CursorSliceDto<PostSummaryDto> timeline = timelineService.getTimeline(haniBlogId, null, 20, PostFieldSet.WITHOUT_CONTENT);
+
+        // then: 작성 역순으로 모두 조회되어야 한다
+        assertEquals(List.of(third, second, first), timeline.getContent().stream().map(PostSummaryDto::getPostId).toList());
+        assertFalse(timeline.isHasNext());
+
+        // then: 인기 블로그의 게시글은 받은 편지함에 들어가지 않아야 한다
+        assertEquals(2, timelineInboxRepository.count());
+    }
+
+    @Test
+    @DisplayName("타임라인 커서 기반 조회")
+    void test2() throws BaseException {
+        // given: 두 블로그가 게시글을 작성하고
+        List<UUID> written = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            written.add(0, writePost(wooseokBlogId, "우석의 글 " + i));
+            written.add(0, writePost(heeminBlogId, "희민의 글 " + i));
+        }
+
+        // when: 두 개씩 끝까지 조회하면
+        List<UUID> read = new ArrayList<>();
+        String cursor = null;
+        do {
+            CursorSliceDto<PostSummaryDto> slice = timelineService.getTimeline(haniBlogId, cursor, 2, PostFieldSet.WITHOUT_CONTENT);
+            slice.getContent().forEach(post -> read.add(post.getPostId()));
+            cursor = slice.getNextCursor();
+        } while (cursor != null);
+
+        // then: 중복이나 누락 없이 최신순으로 조회되어야 한다
+        assertEquals(written, read);
+    }
+
+    @Test
+    @DisplayName("언팔로우 하면 타임라인에서 제외")
+    void test3() throws BaseException {
+        // given: 두 블로그가 게시글을 작성했을 때
+        writePost(wooseokBlogId, "우석의 글");
+        UUID heeminPost = writePost(heeminBlogId, "희민의 글");
+
+        // when: hani가 wooseok을 언팔로우 하면
+        blogFollowService.toggleFollow(haniBlogId, wooseokBlogId, false);
+
+        // then: wooseok의 게시글은 타임라인과 받은 편지함에서 빠져야 한다
+        List<UUID> timeline = timelineService.getTimeline(haniBlogId, null, 20, PostFieldSet.WITHOUT_CONTENT)
+                .getContent().stream().map(PostSummaryDto::getPostId).toList();
+        assertEquals(List.of(heeminPost), timeline);
+        assertEquals(0, timelineInboxRepository.count());
+
+        // when: 다시 팔로우 하면
+        blogFollowService.toggleFollow(haniBlogId, wooseokBlogId, true);
+
+        // then: 최근 게시글이 받은 편지함에 다시 채워져야 한다
+        assertEquals(1, timelineInboxRepository.count());
+        assertEquals(2, timelineService.getTimeline(haniBlogId, null, 20, PostFieldSet.WITHOUT_CONTENT).getContent().size());
+    }
+
+    @Test
+    @DisplayName("게시글을 삭제하면 받은 편지함에서 제외")
+    void test4() throws BaseException {
+        // given: wooseok이 게시글을 작성했을 때
+        UUID postId = writePost(wooseokBlogId, "곧 삭제할 글");
+        assertEquals(1, timelineInboxRepository.count());
+
+        // when: 게시글을 삭제하면
+        postService.deletePost(wooseokBlogId, new DeletePostReqDto(postId));
+
+        // then: 받은 편지함과 타임라인에서 빠져야 한다
+        assertEquals(0, timelineInboxRepository.count());
+        assertTrue(timelineService.getTimeline(haniBlogId, null, 20, PostFieldSet.WITHOUT_CONTENT).getContent().isEmpty());
+    }
+
+    @Test
+    @DisplayName("인기 블로그에서 빠지면 최근 게시글을 팔로워의 받은 편지함에 채움")
+    void test5() throws BaseException {
+        // given: 인기 블로그 heemin이 게시글을 작성했을 때 (받은 편지함에는 들어가지 않는다)
+        UUID heeminPost = writePost(heeminBlogId, "희민의 글");
+        assertEquals(0, timelineInboxRepository.count());
+
+        // when: 팔로워가 기준 아래로 줄어 인기 블로그 목록에서 빠지면
+        blogFollowService.toggleFollow(jiwooBlogId, heeminBlogId, false);
+        timelineService.refreshCelebrities();
+
+        // then: 남은 팔로워의 받은 편지함에 채워져 타임라인에서 계속 보여야 한다
+        assertEquals(1, timelineInboxRepository.count());
+        assertEquals(List.of(heeminPost), timelineService.getTimeline(haniBlogId, null, 20, PostFieldSet.WITHOUT_CONTENT)
+                .getContent().stream().map(PostSummaryDto::getPostId).toList());
+    }
+
+    private UUID writePost(UUID blogId, String title) throws BaseException {
+        Long categoryId = categoryService.createCategory(blogId, new PostCreateCategoryReqDto(title)).getId();
+
+        return postService.writePost(blogId, PostWritePostReqDto.builder()
+                .title(title)
+                .content(title + "의 본문입니다.")
+                .summary(title)
+                .thumbnailLink("")
+                .isPublic(true)
+                .categoryId(categoryId)
+                .hashtagList(List.of())
+                .topicId(1L)
+                .build()).getPostId();
+    }
+}
@@ -0,0 +1,62 @@
+package keapoint.onlog.post.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CommentPathTest {
+
+    @Test
+    @DisplayName("경로를 문자열 순서로 정렬하면 스레드 표시 순서가 된다")
+    void test1() {
+        // given: 댓글 1의 답글 2, 36(자릿수가 바뀌는 순서), 답글 2의 답글 1, 그리고 댓글 2가 주어졌을 때
+        String first = CommentPath.root(1);
+        String reply2 = CommentPath.child(first, 2);
+        String reply36 = CommentPath.child(first, 36);
+        String nested = CommentPath.child(reply2, 1);
+        String second = CommentPath.root(2);
+
+        // when: 경로를 정렬하면
+        List<String> sorted = new ArrayList<>(List.of(second, reply36, nested, first, reply2));
+        sorted.sort(String::compareTo);
+
+        // then: 부모 바로 아래에 하위 답글이 이어지는 순서여야 한다
+        assertEquals(List.of(first, reply2, nested, reply36, second), sorted);
+    }
+
+    @Test
+    @DisplayName("하위 답글 경로는 모두 [경로, 상한) 범위 안에 있다")
+    void test2() {
+        // given: 댓글 1의 가장 큰 형제 순서를 가진 답글과 댓글 2가 주어졌을 때
+        String first = CommentPath.root(1);
+        String last = CommentPath.child(first, CommentPath.MAX_SEGMENT_VALUE);
+        String upperBound = CommentPath.upperBound(first);
+
+        // then: 답글은 범위 안에, 다음 댓글은 범위 밖에 있어야 한다
+        assertTrue(last.compareTo(first) > 0 && last.compareTo(upperBound) < 0);
+        assertTrue(CommentPath.root(2).compareTo(upperBound) > 0);
+    }
+
+    @Test
+    @DisplayName("최대 계층을 넘는 답글과 잘못된 경로는 거부한다")
+    void test3() {
+        // given: 최대 계층까지 내려간 경로가 주어졌을 때
+        String path = CommentPath.root(1);
+        for (int depth = 1; depth < CommentPath.MAX_DEPTH; depth++) {
+            path = CommentPath.child(path, 1);
+        }
+        String deepest = path;
+
+        // then: 더 깊은 답글은 만들 수 없고, 형식이 다른 경로는 유효하지 않아야 한다
+        assertEquals(CommentPath.MAX_DEPTH, CommentPath.depth(deepest));
+        assertThrows(IllegalArgumentException.class, () -> CommentPath.child(deepest, 1));
+        assertTrue(CommentPath.isValid(deepest));
+        assertFalse(CommentPath.isValid("0001"));
+        assertFalse(CommentPath.isValid("0000A"));
+        assertFalse(CommentPath.isValid(""));
+    }
+}
@@ -0,0 +1,115 @@
+package keapoint.onlog.post.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CompressedBitmapTest {
+
+    @Test
+    @DisplayName("값 추가, 제거, 포함 여부 확인")
+    void test1() {
+        // given: 비어있는 비트맵에
+        CompressedBitmap bitmap = new CompressedBitmap();
+
+        // when: 서로 다른 구간의 값을 추가하면
+        assertTrue(bitmap.add(3));
+        assertTrue(bitmap.add(70_000));
+        assertFalse(bitmap.add(3));
+
+        // then: 추가한 값만 포함되어야 한다
+        assertTrue(bitmap.contains(3));
+        assertTrue(bitmap.contains(70_000));
+        assertFalse(bitmap.contains(4));
+        assertEquals(2, bitmap.cardinality());
+
+        // when: 값을 제거하면
+        assertTrue(bitmap.remove(70_000));
+        assertFalse(bitmap.remove(70_000));
+
+        // then: 제거한 값은 포함되지 않아야 한다
+        assertFalse(bitmap.contains(70_000));
+        assertEquals(1, bitmap.cardinality());
+    }
+
+    @Test
+    @DisplayName("배열과 비트맵 표현이 바뀌어도 값이 유지")
+    void test2() {
+        // given: 한 구간에 배열로 보관할 수 있는 수보다 많은 값을 추가하고
+        CompressedBitmap bitmap = new CompressedBitmap();
+        for (int value = 0; value < 10_000; value++) {
+            bitmap.add(value);
+        }
+        assertEquals(10_000, bitmap.cardinality());
+
+        // when: 다시 배열로 보관할 수 있을 만큼 값을 제거하면
+        for (int value = 0; value < 10_000; value += 2) {
+            bitmap.remove(value);
+        }
+
+        // then: 남은 값은 그대로 포함되어야 하며, 메모리 사용량도 줄어야 한다
+        assertEquals(5_000, bitmap.cardinality());
+        assertTrue(bitmap.contains(9_999));
+        assertFalse(bitmap.contains(9_998));
+
+        int bitmapBytes = bitmap.sizeInBytes();
+        for (int value = 1; value < 10_000; value += 4) {
+            bitmap.remove(value);
+        }
+        assertEquals(2_500, bitmap.cardinality());
+        assertTrue(bitmap.sizeInBytes() < bitmapBytes);
+    }
+
+    @Test
+    @DisplayName("임의의 값을 추가, 제거해도 집합과 같은 결과")
+    void test3() {
+        // given: 같은 값을 비트맵과 집합에 추가, 제거하고
+        Random random = new Random(42);
+        CompressedBitmap bitmap = new CompressedBitmap();
+        TreeSet<Integer> expected = new TreeSet<>();
+
+        for (int i = 0; i < 100_000; i++) {
+            int value = random.nextInt(200_000);
+            if (random.nextInt(3) == 0) {
+                assertEquals(expected.remove(value), bitmap.remove(value));
+            } else {
+                assertEquals(expected.add(value), bitmap.add(value));
+            }
+        }
+
+        // when: 모든 값을 순회하면
+        List<Integer> actual = new ArrayList<>();
+        bitmap.forEach(actual::add);
+
+        // then: 집합과 같은 값이 오름차순으로 조회되어야 한다
+        assertEquals(new ArrayList<>(expected), actual);
+        assertEquals(expected.size(), bitmap.cardinality());
+    }
+
+    @Test
+    @DisplayName("두 비트맵에 모두 들어있는 값 조회")
+    void test4() {
+        // given: 짝수를 가진 비트맵과 3의 배수를 가진 비트맵이 있을 때
+        CompressedBitmap even = new CompressedBitmap();
+        CompressedBitmap multipleOfThree = new CompressedBitmap();
+        for (int value = 0; value < 150_000; value++) {
+            if (value % 2 == 0) even.add(value);
+            if (value % 3 == 0) multipleOfThree.add(value);
+        }
+
+        // when: 두 비트맵의 교집합을 구하면
+        CompressedBitmap intersection = CompressedBitmap.and(even, multipleOfThree);
+
+        // then: 6의 배수만 포함되어야 한다
+        assertEquals(25_000, intersection.cardinality());
+        assertTrue(intersection.contains(149_994));
+        assertFalse(intersection.contains(149_996));
+        intersection.forEach(value -> assertEquals(0, value % 6));
+    }
+}
@@ -0,0 +1,88 @@
+package keapoint.onlog.post.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HyperLogLogTest {
+
+    @Test
+    @DisplayName("적은 방문자 수 추정")
+    void test1() {
+        // given: 방문자 100명이 각각 세 번씩 방문하면
+        HyperLogLog sketch = new HyperLogLog();
+        Random random = new Random(1);
+        UUID[] visitors = new UUID[100];
+        for (int i = 0; i < visitors.length; i++) {
+            visitors[i] = new UUID(random.nextLong(), random.nextLong());
+        }
+        for (int repeat = 0; repeat < 3; repeat++) {
+            for (UUID visitor : visitors) {
+                sketch.add(visitor);
+            }
+        }
+
+        // then: 중복 방문은 한 번만 세어 거의 정확하게 추정해야 한다
+        assertEquals(100, sketch.cardinality(), 3);
+    }
+
+    @Test
+    @DisplayName("많은 방문자 수 추정")
+    void test2() {
+        // given: 서로 다른 방문자 100,000명이 방문하면
+        HyperLogLog sketch = new HyperLogLog();
+        Random random = new Random(2);
+        for (int i = 0; i < 100_000; i++) {
+            sketch.add(new UUID(random.nextLong(), random.nextLong()));
+        }
+
+        // then: 오차가 5% 이내여야 한다
+        assertEquals(100_000, sketch.cardinality(), 5_000);
+    }
+
+    @Test
+    @DisplayName("스케치 합치기")
+    void test3() {
+        // given: 절반이 겹치는 두 방문자 집합을 서로 다른 스케치에 기록하고
+        HyperLogLog monday = new HyperLogLog();
+        HyperLogLog tuesday = new HyperLogLog();
+        for (int i = 0; i < 20_000; i++) {
+            UUID visitor = new UUID(0L, i);
+            if (i < 15_000) {
+                monday.add(visitor);
+            }
+            if (i >= 5_000) {
+                tuesday.add(visitor);
+            }
+        }
+
+        // when: 두 스케치를 합치면
+        monday.merge(tuesday);
+
+        // then: 합집합의 크기로 추정해야 한다
+        assertEquals(20_000, monday.cardinality(), 1_000);
+    }
+
+    @Test
+    @DisplayName("바이트 배열 변환 후 복원")
+    void test4() {
+        // given: 방문자를 기록한 스케치를
+        HyperLogLog sketch = new HyperLogLog();
+        for (int i = 0; i < 1_000; i++) {
+            sketch.add(UUID.randomUUID());
+        }
+
+        // when: 바이트 배열로 변환했다가 복원하면
+        HyperLogLog restored = HyperLogLog.fromBytes(sketch.toBytes());
+
+        // then: 같은 스케치여야 한다
+        assertEquals(sketch, restored);
+        assertEquals(sketch.cardinality(), restored.cardinality());
+        assertEquals(0, HyperLogLog.fromBytes(null).cardinality());
+        assertThrows(IllegalArgumentException.class, () -> HyperLogLog.fromBytes(new byte[16]));
+    }
+}
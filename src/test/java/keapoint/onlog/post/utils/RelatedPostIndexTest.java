@@ -0,0 +1,84 @@
+package keapoint.onlog.post.utils;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RelatedPostIndexTest {
+
+    private static final int SIZE = 2;
+
+    private RelatedPostIndex index;
+
+    private final UUID source = UUID.randomUUID();
+    private final UUID sameCategory = UUID.randomUUID();
+    private final UUID sameHashtag = UUID.randomUUID();
+    private final UUID sameTopic = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        index = new RelatedPostIndex(SIZE, 100, Duration.ofDays(30));
+
+        LocalDateTime now = LocalDateTime.now();
+        index.load(List.of(
+                feature(source, 1L, 1L, Set.of(1L), now, true),
+                feature(sameCategory, 1L, 2L, Set.of(), now, true),
+                feature(sameHashtag, 2L, 2L, Set.of(1L), now, true),
+                feature(sameTopic, 3L, 1L, Set.of(), now, true)
+        ));
+    }
+
+    @Test
+    @DisplayName("연관 점수가 높은 순서로 최대 개수만큼 조회")
+    void test1() {
+        // when: 연관 게시글을 조회하면
+        List<UUID> related = index.get(source);
+
+        // then: 같은 카테고리, 같은 해시태그 순서로 최대 2개만 조회되어야 한다
+        assertEquals(List.of(sameCategory, sameHashtag), related);
+    }
+
+    @Test
+    @DisplayName("삭제된 게시글은 연관 게시글에서 제외")
+    void test2() {
+        // when: 연관 게시글이 삭제되면
+        index.remove(sameCategory);
+
+        // then: 빈자리는 다음 후보로 채워져야 한다
+        assertEquals(List.of(sameHashtag, sameTopic), index.get(source));
+    }
+
+    @Test
+    @DisplayName("비공개로 수정된 게시글은 연관 게시글에서 제외")
+    void test3() {
+        // when: 연관 게시글이 비공개로 수정되면
+        index.put(feature(sameHashtag, 2L, 2L, Set.of(1L), LocalDateTime.now(), false));
+
+        // then: 다른 게시글의 연관 게시글에서 제외되어야 한다
+        assertEquals(List.of(sameCategory, sameTopic), index.get(source));
+    }
+
+    @Test
+    @DisplayName("새 게시글 작성 시 기존 게시글의 연관 게시글 갱신")
+    void test4() {
+        // when: 카테고리와 해시태그가 모두 같은 게시글이 작성되면
+        UUID newPost = UUID.randomUUID();
+        index.put(feature(newPost, 1L, 1L, Set.of(1L), LocalDateTime.now(), true));
+
+        // then: 기존 게시글의 연관 게시글 첫 번째로 추가되어야 한다
+        assertEquals(newPost, index.get(source).get(0));
+        assertTrue(index.get(newPost).contains(source));
+    }
+
+    private static RelatedPostIndex.Feature feature(UUID postId, Long categoryId, Long topicId, Set<Long> hashtagIds, LocalDateTime createdAt, boolean isPublic) {
+        return new RelatedPostIndex.Feature(postId, categoryId, topicId, hashtagIds, createdAt, isPublic);
+    }
+}
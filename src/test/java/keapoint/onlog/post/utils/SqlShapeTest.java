@@ -0,0 +1,48 @@
+package keapoint.onlog.post.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SqlShapeTest {
+
+    @Test
+    @DisplayName("값만 다른 문장은 같은 형태가 된다")
+    void test1() {
+        // given: 리터럴과 공백, 대소문자만 다른 문장이 주어졌을 때
+        String first = SqlShape.of("select c1_0.name from category c1_0 where c1_0.category_id = 10 and c1_0.name = 'it''s'");
+        String second = SqlShape.of("SELECT c1_0.name\n  FROM category c1_0 WHERE c1_0.category_id = 7 AND c1_0.name = 'news'");
+
+        // then: 형태가 같고, 별칭에 포함된 숫자는 그대로 남아야 한다
+        assertEquals(first, second);
+        assertEquals("select c1_0.name from category c1_0 where c1_0.category_id = ? and c1_0.name = ?", first);
+    }
+
+    @Test
+    @DisplayName("길이가 다른 IN 목록과 여러 행 VALUES는 하나로 합친다")
+    void test2() {
+        // then: 목록 길이와 관계없이 같은 형태여야 한다
+        assertEquals(SqlShape.of("select * from post where post_id in (?, ?, ?)"),
+                SqlShape.of("select * from post where post_id in (?)"));
+        assertEquals(SqlShape.of("select * from post where post_id in (?,?)"),
+                SqlShape.of("select * from post where post_id in (?)"));
+        assertEquals("select * from post p1_0 where p1_0.post_id in (?)",
+                SqlShape.of("select * from post p1_0 where p1_0.post_id in(?,?,?)"));
+        assertEquals(SqlShape.of("select * from post p1_0 where p1_0.post_id in(?)"),
+                SqlShape.of("select * from post p1_0 where p1_0.post_id in(?,?)"));
+        assertEquals("insert into hashtag_post (hashtag_id, post_id) values (?, ?)",
+                SqlShape.of("insert into hashtag_post (hashtag_id, post_id) values (?, ?), (?, ?), (1, 2)"));
+    }
+
+    @Test
+    @DisplayName("긴 문장은 최대 길이까지만 사용한다")
+    void test3() {
+        // given: 최대 길이보다 긴 문장이 주어졌을 때
+        String sql = "select " + "a, ".repeat(SqlShape.MAX_LENGTH) + "b from post";
+
+        // then: 형태는 최대 길이를 넘지 않아야 한다
+        assertTrue(SqlShape.of(sql).length() <= SqlShape.MAX_LENGTH);
+        assertEquals("", SqlShape.of(null));
+    }
+}
@@ -0,0 +1,100 @@
+package keapoint.onlog.post.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TrendingIndexTest {
+
+    private static final long HOUR = Duration.ofHours(1).toMillis();
+
+    private final UUID first = new UUID(0L, 1L);
+    private final UUID second = new UUID(0L, 2L);
+    private final UUID third = new UUID(0L, 3L);
+
+    @Test
+    @DisplayName("오래된 활동은 반감기마다 절반의 점수만 가진다")
+    void test1() {
+        // given: 반감기가 1시간인 인덱스에
+        TrendingIndex index = new TrendingIndex(10, Duration.ofHours(1), 0);
+
+        // when: first는 2시간 전에 좋아요 3개, second는 지금 좋아요 1개를 받으면
+        index.add(first, null, 3.0, 0);
+        index.add(second, null, 1.0, 2 * HOUR);
+
+        // then: first의 점수는 3 / 4로 줄어 second보다 낮아야 한다
+        assertEquals(0.75, index.score(first, 2 * HOUR), 1e-9);
+        assertEquals(List.of(second, first), index.top(10, null));
+    }
+
+    @Test
+    @DisplayName("가득 차면 점수가 가장 낮은 게시글을 내보낸다")
+    void test2() {
+        // given: 최대 두 개만 보관하는 인덱스가 가득 찼을 때
+        TrendingIndex index = new TrendingIndex(2, Duration.ofHours(1), 0);
+        index.add(first, null, 5.0, 0);
+        index.add(second, null, 1.0, 0);
+
+        // when: 가장 낮은 게시글보다 점수가 낮은 게시글은
+        index.add(third, null, 0.5, 0);
+
+        // then: 보관하지 않아야 한다
+        assertFalse(index.contains(third));
+
+        // when: 가장 낮은 게시글보다 점수가 높은 게시글이 들어오면
+        index.add(third, null, 2.0, 0);
+
+        // then: 가장 낮은 게시글을 내보내야 한다
+        assertEquals(List.of(first, third), index.top(10, null));
+        assertFalse(index.contains(second));
+    }
+
+    @Test
+    @DisplayName("주제별 순위와 주제 변경")
+    void test3() {
+        // given: 서로 다른 주제의 게시글이 있을 때
+        TrendingIndex index = new TrendingIndex(10, Duration.ofHours(1), 0);
+        index.add(first, 1L, 3.0, 0);
+        index.add(second, 2L, 2.0, 0);
+        index.add(third, 1L, 1.0, 0);
+
+        // then: 주제별로 순위가 나뉘어야 한다
+        assertEquals(List.of(first, third), index.top(10, 1L));
+        assertEquals(List.of(second), index.top(10, 2L));
+
+        // when: first의 주제가 바뀌면
+        index.updateTopic(first, 2L);
+
+        // then: 바뀐 주제의 순위로 옮겨져야 한다
+        assertEquals(List.of(third), index.top(10, 1L));
+        assertEquals(List.of(first, second), index.top(10, 2L));
+        assertEquals(List.of(first, second, third), index.top(10, null));
+    }
+
+    @Test
+    @DisplayName("좋아요 취소로 점수가 남지 않으면 제거하고, 기준 시각을 옮겨도 순서는 유지한다")
+    void test4() {
+        // given: 반감기가 1분인 인덱스에서
+        TrendingIndex index = new TrendingIndex(10, Duration.ofMinutes(1), 0);
+        index.add(first, null, 5.0, 0);
+        index.add(first, null, -5.0, 0);
+
+        // then: 점수가 남지 않은 게시글은 제거되어야 한다
+        assertFalse(index.contains(first));
+
+        // when: 기준 시각을 옮겨야 할 만큼 시간이 지난 뒤 활동하면
+        long later = Duration.ofHours(2).toMillis();
+        index.add(second, null, 1.0, later);
+        index.add(third, null, 2.0, later);
+        index.add(second, null, 2.0, later);
+
+        // then: 점수와 순서가 그대로 계산되어야 한다
+        assertEquals(List.of(second, third), index.top(10, null));
+        assertEquals(3.0, index.score(second, later), 1e-9);
+    }
+}